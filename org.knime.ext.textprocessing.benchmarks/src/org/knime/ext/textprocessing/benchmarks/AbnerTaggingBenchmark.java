@@ -0,0 +1,162 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.ext.textprocessing.benchmarks;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.knime.ext.textprocessing.data.Document;
+import org.knime.ext.textprocessing.nodes.tagging.abner.AbnerDocumentTagger;
+import org.knime.ext.textprocessing.preferences.TextprocessingPreferenceInitializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures how ABNER tagging scales with the number of taggers, each running in its own thread. Shared taggers use
+ * the globally synchronized ABNER library of the bundle, isolated taggers load their own copy of it.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(0)
+public class AbnerTaggingBenchmark {
+
+    /** The number of documents tagged per invocation. */
+    @Param({"40"})
+    public int noOfDocuments;
+
+    /** The number of sentences of each document. */
+    @Param({"10"})
+    public int noOfSentences;
+
+    /** The number of taggers, each tagging its share of the documents in its own thread. */
+    @Param({"1", "2", "4"})
+    public int noOfTaggers;
+
+    /** Whether the taggers load their own copy of the ABNER library. */
+    @Param({"false", "true"})
+    public boolean isolated;
+
+    private List<Document> m_documents;
+
+    private List<AbnerDocumentTagger> m_taggers;
+
+    private ExecutorService m_executor;
+
+    /**
+     * Creates the documents, the taggers and the threads.
+     *
+     * @throws IOException if an isolated tagger cannot load the ABNER library
+     */
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        final String tokenizerName = TextprocessingPreferenceInitializer.DEFAULT_TOKENIZER;
+        m_documents = new SyntheticCorpus(SyntheticCorpus.DEFAULT_SEED).nextDocuments(noOfDocuments,
+            noOfSentences, tokenizerName);
+        m_taggers = new ArrayList<>(noOfTaggers);
+        for (int i = 0; i < noOfTaggers; i++) {
+            m_taggers.add(new AbnerDocumentTagger(false, AbnerDocumentTagger.MODEL_BIOCREATIVE, tokenizerName,
+                isolated));
+        }
+        m_executor = Executors.newFixedThreadPool(noOfTaggers);
+    }
+
+    /**
+     * Closes the taggers and shuts the threads down.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        m_executor.shutdownNow();
+        m_taggers.forEach(AbnerDocumentTagger::close);
+    }
+
+    /**
+     * @param bh the black hole consuming the tagged documents
+     * @throws InterruptedException if interrupted while waiting for the taggers
+     * @throws ExecutionException if a tagger failed
+     */
+    @Benchmark
+    public void tag(final Blackhole bh) throws InterruptedException, ExecutionException {
+        final List<Future<?>> futures = new ArrayList<>(noOfTaggers);
+        for (int i = 0; i < noOfTaggers; i++) {
+            final AbnerDocumentTagger tagger = m_taggers.get(i);
+            final int offset = i;
+            futures.add(m_executor.submit(() -> {
+                for (int d = offset; d < m_documents.size(); d += noOfTaggers) {
+                    bh.consume(tagger.tag(m_documents.get(d)));
+                }
+            }));
+        }
+        for (final Future<?> future : futures) {
+            future.get();
+        }
+    }
+}
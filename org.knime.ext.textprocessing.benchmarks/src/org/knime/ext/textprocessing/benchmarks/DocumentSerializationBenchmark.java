@@ -0,0 +1,168 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.ext.textprocessing.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.knime.ext.textprocessing.data.Document;
+import org.knime.ext.textprocessing.preferences.TextprocessingPreferenceInitializer;
+import org.knime.ext.textprocessing.util.TermDocumentDeSerializationUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the binary (de)serialization of documents by {@link TermDocumentDeSerializationUtil}, which is used by
+ * all document cells, and compares it to plain Java serialization.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(0)
+public class DocumentSerializationBenchmark {
+
+    /** The number of documents (de)serialized per invocation. */
+    @Param({"100"})
+    public int noOfDocuments;
+
+    /** The number of sentences of each document. */
+    @Param({"10", "100"})
+    public int noOfSentences;
+
+    private List<Document> m_documents;
+
+    private byte[] m_fastSerialized;
+
+    private byte[] m_javaSerialized;
+
+    /**
+     * Creates the documents and their serialized forms.
+     *
+     * @throws IOException if the documents cannot be serialized
+     */
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        m_documents = new SyntheticCorpus(SyntheticCorpus.DEFAULT_SEED).nextDocuments(noOfDocuments, noOfSentences,
+            TextprocessingPreferenceInitializer.DEFAULT_TOKENIZER);
+        m_fastSerialized = fastSerialize();
+        m_javaSerialized = javaSerialize();
+    }
+
+    /**
+     * @return the serialized documents
+     * @throws IOException if the documents cannot be serialized
+     */
+    @Benchmark
+    public byte[] fastSerialize() throws IOException {
+        final ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        final DataOutputStream out = new DataOutputStream(bos);
+        for (final Document doc : m_documents) {
+            TermDocumentDeSerializationUtil.fastSerializeDocument(doc, out);
+        }
+        out.flush();
+        return bos.toByteArray();
+    }
+
+    /**
+     * @param bh the black hole consuming the documents
+     * @throws IOException if the documents cannot be deserialized
+     */
+    @Benchmark
+    public void fastDeserialize(final Blackhole bh) throws IOException {
+        final DataInputStream in = new DataInputStream(new ByteArrayInputStream(m_fastSerialized));
+        for (int i = 0; i < noOfDocuments; i++) {
+            bh.consume(TermDocumentDeSerializationUtil.fastDeserializeDocument(in));
+        }
+    }
+
+    /**
+     * @return the serialized documents
+     * @throws IOException if the documents cannot be serialized
+     */
+    @Benchmark
+    public byte[] javaSerialize() throws IOException {
+        final ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        for (final Document doc : m_documents) {
+            TermDocumentDeSerializationUtil.serializeDocument(doc, bos);
+        }
+        return bos.toByteArray();
+    }
+
+    /**
+     * @param bh the black hole consuming the documents
+     * @throws IOException if the documents cannot be deserialized
+     */
+    @Benchmark
+    public void javaDeserialize(final Blackhole bh) throws IOException {
+        final ByteArrayInputStream in = new ByteArrayInputStream(m_javaSerialized);
+        for (int i = 0; i < noOfDocuments; i++) {
+            bh.consume(TermDocumentDeSerializationUtil.deserializeDocument(in));
+        }
+    }
+}
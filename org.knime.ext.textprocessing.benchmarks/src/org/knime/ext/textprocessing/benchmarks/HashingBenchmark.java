@@ -0,0 +1,193 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.ext.textprocessing.benchmarks;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.knime.ext.textprocessing.data.Document;
+import org.knime.ext.textprocessing.data.Paragraph;
+import org.knime.ext.textprocessing.data.Section;
+import org.knime.ext.textprocessing.data.Sentence;
+import org.knime.ext.textprocessing.data.Term;
+import org.knime.ext.textprocessing.nodes.transformation.documentvectorhashing.Adler32HashingFunction;
+import org.knime.ext.textprocessing.nodes.transformation.documentvectorhashing.HashingFunction;
+import org.knime.ext.textprocessing.nodes.transformation.documentvectorhashing.JavaHashingFunction;
+import org.knime.ext.textprocessing.nodes.transformation.documentvectorhashing.Lookup3_32bitHashingFunction;
+import org.knime.ext.textprocessing.nodes.transformation.documentvectorhashing.Murmur3_128bitHashingFunction;
+import org.knime.ext.textprocessing.nodes.transformation.documentvectorhashing.Murmur3_32bitHashingFunction;
+import org.knime.ext.textprocessing.nodes.transformation.documentvectorhashing.Siphash24HashingFunction;
+import org.knime.ext.textprocessing.preferences.TextprocessingPreferenceInitializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the hashing vectorization of documents as done by the Document Vector Hashing nodes: every term of a
+ * document is hashed with the selected {@link HashingFunction} and counted in the bucket
+ * <code>hash mod dimension</code>. {@link #vectorizeCached(Blackhole)} additionally caches the buckets of hashed terms
+ * and hashes unseen terms of a document in one batch, like the nodes do.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(0)
+public class HashingBenchmark {
+
+    /** The name of the hashing function, as registered at the extension point. */
+    @Param({"murmur3_32bit", "murmur3_128bit", "lookup3_32bit", "sipHash24", "adler32", "java_hashcode"})
+    public String hashFunction;
+
+    /** The dimension of the vectors. */
+    @Param({"5000"})
+    public int dimension;
+
+    /** The number of documents vectorized per invocation. */
+    @Param({"100"})
+    public int noOfDocuments;
+
+    /** The number of sentences of each document. */
+    @Param({"10"})
+    public int noOfSentences;
+
+    private List<Document> m_documents;
+
+    private HashingFunction m_hashingFunction;
+
+    /**
+     * Creates the documents and looks up the hashing function.
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        m_documents = new SyntheticCorpus(SyntheticCorpus.DEFAULT_SEED).nextDocuments(noOfDocuments, noOfSentences,
+            TextprocessingPreferenceInitializer.DEFAULT_TOKENIZER);
+        m_hashingFunction = List.of(new Murmur3_32bitHashingFunction(), new Murmur3_128bitHashingFunction(),
+            new Lookup3_32bitHashingFunction(), new Siphash24HashingFunction(), new Adler32HashingFunction(),
+            new JavaHashingFunction()).stream().filter(f -> f.getName().equals(hashFunction)).findFirst()
+            .orElseThrow(() -> new IllegalArgumentException("Unknown hashing function: " + hashFunction));
+    }
+
+    /**
+     * @param bh the black hole consuming the vectors
+     */
+    @Benchmark
+    public void vectorize(final Blackhole bh) {
+        for (final Document doc : m_documents) {
+            final int[] vector = new int[dimension];
+            for (final Section s : doc.getSections()) {
+                for (final Paragraph p : s.getParagraphs()) {
+                    for (final Sentence sentence : p.getSentences()) {
+                        for (final Term term : sentence.getTerms()) {
+                            int idx = m_hashingFunction.hash(term.getText(), 0) % dimension;
+                            if (idx < 0) {
+                                idx += dimension;
+                            }
+                            vector[idx]++;
+                        }
+                    }
+                }
+            }
+            bh.consume(vector);
+        }
+    }
+
+    /**
+     * @param bh the black hole consuming the vectors
+     */
+    @Benchmark
+    public void vectorizeCached(final Blackhole bh) {
+        final Map<String, Integer> buckets = new HashMap<String, Integer>();
+        for (final Document doc : m_documents) {
+            final int[] vector = new int[dimension];
+            final List<String> unhashedTerms = new ArrayList<String>();
+            for (final Section s : doc.getSections()) {
+                for (final Paragraph p : s.getParagraphs()) {
+                    for (final Sentence sentence : p.getSentences()) {
+                        for (final Term term : sentence.getTerms()) {
+                            final String text = term.getText();
+                            final Integer idx = buckets.get(text);
+                            if (idx != null) {
+                                vector[idx]++;
+                            } else {
+                                unhashedTerms.add(text);
+                            }
+                        }
+                    }
+                }
+            }
+            final int[] hashes = m_hashingFunction.hash(unhashedTerms, 0);
+            for (int i = 0; i < hashes.length; i++) {
+                int idx = hashes[i] % dimension;
+                if (idx < 0) {
+                    idx += dimension;
+                }
+                vector[idx]++;
+                buckets.put(unhashedTerms.get(i), idx);
+            }
+            bh.consume(vector);
+        }
+    }
+}
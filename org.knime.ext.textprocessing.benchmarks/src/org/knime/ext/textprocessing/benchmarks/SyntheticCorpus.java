@@ -0,0 +1,247 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.ext.textprocessing.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.knime.ext.textprocessing.data.Document;
+import org.knime.ext.textprocessing.data.DocumentBuilder;
+import org.knime.ext.textprocessing.data.SectionAnnotation;
+
+/**
+ * Creates reproducible synthetic English-like texts and documents for the benchmarks. Words are drawn from a
+ * generated vocabulary following a Zipf distribution, so that term frequencies resemble those of natural text.
+ * Numbers and punctuation marks are mixed in to give the preprocessing steps something to do.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public final class SyntheticCorpus {
+
+    /** The default seed used by all benchmarks. */
+    public static final long DEFAULT_SEED = 42L;
+
+    private static final int VOCABULARY_SIZE = 20000;
+
+    private static final String CONSONANTS = "bcdfghklmnprstvwz";
+
+    private static final String VOWELS = "aeiou";
+
+    private static final String[] FUNCTION_WORDS = {"the", "of", "and", "a", "to", "in", "is", "that", "for", "it",
+        "with", "as", "was", "on", "be", "by", "this", "are", "from", "or"};
+
+    private final Random m_random;
+
+    private final String[] m_vocabulary;
+
+    private final double[] m_cumulativeProbabilities;
+
+    /**
+     * Creates a new corpus generator with the given seed.
+     *
+     * @param seed the seed of the random number generator
+     */
+    public SyntheticCorpus(final long seed) {
+        m_random = new Random(seed);
+        m_vocabulary = createVocabulary(m_random);
+        m_cumulativeProbabilities = new double[m_vocabulary.length];
+        double sum = 0;
+        for (int i = 0; i < m_vocabulary.length; i++) {
+            sum += 1.0 / (i + 1);
+            m_cumulativeProbabilities[i] = sum;
+        }
+        for (int i = 0; i < m_cumulativeProbabilities.length; i++) {
+            m_cumulativeProbabilities[i] /= sum;
+        }
+    }
+
+    private static String[] createVocabulary(final Random random) {
+        final Set<String> words = new LinkedHashSet<>();
+        for (final String w : FUNCTION_WORDS) {
+            words.add(w);
+        }
+        final StringBuilder sb = new StringBuilder();
+        while (words.size() < VOCABULARY_SIZE) {
+            sb.setLength(0);
+            final int syllables = 1 + random.nextInt(4);
+            for (int i = 0; i < syllables; i++) {
+                sb.append(CONSONANTS.charAt(random.nextInt(CONSONANTS.length())));
+                sb.append(VOWELS.charAt(random.nextInt(VOWELS.length())));
+            }
+            if (random.nextBoolean()) {
+                sb.append(CONSONANTS.charAt(random.nextInt(CONSONANTS.length())));
+            }
+            words.add(sb.toString());
+        }
+        return words.toArray(new String[0]);
+    }
+
+    /**
+     * @return the next word drawn from the Zipf distributed vocabulary
+     */
+    public String nextWord() {
+        int idx = Arrays.binarySearch(m_cumulativeProbabilities, m_random.nextDouble());
+        if (idx < 0) {
+            idx = -idx - 1;
+        }
+        return m_vocabulary[Math.min(idx, m_vocabulary.length - 1)];
+    }
+
+    /**
+     * Creates a sentence of 8 to 30 words, ending with a full stop.
+     *
+     * @return a new sentence
+     */
+    public String nextSentence() {
+        final int length = 8 + m_random.nextInt(23);
+        final StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            if (i > 0) {
+                sb.append(' ');
+            }
+            final int r = m_random.nextInt(100);
+            if (r < 3) {
+                sb.append(m_random.nextInt(10000));
+            } else {
+                final String word = nextWord();
+                if (i == 0) {
+                    sb.append(Character.toUpperCase(word.charAt(0))).append(word, 1, word.length());
+                } else {
+                    sb.append(word);
+                }
+                if (r >= 97 && i < length - 1) {
+                    sb.append(',');
+                }
+            }
+        }
+        return sb.append('.').toString();
+    }
+
+    /**
+     * Creates a text consisting of the given number of sentences.
+     *
+     * @param noOfSentences the number of sentences
+     * @return a new text
+     */
+    public String nextText(final int noOfSentences) {
+        final StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < noOfSentences; i++) {
+            if (i > 0) {
+                sb.append(' ');
+            }
+            sb.append(nextSentence());
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Creates the given number of texts.
+     *
+     * @param noOfTexts the number of texts
+     * @param noOfSentences the number of sentences of each text
+     * @return the list of texts
+     */
+    public List<String> nextTexts(final int noOfTexts, final int noOfSentences) {
+        final List<String> texts = new ArrayList<>(noOfTexts);
+        for (int i = 0; i < noOfTexts; i++) {
+            texts.add(nextText(noOfSentences));
+        }
+        return texts;
+    }
+
+    /**
+     * Creates a document with a one sentence title and an abstract of the given number of sentences.
+     *
+     * @param noOfSentences the number of sentences of the abstract
+     * @param tokenizerName the name of the word tokenizer
+     * @return a new document
+     */
+    public Document nextDocument(final int noOfSentences, final String tokenizerName) {
+        final DocumentBuilder builder = new DocumentBuilder(tokenizerName);
+        builder.addTitle(nextSentence());
+        builder.addSection(nextText(noOfSentences), SectionAnnotation.ABSTRACT);
+        return builder.createDocument();
+    }
+
+    /**
+     * Creates the given number of documents.
+     *
+     * @param noOfDocuments the number of documents
+     * @param noOfSentences the number of sentences of the abstract of each document
+     * @param tokenizerName the name of the word tokenizer
+     * @return the list of documents
+     */
+    public List<Document> nextDocuments(final int noOfDocuments, final int noOfSentences,
+        final String tokenizerName) {
+        final List<Document> docs = new ArrayList<>(noOfDocuments);
+        for (int i = 0; i < noOfDocuments; i++) {
+            docs.add(nextDocument(noOfSentences, tokenizerName));
+        }
+        return docs;
+    }
+
+    /**
+     * Returns the words at the given ranks of the vocabulary, e.g. to be used as a dictionary or stop word list.
+     *
+     * @param fromRank the first rank (inclusive)
+     * @param toRank the last rank (exclusive)
+     * @return the words
+     */
+    public Set<String> getWords(final int fromRank, final int toRank) {
+        final Set<String> words = new LinkedHashSet<>();
+        for (int i = fromRank; i < Math.min(toRank, m_vocabulary.length); i++) {
+            words.add(m_vocabulary[i]);
+        }
+        return words;
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.ext.textprocessing.data.filestore;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.knime.core.data.filestore.FileStoreFactory;
+import org.knime.ext.textprocessing.benchmarks.SyntheticCorpus;
+import org.knime.ext.textprocessing.data.Document;
+import org.knime.ext.textprocessing.preferences.TextprocessingPreferenceInitializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures writing documents into file store cells and reading them back. The number of documents exceeds the size
+ * of the document cache of {@link AbstractDocumentFileStoreCell}, so that every read is served from the file store
+ * file rather than from the cache.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(0)
+public class DocumentFileStoreBenchmark {
+
+    /** The number of documents written and read per invocation. */
+    @Param({"2000"})
+    public int noOfDocuments;
+
+    /** The number of sentences of each document. */
+    @Param({"10"})
+    public int noOfSentences;
+
+    private List<Document> m_documents;
+
+    private List<AbstractDocumentFileStoreCell> m_cells;
+
+    private FileStoreFactory m_fileStoreFactory;
+
+    /**
+     * Creates the documents and writes them once, to have cells to read from.
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        m_documents = new SyntheticCorpus(SyntheticCorpus.DEFAULT_SEED).nextDocuments(noOfDocuments, noOfSentences,
+            TextprocessingPreferenceInitializer.DEFAULT_TOKENIZER);
+        m_fileStoreFactory = FileStoreFactory.createNotInWorkflowFileStoreFactory();
+        final DocumentFileStoreDataCellFactory cellFactory = new DocumentFileStoreDataCellFactory();
+        cellFactory.prepare(m_fileStoreFactory);
+        m_cells = new ArrayList<>(noOfDocuments);
+        for (final Document doc : m_documents) {
+            m_cells.add((AbstractDocumentFileStoreCell)cellFactory.createDataCell(doc));
+        }
+    }
+
+    /**
+     * Releases the file stores.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        m_fileStoreFactory.close();
+    }
+
+    /**
+     * Writing appends to the file store files, hence a fixed number of invocations is measured to bound the disk
+     * space used.
+     *
+     * @param bh the black hole consuming the cells
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 5)
+    @Measurement(iterations = 10)
+    public void write(final Blackhole bh) {
+        final DocumentFileStoreDataCellFactory cellFactory = new DocumentFileStoreDataCellFactory();
+        cellFactory.prepare(m_fileStoreFactory);
+        for (final Document doc : m_documents) {
+            bh.consume(cellFactory.createDataCell(doc));
+        }
+    }
+
+    /**
+     * @param bh the black hole consuming the documents
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = 3, time = 2)
+    @Measurement(iterations = 5, time = 2)
+    public void read(final Blackhole bh) {
+        for (final AbstractDocumentFileStoreCell cell : m_cells) {
+            synchronized (cell) {
+                // forget the document, it is read again from the file store since the cache is too small to hold all
+                cell.m_document = null;
+            }
+            bh.consume(cell.getDocument());
+        }
+    }
+}
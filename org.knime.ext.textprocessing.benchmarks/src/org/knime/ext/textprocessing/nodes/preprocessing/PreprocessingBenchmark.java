@@ -0,0 +1,226 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.ext.textprocessing.nodes.preprocessing;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.container.ColumnRearranger;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.filestore.FileStoreFactory;
+import org.knime.core.data.filestore.internal.NotInWorkflowDataRepository;
+import org.knime.core.node.BufferedDataContainer;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.DefaultNodeProgressMonitor;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.Node;
+import org.knime.core.node.NodeFactory;
+import org.knime.core.node.NodeModel;
+import org.knime.core.node.port.PortType;
+import org.knime.core.node.workflow.SingleNodeContainer;
+import org.knime.core.node.workflow.virtual.parchunk.VirtualParallelizedChunkPortObjectInNodeFactory;
+import org.knime.ext.textprocessing.benchmarks.SyntheticCorpus;
+import org.knime.ext.textprocessing.data.Document;
+import org.knime.ext.textprocessing.data.Term;
+import org.knime.ext.textprocessing.nodes.preprocessing.caseconverter.CaseConverter;
+import org.knime.ext.textprocessing.nodes.preprocessing.numberfilter.NumberFilter;
+import org.knime.ext.textprocessing.nodes.preprocessing.puncterasure.PunctuationErasure;
+import org.knime.ext.textprocessing.nodes.preprocessing.stopwordfilter.StopWordFilter;
+import org.knime.ext.textprocessing.preferences.TextprocessingPreferenceInitializer;
+import org.knime.ext.textprocessing.util.TextContainerDataCellFactory;
+import org.knime.ext.textprocessing.util.TextContainerDataCellFactoryBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the {@link PreprocessingCellFactory} applying chains of {@link TermPreprocessing}s to a table of
+ * documents, the way the preprocessing nodes do, including the creation of the new document cells.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(0)
+public class PreprocessingBenchmark {
+
+    /** The comma separated names of the preprocessing steps, applied in the given order. */
+    @Param({"PunctuationErasure", "PunctuationErasure,NumberFilter,CaseConverter,StopWordFilter"})
+    public String chain;
+
+    /** The number of documents preprocessed per invocation. */
+    @Param({"500"})
+    public int noOfDocuments;
+
+    /** The number of sentences of each document. */
+    @Param({"10"})
+    public int noOfSentences;
+
+    private ExecutionContext m_exec;
+
+    private BufferedDataTable m_table;
+
+    private TermPreprocessing m_preprocessing;
+
+    /**
+     * Creates the input table and the preprocessing chain.
+     *
+     * @throws CanceledExecutionException never
+     */
+    @Setup(Level.Trial)
+    public void setup() throws CanceledExecutionException {
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        final NodeFactory<NodeModel> factory =
+            (NodeFactory)new VirtualParallelizedChunkPortObjectInNodeFactory(new PortType[0]);
+        m_exec = new ExecutionContext(new DefaultNodeProgressMonitor(), new Node(factory),
+            SingleNodeContainer.MemoryPolicy.CacheSmallInMemory, NotInWorkflowDataRepository.newInstance());
+
+        final SyntheticCorpus corpus = new SyntheticCorpus(SyntheticCorpus.DEFAULT_SEED);
+        final List<Document> docs = corpus.nextDocuments(noOfDocuments, noOfSentences,
+            TextprocessingPreferenceInitializer.DEFAULT_TOKENIZER);
+        final TextContainerDataCellFactory cellFactory =
+            TextContainerDataCellFactoryBuilder.createDocumentCellFactory();
+        cellFactory.prepare(FileStoreFactory.createWorkflowFileStoreFactory(m_exec));
+        final DataTableSpec spec =
+            new DataTableSpec(new DataColumnSpecCreator("Document", cellFactory.getDataType()).createSpec());
+        final BufferedDataContainer container = m_exec.createDataContainer(spec);
+        for (int i = 0; i < docs.size(); i++) {
+            container.addRowToTable(
+                new DefaultRow(RowKey.createRowKey((long)i), cellFactory.createDataCell(docs.get(i))));
+        }
+        container.close();
+        m_table = container.getTable();
+
+        final List<TermPreprocessing> steps = new ArrayList<>();
+        for (final String name : chain.split(",")) {
+            steps.add(createPreprocessing(name.trim(), corpus));
+        }
+        m_preprocessing = new ChainedPreprocessing(steps);
+    }
+
+    private static TermPreprocessing createPreprocessing(final String name, final SyntheticCorpus corpus) {
+        switch (name) {
+            case "PunctuationErasure":
+                return new PunctuationErasure();
+            case "NumberFilter":
+                return new NumberFilter();
+            case "CaseConverter":
+                return new CaseConverter();
+            case "StopWordFilter":
+                return new StopWordFilter(corpus.getWords(0, 100), false);
+            default:
+                throw new IllegalArgumentException("Unknown preprocessing: " + name);
+        }
+    }
+
+    /**
+     * Clears the input table.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        m_exec.clearTable(m_table);
+    }
+
+    /**
+     * @return the number of rows of the preprocessed table
+     * @throws CanceledExecutionException never
+     */
+    @Benchmark
+    public long preprocess() throws CanceledExecutionException {
+        final ColumnRearranger rearranger = new ColumnRearranger(m_table.getDataTableSpec());
+        rearranger.replace(new PreprocessingCellFactory(m_preprocessing, 0,
+            m_table.getDataTableSpec().getColumnSpec(0), false), 0);
+        final BufferedDataTable out = m_exec.createColumnRearrangeTable(m_table, rearranger, m_exec);
+        final long size = out.size();
+        m_exec.clearTable(out);
+        return size;
+    }
+
+    /**
+     * Applies several term preprocessings one after the other, stopping as soon as a term is filtered.
+     */
+    private static final class ChainedPreprocessing implements TermPreprocessing {
+
+        private final List<TermPreprocessing> m_steps;
+
+        ChainedPreprocessing(final List<TermPreprocessing> steps) {
+            m_steps = steps;
+        }
+
+        @Override
+        public Term preprocessTerm(final Term term) {
+            Term t = term;
+            for (final TermPreprocessing step : m_steps) {
+                t = step.preprocessTerm(t);
+                if (t == null) {
+                    return null;
+                }
+            }
+            return t;
+        }
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.ext.textprocessing.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.knime.ext.textprocessing.benchmarks.SyntheticCorpus;
+import org.knime.ext.textprocessing.data.Document;
+import org.knime.ext.textprocessing.nodes.tagging.pos.PosDocumentTagger;
+import org.knime.ext.textprocessing.preferences.TextprocessingPreferenceInitializer;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the heap retained by deserialized POS tagged documents with and without the {@link TextInterner}. The
+ * retained heap is reported by the secondary result {@code retainedKiB}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(0)
+public class InterningBenchmark {
+
+    /** The number of deserialized documents. */
+    @Param({"2000"})
+    public int noOfDocuments;
+
+    /** The number of sentences of each document. */
+    @Param({"20"})
+    public int noOfSentences;
+
+    /** Whether the strings and tags of the words are interned. */
+    @Param({"false", "true"})
+    public boolean interning;
+
+    private byte[] m_serialized;
+
+    /**
+     * Creates and POS tags the documents and serializes them.
+     *
+     * @throws IOException if the POS model cannot be loaded or the documents cannot be serialized
+     */
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        TextInterner.setEnabled(interning);
+        final String tokenizerName = TextprocessingPreferenceInitializer.DEFAULT_TOKENIZER;
+        final PosDocumentTagger tagger = new PosDocumentTagger(false, tokenizerName);
+        final ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        try (final DataOutputStream out = new DataOutputStream(bos)) {
+            for (final Document doc : new SyntheticCorpus(SyntheticCorpus.DEFAULT_SEED)
+                .nextDocuments(noOfDocuments, noOfSentences, tokenizerName)) {
+                TermDocumentDeSerializationUtil.fastSerializeDocument(tagger.tag(doc), out);
+            }
+        }
+        m_serialized = bos.toByteArray();
+    }
+
+    /**
+     * Enables interning again.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        TextInterner.setEnabled(true);
+    }
+
+    /**
+     * @param heap the counter of the retained heap
+     * @param bh the black hole consuming the documents
+     * @throws IOException if the documents cannot be deserialized
+     */
+    @Benchmark
+    public void deserialize(final RetainedHeap heap, final Blackhole bh) throws IOException {
+        final long usedBefore = usedHeap();
+        final List<Document> documents = new ArrayList<>(noOfDocuments);
+        final DataInputStream in = new DataInputStream(new ByteArrayInputStream(m_serialized));
+        for (int i = 0; i < noOfDocuments; i++) {
+            documents.add(TermDocumentDeSerializationUtil.fastDeserializeDocument(in));
+        }
+        heap.retainedKiB += (usedHeap() - usedBefore) / 1024;
+        bh.consume(documents);
+    }
+
+    private static long usedHeap() {
+        System.gc();
+        System.gc();
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    /**
+     * Reports the heap retained by the deserialized documents as secondary result.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class RetainedHeap {
+
+        /** The heap retained by the deserialized documents in KiB. */
+        public long retainedKiB;
+
+        /**
+         * Resets the counter before each iteration.
+         */
+        @Setup(Level.Iteration)
+        public void reset() {
+            retainedKiB = 0;
+        }
+    }
+}
@@ -54,24 +54,19 @@
 import org.knime.ext.textprocessing.data.Sentence;
 import org.knime.ext.textprocessing.data.Term;
 import org.knime.ext.textprocessing.data.Word;
+import org.knime.ext.textprocessing.language.turkish.util.ZemberekMorphology;
+import org.knime.ext.textprocessing.language.turkish.util.ZemberekWordAnalysis;
 import org.knime.ext.textprocessing.nodes.preprocessing.SentencePreprocessing;
 
-import zemberek.morphology.TurkishMorphology;
-import zemberek.morphology.TurkishMorphology.Builder;
-import zemberek.morphology.analysis.SentenceWordAnalysis;
-
 /**
- * A class for stemming Turkish words. The stemming functionality comes from the ZemberekNLP library.
+ * A class for stemming Turkish words. The stemming functionality comes from the ZemberekNLP library. The underlying
+ * morphology is shared process-wide (see {@link ZemberekMorphology}), so instances are cheap to create and can be used
+ * concurrently.
  *
  * @author Julian Bunzel, KNIME GmbH, Berlin, Germany
  */
 final class WrappedZemberekStemmer implements SentencePreprocessing {
 
-    /**
-     * The {@link TurkishMorphology} object used for ambiguity resolution and stemming.
-     */
-    private final TurkishMorphology m_stemmer;
-
     /**
      * Defines if stems should maintain the letter cases of the original word.
      */
@@ -84,7 +79,6 @@ final class WrappedZemberekStemmer implements SentencePreprocessing {
      */
     WrappedZemberekStemmer(final boolean maintainCase) {
         m_maintainCase = maintainCase;
-        m_stemmer = new Builder().addDefaultBinaryDictionary().build();
     }
 
     /**
@@ -111,8 +105,8 @@ private Sentence stemTermsAndGetSentence(final Sentence sentence, final boolean
             .sum();
 
         // disambiguation and morphological analysis
-        final List<SentenceWordAnalysis> analysisResults =
-            m_stemmer.analyzeAndDisambiguate(sentence.getText()).getWordAnalyses();
+        final List<ZemberekWordAnalysis> analysisResults =
+            ZemberekMorphology.analyzeAndDisambiguate(sentence.getText());
 
         // counter to keep track of the current analysis result
         int counter = 0;
@@ -121,7 +115,7 @@ private Sentence stemTermsAndGetSentence(final Sentence sentence, final boolean
                 if (!term.getText().isEmpty() && (!term.isUnmodifiable() || processUnmodifiableTerms)) {
                     // getting the stem of each word
                     for (final Word word : term.getWords()) {
-                        String stem = analysisResults.get(counter).getBestAnalysis().getStem();
+                        String stem = analysisResults.get(counter).getStem();
                         stem = m_maintainCase ? maintainCase(word.getText(), stem) : stem;
                         final List<Word> newWords = new ArrayList<>();
                         newWords.add(new Word(stem, word.getWhitespaceSuffix()));
@@ -135,8 +129,8 @@ private Sentence stemTermsAndGetSentence(final Sentence sentence, final boolean
             }
         } else {
             // this is only the case if there is no one-to-one mapping between analyzed words and incoming words
-            for (final SentenceWordAnalysis swa : analysisResults) {
-                final String stem = swa.getBestAnalysis().getStem();
+            for (final ZemberekWordAnalysis analysis : analysisResults) {
+                final String stem = analysis.getStem();
                 final List<Word> newWords = new ArrayList<>();
                 newWords.add(new Word(stem, " "));
                 newTerms.add(new Term(newWords, new ArrayList<>(), false));
@@ -56,29 +56,24 @@
 import org.knime.ext.textprocessing.data.Sentence;
 import org.knime.ext.textprocessing.data.Tag;
 import org.knime.ext.textprocessing.language.turkish.data.ZemberekBasicTurkishPOSTag;
+import org.knime.ext.textprocessing.language.turkish.util.ZemberekMorphology;
 import org.knime.ext.textprocessing.nodes.tagging.AbstractDocumentTagger;
 import org.knime.ext.textprocessing.nodes.tagging.TaggedEntity;
 
-import zemberek.morphology.TurkishMorphology;
-import zemberek.morphology.TurkishMorphology.Builder;
-
 /**
  * The Zemberek POS tagger node adds part of speech (POS) tags to terms of documents. Here the Zemberek part-of-speech
  * tag set is used to define all kinds of tags, see
  * {@link ZemberekBasicTurkishPOSTag} for more details. The POS
- * tagger is based on the ZemberekNLP library (https://github.com/ahmetaa/zemberek-nlp).
+ * tagger is based on the ZemberekNLP library (https://github.com/ahmetaa/zemberek-nlp). The underlying morphology is
+ * shared process-wide (see {@link ZemberekMorphology}).
  *
  * @author Julian Bunzel, KNIME GmbH, Berlin, Germany
  */
 final class ZemberekBasicPOSTagger extends AbstractDocumentTagger {
 
-    /** The {@code TurkishMorphology} instance used for tagging. */
-    private final TurkishMorphology m_tagger;
-
     /** Creates a new instance of {@code ZemberekBasicPOSTagger}. */
     ZemberekBasicPOSTagger(final String tokenizerName) {
         super(false, tokenizerName);
-        m_tagger = new Builder().addDefaultBinaryDictionary().build();
     }
 
     /**
@@ -94,10 +89,9 @@ protected List<Tag> getTags(final String tag) {
      */
     @Override
     protected List<TaggedEntity> tagEntities(final Sentence sentence) {
-        return m_tagger.analyzeAndDisambiguate(sentence.getText()).getWordAnalyses()//
+        return ZemberekMorphology.analyzeAndDisambiguate(sentence.getText())//
             .stream()//
-            .map(swa -> new TaggedEntity(swa.getWordAnalysis().getInput(),
-                swa.getBestAnalysis().getDictionaryItem().primaryPos.name()))//
+            .map(analysis -> new TaggedEntity(analysis.getInput(), analysis.getPrimaryPos()))//
             .collect(Collectors.toList());
     }
 
@@ -0,0 +1,150 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.ext.textprocessing.language.turkish.util;
+
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.Collectors;
+
+import org.knime.core.node.NodeLogger;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import zemberek.morphology.TurkishMorphology;
+import zemberek.morphology.TurkishMorphology.Builder;
+import zemberek.morphology.analysis.SentenceWordAnalysis;
+
+/**
+ * Provides a process-wide, lazily initialized {@link TurkishMorphology} that is shared by all ZemberekNLP based nodes,
+ * together with a bounded concurrent cache of disambiguated sentence analyses. Loading the default binary dictionary
+ * takes several seconds and a considerable amount of memory, hence it is done only once per JVM instead of once per
+ * node instance. The {@code TurkishMorphology} is thread-safe, so stemmer and tagger instances can be used by
+ * multiple worker threads in parallel.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public final class ZemberekMorphology {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(ZemberekMorphology.class);
+
+    /** The maximum number of sentence analyses kept in the cache. */
+    private static final int MAX_CACHE_SIZE = 50_000;
+
+    /**
+     * Cache mapping the text of a sentence to the disambiguated analyses of its words. Since Zemberek resolves
+     * ambiguities based on the sentence context, the analysis of a word can not be cached independently of its
+     * sentence.
+     */
+    private static final Cache<String, List<ZemberekWordAnalysis>> ANALYSIS_CACHE = CacheBuilder.newBuilder()//
+        .maximumSize(MAX_CACHE_SIZE)//
+        .softValues()//
+        .build();
+
+    private ZemberekMorphology() {
+        // utility class
+    }
+
+    /**
+     * Lazy initialization holder of the shared {@code TurkishMorphology} instance.
+     */
+    private static final class MorphologyHolder {
+        private static final TurkishMorphology INSTANCE = createMorphology();
+
+        private static TurkishMorphology createMorphology() {
+            final long start = System.currentTimeMillis();
+            final TurkishMorphology morphology = new Builder().addDefaultBinaryDictionary().build();
+            LOGGER.debug("Loaded Zemberek Turkish morphology in " + (System.currentTimeMillis() - start) + " ms.");
+            return morphology;
+        }
+    }
+
+    /**
+     * Returns the shared {@code TurkishMorphology} instance. The instance is created on first access.
+     *
+     * @return The shared {@code TurkishMorphology}.
+     */
+    public static TurkishMorphology getMorphology() {
+        return MorphologyHolder.INSTANCE;
+    }
+
+    /**
+     * Analyzes and disambiguates the given sentence text and returns the best analysis of each word. Results are
+     * cached, so that repeated sentences are analyzed only once.
+     *
+     * @param sentence The sentence text to analyze.
+     * @return An unmodifiable list containing the best analysis of each word of the sentence.
+     */
+    public static List<ZemberekWordAnalysis> analyzeAndDisambiguate(final String sentence) {
+        try {
+            return ANALYSIS_CACHE.get(sentence, () -> analyze(sentence));
+        } catch (final ExecutionException e) {
+            // analysis itself does not throw checked exceptions, so this is not expected to happen
+            throw new IllegalStateException("Could not analyze sentence: " + e.getMessage(), e);
+        }
+    }
+
+    private static List<ZemberekWordAnalysis> analyze(final String sentence) {
+        return getMorphology().analyzeAndDisambiguate(sentence).getWordAnalyses().stream()//
+            .map(ZemberekMorphology::toWordAnalysis)//
+            .collect(Collectors.collectingAndThen(Collectors.toList(), List::copyOf));
+    }
+
+    private static ZemberekWordAnalysis toWordAnalysis(final SentenceWordAnalysis swa) {
+        return new ZemberekWordAnalysis(swa.getWordAnalysis().getInput(), swa.getBestAnalysis().getStem(),
+            swa.getBestAnalysis().getDictionaryItem().primaryPos.name());
+    }
+
+    /**
+     * Removes all cached sentence analyses. The shared {@code TurkishMorphology} is kept.
+     */
+    public static void clearCache() {
+        ANALYSIS_CACHE.invalidateAll();
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.ext.textprocessing;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.knime.ext.textprocessing.data.Document;
+import org.knime.ext.textprocessing.data.DocumentBuilder;
+import org.knime.ext.textprocessing.data.DocumentMetaInfo;
+import org.knime.ext.textprocessing.data.DocumentType;
+import org.knime.ext.textprocessing.data.Paragraph;
+import org.knime.ext.textprocessing.data.PublicationDate;
+import org.knime.ext.textprocessing.data.Section;
+import org.knime.ext.textprocessing.data.Sentence;
+import org.knime.ext.textprocessing.data.Term;
+import org.knime.ext.textprocessing.data.Word;
+
+/**
+ * Creates documents from plain text for unit tests. Words are separated by single blanks and each word becomes an
+ * untagged term.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public final class TestDocuments {
+
+    private TestDocuments() {
+        // utility class
+    }
+
+    /**
+     * @param word the text of the term
+     * @return an untagged term consisting of the given word
+     */
+    public static Term createTerm(final String word) {
+        return new Term(List.of(new Word(word, " ")), Collections.emptyList(), false);
+    }
+
+    /**
+     * @param sentence the blank separated words of the sentence, an empty string creates a sentence without terms
+     * @return a sentence consisting of one term per word
+     */
+    public static Sentence createSentence(final String sentence) {
+        final List<Term> terms = new ArrayList<>();
+        if (!sentence.isEmpty()) {
+            for (final String word : sentence.split(" ")) {
+                terms.add(createTerm(word));
+            }
+        }
+        return new Sentence(terms);
+    }
+
+    /**
+     * @param sentences the sentences of the only paragraph of the document
+     * @return a document with one section and one paragraph containing the given sentences
+     */
+    public static Document createDocument(final String... sentences) {
+        return createDocument(List.of(List.of(sentences)));
+    }
+
+    /**
+     * @param paragraphs the sentences of each paragraph of the document
+     * @return a document with one section containing the given paragraphs
+     */
+    public static Document createDocument(final List<List<String>> paragraphs) {
+        final List<Paragraph> paragraphList = new ArrayList<>();
+        for (final List<String> paragraph : paragraphs) {
+            final List<Sentence> sentences = new ArrayList<>();
+            for (final String sentence : paragraph) {
+                sentences.add(createSentence(sentence));
+            }
+            paragraphList.add(new Paragraph(sentences));
+        }
+        return createDocument(new Section(paragraphList));
+    }
+
+    /**
+     * @param sentence the only sentence of the document, e.g. one with tagged terms
+     * @return a document with one section and one paragraph containing the given sentence
+     */
+    public static Document createDocument(final Sentence sentence) {
+        return createDocument(new Section(List.of(new Paragraph(List.of(sentence)))));
+    }
+
+    private static Document createDocument(final Section section) {
+        return DocumentBuilder.createDocument(List.of(section), DocumentType.UNKNOWN, Collections.emptySet(),
+            Collections.emptySet(), Collections.emptySet(), new PublicationDate(), null, new DocumentMetaInfo());
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.ext.textprocessing.data;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+
+import org.junit.Test;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.port.PortObject;
+import org.knime.core.node.port.PortUtil;
+
+import cc.mallet.topics.ParallelTopicModel;
+import cc.mallet.topics.TopicInferencer;
+import cc.mallet.types.Alphabet;
+import cc.mallet.types.FeatureSequence;
+import cc.mallet.types.Instance;
+import cc.mallet.types.InstanceList;
+
+/**
+ * Contains unit tests for {@link TopicModelPortObject}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+@SuppressWarnings("javadoc")
+public final class TopicModelPortObjectTest {
+
+    private static final String[][] DOCUMENTS = {{"apple", "banana", "apple", "cherry"},
+        {"dog", "cat", "mouse", "dog"}, {"apple", "cat", "banana", "mouse"}};
+
+    @Test
+    public void testSerializerRoundTrip() throws Exception {
+        final TopicModelPortObjectSpec spec = new TopicModelPortObjectSpec(3, 0.5, 0.01);
+        final TopicModelPortObject portObject = new TopicModelPortObject(spec, createModel(3, 0.5, 0.01));
+
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        PortUtil.writeObjectToStream(portObject, out, new ExecutionMonitor());
+        final PortObject loaded =
+            PortUtil.readObjectFromStream(new ByteArrayInputStream(out.toByteArray()), new ExecutionMonitor());
+
+        assertThat(loaded).isInstanceOf(TopicModelPortObject.class);
+        final TopicModelPortObject loadedModel = (TopicModelPortObject)loaded;
+        assertThat(loadedModel.getSpec().getNoOfTopics()).isEqualTo(3);
+        assertThat(loadedModel.getSpec().getAlpha()).isEqualTo(0.5);
+        assertThat(loadedModel.getSpec().getBeta()).isEqualTo(0.01);
+        assertThat(loadedModel.getSummary()).isEqualTo(portObject.getSummary());
+        assertThat(loadedModel.getAlphabet().toArray()).containsExactly(portObject.getAlphabet().toArray());
+
+        // the loaded model has the same counts and hyperparameters if it samples the same distributions
+        final Instance instance = createInstance(portObject.getAlphabet(), "apple", "dog", "banana", "dog");
+        assertThat(sample(loadedModel.createInferencer(), instance))
+            .containsExactly(sample(portObject.createInferencer(), instance));
+    }
+
+    private static double[] sample(final TopicInferencer inferencer, final Instance instance) {
+        inferencer.setRandomSeed(42);
+        return inferencer.getSampledDistribution(instance, 50, 5, 10);
+    }
+
+    /**
+     * Creates a topic model whose counts are the random initial topic assignments, which is sufficient to test the
+     * serialization of the model state.
+     */
+    private static ParallelTopicModel createModel(final int noOfTopics, final double alpha, final double beta) {
+        final Alphabet alphabet = new Alphabet();
+        final InstanceList instances = new InstanceList(alphabet, null);
+        for (final String[] words : DOCUMENTS) {
+            instances.add(createInstance(alphabet, words));
+        }
+        final ParallelTopicModel model = new ParallelTopicModel(noOfTopics, alpha * noOfTopics, beta);
+        model.setRandomSeed(1);
+        model.addInstances(instances);
+        return model;
+    }
+
+    private static Instance createInstance(final Alphabet alphabet, final String... words) {
+        final FeatureSequence sequence = new FeatureSequence(alphabet, words.length);
+        for (final String word : words) {
+            sequence.add(word);
+        }
+        return new Instance(sequence, null, null, null);
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.ext.textprocessing.data.filestore;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.knime.ext.textprocessing.TestDocuments.createTerm;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import org.junit.After;
+import org.junit.Test;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataCellDataInput;
+import org.knime.core.data.DataCellDataOutput;
+import org.knime.core.data.filestore.FileStore;
+import org.knime.core.data.filestore.FileStoreFactory;
+import org.knime.core.data.filestore.FileStoreUtil;
+import org.knime.ext.textprocessing.data.TermValue;
+
+/**
+ * Contains unit tests for {@link TermDictionary} and {@link TermDictionaryFileStoreCell}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+@SuppressWarnings("javadoc")
+public final class TermDictionaryTest {
+
+    private final FileStoreFactory m_fileStoreFactory = FileStoreFactory.createNotInWorkflowFileStoreFactory();
+
+    @After
+    public void closeFileStoreFactory() {
+        m_fileStoreFactory.close();
+    }
+
+    @Test
+    public void testAddAndGetTerm() throws IOException {
+        final FileStore fileStore = m_fileStoreFactory.createFileStore("terms");
+        final TermDictionary dictionary = TermDictionary.of(fileStore);
+        assertThat(TermDictionary.of(fileStore)).isSameAs(dictionary);
+
+        final int[] ids = new int[2500];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = dictionary.add(createTerm("term" + (i % 1200)));
+        }
+        // each distinct term is added only once
+        assertThat(ids[1200]).isEqualTo(ids[0]);
+        assertThat(ids[1199]).isEqualTo(1199);
+        for (int i = 0; i < ids.length; i++) {
+            assertThat(dictionary.getTerm(ids[i], fileStore)).isEqualTo(createTerm("term" + (i % 1200)));
+        }
+
+        // terms added after the dictionary has been read are found as well
+        final int id = dictionary.add(createTerm("fox"));
+        assertThat(dictionary.getTerm(id, fileStore)).isEqualTo(createTerm("fox"));
+    }
+
+    @Test
+    public void testCells() {
+        final TermDictionaryFileStoreDataCellFactory factory = new TermDictionaryFileStoreDataCellFactory();
+        factory.prepare(m_fileStoreFactory);
+
+        final DataCell cell = factory.createDataCell(createTerm("fox"));
+        assertThat(factory.validateCellType(cell)).isTrue();
+        assertThat(cell.getType().isCompatible(TermValue.class)).isTrue();
+        assertThat(((TermValue)cell).getTermValue()).isEqualTo(createTerm("fox"));
+        assertThat(cell).isEqualTo(factory.createDataCell(createTerm("fox")));
+        assertThat(cell).isNotEqualTo(factory.createDataCell(createTerm("dog")));
+    }
+
+    @Test
+    public void testSerializedCell() throws IOException {
+        final FileStore fileStore = m_fileStoreFactory.createFileStore("serialized");
+        final TermDictionary dictionary = TermDictionary.of(fileStore);
+        dictionary.add(createTerm("dog"));
+        final TermDictionaryFileStoreCell cell =
+            new TermDictionaryFileStoreCell(fileStore, dictionary, createTerm("fox"));
+        // as done by the table when the cell is written
+        FileStoreUtil.invokeFlush(cell);
+
+        final TermDictionaryFileStoreCell.Serializer serializer = new TermDictionaryFileStoreCell.Serializer();
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (final CellOutput out = new CellOutput(bytes)) {
+            serializer.serialize(cell, out);
+        }
+        final TermDictionaryFileStoreCell deserialized;
+        try (final CellInput in = new CellInput(new ByteArrayInputStream(bytes.toByteArray()))) {
+            deserialized = serializer.deserialize(in);
+        }
+
+        // as in a new session, the dictionary is looked up again and read from the file store file
+        TermDictionary.DICTIONARIES.invalidateAll();
+        FileStoreUtil.retrieveFileStoreHandlers(deserialized, FileStoreUtil.getFileStoreKeys(cell),
+            FileStoreUtil.getFileStoreHandler(fileStore).getDataRepository());
+        assertThat(deserialized.getTermValue()).isEqualTo(createTerm("fox"));
+        assertThat(TermDictionary.of(fileStore)).isNotSameAs(dictionary);
+        assertThat(deserialized).isEqualTo(cell);
+    }
+
+    private static final class CellOutput extends DataOutputStream implements DataCellDataOutput {
+
+        CellOutput(final OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void writeDataCell(final DataCell cell) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private static final class CellInput extends DataInputStream implements DataCellDataInput {
+
+        CellInput(final InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public DataCell readDataCell() {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
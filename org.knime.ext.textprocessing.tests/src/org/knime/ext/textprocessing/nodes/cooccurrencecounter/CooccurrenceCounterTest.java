@@ -0,0 +1,220 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.ext.textprocessing.nodes.cooccurrencecounter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.knime.ext.textprocessing.TestDocuments.createDocument;
+import static org.knime.ext.textprocessing.TestDocuments.createTerm;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.ext.textprocessing.data.Document;
+import org.knime.ext.textprocessing.data.Paragraph;
+
+/**
+ * Contains unit tests for {@link CooccurrenceCounter}, comparing its counts and association scores with hand-computed
+ * values.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+@SuppressWarnings("javadoc")
+public final class CooccurrenceCounterTest {
+
+    private static final double EPSILON = 1e-12;
+
+    /** Paragraph 1: "a b a c", "b c", paragraph 2: "a d". */
+    private static final Document DOC1 = createDocument(List.of(List.of("a b a c", "b c"), List.of("a d")));
+
+    /** One paragraph: "a b", "c d". */
+    private static final Document DOC2 = createDocument(List.of(List.of("a b", "c d")));
+
+    @Test
+    public void testDocumentCounts() throws Exception {
+        final CooccurrenceCounter counter =
+            new CooccurrenceCounter(CooccurrenceLevel.DOCUMENT, false, false, 0, null);
+        counter.count(DOC1, allTerms(), new ExecutionMonitor());
+        final Map<String, Integer> pairs = getPairs(counter);
+        assertThat(pairs).hasSize(6);
+
+        // sentences: the minimum of the occurrences per sentence, "b c" co-occur in both sentences of paragraph 1
+        assertCount(counter, pairs, "a b", CooccurrenceLevel.SENTENCE, 1);
+        assertCount(counter, pairs, "a c", CooccurrenceLevel.SENTENCE, 1);
+        assertCount(counter, pairs, "b c", CooccurrenceLevel.SENTENCE, 2);
+        assertCount(counter, pairs, "a d", CooccurrenceLevel.SENTENCE, 1);
+        assertCount(counter, pairs, "b d", CooccurrenceLevel.SENTENCE, 0);
+
+        // paragraph 1 contains a, b and c twice each
+        assertCount(counter, pairs, "a b", CooccurrenceLevel.PARAGRAPH, 2);
+        assertCount(counter, pairs, "a c", CooccurrenceLevel.PARAGRAPH, 2);
+        assertCount(counter, pairs, "b c", CooccurrenceLevel.PARAGRAPH, 2);
+        assertCount(counter, pairs, "a d", CooccurrenceLevel.PARAGRAPH, 1);
+
+        // the document contains a three times, b and c twice and d once
+        assertCount(counter, pairs, "a b", CooccurrenceLevel.DOCUMENT, 2);
+        assertCount(counter, pairs, "a d", CooccurrenceLevel.DOCUMENT, 1);
+        assertCount(counter, pairs, "b d", CooccurrenceLevel.DOCUMENT, 1);
+        assertCount(counter, pairs, "c d", CooccurrenceLevel.DOCUMENT, 1);
+        assertCount(counter, pairs, "a b", CooccurrenceLevel.SECTION, 2);
+
+        // neighbors within sentences: a-b, b-a, a-c, b-c, a-d
+        assertCount(counter, pairs, "a b", CooccurrenceLevel.NEIGHBOR, 2);
+        assertCount(counter, pairs, "a c", CooccurrenceLevel.NEIGHBOR, 1);
+        assertCount(counter, pairs, "b c", CooccurrenceLevel.NEIGHBOR, 1);
+        assertCount(counter, pairs, "a d", CooccurrenceLevel.NEIGHBOR, 1);
+        assertCount(counter, pairs, "c d", CooccurrenceLevel.NEIGHBOR, 0);
+
+        // the pairs of the previous document are discarded
+        counter.count(DOC2, allTerms(), new ExecutionMonitor());
+        assertThat(counter.getNumberOfPairs()).isEqualTo(6);
+        assertCount(counter, getPairs(counter), "a b", CooccurrenceLevel.SENTENCE, 1);
+    }
+
+    @Test
+    public void testWindow() throws Exception {
+        final CooccurrenceCounter counter =
+            new CooccurrenceCounter(CooccurrenceLevel.SENTENCE, false, false, 1, null);
+        counter.count(DOC1, allTerms(), new ExecutionMonitor());
+        final Map<String, Integer> pairs = getPairs(counter);
+
+        // adjacent occurrence pairs within sentences: (a b), (b a), (a c) | (b c) | (a d)
+        assertThat(pairs).hasSize(4);
+        assertCount(counter, pairs, "a b", CooccurrenceLevel.SENTENCE, 2);
+        assertCount(counter, pairs, "a c", CooccurrenceLevel.SENTENCE, 1);
+        assertCount(counter, pairs, "b c", CooccurrenceLevel.SENTENCE, 1);
+        assertCount(counter, pairs, "a d", CooccurrenceLevel.SENTENCE, 1);
+    }
+
+    @Test
+    public void testCorpusCountsAndScores() throws Exception {
+        final CooccurrenceCounter.TermDictionary dictionary = new CooccurrenceCounter.TermDictionary(false);
+        final CooccurrenceCounter counter1 =
+            new CooccurrenceCounter(CooccurrenceLevel.SENTENCE, false, false, 0, dictionary);
+        final CooccurrenceCounter counter2 =
+            new CooccurrenceCounter(CooccurrenceLevel.SENTENCE, false, false, 0, dictionary);
+        counter1.count(DOC1, allTerms(), new ExecutionMonitor());
+        counter2.count(DOC2, allTerms(), new ExecutionMonitor());
+        counter1.merge(counter2);
+
+        // five sentences: "a b a c", "b c", "a d", "a b", "c d"
+        assertThat(counter1.getBlockCount()).isEqualTo(5L);
+        final int[] sorted = counter1.getSortedCorpusPairs();
+        final List<String> sortedPairs = new ArrayList<>();
+        for (final int pair : sorted) {
+            sortedPairs.add(counter1.getCorpusTerm1(pair).getText() + " " + counter1.getCorpusTerm2(pair).getText());
+        }
+        assertThat(sortedPairs).containsExactly("a b", "a c", "a d", "b c", "c d");
+
+        // pair, sentence count, joint frequency, frequency of the first and the second term
+        assertCorpusPair(counter1, sorted[0], 2, 2, 3, 3);
+        assertCorpusPair(counter1, sorted[1], 1, 1, 3, 3);
+        assertCorpusPair(counter1, sorted[2], 1, 1, 3, 2);
+        assertCorpusPair(counter1, sorted[3], 2, 2, 3, 3);
+        assertCorpusPair(counter1, sorted[4], 1, 1, 3, 2);
+    }
+
+    @Test
+    public void testScores() {
+        // a b: joint 2, both terms in 3 of 5 blocks
+        // PMI = log2(2 * 5 / (3 * 3)), NPMI = PMI / -log2(2 / 5)
+        // G2 = 2 * (2 ln(2*5/(3*3)) + 1 ln(1*5/(3*2)) + 1 ln(1*5/(2*3)) + 1 ln(1*5/(2*2)))
+        assertThat(CooccurrenceCounter.pmi(2, 3, 3, 5)).isCloseTo(0.15200309344505006, within(EPSILON));
+        assertThat(CooccurrenceCounter.npmi(2, 3, 3, 5)).isCloseTo(0.1149859013004802, within(EPSILON));
+        assertThat(CooccurrenceCounter.logLikelihood(2, 3, 3, 5)).isCloseTo(0.13844293808390656, within(EPSILON));
+
+        // a c: joint 1, both terms in 3 of 5 blocks, the table 1 2 / 2 0 has an empty cell
+        // G2 = 2 * (1 ln(1*5/(3*3)) + 2 ln(2*5/(3*2)) + 2 ln(2*5/(2*3)))
+        assertThat(CooccurrenceCounter.pmi(1, 3, 3, 5)).isCloseTo(-0.84799690655495, within(EPSILON));
+        assertThat(CooccurrenceCounter.npmi(1, 3, 3, 5)).isCloseTo(-0.3652123889719706, within(EPSILON));
+        assertThat(CooccurrenceCounter.logLikelihood(1, 3, 3, 5)).isCloseTo(2.9110316603236877, within(EPSILON));
+
+        // a d: joint 1, a in 3 and d in 2 of 5 blocks
+        assertThat(CooccurrenceCounter.pmi(1, 3, 2, 5)).isCloseTo(-0.2630344058337938, within(EPSILON));
+        assertThat(CooccurrenceCounter.npmi(1, 3, 2, 5)).isCloseTo(-0.11328275255937834, within(EPSILON));
+
+        // terms that always co-occur
+        assertThat(CooccurrenceCounter.npmi(5, 5, 5, 5)).isEqualTo(1.0);
+        assertThat(CooccurrenceCounter.npmi(2, 2, 2, 4)).isCloseTo(1.0, within(EPSILON));
+    }
+
+    private static void assertCount(final CooccurrenceCounter counter, final Map<String, Integer> pairs,
+        final String pair, final CooccurrenceLevel level, final long expected) {
+        final Integer e = pairs.get(pair);
+        assertThat(e == null ? 0 : counter.getCount(e, level)).as(pair + " " + level).isEqualTo(expected);
+    }
+
+    private static void assertCorpusPair(final CooccurrenceCounter counter, final int pair, final long sentenceCount,
+        final long joint, final long freq1, final long freq2) {
+        assertThat(counter.getCorpusCount(pair, CooccurrenceLevel.SENTENCE)).isEqualTo(sentenceCount);
+        assertThat(counter.getJointFrequency(pair)).isEqualTo(joint);
+        assertThat(counter.getTerm1Frequency(pair)).isEqualTo(freq1);
+        assertThat(counter.getTerm2Frequency(pair)).isEqualTo(freq2);
+    }
+
+    private static Map<String, Integer> getPairs(final CooccurrenceCounter counter) {
+        final Map<String, Integer> pairs = new HashMap<>();
+        for (int e = 0; e < counter.getNumberOfPairs(); e++) {
+            pairs.put(counter.getTerm1(e).getText() + " " + counter.getTerm2(e).getText(), e);
+        }
+        return pairs;
+    }
+
+    private static TermChecker allTerms() {
+        final TermChecker checker = new TermChecker(false);
+        for (final String word : new String[]{"a", "b", "c", "d"}) {
+            checker.addTerm(createTerm(word));
+        }
+        return checker;
+    }
+}
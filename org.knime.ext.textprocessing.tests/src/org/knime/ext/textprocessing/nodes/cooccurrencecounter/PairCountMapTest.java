@@ -0,0 +1,119 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.ext.textprocessing.nodes.cooccurrencecounter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+/**
+ * Contains unit tests for {@link PairCountMap}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+@SuppressWarnings("javadoc")
+public final class PairCountMapTest {
+
+    @Test
+    public void testKeyIsIndependentOfOrder() {
+        assertThat(PairCountMap.key(3, 7)).isEqualTo(PairCountMap.key(7, 3));
+        assertThat(PairCountMap.key(3, 7)).isNotEqualTo(PairCountMap.key(3, 8));
+        assertThat(PairCountMap.key(0, -1)).isNotEqualTo(PairCountMap.key(-1, -1));
+    }
+
+    @Test
+    public void testCounts() {
+        final PairCountMap map = new PairCountMap(2);
+        assertThat(map.find(PairCountMap.key(1, 2))).isEqualTo(-1);
+
+        final int e = map.addPair(PairCountMap.key(1, 2), 2, 1);
+        assertThat(map.find(PairCountMap.key(2, 1))).isEqualTo(e);
+        assertThat(map.getTerm1(e)).isEqualTo(2);
+        assertThat(map.getTerm2(e)).isEqualTo(1);
+        assertThat(map.getKey(e)).isEqualTo(PairCountMap.key(1, 2));
+
+        map.add(e, 0, 3);
+        map.add(e, 0, 4);
+        map.add(e, 1, 1);
+        assertThat(map.get(e, 0)).isEqualTo(7L);
+        assertThat(map.get(e, 1)).isEqualTo(1L);
+        map.set(e, 1, 5);
+        assertThat(map.get(e, 1)).isEqualTo(5L);
+    }
+
+    @Test
+    public void testGrowKeepsEntriesInInsertionOrder() {
+        final PairCountMap map = new PairCountMap(1);
+        for (int i = 0; i < 1000; i++) {
+            final int e = map.addPair(PairCountMap.key(i, i + 1), i, i + 1);
+            assertThat(e).isEqualTo(i);
+            map.add(e, 0, i);
+        }
+        assertThat(map.size()).isEqualTo(1000);
+        for (int i = 0; i < 1000; i++) {
+            final int e = map.find(PairCountMap.key(i + 1, i));
+            assertThat(e).isEqualTo(i);
+            assertThat(map.getTerm1(e)).isEqualTo(i);
+            assertThat(map.get(e, 0)).isEqualTo((long)i);
+        }
+    }
+
+    @Test
+    public void testClear() {
+        final PairCountMap map = new PairCountMap(1);
+        final int e = map.addPair(PairCountMap.key(1, 2), 1, 2);
+        map.add(e, 0, 5);
+        map.clear();
+        assertThat(map.size()).isZero();
+        assertThat(map.find(PairCountMap.key(1, 2))).isEqualTo(-1);
+        // counts of reused entries start at zero
+        final int e2 = map.addPair(PairCountMap.key(3, 4), 3, 4);
+        assertThat(map.get(e2, 0)).isZero();
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.ext.textprocessing.nodes.mining.topic.assigner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.knime.ext.textprocessing.TestDocuments.createDocument;
+
+import org.junit.Test;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.DoubleValue;
+import org.knime.core.data.StringValue;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.ext.textprocessing.data.DocumentCell;
+import org.knime.ext.textprocessing.data.TopicModelPortObject;
+import org.knime.ext.textprocessing.data.TopicModelPortObjectSpec;
+
+import cc.mallet.topics.ParallelTopicModel;
+import cc.mallet.types.Alphabet;
+import cc.mallet.types.FeatureSequence;
+import cc.mallet.types.Instance;
+import cc.mallet.types.InstanceList;
+
+/**
+ * Contains unit tests for {@link TopicAssignerCellFactory}, inferring the topics of documents with a model trained on
+ * two disjoint vocabularies.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+@SuppressWarnings("javadoc")
+public final class TopicAssignerCellFactoryTest {
+
+    private static final String FRUITS = "apple banana cherry apple banana cherry";
+
+    private static final String ANIMALS = "dog cat mouse dog cat mouse";
+
+    private static final DataTableSpec SPEC =
+        new DataTableSpec(new DataColumnSpecCreator("Document", DocumentCell.TYPE).createSpec());
+
+    @Test
+    public void testInference() throws Exception {
+        final TopicAssignerCellFactory factory = createFactory(createModel(), 7);
+        final DataCell[] fruits = factory.getCells(createRow("Row0", "banana apple cherry unknown"));
+        final DataCell[] animals = factory.getCells(createRow("Row1", "cat dog dog mouse"));
+
+        assertThat(fruits).hasSize(3);
+        assertThat(animals).hasSize(3);
+        final String fruitTopic = ((StringValue)fruits[2]).getStringValue();
+        final String animalTopic = ((StringValue)animals[2]).getStringValue();
+        assertThat(fruitTopic).isIn("topic_0", "topic_1");
+        assertThat(animalTopic).isIn("topic_0", "topic_1");
+        assertThat(fruitTopic).isNotEqualTo(animalTopic);
+
+        final int fruitIdx = fruitTopic.equals("topic_0") ? 0 : 1;
+        assertThat(((DoubleValue)fruits[fruitIdx]).getDoubleValue()).isGreaterThan(0.5);
+        assertThat(((DoubleValue)fruits[0]).getDoubleValue() + ((DoubleValue)fruits[1]).getDoubleValue())
+            .isCloseTo(1, within(1e-9));
+    }
+
+    @Test
+    public void testSeeding() throws Exception {
+        final TopicModelPortObject model = createModel();
+        final DataRow row = createRow("Row0", "apple dog banana cat");
+        // the distribution depends on the seed and the row key only, not on the inferencer used
+        final TopicAssignerCellFactory factory = createFactory(model, 7);
+        final DataCell[] first = factory.getCells(row);
+        factory.getCells(createRow("Row1", "apple apple"));
+        assertThat(factory.getCells(row)).containsExactly(first);
+        assertThat(createFactory(model, 7).getCells(row)).containsExactly(first);
+    }
+
+    @Test
+    public void testMissingDocument() throws Exception {
+        final DataCell[] cells = createFactory(createModel(), 7)
+            .getCells(new DefaultRow("Row0", DataType.getMissingCell()));
+        assertThat(cells).hasSize(3);
+        for (final DataCell cell : cells) {
+            assertThat(cell.isMissing()).isTrue();
+        }
+    }
+
+    private static TopicAssignerCellFactory createFactory(final TopicModelPortObject model, final int seed) {
+        return new TopicAssignerCellFactory(TopicAssignerCellFactory.createColumnSpecs(SPEC, 2), 0, model, 100, 10,
+            5, seed, 1);
+    }
+
+    private static TopicModelPortObject createModel() throws Exception {
+        final Alphabet alphabet = new Alphabet();
+        final InstanceList instances = new InstanceList(alphabet, null);
+        for (int i = 0; i < 10; i++) {
+            instances.add(createInstance(alphabet, FRUITS));
+            instances.add(createInstance(alphabet, ANIMALS));
+        }
+        final ParallelTopicModel model = new ParallelTopicModel(2, 0.2, 0.01);
+        model.setRandomSeed(1);
+        model.setNumThreads(1);
+        model.setNumIterations(200);
+        model.addInstances(instances);
+        model.estimate();
+        return new TopicModelPortObject(new TopicModelPortObjectSpec(2, 0.1, 0.01), model);
+    }
+
+    private static Instance createInstance(final Alphabet alphabet, final String text) {
+        final String[] words = text.split(" ");
+        final FeatureSequence sequence = new FeatureSequence(alphabet, words.length);
+        for (final String word : words) {
+            sequence.add(word);
+        }
+        return new Instance(sequence, null, null, null);
+    }
+
+    private static DataRow createRow(final String key, final String sentence) {
+        return new DefaultRow(key, new DocumentCell(createDocument(sentence)));
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.ext.textprocessing.nodes.misc.markuptagfilter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Random;
+
+import org.jsoup.Jsoup;
+import org.junit.Test;
+
+/**
+ * Contains unit tests for {@link MarkupStripper}, comparing the stripped text with the text of the document parsed
+ * by Jsoup.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class MarkupStripperTest {
+
+    private static final String[] STRIPPED_MARKUP = {"", "plain text", "  leading and trailing  ",
+        "multiple \t\n\r\n whitespace", "a<div>b</div>c", "<div>a</div><b>c</b>", "<div>a</div> <span>b</span>",
+        "<span>a</span><span>b</span>", "a<br>b", "a<br/>b", "a</br>b", "a<hr>b", "<p>a<p>b", "a</p>b",
+        "<p>a<span>b</p>c", "<ul><li>a<li>b</ul>c", "<ul><li>a<ul><li>b</ul></li></ul>", "<dl><dt>a<dd>b</dl>",
+        "<h1>a</h2>b", "<div><span>a</div>b", "<span>a</div>b", "<b>a</b></b>c", "<unknown>a</unknown>b",
+        "<o:p>a</o:p>b", "<DIV CLASS=\"x\">a</DIV>b", "<a href=\"x>y\">a</a>b", "<img src='a' alt=\"b\">c",
+        "&amp; &lt; &gt; &quot; &apos;", "&ampx &amp &notit; &notin; &foo; & &;", "&#65;&#x42;&#X43 &#; &#x;",
+        "a&nbsp;b", "a\u00A0b", "a\u00ADb\u200Bc", "caf&eacute; &copy 2020", "a<!-- comment -->b",
+        "<div>a</div><!-- comment -->b", "a<!-->b", "a<!--->b", "a<!-- x --!>b", "a<!-- unterminated",
+        "<!DOCTYPE html>a", "a<?xml version=\"1.0\"?>b", "a<!bogus>b", "a</>b", "a</ b>c", "a < b > c",
+        "a<", "a</", "a<b", "<script>if (a < b) { x = '</div>'; }</script>b", "a<script>x</script>b",
+        "<style>p > b {}</style>a", "<title> A &amp;\r\n B </title>x", "<title>a</title ", "<div/",
+        "<html><head><meta charset=\"utf-8\"><title>T</title></head><body><p>a</p></body></html>",
+        "<!DOCTYPE html>\n<html>\n<head>\n<title>T</title>\n</head>\n<body>\n<div>a</div>\n</body>\n</html>\n",
+        "<head><title>a</title></head>b", "<link rel=x>a<meta name=y>b", "<body>a</body>", "a</body>  "};
+
+    private static final String[] DELEGATED_MARKUP = {"<table><tr><td>a</td><td>b</td></tr></table>c",
+        "<b>a<i>b</b>c</i>", "<p><b>a<p>b", "<a>a<a>b", "<pre> a\n b </pre>", "<textarea> a </textarea>",
+        "<select><option>a<option>b</select>", "a<noscript>b</noscript>c", "<div/>a", "a<![CDATA[b]]>c",
+        "<script><!--a</script>b", "&#0;&#x80;", "a\0b", "<body>a</body>b", "<a<b>c", "<title><code>",
+        "a<title>b<b>c", "<title>a</title"};
+
+    private static final String[] PARTS = {"a", "b c", " ", "\n", "\r\n", "\t", "&amp;", "&amp", "&lt", "&notin;",
+        "&#65;", "&#x41", "&nbsp;", "\u00A0", "&", "<", ">", "</", "<!-- c -->", "<!DOCTYPE html>", "<div>",
+        "</div>", "<p>", "</p>", "<span>", "</span>", "<b>", "</b>", "<i>", "</i>", "<a href=\"x>y\">", "</a>",
+        "<br>", "</br>", "<img src='a'>", "<hr>", "<li>", "</li>", "<ul>", "</ul>", "<dd>", "<dt>", "<h1>",
+        "</h1>", "<title>T &amp; x</title>", "<title>", "</title>", "<script>a < b</script>", "<style>p{}</style>", "<meta charset=x>",
+        "<html>", "</html>", "<head>", "</head>", "<body>", "</body>", "<foo>", "</foo>", "<section>",
+        "</section>", "<table>", "<td>", "<pre>", "<DIV>", "<P>", "<br />", "<b/>"};
+
+    /**
+     * Tests that well-formed and malformed markup without tables, forms and similar constructs is stripped without
+     * Jsoup, resulting in the same text.
+     */
+    @Test
+    public void testStripsLikeJsoup() {
+        for (final String markup : STRIPPED_MARKUP) {
+            assertThat(MarkupStripper.stripWithoutFallback(markup)).as(markup)
+                .isEqualTo(Jsoup.parse(markup).text());
+        }
+    }
+
+    /**
+     * Tests that markup that is restructured by the HTML tree builder is handed over to Jsoup.
+     */
+    @Test
+    public void testDelegatesToJsoup() {
+        for (final String markup : DELEGATED_MARKUP) {
+            assertThat(MarkupStripper.stripWithoutFallback(markup)).as(markup).isNull();
+            assertThat(MarkupStripper.strip(markup)).as(markup).isEqualTo(Jsoup.parse(markup).text());
+        }
+    }
+
+    /**
+     * Tests random sequences of markup fragments against Jsoup.
+     */
+    @Test
+    public void testRandomMarkup() {
+        final Random random = new Random(42);
+        for (int i = 0; i < 20000; i++) {
+            final StringBuilder markup = new StringBuilder();
+            final int noOfParts = 1 + random.nextInt(12);
+            for (int j = 0; j < noOfParts; j++) {
+                markup.append(PARTS[random.nextInt(PARTS.length)]);
+            }
+            final String text = markup.toString();
+            assertThat(MarkupStripper.strip(text)).as(text).isEqualTo(Jsoup.parse(text).text());
+        }
+    }
+}
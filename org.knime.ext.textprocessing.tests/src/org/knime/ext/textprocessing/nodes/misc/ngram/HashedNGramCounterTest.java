@@ -0,0 +1,155 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.ext.textprocessing.nodes.misc.ngram;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.knime.ext.textprocessing.TestDocuments.createDocument;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.Test;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.ext.textprocessing.data.Document;
+import org.knime.ext.textprocessing.data.TextContainer;
+
+/**
+ * Contains unit tests for {@link HashedNGramCounter}, comparing its counts with the counts of
+ * {@link NGramFrequencyDataTableCreator}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+@SuppressWarnings("javadoc")
+public final class HashedNGramCounterTest {
+
+    private static final List<Document> DOCUMENTS = createDocuments();
+
+    @Test
+    public void testWordNGrams() throws Exception {
+        for (int n = 1; n <= 3; n++) {
+            try (final HashedNGramCounter counter =
+                new HashedNGramCounter(n, false, NGramWordIterator.DEFAULT_WORD_SEPARATOR, true)) {
+                assertSameCounts(new NGramWordIterator(n, NGramWordIterator.DEFAULT_WORD_SEPARATOR), counter);
+            }
+        }
+    }
+
+    @Test
+    public void testCharacterNGrams() throws Exception {
+        for (int n = 1; n <= 3; n++) {
+            try (final HashedNGramCounter counter = new HashedNGramCounter(n, true, null, true)) {
+                assertSameCounts(new NGramCharacterIterator(n), counter);
+            }
+        }
+    }
+
+    @Test
+    public void testSpilledWordNGrams() throws Exception {
+        try (final HashedNGramCounter counter =
+            new HashedNGramCounter(2, false, NGramWordIterator.DEFAULT_WORD_SEPARATOR, true, 2)) {
+            assertSameCounts(new NGramWordIterator(2, NGramWordIterator.DEFAULT_WORD_SEPARATOR), counter);
+            assertThat(counter.getNumberOfRuns()).isPositive();
+            assertThat(counter.getNumberOfKeyRuns()).isPositive();
+        }
+    }
+
+    @Test
+    public void testSpilledCharacterNGrams() throws Exception {
+        try (final HashedNGramCounter counter = new HashedNGramCounter(2, true, null, true, 1)) {
+            assertSameCounts(new NGramCharacterIterator(2), counter);
+            assertThat(counter.getNumberOfRuns()).isPositive();
+            assertThat(counter.getNumberOfKeyRuns()).isPositive();
+        }
+    }
+
+    private static void assertSameCounts(final NGramIterator iterator, final HashedNGramCounter counter)
+        throws Exception {
+        final NGramFrequencyDataTableCreator expected = new NGramFrequencyDataTableCreator(iterator, true);
+        DOCUMENTS.forEach(expected::addDocument);
+
+        // count documents alternately in two partitions
+        final List<HashedNGramCounter.Partition> partitions =
+            List.of(counter.createPartition(), counter.createPartition());
+        for (int i = 0; i < DOCUMENTS.size(); i++) {
+            partitions.get(i % partitions.size()).addDocument(DOCUMENTS.get(i), i);
+        }
+        final List<Object[]> actual = new ArrayList<>();
+        counter.merge((nGram, corpusFreq, docFreq, blockFreq, firstOccurrence) -> actual
+            .add(new Object[]{nGram, corpusFreq, docFreq, blockFreq, firstOccurrence}), new ExecutionMonitor());
+        actual.sort(Comparator.comparingLong(o -> (Long)o[4]));
+
+        final Map<String, Set<UUID>> docFreqs = expected.getDocumentFrequencies();
+        final Map<String, Set<TextContainer>> blockFreqs = expected.getBlockFrequencies();
+        final List<Object[]> expectedRows = new ArrayList<>();
+        expected.getCorpusFrequencies().forEach((nGram, corpusFreq) -> expectedRows.add(new Object[]{nGram,
+            corpusFreq, docFreqs.get(nGram).size(), blockFreqs.get(nGram).size()}));
+
+        assertThat(actual).hasSameSizeAs(expectedRows);
+        for (int i = 0; i < expectedRows.size(); i++) {
+            assertThat(actual.get(i)).startsWith(expectedRows.get(i));
+        }
+    }
+
+    private static List<Document> createDocuments() {
+        final List<Document> docs = new ArrayList<>();
+        docs.add(createDocument("the quick brown fox", "jumps over the lazy dog"));
+        docs.add(createDocument("the lazy dog sleeps", "the quick brown fox"));
+        docs.add(createDocument("a fox is a fox is a fox"));
+        // same content as the first document, but a different UUID
+        docs.add(createDocument("the quick brown fox", "jumps over the lazy dog"));
+        // the very same document twice
+        docs.add(docs.get(1));
+        docs.add(createDocument("dog", "over the lazy dog"));
+        return docs;
+    }
+}
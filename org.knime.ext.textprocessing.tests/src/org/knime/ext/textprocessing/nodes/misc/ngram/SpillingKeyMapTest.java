@@ -0,0 +1,100 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.ext.textprocessing.nodes.misc.ngram;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+
+import org.junit.Test;
+
+/**
+ * Contains unit tests for {@link SpillingKeyMap}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+@SuppressWarnings("javadoc")
+public final class SpillingKeyMapTest {
+
+    @Test
+    public void testCollidingKeysAreDistinguished() throws Exception {
+        try (final SpillingKeyMap map = new SpillingKeyMap(() -> File.createTempFile("keys", ".bin"), 1 << 10)) {
+            for (int i = 0; i < 100; i++) {
+                assertThat(map.putIfAbsent(42, new int[]{i, 3 * i}, 2, i)).isEqualTo(SpillingKeyMap.NO_VALUE);
+            }
+            for (int i = 0; i < 100; i++) {
+                assertThat(map.putIfAbsent(42, new int[]{i, 3 * i}, 2, -2)).isEqualTo(i);
+            }
+            // a prefix of a contained key is a different key
+            assertThat(map.putIfAbsent(42, new int[]{1, 3}, 1, 100)).isEqualTo(SpillingKeyMap.NO_VALUE);
+            assertThat(map.size()).isEqualTo(101);
+            assertThat(map.getNumberOfRuns()).isZero();
+        }
+    }
+
+    @Test
+    public void testSpilledKeys() throws Exception {
+        try (final SpillingKeyMap map = new SpillingKeyMap(() -> File.createTempFile("keys", ".bin"), 7)) {
+            for (int i = 0; i < 1000; i++) {
+                // every tenth key collides with the previous one
+                assertThat(map.putIfAbsent(hash(i), new int[]{i, i, i}, 1 + i % 3, i))
+                    .isEqualTo(SpillingKeyMap.NO_VALUE);
+            }
+            assertThat(map.getNumberOfRuns()).isPositive();
+            assertThat(map.size()).isEqualTo(1000);
+            for (int i = 0; i < 1000; i++) {
+                assertThat(map.putIfAbsent(hash(i), new int[]{i, i, i}, 1 + i % 3, -2)).isEqualTo(i);
+            }
+        }
+    }
+
+    private static long hash(final int i) {
+        return i % 10 == 0 ? i - 1 : i;
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.ext.textprocessing.nodes.preprocessing.hyphenator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.junit.Test;
+
+/**
+ * Contains unit tests for the {@link Hyphenator} and its {@link HyphenationTrie}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+@SuppressWarnings("javadoc")
+public final class HyphenatorTest {
+
+    private static final String PATTERN_FILE = "{\"shortestPattern\": 2, \"longestPattern\": 6, \"patterns\": {"
+        + "\"3\": \"1na2ioo2n1ca1to\", \"4\": \"he2n1tion2at_ta44t1tex1a\", \"5\": \"hy3phhena4\", "
+        + "\"6\": \"hen5at\"}}";
+
+    private static HyphenationPatterns createPatterns() throws Exception {
+        final File file = File.createTempFile("hyphenation", ".json");
+        file.deleteOnExit();
+        Files.write(file.toPath(), PATTERN_FILE.getBytes(StandardCharsets.UTF_8));
+        return new HyphenationPatterns("Test", file);
+    }
+
+    @Test
+    public void testTrie() throws Exception {
+        final HyphenationPatterns patterns = createPatterns();
+        final HyphenationTrie trie = patterns.getTrie();
+        assertThat(patterns.getPatterns().size()).isEqualTo(14);
+
+        int node = HyphenationTrie.ROOT;
+        for (final char c : "hena".toCharArray()) {
+            node = trie.child(node, c);
+            assertThat(node).isNotEqualTo(HyphenationTrie.NO_NODE);
+        }
+        assertThat(trie.getPoints(node)).containsExactly(0, 0, 0, 0, 4);
+        assertThat(trie.getPoints(trie.child(trie.child(HyphenationTrie.ROOT, 'h'), 'e'))).isNull();
+        assertThat(trie.child(HyphenationTrie.ROOT, 'z')).isEqualTo(HyphenationTrie.NO_NODE);
+    }
+
+    @Test
+    public void testHyphenate() throws Exception {
+        final Hyphenator hyphenator = new Hyphenator(createPatterns(), "-");
+        assertThat(hyphenator.preprocessString("hyphenation")).isEqualTo("hy-phen-a-tion");
+        assertThat(hyphenator.preprocessString("Hyphenation")).isEqualTo("Hy-phen-a-tion");
+        assertThat(hyphenator.preprocessString("concatenation")).isEqualTo("con-catena-tion");
+        assertThat(hyphenator.preprocessString("potato")).isEqualTo("pota-to");
+        assertThat(hyphenator.preprocessString("letter")).isEqualTo("let-ter");
+        assertThat(hyphenator.preprocessString("exact")).isEqualTo("ex-act");
+        assertThat(hyphenator.preprocessString("ab")).isEqualTo("ab");
+        // cached
+        assertThat(hyphenator.preprocessString("hyphenation")).isEqualTo("hy-phen-a-tion");
+    }
+}
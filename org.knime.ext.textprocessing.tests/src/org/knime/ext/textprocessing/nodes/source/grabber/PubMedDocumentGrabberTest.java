@@ -0,0 +1,289 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.ext.textprocessing.nodes.source.grabber;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.ext.textprocessing.data.Document;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Contains unit tests for the pipelined mode of the {@link PubMedDocumentGrabber}, running against a local HTTP server
+ * that mimics the search and fetch endpoints of the E-utilities.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class PubMedDocumentGrabberTest {
+
+    private static final int NO_OF_IDS = 7;
+
+    private HttpServer m_server;
+
+    private File m_directory;
+
+    private final AtomicInteger m_searchRequests = new AtomicInteger();
+
+    private final AtomicInteger m_fetchRequests = new AtomicInteger();
+
+    /** The number of the first fetch request, starting at one, that is rejected with status 500, or -1. */
+    private volatile int m_failingFetchId = -1;
+
+    /** The number of fetch requests that are rejected with status 429. */
+    private final AtomicInteger m_throttledFetches = new AtomicInteger();
+
+    /**
+     * Starts the stand-in server and creates the documents directory.
+     *
+     * @throws IOException if the server could not be started
+     */
+    @Before
+    public void setUp() throws IOException {
+        m_server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        m_server.createContext("/entrez/eutils/esearch.fcgi", this::handleSearch);
+        m_server.createContext("/entrez/eutils/efetch.fcgi", this::handleFetch);
+        m_server.start();
+        m_directory = Files.createTempDirectory("pubmed-grabber-test").toFile();
+    }
+
+    /**
+     * Stops the server and deletes the documents directory.
+     *
+     * @throws IOException if the directory could not be deleted
+     */
+    @After
+    public void tearDown() throws IOException {
+        m_server.stop(0);
+        FileUtils.deleteDirectory(m_directory);
+    }
+
+    /**
+     * Tests that all documents are parsed in the order of the search result and the checkpoint is removed.
+     *
+     * @throws Exception if grabbing fails
+     */
+    @Test
+    public void testPipelinedGrabbing() throws Exception {
+        final List<Document> docs = new ArrayList<Document>();
+        createGrabber(docs).fetchAndParseDocuments(m_directory, new Query("cancer", NO_OF_IDS));
+
+        assertThat(titles(docs)).containsExactly(expectedTitles());
+        assertThat(m_searchRequests.get()).isEqualTo(1);
+        // batches of three ids
+        assertThat(m_fetchRequests.get()).isEqualTo(3);
+        assertThat(PubMedCheckpoint.exists(m_directory)).isFalse();
+    }
+
+    /**
+     * Tests that rejected requests are slowed down and repeated.
+     *
+     * @throws Exception if grabbing fails
+     */
+    @Test
+    public void testThrottledRequestsAreRepeated() throws Exception {
+        m_throttledFetches.set(2);
+        final List<Document> docs = new ArrayList<Document>();
+        createGrabber(docs).fetchAndParseDocuments(m_directory, new Query("cancer", NO_OF_IDS));
+
+        assertThat(titles(docs)).containsExactly(expectedTitles());
+        assertThat(m_fetchRequests.get()).isEqualTo(5);
+    }
+
+    /**
+     * Tests that a failed download is resumed from its checkpoint without fetching the completed batches again.
+     *
+     * @throws Exception if grabbing fails
+     */
+    @Test
+    public void testResumeAfterFailure() throws Exception {
+        // the second batch cannot be fetched
+        m_failingFetchId = 2;
+        assertThatThrownBy(() -> createGrabber(new ArrayList<Document>()).fetchAndParseDocuments(m_directory,
+            new Query("cancer", NO_OF_IDS))).isInstanceOf(IOException.class);
+        assertThat(PubMedCheckpoint.exists(m_directory)).isTrue();
+        // the directory is accepted by the node although it is not empty, but only to resume the same query
+        final String dir = m_directory.getAbsolutePath();
+        assertThat(DocumentGrabberNodeModel.getFile(dir,
+            DocumentGrabberNodeModel.getResumableQuery(PubMedDocumentGrabber.NAME, true, "cancer", NO_OF_IDS)))
+                .isDirectory();
+        assertThatThrownBy(() -> DocumentGrabberNodeModel.getFile(dir,
+            DocumentGrabberNodeModel.getResumableQuery(PubMedDocumentGrabber.NAME, true, "diabetes", NO_OF_IDS)))
+                .isInstanceOf(InvalidSettingsException.class).hasMessageContaining("not empty");
+        assertThatThrownBy(() -> DocumentGrabberNodeModel.getFile(dir,
+            DocumentGrabberNodeModel.getResumableQuery(PubMedDocumentGrabber.NAME, false, "cancer", NO_OF_IDS)))
+                .isInstanceOf(InvalidSettingsException.class).hasMessageContaining("not empty");
+
+        m_failingFetchId = -1;
+        m_fetchRequests.set(0);
+        final List<Document> docs = new ArrayList<Document>();
+        createGrabber(docs).fetchAndParseDocuments(m_directory, new Query("cancer", NO_OF_IDS));
+
+        assertThat(titles(docs)).containsExactly(expectedTitles());
+        assertThat(m_searchRequests.get()).isEqualTo(1);
+        assertThat(m_fetchRequests.get()).isEqualTo(2);
+        assertThat(PubMedCheckpoint.exists(m_directory)).isFalse();
+    }
+
+    /**
+     * Tests that a checkpoint of a different query is not resumed.
+     *
+     * @throws Exception if grabbing fails
+     */
+    @Test
+    public void testCheckpointOfDifferentQuery() throws Exception {
+        m_failingFetchId = 1;
+        assertThatThrownBy(() -> createGrabber(new ArrayList<Document>()).fetchAndParseDocuments(m_directory,
+            new Query("cancer", NO_OF_IDS))).isInstanceOf(IOException.class);
+
+        m_failingFetchId = -1;
+        assertThatThrownBy(() -> createGrabber(new ArrayList<Document>()).fetchAndParseDocuments(m_directory,
+            new Query("diabetes", NO_OF_IDS))).isInstanceOf(IOException.class)
+                .hasMessageContaining("different query");
+    }
+
+    private PubMedDocumentGrabber createGrabber(final List<Document> docs) {
+        final PubMedDocumentGrabber grabber = new PubMedDocumentGrabber();
+        grabber.setBaseUri(URI.create("http://" + m_server.getAddress().getHostString() + ":"
+            + m_server.getAddress().getPort()));
+        grabber.setPipelined(true);
+        grabber.setStepSize(2);
+        grabber.setDelayMillis(1);
+        grabber.addDocumentParsedListener(e -> docs.add(e.getDocument()));
+        return grabber;
+    }
+
+    private static List<String> titles(final List<Document> docs) {
+        final List<String> titles = new ArrayList<String>();
+        for (final Document doc : docs) {
+            titles.add(doc.getTitle());
+        }
+        return titles;
+    }
+
+    private static String[] expectedTitles() {
+        final String[] titles = new String[NO_OF_IDS];
+        for (int i = 0; i < NO_OF_IDS; i++) {
+            titles[i] = "Article " + (i + 1);
+        }
+        return titles;
+    }
+
+    private void handleSearch(final HttpExchange exchange) throws IOException {
+        m_searchRequests.incrementAndGet();
+        final StringBuilder sb = new StringBuilder("<?xml version=\"1.0\" encoding=\"UTF-8\" ?>\n<eSearchResult>\n");
+        sb.append("<Count>").append(NO_OF_IDS).append("</Count>\n<IdList>\n");
+        for (int i = 1; i <= NO_OF_IDS; i++) {
+            sb.append("<Id>").append(i).append("</Id>\n");
+        }
+        sb.append("</IdList>\n</eSearchResult>\n");
+        respond(exchange, 200, sb.toString());
+    }
+
+    private void handleFetch(final HttpExchange exchange) throws IOException {
+        final int requestId = m_fetchRequests.incrementAndGet();
+        if (m_failingFetchId > 0 && requestId >= m_failingFetchId) {
+            respond(exchange, 500, "");
+            return;
+        }
+        if (m_throttledFetches.getAndUpdate(n -> Math.max(0, n - 1)) > 0) {
+            respond(exchange, 429, "");
+            return;
+        }
+        final List<String> ids = new ArrayList<String>();
+        for (final String param : exchange.getRequestURI().getRawQuery().split("&")) {
+            if (param.startsWith("id=")) {
+                for (final String id : URLDecoder.decode(param.substring(3), StandardCharsets.UTF_8).split(",")) {
+                    if (!id.isEmpty()) {
+                        ids.add(id);
+                    }
+                }
+            }
+        }
+        final StringBuilder sb = new StringBuilder("<?xml version=\"1.0\" encoding=\"UTF-8\" ?>\n<PubmedArticleSet>\n");
+        for (final String id : ids) {
+            sb.append("<PubmedArticle><MedlineCitation><PMID>").append(id).append("</PMID><Article>")
+                .append("<ArticleTitle>Article ").append(id).append("</ArticleTitle>")
+                .append("<Abstract><AbstractText>The abstract of article ").append(id)
+                .append(".</AbstractText></Abstract></Article></MedlineCitation></PubmedArticle>\n");
+        }
+        sb.append("</PubmedArticleSet>\n");
+        respond(exchange, 200, sb.toString());
+    }
+
+    private static void respond(final HttpExchange exchange, final int status, final String body)
+        throws IOException {
+        final byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "text/xml; charset=UTF-8");
+        exchange.sendResponseHeaders(status, bytes.length == 0 ? -1 : bytes.length);
+        try (final OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.ext.textprocessing.nodes.source.parser;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+import org.knime.ext.textprocessing.data.Document;
+import org.knime.ext.textprocessing.nodes.source.parser.pubmed.PubMedDocumentParserFactory;
+import org.knime.ext.textprocessing.preferences.TextprocessingPreferenceInitializer;
+
+/**
+ * Contains unit tests for {@link XmlRecordSplitter}, comparing the documents parsed from the batches with the
+ * documents parsed from the complete file.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class XmlRecordSplitterTest {
+
+    private static final int NO_OF_ARTICLES = 7;
+
+    private static final PubMedDocumentParserFactory FACTORY = new PubMedDocumentParserFactory();
+
+    /**
+     * Tests that the records are split into batches and parsed to the same documents as the complete file.
+     *
+     * @throws Exception if parsing fails
+     */
+    @Test
+    public void testBatchesParseToSameDocuments() throws Exception {
+        final byte[] file = createPubMedFile();
+        final List<Document> expected = parse(file);
+        assertThat(expected).hasSize(NO_OF_ARTICLES);
+
+        final List<Document> docs = new ArrayList<Document>();
+        int noOfBatches = 0;
+        try (final XmlRecordSplitter splitter = new XmlRecordSplitter(new ByteArrayInputStream(file),
+            FACTORY.getRecordElementNames(), 3)) {
+            byte[] batch;
+            while ((batch = splitter.nextBatch()) != null) {
+                noOfBatches++;
+                docs.addAll(parse(batch));
+            }
+        }
+
+        assertThat(noOfBatches).isEqualTo(3);
+        assertThat(docs).hasSize(NO_OF_ARTICLES);
+        for (int i = 0; i < NO_OF_ARTICLES; i++) {
+            assertThat(docs.get(i).getTitle()).isEqualTo(expected.get(i).getTitle());
+            assertThat(docs.get(i).getDocumentBodyText()).isEqualTo(expected.get(i).getDocumentBodyText());
+        }
+    }
+
+    /**
+     * Tests that a file without records yields no batch.
+     *
+     * @throws Exception if splitting fails
+     */
+    @Test
+    public void testFileWithoutRecords() throws Exception {
+        final byte[] file = "<PubmedArticleSet><DeleteCitation><PMID>1</PMID></DeleteCitation></PubmedArticleSet>"
+            .getBytes(StandardCharsets.UTF_8);
+        try (final XmlRecordSplitter splitter = new XmlRecordSplitter(new ByteArrayInputStream(file),
+            FACTORY.getRecordElementNames(), 3)) {
+            assertThat(splitter.nextBatch()).isNull();
+        }
+    }
+
+    private static List<Document> parse(final byte[] xml) throws Exception {
+        final List<Document> docs = new ArrayList<Document>();
+        final DocumentParser parser = FACTORY.createParser(TextprocessingPreferenceInitializer.tokenizerName());
+        parser.addDocumentParsedListener(event -> docs.add(event.getDocument()));
+        parser.parseDocument(new ByteArrayInputStream(xml));
+        return docs;
+    }
+
+    private static byte[] createPubMedFile() {
+        final StringBuilder sb = new StringBuilder("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+        sb.append("<!DOCTYPE PubmedArticleSet PUBLIC \"-//NLM//DTD PubMedArticle, 1st January 2019//EN\" ")
+            .append("\"https://dtd.nlm.nih.gov/ncbi/pubmed/out/pubmed_190101.dtd\">\n<PubmedArticleSet>\n");
+        for (int i = 1; i <= NO_OF_ARTICLES; i++) {
+            sb.append("<PubmedArticle><MedlineCitation><PMID Version=\"1\">").append(i).append("</PMID><Article>")
+                .append("<ArticleTitle>Effects of A &amp; B on α-cells, part ").append(i)
+                .append("</ArticleTitle><Abstract><AbstractText>We show that x &lt; y holds in ")
+                .append("<i>vivo</i>.</AbstractText></Abstract></Article></MedlineCitation></PubmedArticle>\n");
+            if (i == 4) {
+                sb.append("<DeleteCitation><PMID Version=\"1\">100</PMID></DeleteCitation>\n");
+            }
+        }
+        sb.append("</PubmedArticleSet>\n");
+        return sb.toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
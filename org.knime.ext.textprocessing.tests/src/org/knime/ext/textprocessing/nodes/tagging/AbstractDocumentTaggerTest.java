@@ -0,0 +1,145 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.ext.textprocessing.nodes.tagging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.knime.ext.textprocessing.TestDocuments.createDocument;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+import org.knime.ext.textprocessing.data.Document;
+import org.knime.ext.textprocessing.data.Sentence;
+import org.knime.ext.textprocessing.data.Tag;
+import org.knime.ext.textprocessing.data.Term;
+import org.knime.ext.textprocessing.preferences.TextprocessingPreferenceInitializer;
+
+/**
+ * Contains unit tests for the sentence batching of {@link AbstractDocumentTagger}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+@SuppressWarnings("javadoc")
+public final class AbstractDocumentTaggerTest {
+
+    @Test
+    public void testSentencesOfDocumentAreTaggedAtOnce() {
+        final FoxTagger tagger = new FoxTagger();
+        final Document tagged = tagger.tag(createDocument("a fox is a fox", "", "the lazy dog", "the quick fox"));
+        assertThat(tagger.m_batches).isEqualTo(1);
+
+        final List<Sentence> sentences = tagged.getSections().get(0).getParagraphs().get(0).getSentences();
+        assertThat(sentences.size()).isEqualTo(4);
+        assertThat(sentences.get(1).getTerms().isEmpty()).isTrue();
+        int noOfFoxes = 0;
+        for (final Sentence sentence : sentences) {
+            for (final Term term : sentence.getTerms()) {
+                if (term.getText().equals("fox")) {
+                    assertThat(term.getTags()).isEqualTo(List.of(FoxTagger.TAG));
+                    noOfFoxes++;
+                } else {
+                    assertThat(term.getTags().isEmpty()).isTrue();
+                }
+            }
+        }
+        assertThat(noOfFoxes).isEqualTo(3);
+        assertThat(tagged.getTagSummary()).isEqualTo(Collections.singleton(FoxTagger.TAG));
+    }
+
+    @Test
+    public void testDocumentWithoutTerms() {
+        final FoxTagger tagger = new FoxTagger();
+        final Document doc = createDocument("");
+        assertThat(tagger.tag(doc).getSections()).isEqualTo(doc.getSections());
+        assertThat(tagger.tag(createDocument()).getSections()).isEqualTo(createDocument().getSections());
+        assertThat(tagger.m_batches).isEqualTo(0);
+    }
+
+    /**
+     * Tags each "fox" and counts the tagged batches of sentences.
+     */
+    private static final class FoxTagger extends AbstractDocumentTagger {
+
+        static final Tag TAG = new Tag("ANIMAL", "TEST");
+
+        private int m_batches;
+
+        FoxTagger() {
+            super(false, TextprocessingPreferenceInitializer.DEFAULT_TOKENIZER);
+        }
+
+        @Override
+        protected List<Tag> getTags(final String tag) {
+            return List.of(TAG);
+        }
+
+        @Override
+        protected List<List<TaggedEntity>> tagEntities(final List<Sentence> sentences) {
+            m_batches++;
+            return super.tagEntities(sentences);
+        }
+
+        @Override
+        protected List<TaggedEntity> tagEntities(final Sentence sentence) {
+            assertThat(sentence.getTerms().isEmpty()).isFalse();
+            final List<TaggedEntity> entities = new ArrayList<>();
+            if (sentence.getText().contains("fox")) {
+                entities.add(new TaggedEntity("fox", TAG.getTagValue()));
+            }
+            return entities;
+        }
+
+        @Override
+        protected void preprocess(final Document doc) {
+            // nothing to do
+        }
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.ext.textprocessing.nodes.transformation.documentvectorhashing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.google.common.hash.Hashing;
+
+/**
+ * Contains unit tests for the {@link HashingFunction}s hashing character sequences.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+@SuppressWarnings("javadoc")
+public final class HashingFunctionTest {
+
+    // ASCII, two and three byte characters, surrogate pairs and unpaired surrogates
+    private static final List<String> TERMS = List.of("", "a", "ab", "abc", "abcd", "abcde", "fox",
+        "Gr\u00fc\u00dfe", "\u65e5\u672c\u8a9e\u30c6\u30ad\u30b9\u30c8", "\ud83d\ude00x\ud83d\ude00", "\ud800",
+        "a\udc00b", "x\ud83dy");
+
+    @Test
+    public void testMurmur3_32bit() {
+        final HashingFunction function = new Murmur3_32bitHashingFunction();
+        for (final String term : TERMS) {
+            for (final int seed : new int[]{0, 42, -7}) {
+                final int expected = Hashing.murmur3_32(seed).hashBytes(term.getBytes(StandardCharsets.UTF_8)).asInt();
+                assertThat(function.hash(term, seed)).isEqualTo(expected);
+                assertThat(function.hash(new StringBuilder(term), seed)).isEqualTo(expected);
+            }
+        }
+    }
+
+    @Test
+    public void testCharSequences() {
+        for (final HashingFunction function : List.of(new JavaHashingFunction(), new Lookup3_32bitHashingFunction(),
+            new Murmur3_128bitHashingFunction(), new Siphash24HashingFunction(), new Adler32HashingFunction())) {
+            for (final String term : TERMS) {
+                assertThat(function.hash(new StringBuilder(term), 42)).isEqualTo(function.hash(term, 42));
+            }
+        }
+    }
+
+    @Test
+    public void testBatch() {
+        final HashingFunction function = new Murmur3_32bitHashingFunction();
+        final int[] hashes = function.hash(TERMS, 42);
+        assertThat(hashes.length).isEqualTo(TERMS.size());
+        for (int i = 0; i < hashes.length; i++) {
+            assertThat(hashes[i]).isEqualTo(function.hash(TERMS.get(i), 42));
+        }
+    }
+}
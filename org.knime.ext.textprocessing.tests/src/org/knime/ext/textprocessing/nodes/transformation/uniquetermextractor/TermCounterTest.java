@@ -0,0 +1,157 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.ext.textprocessing.nodes.transformation.uniquetermextractor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+import org.knime.core.node.ExecutionMonitor;
+
+/**
+ * Contains unit tests for the {@link TermCounter} implementations, comparing their counts with the exact counts.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+@SuppressWarnings("javadoc")
+public final class TermCounterTest {
+
+    private static final List<Map<String, FrequencyPair>> DOCUMENTS = createDocuments();
+
+    @Test
+    public void testSpilledFrequencies() throws Exception {
+        final Map<String, long[]> expected = count(TermCounter.create(TermCounter.IN_MEMORY, DOCUMENTS.size(), 0, 0,
+            false, 0), false);
+        try (final SpillingTermCounter counter = new SpillingTermCounter(DOCUMENTS.size(), 10)) {
+            final Map<String, long[]> actual = count(counter, true);
+            assertThat(counter.getNumberOfRuns()).isPositive();
+            assertThat(actual.size()).isEqualTo(expected.size());
+            expected.forEach((term, freqs) -> assertThat(actual.get(term)).as(term).containsExactly(freqs));
+            // the terms are passed in lexicographical order
+            final List<String> terms = new ArrayList<>(actual.keySet());
+            final List<String> sortedTerms = new ArrayList<>(terms);
+            sortedTerms.sort(null);
+            assertThat(terms).isEqualTo(sortedTerms);
+        }
+    }
+
+    @Test
+    public void testApproximateTermFrequencies() throws Exception {
+        assertApproximateFrequencies(false);
+    }
+
+    @Test
+    public void testApproximateDocumentFrequencies() throws Exception {
+        assertApproximateFrequencies(true);
+    }
+
+    private static void assertApproximateFrequencies(final boolean documentFreqs) throws Exception {
+        final Map<String, long[]> expected = count(TermCounter.create(TermCounter.IN_MEMORY, DOCUMENTS.size(), 0, 0,
+            false, 0), false);
+        final int rankedFreq = documentFreqs ? 1 : 0;
+        final long totalFreq = expected.values().stream().mapToLong(f -> f[rankedFreq]).sum();
+        final int capacity = SpaceSavingTermCounter.getCapacity(10, 0.01);
+        assertThat(capacity).isEqualTo(100);
+        final long maxError = totalFreq / capacity;
+
+        try (final TermCounter counter = new SpaceSavingTermCounter(DOCUMENTS.size(), capacity, documentFreqs)) {
+            final Map<String, long[]> actual = count(counter, false);
+            assertThat(actual.size()).isEqualTo(capacity);
+            actual.forEach((term, freqs) -> {
+                final long[] exact = expected.get(term);
+                assertThat(freqs[rankedFreq]).as(term).isBetween(exact[rankedFreq], exact[rankedFreq] + maxError);
+                assertThat(freqs[1 - rankedFreq]).as(term).isBetween(1L, exact[1 - rankedFreq]);
+            });
+            expected.forEach((term, freqs) -> {
+                if (freqs[rankedFreq] > maxError) {
+                    assertThat(actual).as(term).containsKey(term);
+                }
+            });
+        }
+    }
+
+    /**
+     * Adds all documents to the counter and returns the term and document frequencies of the counted terms.
+     */
+    private static Map<String, long[]> count(final TermCounter counter, final boolean keepOrder) throws Exception {
+        for (final Map<String, FrequencyPair> document : DOCUMENTS) {
+            counter.add(document);
+        }
+        final Map<String, long[]> frequencies = keepOrder ? new LinkedHashMap<>() : new HashMap<>();
+        counter.forEach((term, freqPair) -> frequencies.put(term, new long[]{freqPair.getTF(), freqPair.getDF()}),
+            new ExecutionMonitor());
+        return frequencies;
+    }
+
+    /**
+     * Creates the term frequencies of documents with Zipf distributed terms.
+     */
+    private static List<Map<String, FrequencyPair>> createDocuments() {
+        final Random random = new Random(42);
+        final int noOfDocs = 200;
+        final List<Map<String, FrequencyPair>> documents = new ArrayList<>();
+        for (int d = 0; d < noOfDocs; d++) {
+            final Map<String, FrequencyPair> counts = new HashMap<>();
+            for (int i = 0; i < 100; i++) {
+                // term ids are distributed with a probability proportional to 1 / id
+                final int id = (int)Math.floor(Math.exp(random.nextDouble() * Math.log(5000)));
+                counts.merge("term" + id, new FrequencyPair(noOfDocs, 1, 1),
+                    (a, b) -> new FrequencyPair(noOfDocs, a.getTF() + b.getTF(), a.getDF()));
+            }
+            documents.add(counts);
+        }
+        return documents;
+    }
+}
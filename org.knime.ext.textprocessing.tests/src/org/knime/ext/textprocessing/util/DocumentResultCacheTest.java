@@ -0,0 +1,170 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.ext.textprocessing.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.knime.ext.textprocessing.TestDocuments.createDocument;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.stream.Stream;
+
+import org.junit.Test;
+import org.knime.core.node.NodeSettings;
+import org.knime.core.util.FileUtil;
+import org.knime.ext.textprocessing.data.Document;
+
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
+
+/**
+ * Contains unit tests for {@link DocumentResultCache}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+@SuppressWarnings("javadoc")
+public final class DocumentResultCacheTest {
+
+    @Test
+    public void testKeys() throws IOException {
+        final DocumentResultCache cache = createCache("settings");
+        final HashCode key = cache.createKey(createDocument("the quick brown fox"));
+        // same content, but a different UUID
+        assertThat(cache.createKey(createDocument("the quick brown fox"))).isEqualTo(key);
+        assertThat(cache.createKey(createDocument("the lazy dog"))).isNotEqualTo(key);
+        // same content, but different settings
+        assertThat(createCache("other settings").createKey(createDocument("the quick brown fox"))).isNotEqualTo(key);
+    }
+
+    @Test
+    public void testGetAndPut() throws IOException {
+        final DocumentResultCache cache = createCache("settings");
+        final HashCode key = cache.createKey(createDocument("the quick brown fox"));
+        assertThat(cache.get(key)).isNull();
+
+        final Document result = createDocument("the quick brown fox jumps");
+        cache.put(key, result);
+        final Document cached = cache.get(key);
+        assertThat(cached.equalsContent(result)).isTrue();
+        assertThat(cached.getUUID()).isNotEqualTo(result.getUUID());
+    }
+
+    @Test
+    public void testReferencedFiles() throws IOException {
+        final Path file = FileUtil.createTempFile("dictionary", ".txt").toPath();
+        Files.write(file, "fox".getBytes(StandardCharsets.UTF_8));
+        final FileTime modified = FileTime.fromMillis(1_000_000);
+        Files.setLastModifiedTime(file, modified);
+        final NodeSettings settings = new NodeSettings("resultCache");
+        settings.addString("words", "the quick brown fox");
+        settings.addNodeSettings("dictionary").addString("file", file.toUri().toURL().toString());
+        final HashCode key = DocumentResultCache.hashSettings("model", settings);
+        assertThat(DocumentResultCache.hashSettings("model", settings)).isEqualTo(key);
+
+        // same size, but a different modification time
+        Files.write(file, "dog".getBytes(StandardCharsets.UTF_8));
+        final HashCode touched = DocumentResultCache.hashSettings("model", settings);
+        assertThat(touched).isNotEqualTo(key);
+
+        // same modification time, but a different size
+        Files.write(file, "lazy dog".getBytes(StandardCharsets.UTF_8));
+        Files.setLastModifiedTime(file, modified);
+        assertThat(DocumentResultCache.hashSettings("model", settings)).isNotEqualTo(key).isNotEqualTo(touched);
+
+        // plain paths are resolved as well
+        final NodeSettings pathSettings = new NodeSettings("resultCache");
+        pathSettings.addString("file", file.toString());
+        final HashCode pathKey = DocumentResultCache.hashSettings("model", pathSettings);
+        Files.setLastModifiedTime(file, FileTime.fromMillis(2_000_000));
+        assertThat(DocumentResultCache.hashSettings("model", pathSettings)).isNotEqualTo(pathKey);
+    }
+
+    @Test
+    public void testPrune() throws IOException {
+        final Path directory = FileUtil.createTempDir("resultCache").toPath();
+        final HashCode settings = Hashing.sha256().hashString("settings", StandardCharsets.UTF_8);
+        final DocumentResultCache cache = new DocumentResultCache(directory, settings, Long.MAX_VALUE);
+        final HashCode fox = cache.createKey(createDocument("the quick brown fox"));
+        final HashCode dog = cache.createKey(createDocument("the lazy dog"));
+        final HashCode cat = cache.createKey(createDocument("the black cat"));
+        cache.put(fox, createDocument("the quick brown fox"));
+        cache.put(dog, createDocument("the lazy dog"));
+        cache.put(cat, createDocument("the black cat"));
+        Files.setLastModifiedTime(getFile(directory, fox), FileTime.fromMillis(1_000_000));
+        Files.setLastModifiedTime(getFile(directory, dog), FileTime.fromMillis(2_000_000));
+        Files.setLastModifiedTime(getFile(directory, cat), FileTime.fromMillis(3_000_000));
+        // reading the fox marks it as recently used, so the dog is the least recently used document now
+        assertThat(cache.get(fox)).isNotNull();
+        // the maximum size is not exceeded
+        cache.prune();
+        assertThat(Files.exists(getFile(directory, dog))).isTrue();
+
+        final long size = Files.size(getFile(directory, fox)) + Files.size(getFile(directory, dog))
+            + Files.size(getFile(directory, cat));
+        new DocumentResultCache(directory, settings, size - 1).prune();
+        assertThat(cache.get(dog)).isNull();
+        assertThat(cache.get(fox)).isNotNull();
+        assertThat(cache.get(cat)).isNotNull();
+    }
+
+    private static DocumentResultCache createCache(final String settings) throws IOException {
+        final Path directory = FileUtil.createTempDir("resultCache").toPath();
+        return new DocumentResultCache(directory, Hashing.sha256().hashString(settings, StandardCharsets.UTF_8),
+            Long.MAX_VALUE);
+    }
+
+    private static Path getFile(final Path directory, final HashCode key) throws IOException {
+        try (final Stream<Path> files = Files.walk(directory)) {
+            return files.filter(file -> file.getFileName().toString().equals(key + ".doc")).findFirst().get();
+        }
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.ext.textprocessing.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.knime.ext.textprocessing.TestDocuments.createDocument;
+import static org.knime.ext.textprocessing.TestDocuments.createSentence;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.lang.reflect.Field;
+import java.util.List;
+
+import org.junit.Test;
+import org.knime.ext.textprocessing.data.Document;
+import org.knime.ext.textprocessing.data.Sentence;
+import org.knime.ext.textprocessing.data.Tag;
+import org.knime.ext.textprocessing.data.Term;
+import org.knime.ext.textprocessing.data.Word;
+
+/**
+ * Contains unit tests for the fast document serialization of {@link TermDocumentDeSerializationUtil}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+@SuppressWarnings("javadoc")
+public final class TermDocumentDeSerializationUtilTest {
+
+    private static final Tag NNP = new Tag("NNP", "POS");
+
+    private static final Tag VBZ = new Tag("VBZ", "POS");
+
+    private static final Tag LOCATION = new Tag("LOCATION", "NE");
+
+    @Test
+    public void testTagSummaryRoundTrip() throws Exception {
+        // "New York" is tagged twice, so the document contains five tag occurrences of three distinct tags
+        final Sentence sentence = new Sentence(List.of(//
+            new Term(List.of(new Word("New", " "), new Word("York", " ")), List.of(NNP, LOCATION), false),
+            new Term(List.of(new Word("is", " ")), List.of(VBZ), false),
+            new Term(List.of(new Word("New", " "), new Word("York", " ")), List.of(NNP, LOCATION), false)));
+        final Document doc = createDocument(sentence);
+        assertThat(doc.getTagStream()).containsExactly(NNP, LOCATION, VBZ, NNP, LOCATION);
+        assertThat(doc.getTagSummary()).containsExactly(NNP, LOCATION, VBZ);
+
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (final DataOutputStream out = new DataOutputStream(bytes)) {
+            TermDocumentDeSerializationUtil.fastSerializeDocument(doc, out);
+        }
+        final Document deserialized;
+        try (final DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            deserialized = TermDocumentDeSerializationUtil.fastDeserializeDocument(in);
+            assertThat(in.read()).isEqualTo(-1);
+        }
+
+        // the summary is read from the document header instead of being collected from the terms
+        final Field tagSummary = Document.class.getDeclaredField("m_tagSummary");
+        tagSummary.setAccessible(true);
+        assertThat(tagSummary.get(deserialized)).isNotNull();
+        assertThat(deserialized.getTagSummary()).containsExactly(NNP, LOCATION, VBZ);
+
+        assertThat(deserialized.getUUID()).isEqualTo(doc.getUUID());
+        assertThat(deserialized.equalsContent(doc)).isTrue();
+        assertThat(deserialized.getTagStream()).containsExactly(NNP, LOCATION, VBZ, NNP, LOCATION);
+    }
+
+    @Test
+    public void testEmptyTagSummaryRoundTrip() throws Exception {
+        final Sentence sentence = createSentence("untagged");
+        final Document doc = createDocument(sentence);
+
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (final DataOutputStream out = new DataOutputStream(bytes)) {
+            TermDocumentDeSerializationUtil.fastSerializeDocument(doc, out);
+        }
+        try (final DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            final Document deserialized = TermDocumentDeSerializationUtil.fastDeserializeDocument(in);
+            assertThat(deserialized.getTagSummary()).isEmpty();
+            assertThat(deserialized.equalsContent(doc)).isTrue();
+        }
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.ext.textprocessing.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.After;
+import org.junit.Test;
+import org.knime.ext.textprocessing.data.Tag;
+import org.knime.ext.textprocessing.data.Word;
+
+/**
+ * Contains unit tests for {@link TextInterner}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+@SuppressWarnings("javadoc")
+public final class TextInternerTest {
+
+    @After
+    public void enableInterning() {
+        TextInterner.setEnabled(true);
+    }
+
+    @Test
+    public void testStrings() {
+        final String suffix = new String(" ");
+        assertThat(TextInterner.intern(suffix)).isSameAs(TextInterner.intern(new String(" ")));
+        assertThat(TextInterner.intern(null)).isNull();
+    }
+
+    @Test
+    public void testWords() {
+        final Word word = TextInterner.createWord(new String("interning"), new String(" "));
+        final Word other = TextInterner.createWord(new String("interning"), new String(" "));
+        assertThat(other.getWord()).isSameAs(word.getWord());
+        assertThat(other.getWhitespaceSuffix()).isSameAs(word.getWhitespaceSuffix());
+
+        // words are not shared, so modifying one does not affect the others
+        assertThat(other).isNotSameAs(word);
+        other.addWhiteSpaceSuffix(", ");
+        assertThat(other.getWhitespaceSuffix()).isEqualTo(" , ");
+        assertThat(word.getWhitespaceSuffix()).isEqualTo(" ");
+    }
+
+    @Test
+    public void testTags() {
+        final Tag tag = TextInterner.createTag(new String("NN"), new String("POS"));
+        assertThat(TextInterner.createTag(new String("NN"), new String("POS"))).isSameAs(tag);
+        assertThat(TextInterner.createTag("NNS", "POS")).isNotSameAs(tag);
+    }
+
+    @Test
+    public void testDisabled() {
+        TextInterner.setEnabled(false);
+        assertThat(TextInterner.createWord(new String("disabled"), " ").getWord())
+            .isNotSameAs(TextInterner.createWord(new String("disabled"), " ").getWord());
+        assertThat(TextInterner.createTag("NN", "POS")).isNotSameAs(TextInterner.createTag("NN", "POS"));
+    }
+}
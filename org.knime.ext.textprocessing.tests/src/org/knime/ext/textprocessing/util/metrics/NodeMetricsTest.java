@@ -0,0 +1,94 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.ext.textprocessing.util.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+/**
+ * Contains unit tests for {@link NodeMetrics}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+@SuppressWarnings("javadoc")
+public final class NodeMetricsTest {
+
+    @Test
+    public void testSummary() {
+        final NodeMetrics metrics = new NodeMetrics("Tagger 0:1");
+        assertThat(metrics.isEmpty()).isTrue();
+        metrics.add(Metric.TOKENS, 3000);
+        metrics.add(Metric.TOKENIZATION_TIME, 2_000_000_000L);
+        metrics.add(Metric.TAGGER_POOL_HITS, 3);
+        metrics.add(Metric.TAGGER_POOL_MISSES, 1);
+
+        assertThat(metrics.isEmpty()).isFalse();
+        assertThat(metrics.toString()).contains("tokens: 3000", "tokenization time: 2.000 s",
+            "tokens per second and thread: 1500.0", "tagger pool hits rate: 75.0%").doesNotContain("cell cache");
+
+        metrics.reset();
+        assertThat(metrics.isEmpty()).isTrue();
+        assertThat(metrics.get(Metric.TOKENS)).isZero();
+    }
+
+    @Test
+    public void testJson() {
+        final NodeMetrics metrics = new NodeMetrics("Node \"A\" \\ 0:2");
+        metrics.add(Metric.DOCUMENT_CACHE_HITS, 1);
+        metrics.add(Metric.DOCUMENT_CACHE_MISSES, 3);
+        metrics.add(Metric.FILESTORE_BYTES_READ, 4096);
+
+        final String json = metrics.toJson();
+        assertThat(json).startsWith("{\"node\":\"Node \\\"A\\\" \\\\ 0:2\",\"metrics\":{\"documentsBuilt\":0,")
+            .contains("\"fileStoreBytesRead\":4096", "\"documentCache\":0.2500", "\"cellCache\":null",
+                "\"tokensPerSecond\":null")
+            .endsWith("}}").doesNotContain("\n");
+    }
+}
@@ -52,6 +52,8 @@
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 import org.apache.tika.langdetect.optimaize.OptimaizeLangDetector;
 import org.apache.tika.language.detect.LanguageDetector;
@@ -64,19 +66,39 @@
 import org.knime.core.data.container.AbstractCellFactory;
 import org.knime.core.data.def.DoubleCell;
 import org.knime.core.data.def.StringCell;
+import org.knime.core.node.NodeLogger;
+import org.knime.ext.textprocessing.data.Document;
 import org.knime.ext.textprocessing.data.DocumentValue;
+import org.knime.ext.textprocessing.data.Paragraph;
+import org.knime.ext.textprocessing.data.Section;
+import org.knime.ext.textprocessing.data.Sentence;
 
 /**
+ * Cell factory detecting the languages of strings or documents. Rows are processed in parallel, each worker thread
+ * borrows its own detector from a pool, since Tika language detectors are stateful. If a maximum sample length is
+ * specified, only a prefix of the text is passed to the detector. Documents are streamed sentence by sentence into the
+ * detector until the sample length is reached, without creating the full document text.
  *
  * @author Andisa Dewi, KNIME.com, Berlin, Germany
  */
 public class TikaLangDetectorCellFactory extends AbstractCellFactory {
 
+    /**
+     * The sample length specifying that the complete text is used for language detection.
+     *
+     * @since 5.12
+     */
+    public static final int NO_SAMPLING = -1;
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(TikaLangDetectorCellFactory.class);
+
     private static final String UNDEFINED = "Undefined";
 
     private int m_colIndex = -1;
 
-    private LanguageDetector m_langDetector;
+    private final Queue<LanguageDetector> m_detectorPool = new ConcurrentLinkedQueue<LanguageDetector>();
+
+    private final int m_maxSampleLength;
 
     private int m_specLength;
 
@@ -99,9 +121,32 @@ public class TikaLangDetectorCellFactory extends AbstractCellFactory {
      */
     public TikaLangDetectorCellFactory(final int colIndex, final DataColumnSpec[] newColSpecs, final int langIndex,
         final int cValueIndex, final boolean collection) throws IOException {
+        this(colIndex, newColSpecs, langIndex, cValueIndex, collection, NO_SAMPLING);
+    }
+
+    /**
+     * Creates a new instance of <code>TikaLangDetectorCellFactory</code> given an index of the column containing
+     * <code>DocumentCell</code>s or <code>StringCell</code>s and the maximum number of characters used to detect the
+     * language.
+     *
+     * @param colIndex the index of the column containing <code>DocumentCell</code>s or <code>StringCell</code>s.
+     * @param newColSpecs the column specs for the detected languages and confidence value.
+     * @param langIndex the column index for the language column.
+     * @param cValueIndex the confidence value column index.
+     * @param collection boolean to specify whether the cells should be collection cells.
+     * @param maxSampleLength the maximum number of characters of each text used for language detection, or
+     *            {@link #NO_SAMPLING} to use the complete text.
+     * @throws IOException if Tika fails to load the language models.
+     * @since 5.12
+     */
+    public TikaLangDetectorCellFactory(final int colIndex, final DataColumnSpec[] newColSpecs, final int langIndex,
+        final int cValueIndex, final boolean collection, final int maxSampleLength) throws IOException {
         super(newColSpecs);
+        setParallelProcessing(true);
         m_colIndex = colIndex;
-        m_langDetector = new OptimaizeLangDetector().loadModels();
+        // load the first detector eagerly to report model loading errors on creation
+        m_detectorPool.add(createDetector());
+        m_maxSampleLength = maxSampleLength;
         m_specLength = newColSpecs.length;
         m_isCollection = collection;
         m_langIndex = langIndex;
@@ -124,11 +169,17 @@ public DataCell[] getCells(final DataRow row) {
             return newCells;
         }
 
-        List<LanguageResult> lang = new ArrayList<LanguageResult>();
-        if (cell.getType().equals(StringCell.TYPE)) {
-            lang = m_langDetector.detectAll(((StringCell)cell).getStringValue());
-        } else if (cell instanceof DocumentValue) {
-            lang = m_langDetector.detectAll(((DocumentValue)cell).getDocument().getText());
+        final List<LanguageResult> lang;
+        final LanguageDetector detector = m_detectorPool.poll();
+        try {
+            lang = detect(detector != null ? detector : createDetector(), cell);
+        } catch (IOException e) {
+            LOGGER.error("Error while loading Tika language models", e);
+            newCells[m_langIndex] = DataType.getMissingCell();
+            if (m_cValueIndex > 0) {
+                newCells[m_cValueIndex] = DataType.getMissingCell();
+            }
+            return newCells;
         }
 
         List<StringCell> langCells = new ArrayList<StringCell>();
@@ -177,4 +228,65 @@ public DataCell[] getCells(final DataRow row) {
         }
     }
 
+    private List<LanguageResult> detect(final LanguageDetector detector, final DataCell cell) {
+        try {
+            if (cell.getType().equals(StringCell.TYPE)) {
+                addText(detector, ((StringCell)cell).getStringValue(), 0);
+            } else if (cell instanceof DocumentValue) {
+                addDocument(detector, ((DocumentValue)cell).getDocument());
+            }
+            return detector.detectAll();
+        } finally {
+            detector.reset();
+            m_detectorPool.add(detector);
+        }
+    }
+
+    private void addDocument(final LanguageDetector detector, final Document doc) {
+        if (m_maxSampleLength == NO_SAMPLING) {
+            detector.addText(doc.getText());
+            return;
+        }
+        int length = 0;
+        for (final Section section : doc.getSections()) {
+            for (final Paragraph paragraph : section.getParagraphs()) {
+                for (final Sentence sentence : paragraph.getSentences()) {
+                    length = addText(detector, sentence.getText() + " ", length);
+                    if (length >= m_maxSampleLength) {
+                        return;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Adds the given text to the detector, truncated to the remaining sample length.
+     *
+     * @return the number of characters added to the detector so far.
+     */
+    private int addText(final LanguageDetector detector, final String text, final int length) {
+        if (m_maxSampleLength == NO_SAMPLING) {
+            detector.addText(text);
+            return length + text.length();
+        }
+        final int count = Math.min(text.length(), m_maxSampleLength - length);
+        detector.addText(text.subSequence(0, count));
+        return length + count;
+    }
+
+    private static LanguageDetector createDetector() throws IOException {
+        return new OptimaizeLangDetector().loadModels();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void afterProcessing() {
+        // release all but one detector, the factory might be used again, e.g. in streaming mode
+        while (m_detectorPool.size() > 1) {
+            m_detectorPool.poll();
+        }
+    }
 }
@@ -81,4 +81,18 @@ private TikaLangDetectorConfigKeys() {
      */
     public static final String CFGKEY_ALL_LANGS = "ShowAllLanguages";
 
+    /**
+     * The configuration key of the sample text flag.
+     *
+     * @since 5.12
+     */
+    public static final String CFGKEY_SAMPLE_TEXT = "SampleText";
+
+    /**
+     * The configuration key of the maximum number of characters to sample.
+     *
+     * @since 5.12
+     */
+    public static final String CFGKEY_SAMPLE_LENGTH = "SampleLength";
+
 }
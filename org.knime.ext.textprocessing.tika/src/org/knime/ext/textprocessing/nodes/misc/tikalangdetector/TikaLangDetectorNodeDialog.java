@@ -55,8 +55,10 @@
 import org.knime.core.node.defaultnodesettings.DefaultNodeSettingsPane;
 import org.knime.core.node.defaultnodesettings.DialogComponentBoolean;
 import org.knime.core.node.defaultnodesettings.DialogComponentColumnNameSelection;
+import org.knime.core.node.defaultnodesettings.DialogComponentNumber;
 import org.knime.core.node.defaultnodesettings.DialogComponentString;
 import org.knime.core.node.defaultnodesettings.SettingsModelBoolean;
+import org.knime.core.node.defaultnodesettings.SettingsModelIntegerBounded;
 import org.knime.core.node.defaultnodesettings.SettingsModelString;
 import org.knime.ext.textprocessing.data.DocumentValue;
 
@@ -106,8 +108,30 @@ public static final SettingsModelBoolean getAllLangsBooleanModel() {
             TikaLangDetectorNodeModel.DEFAULT_ALL_LANGS);
     }
 
+    /**
+     * @return The settings model specifying if only a sample of the text is used to detect the language.
+     * @since 5.12
+     */
+    public static final SettingsModelBoolean getSampleTextBooleanModel() {
+        return new SettingsModelBoolean(TikaLangDetectorConfigKeys.CFGKEY_SAMPLE_TEXT,
+            TikaLangDetectorNodeModel.DEFAULT_SAMPLE_TEXT);
+    }
+
+    /**
+     * @return The settings model containing the maximum number of characters used to detect the language.
+     * @since 5.12
+     */
+    public static final SettingsModelIntegerBounded getSampleLengthModel() {
+        return new SettingsModelIntegerBounded(TikaLangDetectorConfigKeys.CFGKEY_SAMPLE_LENGTH,
+            TikaLangDetectorNodeModel.DEFAULT_SAMPLE_LENGTH, 1, Integer.MAX_VALUE);
+    }
+
     private SettingsModelBoolean m_confidenceBooleanModel;
 
+    private SettingsModelBoolean m_sampleTextBooleanModel;
+
+    private SettingsModelIntegerBounded m_sampleLengthModel;
+
     private SettingsModelString m_confidenceColModel;
 
     /**
@@ -115,7 +139,7 @@ public static final SettingsModelBoolean getAllLangsBooleanModel() {
      * specify the column containing the text to parse. User can also choose to name the appended language column. There
      * is also a tickbox component to specify whether to show the confidence value, and a string component to name the
      * confidence value column if ticked. Another tickbox component specifies whether all detected languages should be
-     * shown in output table.
+     * shown in output table. Finally, the text can be restricted to a sample of a maximum number of characters.
      */
     @SuppressWarnings("unchecked")
     public TikaLangDetectorNodeDialog() {
@@ -135,6 +159,16 @@ public TikaLangDetectorNodeDialog() {
 
         addDialogComponent(new DialogComponentBoolean(getAllLangsBooleanModel(), "Show all detected languages"));
 
+        m_sampleLengthModel = getSampleLengthModel();
+        m_sampleTextBooleanModel = getSampleTextBooleanModel();
+        checkState();
+        m_sampleTextBooleanModel.addChangeListener(new InternalChangeListener());
+
+        setHorizontalPlacement(true);
+        addDialogComponent(new DialogComponentBoolean(m_sampleTextBooleanModel, "Sample text"));
+
+        addDialogComponent(new DialogComponentNumber(m_sampleLengthModel, "Maximum number of characters", 1000));
+        setHorizontalPlacement(false);
     }
 
     private void checkState() {
@@ -143,10 +177,13 @@ private void checkState() {
         } else {
             m_confidenceColModel.setEnabled(false);
         }
+        if (m_sampleTextBooleanModel != null) {
+            m_sampleLengthModel.setEnabled(m_sampleTextBooleanModel.getBooleanValue());
+        }
     }
 
     /**
-     * Listens to state change and enables / disables the model of the confidence value column
+     * Listens to state change and enables / disables the models of the confidence value column and the sample length
      */
     class InternalChangeListener implements ChangeListener {
 
@@ -67,6 +67,7 @@
 import org.knime.core.node.NodeSettingsRO;
 import org.knime.core.node.NodeSettingsWO;
 import org.knime.core.node.defaultnodesettings.SettingsModelBoolean;
+import org.knime.core.node.defaultnodesettings.SettingsModelIntegerBounded;
 import org.knime.core.node.defaultnodesettings.SettingsModelString;
 import org.knime.core.node.streamable.simple.SimpleStreamableFunctionNodeModel;
 import org.knime.ext.textprocessing.util.ColumnSelectionVerifier;
@@ -105,6 +106,20 @@ public class TikaLangDetectorNodeModel extends SimpleStreamableFunctionNodeModel
      */
     public static final boolean DEFAULT_ALL_LANGS = false;
 
+    /**
+     * Flag to specify whether only a sample of the text is used to detect the language.
+     *
+     * @since 5.12
+     */
+    public static final boolean DEFAULT_SAMPLE_TEXT = true;
+
+    /**
+     * The default maximum number of characters used to detect the language.
+     *
+     * @since 5.12
+     */
+    public static final int DEFAULT_SAMPLE_LENGTH = 10000;
+
     private static final NodeLogger LOGGER = NodeLogger.getLogger(TikaLangDetectorNodeModel.class);
 
     private SettingsModelString m_colModel = TikaLangDetectorNodeDialog.getColModel();
@@ -117,6 +132,10 @@ public class TikaLangDetectorNodeModel extends SimpleStreamableFunctionNodeModel
 
     private SettingsModelBoolean m_allLangsBooleanModel = TikaLangDetectorNodeDialog.getAllLangsBooleanModel();
 
+    private SettingsModelBoolean m_sampleTextBooleanModel = TikaLangDetectorNodeDialog.getSampleTextBooleanModel();
+
+    private SettingsModelIntegerBounded m_sampleLengthModel = TikaLangDetectorNodeDialog.getSampleLengthModel();
+
     /**
      * Creates a new instance of {@code TikaLangDetectorNodeModel}
      */
@@ -165,8 +184,10 @@ public ColumnRearranger createColumnRearranger(final DataTableSpec in) throws In
 
         TikaLangDetectorCellFactory factory;
         try {
+            final int sampleLength = m_sampleTextBooleanModel.getBooleanValue() ? m_sampleLengthModel.getIntValue()
+                : TikaLangDetectorCellFactory.NO_SAMPLING;
             factory = new TikaLangDetectorCellFactory(colIndex, newColSpecs, langIndex, valueIndex,
-                m_allLangsBooleanModel.getBooleanValue());
+                m_allLangsBooleanModel.getBooleanValue(), sampleLength);
             c.append(factory);
         } catch (IOException e) {
             LOGGER.error("Error while loading Tika language models", e);
@@ -207,6 +228,7 @@ private void stateChange() {
         } else {
             m_ConfidenceColNameModel.setEnabled(false);
         }
+        m_sampleLengthModel.setEnabled(m_sampleTextBooleanModel.getBooleanValue());
     }
 
     /**
@@ -237,6 +259,8 @@ protected void saveSettingsTo(final NodeSettingsWO settings) {
         m_confidenceBooleanModel.saveSettingsTo(settings);
         m_ConfidenceColNameModel.saveSettingsTo(settings);
         m_allLangsBooleanModel.saveSettingsTo(settings);
+        m_sampleTextBooleanModel.saveSettingsTo(settings);
+        m_sampleLengthModel.saveSettingsTo(settings);
 
     }
 
@@ -250,6 +274,11 @@ protected void validateSettings(final NodeSettingsRO settings) throws InvalidSet
         m_confidenceBooleanModel.validateSettings(settings);
         m_ConfidenceColNameModel.validateSettings(settings);
         m_allLangsBooleanModel.validateSettings(settings);
+        // sampling has been added in 5.12
+        if (settings.containsKey(TikaLangDetectorConfigKeys.CFGKEY_SAMPLE_TEXT)) {
+            m_sampleTextBooleanModel.validateSettings(settings);
+            m_sampleLengthModel.validateSettings(settings);
+        }
 
     }
 
@@ -263,6 +292,14 @@ protected void loadValidatedSettingsFrom(final NodeSettingsRO settings) throws I
         m_confidenceBooleanModel.loadSettingsFrom(settings);
         m_ConfidenceColNameModel.loadSettingsFrom(settings);
         m_allLangsBooleanModel.loadSettingsFrom(settings);
+        // sampling has been added in 5.12, older nodes use the complete text
+        if (settings.containsKey(TikaLangDetectorConfigKeys.CFGKEY_SAMPLE_TEXT)) {
+            m_sampleTextBooleanModel.loadSettingsFrom(settings);
+            m_sampleLengthModel.loadSettingsFrom(settings);
+        } else {
+            m_sampleTextBooleanModel.setBooleanValue(false);
+        }
+        stateChange();
 
     }
 
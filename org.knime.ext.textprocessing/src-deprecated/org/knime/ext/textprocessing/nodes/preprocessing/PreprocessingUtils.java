@@ -97,8 +97,7 @@ public static final Document deepPPWithPreprocessing(final Document document, fi
                         if (t != null && t.getText().isEmpty() && previous != null) {
                             final String whiteSpaceSuffix =
                                 t.getWords().get(t.getWords().size() - 1).getWhitespaceSuffix();
-                            previous.getWords().get(previous.getWords().size() - 1)
-                                .addWhiteSpaceSuffix(whiteSpaceSuffix);
+                            previous = PreprocessingCellFactory.appendWhiteSpaceSuffix(previous, whiteSpaceSuffix);
                         }
                         // add previous term if not empty
                         if (previous != null && !previous.getText().isEmpty()) {
@@ -153,8 +152,7 @@ public static final Document deepPPWithTermMapping(final Document document, fina
                         if (t != null && t.getText().isEmpty() && previous != null) {
                             final String whiteSpaceSuffix =
                                 t.getWords().get(t.getWords().size() - 1).getWhitespaceSuffix();
-                            previous.getWords().get(previous.getWords().size() - 1)
-                                .addWhiteSpaceSuffix(whiteSpaceSuffix);
+                            previous = PreprocessingCellFactory.appendWhiteSpaceSuffix(previous, whiteSpaceSuffix);
                         }
                         // add previous term if not empty
                         if (previous != null && !previous.getText().isEmpty()) {
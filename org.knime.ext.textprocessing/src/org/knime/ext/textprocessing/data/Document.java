@@ -57,6 +57,7 @@
 import java.util.ListIterator;
 import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.knime.ext.textprocessing.data.tag.Tagged;
@@ -129,6 +130,11 @@ public class Document implements TextContainer, Serializable, Tagged {
 
     private String m_titleCache = null;
 
+    /**
+     * The distinct tags of all terms, collected on first access or read from the serialized document.
+     */
+    private transient Set<Tag> m_tagSummary = null;
+
     /**
      * Creates a new instance of <code>Document</code> with the given
      * parameters, like the documents sections, type, authors, sources,
@@ -617,4 +623,21 @@ public void remove() {
     public Stream<Tag> getTagStream() {
         return Tagged.getTagSetStream(m_sections);
     }
+
+    /**
+     * Returns the distinct tags of all terms of the document in order of their first occurrence. The tags are
+     * collected only once per document (or read from its serialized form), so that repeated calls are cheap.
+     *
+     * @return the unmodifiable set of distinct tags of the document
+     * @since 5.12
+     */
+    public Set<Tag> getTagSummary() {
+        Set<Tag> tagSummary = m_tagSummary;
+        if (tagSummary == null) {
+            tagSummary = Collections.unmodifiableSet(
+                Tagged.getTagSetStream(m_sections).collect(Collectors.toCollection(LinkedHashSet::new)));
+            m_tagSummary = tagSummary;
+        }
+        return tagSummary;
+    }
 }
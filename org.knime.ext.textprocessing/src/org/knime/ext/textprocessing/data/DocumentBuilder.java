@@ -59,6 +59,9 @@
 import org.knime.ext.textprocessing.nodes.tokenization.DefaultTokenization;
 import org.knime.ext.textprocessing.nodes.tokenization.Tokenizer;
 import org.knime.ext.textprocessing.preferences.TextprocessingPreferenceInitializer;
+import org.knime.ext.textprocessing.util.TextInterner;
+import org.knime.ext.textprocessing.util.metrics.Metric;
+import org.knime.ext.textprocessing.util.metrics.TextprocessingMetrics;
 
 /**
  * A utility class which helps building up a {@link org.knime.ext.textprocessing.data.Document} by providing methods
@@ -220,6 +223,7 @@ public static final Document createDocument(final List<Section> sections, final
      * @return a new {@link org.knime.ext.textprocessing.data.Document} instance with the specified data.
      */
     public Document createDocument() {
+        TextprocessingMetrics.increment(Metric.DOCUMENTS_BUILT);
         return new Document(m_sections, m_type, m_authors, m_sources, m_categories, m_date, m_docFile,
             new DocumentMetaInfo(m_metaInfo));
     }
@@ -520,7 +524,9 @@ private Paragraph internalAddParagraph(final String paragraph) {
      */
     private List<Sentence> createSentenceList(final String text) {
         if ((text != null) && !text.isEmpty()) {
+            final long start = TextprocessingMetrics.startTimer();
             final List<String> strSentences = m_sentenceTokenizer.tokenize(text);
+            TextprocessingMetrics.stopTimer(Metric.TOKENIZATION_TIME, start);
             final List<Sentence> sentences = new ArrayList<Sentence>();
 
             int currentSentenceStart = 0;
@@ -564,9 +570,12 @@ private List<Sentence> createSentenceList(final String text) {
     private Sentence internalAddSentence(final String sentence) {
         if (sentence != null) {
             // get tokens
+            final long start = TextprocessingMetrics.startTimer();
             final List<String> tokens = m_wordTokenizer.tokenize(sentence);
+            TextprocessingMetrics.stopTimer(Metric.TOKENIZATION_TIME, start);
 
             if (tokens != null) {
+                TextprocessingMetrics.add(Metric.TOKENS, tokens.size());
                 final List<Term> terms = new ArrayList<Term>(tokens.size());
 
                 int currentTokenStart = 0;
@@ -594,7 +603,7 @@ private Sentence internalAddSentence(final String sentence) {
                     }
 
                     // create word with token and whitespace suffix characters
-                    final Word w = new Word(token, whiteSpaceSuffix);
+                    final Word w = TextInterner.createWord(token, whiteSpaceSuffix);
                     final List<Word> termWords = new ArrayList<Word>(1);
                     termWords.add(w);
                     final Term t = new Term(termWords, new ArrayList<Tag>(1), false);
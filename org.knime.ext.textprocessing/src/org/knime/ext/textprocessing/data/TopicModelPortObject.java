@@ -0,0 +1,260 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.ext.textprocessing.data;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.zip.ZipEntry;
+
+import javax.swing.JComponent;
+
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.port.PortObject;
+import org.knime.core.node.port.PortObjectSpec;
+import org.knime.core.node.port.PortObjectZipInputStream;
+import org.knime.core.node.port.PortObjectZipOutputStream;
+import org.knime.core.node.port.PortType;
+import org.knime.core.node.port.PortTypeRegistry;
+import org.knime.core.node.util.CheckUtils;
+
+import cc.mallet.topics.ParallelTopicModel;
+import cc.mallet.topics.TopicInferencer;
+import cc.mallet.types.Alphabet;
+
+/**
+ * The {@code TopicModelPortObject} contains a topic model learned by the Topic Extractor node: the alphabet of the
+ * training documents, the topic counts per word and per topic and the hyperparameters. It is used to infer the topics
+ * of unseen documents without retraining the model.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 5.12
+ */
+public final class TopicModelPortObject implements PortObject {
+
+    /**
+     * Define port type of objects of this class when used as PortObjects.
+     */
+    public static final PortType TYPE = PortTypeRegistry.getInstance().getPortType(TopicModelPortObject.class);
+
+    /**
+     * The serializer used to save/load the port object.
+     *
+     * @author KNIME AG, Zurich, Switzerland
+     */
+    public static final class Serializer extends PortObject.PortObjectSerializer<TopicModelPortObject> {
+
+        /** The name of the file to write the model to. */
+        private static final String MODEL_FILE_NAME = "topicmodel.bin";
+
+        private static final int VERSION = 1;
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void savePortObject(final TopicModelPortObject portObject, final PortObjectZipOutputStream out,
+            final ExecutionMonitor exec) throws IOException, CanceledExecutionException {
+            out.putNextEntry(new ZipEntry(MODEL_FILE_NAME));
+            final DataOutputStream dos = new DataOutputStream(new BufferedOutputStream(out));
+            dos.writeInt(VERSION);
+            dos.writeDouble(portObject.m_beta);
+            dos.writeDouble(portObject.m_betaSum);
+            dos.writeInt(portObject.m_alpha.length);
+            for (int topic = 0; topic < portObject.m_alpha.length; topic++) {
+                dos.writeDouble(portObject.m_alpha[topic]);
+                dos.writeInt(portObject.m_tokensPerTopic[topic]);
+            }
+            final int noOfTypes = portObject.m_typeTopicCounts.length;
+            dos.writeInt(noOfTypes);
+            for (int type = 0; type < noOfTypes; type++) {
+                exec.checkCanceled();
+                dos.writeUTF((String)portObject.m_alphabet.lookupObject(type));
+                final int[] topicCounts = portObject.m_typeTopicCounts[type];
+                dos.writeInt(topicCounts.length);
+                for (final int topicCount : topicCounts) {
+                    dos.writeInt(topicCount);
+                }
+            }
+            dos.flush();
+            out.closeEntry();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public TopicModelPortObject loadPortObject(final PortObjectZipInputStream in, final PortObjectSpec spec,
+            final ExecutionMonitor exec) throws IOException, CanceledExecutionException {
+            CheckUtils.checkArgument(spec instanceof TopicModelPortObjectSpec, "Spec not instance of '%s' but '%s'",
+                TopicModelPortObjectSpec.class.getSimpleName(),
+                spec == null ? "<null>" : spec.getClass().getSimpleName());
+            in.getNextEntry();
+            final DataInputStream dis = new DataInputStream(new BufferedInputStream(in));
+            final int version = dis.readInt();
+            if (version > VERSION) {
+                throw new IOException("Unsupported topic model version " + version);
+            }
+            final double beta = dis.readDouble();
+            final double betaSum = dis.readDouble();
+            final int noOfTopics = dis.readInt();
+            final double[] alpha = new double[noOfTopics];
+            final int[] tokensPerTopic = new int[noOfTopics];
+            for (int topic = 0; topic < noOfTopics; topic++) {
+                alpha[topic] = dis.readDouble();
+                tokensPerTopic[topic] = dis.readInt();
+            }
+            final int noOfTypes = dis.readInt();
+            final Alphabet alphabet = new Alphabet(noOfTypes, String.class);
+            final int[][] typeTopicCounts = new int[noOfTypes][];
+            for (int type = 0; type < noOfTypes; type++) {
+                exec.checkCanceled();
+                alphabet.lookupIndex(dis.readUTF(), true);
+                final int[] topicCounts = new int[dis.readInt()];
+                for (int i = 0; i < topicCounts.length; i++) {
+                    topicCounts[i] = dis.readInt();
+                }
+                typeTopicCounts[type] = topicCounts;
+            }
+            alphabet.stopGrowth();
+            return new TopicModelPortObject((TopicModelPortObjectSpec)spec, alphabet, typeTopicCounts,
+                tokensPerTopic, alpha, beta, betaSum);
+        }
+    }
+
+    private final TopicModelPortObjectSpec m_spec;
+
+    private final Alphabet m_alphabet;
+
+    /** The topic counts per word, packed as (count << topic bits) | topic as in {@link ParallelTopicModel}. */
+    private final int[][] m_typeTopicCounts;
+
+    private final int[] m_tokensPerTopic;
+
+    private final double[] m_alpha;
+
+    private final double m_beta;
+
+    private final double m_betaSum;
+
+    private TopicModelPortObject(final TopicModelPortObjectSpec spec, final Alphabet alphabet,
+        final int[][] typeTopicCounts, final int[] tokensPerTopic, final double[] alpha, final double beta,
+        final double betaSum) {
+        m_spec = CheckUtils.checkArgumentNotNull(spec);
+        m_alphabet = alphabet;
+        m_typeTopicCounts = typeTopicCounts;
+        m_tokensPerTopic = tokensPerTopic;
+        m_alpha = alpha;
+        m_beta = beta;
+        m_betaSum = betaSum;
+    }
+
+    /**
+     * Creates a new port object containing the state of the given trained topic model. The model must not be trained
+     * any further afterwards.
+     *
+     * @param spec the spec of the port object
+     * @param model the trained topic model
+     */
+    public TopicModelPortObject(final TopicModelPortObjectSpec spec, final ParallelTopicModel model) {
+        this(spec, model.alphabet, model.typeTopicCounts, model.tokensPerTopic, model.alpha, model.beta,
+            model.betaSum);
+        m_alphabet.stopGrowth();
+    }
+
+    /**
+     * @return the alphabet of the words known to the model. The alphabet does not grow.
+     */
+    public Alphabet getAlphabet() {
+        return m_alphabet;
+    }
+
+    /**
+     * Creates a new inferencer to sample the topic distributions of unseen documents. Inferencers are not thread-safe
+     * but all inferencers of this port object share the read-only model counts, so one inferencer per thread can be
+     * created cheaply.
+     *
+     * @return a new inferencer
+     */
+    public TopicInferencer createInferencer() {
+        return new TopicInferencer(m_typeTopicCounts, m_tokensPerTopic, m_alphabet, m_alpha, m_beta, m_betaSum);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getSummary() {
+        return String.format("Topic model (%d topics, %d words)", m_spec.getNoOfTopics(), m_alphabet.size());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public TopicModelPortObjectSpec getSpec() {
+        return m_spec;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public JComponent[] getViews() {
+        return new JComponent[]{};
+    }
+
+    @Override
+    public String toString() {
+        return getSummary();
+    }
+}
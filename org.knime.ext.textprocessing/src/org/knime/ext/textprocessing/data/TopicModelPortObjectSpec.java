@@ -0,0 +1,139 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.ext.textprocessing.data;
+
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.ModelContentRO;
+import org.knime.core.node.ModelContentWO;
+import org.knime.core.node.port.AbstractSimplePortObjectSpec;
+
+/**
+ * The {@code TopicModelPortObjectSpec} contains the number of topics and the hyperparameters of a topic model learned
+ * by the Topic Extractor node.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 5.12
+ */
+public final class TopicModelPortObjectSpec extends AbstractSimplePortObjectSpec {
+
+    private int m_noOfTopics;
+
+    private double m_alpha;
+
+    private double m_beta;
+
+    /**
+     * The (empty) serializer. Values will be saved and loaded via {@link TopicModelPortObjectSpec#load(ModelContentRO)}
+     * and {@link TopicModelPortObjectSpec#save(ModelContentWO)}
+     *
+     * @author KNIME AG, Zurich, Switzerland
+     */
+    public static final class Serializer extends AbstractSimplePortObjectSpecSerializer<TopicModelPortObjectSpec> {
+    }
+
+    /**
+     * Empty constructor. Needed for loading.
+     */
+    public TopicModelPortObjectSpec() {
+    }
+
+    /**
+     * Creates a new instance of {@code TopicModelPortObjectSpec}.
+     *
+     * @param noOfTopics the number of topics
+     * @param alpha the prior weight of each topic in a document
+     * @param beta the prior weight of each word in a topic
+     */
+    public TopicModelPortObjectSpec(final int noOfTopics, final double alpha, final double beta) {
+        m_noOfTopics = noOfTopics;
+        m_alpha = alpha;
+        m_beta = beta;
+    }
+
+    /**
+     * @return the number of topics
+     */
+    public int getNoOfTopics() {
+        return m_noOfTopics;
+    }
+
+    /**
+     * @return the prior weight of each topic in a document
+     */
+    public double getAlpha() {
+        return m_alpha;
+    }
+
+    /**
+     * @return the prior weight of each word in a topic
+     */
+    public double getBeta() {
+        return m_beta;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void save(final ModelContentWO model) {
+        model.addInt("noOfTopics", m_noOfTopics);
+        model.addDouble("alpha", m_alpha);
+        model.addDouble("beta", m_beta);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void load(final ModelContentRO model) throws InvalidSettingsException {
+        m_noOfTopics = model.getInt("noOfTopics");
+        m_alpha = model.getDouble("alpha");
+        m_beta = model.getDouble("beta");
+    }
+}
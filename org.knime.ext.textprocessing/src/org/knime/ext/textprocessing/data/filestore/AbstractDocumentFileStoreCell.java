@@ -69,6 +69,8 @@
 import org.knime.ext.textprocessing.data.Document;
 import org.knime.ext.textprocessing.data.DocumentValue;
 import org.knime.ext.textprocessing.util.TermDocumentDeSerializationUtil;
+import org.knime.ext.textprocessing.util.metrics.Metric;
+import org.knime.ext.textprocessing.util.metrics.TextprocessingMetrics;
 
 /**
  * Basic abstract file store cell storing a document and its cell meta information, such as its offset in the file store
@@ -239,6 +241,8 @@ protected synchronized void readDocumentData() {
             synchronized (DOCUMENT_CACHE) {
                 m_document = DOCUMENT_CACHE.get(m_docUuid);
             }
+            TextprocessingMetrics.increment(
+                m_document != null ? Metric.DOCUMENT_CACHE_HITS : Metric.DOCUMENT_CACHE_MISSES);
             // only deserialize of document is not in cache
             if (m_document == null) {
                 // first prepare to be ready to deserialize document from file store file
@@ -252,6 +256,7 @@ protected synchronized void readDocumentData() {
 
                     final byte[] serializedDoc = new byte[m_length];
                     int redBytes = is.read(serializedDoc, 0, m_length);
+                    TextprocessingMetrics.add(Metric.FILESTORE_BYTES_READ, redBytes);
                     if (redBytes == m_length) {
                         m_document = deserializedDocument(serializedDoc);
                         synchronized (DOCUMENT_CACHE) {
@@ -56,6 +56,8 @@
 import java.util.concurrent.atomic.AtomicBoolean;
 import org.knime.core.data.filestore.FileStore;
 import org.knime.ext.textprocessing.data.Document;
+import org.knime.ext.textprocessing.util.metrics.Metric;
+import org.knime.ext.textprocessing.util.metrics.TextprocessingMetrics;
 
 /**
  * Serializes document data into file store files in a buffered manner.
@@ -116,6 +118,7 @@ private synchronized void writeBuffer() throws IOException {
             os = new BufferedOutputStream(new FileOutputStream(m_fileStore.getFile(), true));
             for (byte[] d : m_buffer) {
                 os.write(d);
+                TextprocessingMetrics.add(Metric.FILESTORE_BYTES_WRITTEN, d.length);
             }
         } finally {
             if (os != null) {
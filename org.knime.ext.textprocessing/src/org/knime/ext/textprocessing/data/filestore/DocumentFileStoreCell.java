@@ -60,6 +60,8 @@
 import org.knime.core.data.filestore.FileStoreCell;
 import org.knime.core.node.NodeLogger;
 import org.knime.ext.textprocessing.data.Document;
+import org.knime.ext.textprocessing.util.metrics.Metric;
+import org.knime.ext.textprocessing.util.metrics.TextprocessingMetrics;
 
 /**
  * A {@link FileStoreCell} implementation holding a {@link org.knime.ext.textprocessing.data.Document}. It provides a
@@ -133,6 +135,7 @@ public DocumentFileStoreCell(final FileStore fileStore, final Document document)
                 final OutputStream os = new BufferedOutputStream(new FileOutputStream(file, true), m_length);
                 try {
                     os.write(serializedDoc);
+                    TextprocessingMetrics.add(Metric.FILESTORE_BYTES_WRITTEN, m_length);
                 } catch (IOException e) {
                     LOGGER.error("Could not write serialized document to random access file.", e);
                     throw e;
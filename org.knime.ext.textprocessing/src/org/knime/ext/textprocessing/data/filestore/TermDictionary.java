@@ -0,0 +1,307 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.ext.textprocessing.data.filestore;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.knime.core.data.filestore.FileStore;
+import org.knime.ext.textprocessing.data.Term;
+import org.knime.ext.textprocessing.util.TermDocumentDeSerializationUtil;
+import org.knime.ext.textprocessing.util.metrics.Metric;
+import org.knime.ext.textprocessing.util.metrics.TextprocessingMetrics;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+/**
+ * Dictionary of terms stored in a file store file. Each distinct term is serialized only once and identified by its id,
+ * which is its position in the dictionary. New terms are appended to the file store file in a buffered manner. For
+ * lookups the file is mapped into memory, from which terms are deserialized on demand. When terms have been appended,
+ * the file is mapped again and only the new terms are indexed. Deserialized terms are kept, so the cache scales with
+ * the dictionary and terms that have been loaded already are looked up without locking.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 5.12
+ */
+final class TermDictionary {
+
+    /** Maximal number of serialized terms kept in the buffer before it is written to the file store file. */
+    private static final int BUFFER_SIZE = 1000;
+
+    /* Dictionaries by file store, weakly referenced so that they are released together with their cells. Package
+     * private so that tests can drop them to look up a dictionary as in a new session. */
+    static final Cache<String, TermDictionary> DICTIONARIES = CacheBuilder.newBuilder().weakValues().build();
+
+    private FileStore m_fileStore;
+
+    private final Map<Term, Integer> m_ids = new HashMap<Term, Integer>();
+
+    private final List<byte[]> m_buffer = new ArrayList<byte[]>(BUFFER_SIZE);
+
+    private int m_size = 0;
+
+    private volatile LoadedTerms m_loaded = new LoadedTerms(null, new int[0], 0, 0, null);
+
+    /**
+     * Constructor for class {@link TermDictionary}.
+     * @param fileStore The file store to store the dictionary in.
+     */
+    private TermDictionary(final FileStore fileStore) {
+        m_fileStore = fileStore;
+    }
+
+    /**
+     * Returns the dictionary stored in the given file store. A new (empty) dictionary is created if the file store is
+     * not related to any dictionary yet, otherwise the existing instance is returned.
+     *
+     * @param fileStore The file store to get the dictionary for.
+     * @return The dictionary stored in the given file store.
+     */
+    static TermDictionary of(final FileStore fileStore) {
+        return DICTIONARIES.asMap().computeIfAbsent(fileStore.toString(), k -> new TermDictionary(fileStore));
+    }
+
+    /**
+     * Adds the given term to the dictionary, if it is not already contained, and returns its id.
+     *
+     * @param term The term to add.
+     * @return The id of the term.
+     * @throws IOException If the term could not be written to the file store file.
+     */
+    synchronized int add(final Term term) throws IOException {
+        Integer id = m_ids.get(term);
+        if (id == null) {
+            final ByteArrayOutputStream bos = new ByteArrayOutputStream();
+            try (final DataOutputStream out = new DataOutputStream(bos)) {
+                TermDocumentDeSerializationUtil.fastSerializeTerm(term, out);
+            }
+            m_buffer.add(bos.toByteArray());
+            id = m_size++;
+            m_ids.put(term, id);
+
+            if (m_buffer.size() >= BUFFER_SIZE) {
+                writeBuffer();
+            }
+        }
+        return id;
+    }
+
+    /**
+     * Flushes buffer, writes all buffered terms into the file store file. The file store file may have been moved,
+     * thus the related file store instance has to be provided in order to be able to update the file location.
+     *
+     * @param fileStore The related file store instance.
+     * @throws IOException If buffer could not be flushed into file store file.
+     */
+    synchronized void flush(final FileStore fileStore) throws IOException {
+        updateFileStore(fileStore);
+        if (!m_buffer.isEmpty()) {
+            writeBuffer();
+        }
+    }
+
+    /**
+     * Returns the term with the given id. Terms that have not been written to the file store file yet are flushed
+     * before. Terms that have been loaded already are returned without locking the dictionary.
+     *
+     * @param id The id of the term.
+     * @param fileStore The related file store instance.
+     * @return The term with the given id.
+     * @throws IOException If the term could not be read from the file store file.
+     */
+    Term getTerm(final int id, final FileStore fileStore) throws IOException {
+        LoadedTerms loaded = m_loaded;
+        if (id >= loaded.m_count) {
+            loaded = loadTerm(id, fileStore);
+        }
+        return loaded.getTerm(id);
+    }
+
+    /**
+     * Flushes the buffered terms and loads the file store file, unless the term with the given id has been loaded by
+     * another thread in the meantime.
+     */
+    private synchronized LoadedTerms loadTerm(final int id, final FileStore fileStore) throws IOException {
+        if (id >= m_loaded.m_count) {
+            flush(fileStore);
+            load();
+            if (id >= m_loaded.m_count) {
+                throw new IOException("Term dictionary '" + m_fileStore + "' does not contain term id " + id);
+            }
+        }
+        return m_loaded;
+    }
+
+    /**
+     * Writes the buffered terms, each prefixed with its length, into the file store file.
+     * @throws IOException If data could not be written into file store file.
+     */
+    private void writeBuffer() throws IOException {
+        try (final DataOutputStream out = new DataOutputStream(
+            new BufferedOutputStream(new FileOutputStream(m_fileStore.getFile(), true)))) {
+            for (final byte[] t : m_buffer) {
+                out.writeInt(t.length);
+                out.write(t);
+                TextprocessingMetrics.add(Metric.FILESTORE_BYTES_WRITTEN, Integer.BYTES + t.length);
+            }
+        }
+        m_buffer.clear();
+    }
+
+    /**
+     * Maps the file store file into memory and indexes the offsets of the terms appended since the last load.
+     * @throws IOException If the file store file could not be read.
+     */
+    private void load() throws IOException {
+        final File file = m_fileStore.getFile();
+        if (!file.exists()) {
+            return;
+        }
+        final LoadedTerms loaded = m_loaded;
+        try (final FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            final long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Term dictionary '" + m_fileStore + "' is too large: " + size + " bytes");
+            }
+            // the mapping stays valid after the channel has been closed
+            final ByteBuffer data = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            TextprocessingMetrics.add(Metric.FILESTORE_BYTES_READ, size - loaded.m_end);
+
+            // terms already indexed keep their offsets, only the appended terms are indexed
+            int[] offsets = loaded.m_offsets;
+            int count = loaded.m_count;
+            int offset = loaded.m_end;
+            while (offset < size) {
+                if (count == offsets.length) {
+                    offsets = Arrays.copyOf(offsets, Math.max(m_size, Math.max(16, 2 * count)));
+                }
+                offsets[count++] = offset;
+                offset += Integer.BYTES + data.getInt(offset);
+            }
+            m_loaded = new LoadedTerms(data, offsets, count, offset, loaded);
+        }
+    }
+
+    /**
+     * Updates related file store instance if file store file has been moved.
+     * @param fileStore The file store to update.
+     */
+    private void updateFileStore(final FileStore fileStore) {
+        if (m_fileStore.toString().equals(fileStore.toString())
+                && !m_fileStore.getFile().getAbsolutePath().equals(fileStore.getFile().getAbsolutePath())) {
+            m_fileStore = fileStore;
+        }
+    }
+
+    /**
+     * The content of the file store file at the time it was loaded, together with the terms deserialized from it.
+     * Instances are never changed after their creation except for the terms, which are deserialized on demand and
+     * published atomically. Two threads requesting the same term concurrently may both deserialize it. Since terms
+     * are only appended to the file, the offsets and the chunks of deserialized terms of the previously loaded
+     * content are shared with it instead of being copied.
+     */
+    private static final class LoadedTerms {
+
+        /** Number of deserialized terms per chunk. */
+        private static final int CHUNK_SIZE = 1024;
+
+        private final ByteBuffer m_data;
+
+        private final int[] m_offsets;
+
+        private final int m_count;
+
+        private final int m_end;
+
+        private final List<AtomicReferenceArray<Term>> m_terms;
+
+        private LoadedTerms(final ByteBuffer data, final int[] offsets, final int count, final int end,
+            final LoadedTerms previous) {
+            m_data = data;
+            m_offsets = offsets;
+            m_count = count;
+            m_end = end;
+            m_terms = previous == null ? new ArrayList<AtomicReferenceArray<Term>>()
+                : new ArrayList<AtomicReferenceArray<Term>>(previous.m_terms);
+            while (m_terms.size() * CHUNK_SIZE < count) {
+                m_terms.add(new AtomicReferenceArray<Term>(CHUNK_SIZE));
+            }
+        }
+
+        private Term getTerm(final int id) throws IOException {
+            final AtomicReferenceArray<Term> chunk = m_terms.get(id / CHUNK_SIZE);
+            Term term = chunk.get(id % CHUNK_SIZE);
+            if (term == null) {
+                final byte[] serializedTerm = new byte[m_data.getInt(m_offsets[id])];
+                m_data.get(m_offsets[id] + Integer.BYTES, serializedTerm);
+                try (final DataInputStream in = new DataInputStream(new ByteArrayInputStream(serializedTerm))) {
+                    term = TermDocumentDeSerializationUtil.fastDeserializeTerm(in);
+                }
+                chunk.set(id % CHUNK_SIZE, term);
+            }
+            return term;
+        }
+    }
+}
@@ -0,0 +1,219 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.ext.textprocessing.data.filestore;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataCellDataInput;
+import org.knime.core.data.DataCellDataOutput;
+import org.knime.core.data.DataCellSerializer;
+import org.knime.core.data.DataType;
+import org.knime.core.data.DataValue;
+import org.knime.core.data.StringValue;
+import org.knime.core.data.filestore.FileStore;
+import org.knime.core.data.filestore.FileStoreCell;
+import org.knime.ext.textprocessing.data.Term;
+import org.knime.ext.textprocessing.data.TermValue;
+
+/**
+ * File store cell storing a term as id of a {@link TermDictionary}. All cells of a table created by one
+ * {@link TermDictionaryFileStoreDataCellFactory} share one dictionary (file store), so that each distinct term is
+ * serialized only once and each cell only serializes the id of its term. The term is resolved lazily from the
+ * dictionary when it is requested the first time.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 5.12
+ */
+public final class TermDictionaryFileStoreCell extends FileStoreCell implements TermValue, StringValue {
+
+    /**
+     * Serializer for {@link TermDictionaryFileStoreCell}s.
+     *
+     * @noreference This class is not intended to be referenced by clients.
+     */
+    public static final class Serializer implements DataCellSerializer<TermDictionaryFileStoreCell> {
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public TermDictionaryFileStoreCell deserialize(final DataCellDataInput input) throws IOException {
+            return new TermDictionaryFileStoreCell(input.readInt());
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void serialize(final TermDictionaryFileStoreCell cell, final DataCellDataOutput output)
+            throws IOException {
+            output.writeInt(cell.m_termId);
+        }
+    }
+
+    /** SerialVersionID. */
+    private static final long serialVersionUID = 2619785233461840467L;
+
+    /**
+     * Convenience access member for {@code DataType.getType(TermDictionaryFileStoreCell.class)}.
+     * @see DataType#getType(Class)
+     */
+    public static final DataType TYPE = DataType.getType(TermDictionaryFileStoreCell.class);
+
+    private final int m_termId;
+
+    private Term m_term;
+
+    private transient TermDictionary m_dictionary;
+
+    /**
+     * Constructor of {@link TermDictionaryFileStoreCell}. Creates new instance with given term, which is added to the
+     * dictionary stored in the given file store.
+     *
+     * @param fileStore File store containing the dictionary.
+     * @param dictionary The dictionary related to the file store.
+     * @param term Term to encapsulate.
+     * @throws IOException if term cannot be written to the dictionary.
+     */
+    TermDictionaryFileStoreCell(final FileStore fileStore, final TermDictionary dictionary, final Term term)
+        throws IOException {
+        super(fileStore);
+        m_dictionary = dictionary;
+        m_term = term;
+        m_termId = dictionary.add(term);
+    }
+
+    /**
+     * Constructor used for deserialization.
+     * @param termId The id of the term in the dictionary.
+     */
+    private TermDictionaryFileStoreCell(final int termId) {
+        super();
+        m_termId = termId;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void flushToFileStore() throws IOException {
+        getDictionary().flush(getFileStore());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized Term getTermValue() {
+        if (m_term == null) {
+            try {
+                m_term = getDictionary().getTerm(m_termId, getFileStore());
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not read term " + m_termId + " from term dictionary.", e);
+            }
+        }
+        return m_term;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getStringValue() {
+        return getTermValue().toString();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return getStringValue();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean equalsDataCell(final DataCell dc) {
+        if (dc == null) {
+            return false;
+        }
+        final TermDictionaryFileStoreCell t = (TermDictionaryFileStoreCell)dc;
+        if (t.getDictionary() == getDictionary()) {
+            return t.m_termId == m_termId;
+        }
+        return t.getTermValue().equals(getTermValue());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean equalContent(final DataValue otherValue) {
+        return TermValue.equalContent(this, (TermValue)otherValue);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return TermValue.hashCode(this);
+    }
+
+    private synchronized TermDictionary getDictionary() {
+        // if cell has been deserialized the dictionary has not been initialized. Thus it has to be requested here.
+        if (m_dictionary == null) {
+            m_dictionary = TermDictionary.of(getFileStore());
+        }
+        return m_dictionary;
+    }
+}
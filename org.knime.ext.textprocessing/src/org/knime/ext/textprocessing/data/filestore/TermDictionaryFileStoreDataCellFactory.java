@@ -0,0 +1,137 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.ext.textprocessing.data.filestore;
+
+import java.io.IOException;
+import java.util.UUID;
+
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataType;
+import org.knime.core.data.filestore.FileStore;
+import org.knime.core.data.filestore.FileStoreFactory;
+import org.knime.core.node.NodeLogger;
+import org.knime.ext.textprocessing.data.Term;
+import org.knime.ext.textprocessing.data.TextContainer;
+import org.knime.ext.textprocessing.util.TextContainerDataCellFactory;
+
+/**
+ * A {@link TextContainerDataCellFactory} creating dictionary encoded {@link TermDictionaryFileStoreCell}s for given
+ * {@link Term}s. All cells created after the factory has been prepared share one term dictionary stored in a single
+ * file store.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 5.12
+ */
+public final class TermDictionaryFileStoreDataCellFactory implements TextContainerDataCellFactory {
+
+    /* Logger */
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(TermDictionaryFileStoreDataCellFactory.class);
+
+    private FileStore m_fileStore;
+
+    private TermDictionary m_dictionary;
+
+    /**
+     * {@inheritDoc}
+     * Prepares the factory and creates a file store to store the term dictionary in.
+     */
+    @Override
+    public synchronized void prepare(final FileStoreFactory fileStoreFactory) {
+        try {
+            final String fileStore = "terms-" + UUID.randomUUID().toString();
+            LOGGER.debug("Creating term dictionary file store: " + fileStore);
+            m_fileStore = fileStoreFactory.createFileStore(fileStore);
+            m_dictionary = TermDictionary.of(m_fileStore);
+        } catch (IOException e) {
+            LOGGER.error("Could not create file store.", e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * Factory has to be prepared before {@link #createDataCell(TextContainer)} can be called. Otherwise an
+     * {@link IllegalStateException} will be thrown.
+     */
+    @Override
+    public DataCell createDataCell(final TextContainer tc) {
+        if (m_dictionary == null) {
+            throw new IllegalStateException(
+                "Factory is not prepared, FileStore has not been created. Prepare factory before creating data cells!");
+        }
+
+        DataCell dc = null;
+        if (tc instanceof Term) {
+            try {
+                dc = new TermDictionaryFileStoreCell(m_fileStore, m_dictionary, (Term)tc);
+            } catch (IOException e) {
+                LOGGER.error("Could not store term in dictionary: " + tc.getText(), e);
+            }
+        }
+        return dc;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public DataType getDataType() {
+        return TermDictionaryFileStoreCell.TYPE;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean validateCellType(final DataCell cell) {
+        if (cell instanceof TermDictionaryFileStoreCell) {
+            return true;
+        }
+        return false;
+    }
+}
@@ -46,6 +46,6 @@
  */
 
 /**
- * This package contains classes handling file store cells for documents.
+ * This package contains classes handling file store cells for documents and dictionary encoded terms.
  */
 package org.knime.ext.textprocessing.data.filestore;
@@ -56,6 +56,7 @@
 
 import org.knime.core.data.DataCell;
 import org.knime.core.data.meta.DataColumnMetaDataCreator;
+import org.knime.ext.textprocessing.data.DocumentValue;
 import org.knime.ext.textprocessing.data.Tag;
 
 /**
@@ -80,7 +81,12 @@ public void update(final DataCell cell) {
     }
 
     private void updateTagTypes(final TaggedValue value) {
-        value.getTagStream().forEach(this::consumeTag);
+        if (value instanceof DocumentValue) {
+            // the summary contains each distinct tag of the document once and is only collected once per document
+            ((DocumentValue)value).getDocument().getTagSummary().forEach(this::consumeTag);
+        } else {
+            value.getTagStream().forEach(this::consumeTag);
+        }
     }
 
     private void consumeTag(final Tag tag) {
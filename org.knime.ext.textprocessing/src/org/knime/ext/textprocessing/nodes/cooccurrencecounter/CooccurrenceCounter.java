@@ -0,0 +1,610 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.ext.textprocessing.nodes.cooccurrencecounter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.ext.textprocessing.data.Document;
+import org.knime.ext.textprocessing.data.Paragraph;
+import org.knime.ext.textprocessing.data.Section;
+import org.knime.ext.textprocessing.data.SectionAnnotation;
+import org.knime.ext.textprocessing.data.Sentence;
+import org.knime.ext.textprocessing.data.Term;
+
+/**
+ * Counts the co-occurrences of term pairs in documents on the different {@link CooccurrenceLevel co-occurrence
+ * levels}. Terms are mapped to int ids and pairs are counted in a primitive {@link PairCountMap}, so no objects are
+ * created per pair. Each worker thread has to use its own counter.
+ *
+ * <p>
+ * Without a window, the co-occurrence count of two terms in a block (e.g. a sentence) is the minimum of their numbers
+ * of occurrences in the block. With a window, two terms only co-occur if they are at most the window size terms apart,
+ * and the count is the number of such occurrence pairs. The pairs of a document are available in the order of their
+ * first co-occurrence after {@link #count(Document, TermChecker, ExecutionMonitor)}.
+ * </p>
+ *
+ * <p>
+ * If a {@link TermDictionary} is given, the counts of all documents are also aggregated for the corpus, together with
+ * the frequencies needed for association scores: the number of blocks of the score level, the number of these blocks
+ * containing a term and the number of these blocks in which a pair co-occurs.
+ * </p>
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 5.12
+ */
+final class CooccurrenceCounter {
+
+    private static final CooccurrenceLevel[] LEVELS = CooccurrenceLevel.values();
+
+    /** The count column of the number of score level blocks in which a pair co-occurs. */
+    private static final int JOINT_FREQ = LEVELS.length;
+
+    /** The count column of the last score level block a pair was counted for, only used with windows. */
+    private static final int LAST_BLOCK = JOINT_FREQ + 1;
+
+    private static final int COLUMNS = LAST_BLOCK + 1;
+
+    private final boolean m_checkTags;
+
+    private final boolean m_skipMetaInfo;
+
+    private final boolean[] m_levels = new boolean[LEVELS.length];
+
+    private final int m_windowSize;
+
+    private final CooccurrenceLevel m_scoreLevel;
+
+    private final TermDictionary m_dictionary;
+
+    private final Map<TermContainer, Integer> m_termIds = new HashMap<TermContainer, Integer>();
+
+    private final List<Term> m_terms = new ArrayList<Term>();
+
+    private final PairCountMap m_pairs = new PairCountMap(COLUMNS);
+
+    private final TermBlock[] m_blocks = new TermBlock[LEVELS.length];
+
+    private int m_blockSeq = 0;
+
+    private final PairCountMap m_corpusPairs;
+
+    private long[] m_termBlockFreqs = new long[0];
+
+    private long m_blockCount = 0;
+
+    /**
+     * Creates a new counter.
+     *
+     * @param level the co-occurrence level, including all more specific levels.
+     * @param checkTags {@code true} if terms with different tags are distinguished.
+     * @param skipMetaInfo {@code true} if meta information sections are skipped.
+     * @param windowSize the maximum distance in terms of co-occurring terms or 0 if the distance is not restricted.
+     * @param dictionary the dictionary mapping terms to corpus wide ids or {@code null} if the counts should not be
+     *            aggregated for the corpus.
+     */
+    CooccurrenceCounter(final CooccurrenceLevel level, final boolean checkTags, final boolean skipMetaInfo,
+        final int windowSize, final TermDictionary dictionary) {
+        m_checkTags = checkTags;
+        m_skipMetaInfo = skipMetaInfo;
+        m_windowSize = windowSize;
+        m_dictionary = dictionary;
+        for (final CooccurrenceLevel l : LEVELS) {
+            m_levels[l.ordinal()] = l.getLevel() <= level.getLevel();
+            m_blocks[l.ordinal()] = new TermBlock();
+        }
+        m_scoreLevel = getScoreLevel(level);
+        m_corpusPairs = dictionary != null ? new PairCountMap(COLUMNS) : null;
+    }
+
+    /**
+     * @param level the selected co-occurrence level.
+     * @return the level of the blocks association scores are computed for. This is the selected level itself, except
+     *         for the neighbor level, for which sentences are used.
+     */
+    static CooccurrenceLevel getScoreLevel(final CooccurrenceLevel level) {
+        return level == CooccurrenceLevel.NEIGHBOR ? CooccurrenceLevel.SENTENCE : level;
+    }
+
+    /**
+     * Counts the co-occurrences of the given terms in the given document. The pairs of the previous document are
+     * discarded. If a dictionary has been specified, the counts are added to the corpus counts.
+     *
+     * @param doc the document.
+     * @param terms the terms to count the co-occurrences of.
+     * @param exec the execution monitor to check for cancellation.
+     * @throws CanceledExecutionException if the execution has been canceled.
+     */
+    void count(final Document doc, final TermChecker terms, final ExecutionMonitor exec)
+        throws CanceledExecutionException {
+        m_pairs.clear();
+        m_termIds.clear();
+        m_terms.clear();
+
+        final boolean inclNeighbors = m_levels[CooccurrenceLevel.NEIGHBOR.ordinal()];
+        int position = 0;
+        for (final Section section : doc.getSections()) {
+            final SectionAnnotation annotation = section.getAnnotation();
+            final boolean title = SectionAnnotation.TITLE.equals(annotation)
+                || SectionAnnotation.CONFERENCE_TITLE.equals(annotation)
+                || SectionAnnotation.JOURNAL_TITLE.equals(annotation);
+            if (m_skipMetaInfo && SectionAnnotation.META_INFORMATION.equals(annotation)) {
+                //this is a meta information section that should be skipped -> continue
+                continue;
+            }
+            for (final Paragraph paragraph : section.getParagraphs()) {
+                for (final Sentence sentence : paragraph.getSentences()) {
+                    exec.checkCanceled();
+                    int previousTerm = -1;
+                    for (final Term term : sentence.getTerms()) {
+                        position++;
+                        if (!terms.containsTerm(term)) {
+                            previousTerm = -1;
+                            continue;
+                        }
+                        final int id = getTermId(term);
+                        addToBlock(CooccurrenceLevel.DOCUMENT, id, position);
+                        addToBlock(CooccurrenceLevel.SECTION, id, position);
+                        addToBlock(CooccurrenceLevel.PARAGRAPH, id, position);
+                        addToBlock(CooccurrenceLevel.SENTENCE, id, position);
+                        if (title) {
+                            addToBlock(CooccurrenceLevel.TITLE, id, position);
+                        }
+                        if (inclNeighbors) {
+                            //count neighbors only within a sentence
+                            if (previousTerm >= 0 && previousTerm != id) {
+                                m_pairs.add(getPair(previousTerm, id, m_pairs, m_terms),
+                                    CooccurrenceLevel.NEIGHBOR.ordinal(), 1);
+                            }
+                            previousTerm = id;
+                        }
+                    }
+                    processBlock(CooccurrenceLevel.SENTENCE);
+                }
+                processBlock(CooccurrenceLevel.PARAGRAPH);
+            }
+            if (title) {
+                processBlock(CooccurrenceLevel.TITLE);
+            }
+            processBlock(CooccurrenceLevel.SECTION);
+        }
+        processBlock(CooccurrenceLevel.DOCUMENT);
+
+        if (m_dictionary != null) {
+            aggregate();
+        }
+    }
+
+    private int getTermId(final Term term) {
+        final TermContainer container = new TermContainer(m_checkTags, term);
+        Integer id = m_termIds.get(container);
+        if (id == null) {
+            id = m_terms.size();
+            m_termIds.put(container, id);
+            m_terms.add(term);
+        }
+        return id;
+    }
+
+    private void addToBlock(final CooccurrenceLevel level, final int id, final int position) {
+        if (m_levels[level.ordinal()] || level == m_scoreLevel) {
+            m_blocks[level.ordinal()].add(id, position, m_windowSize > 0);
+        }
+    }
+
+    /**
+     * Returns the entry of the given pair in the given map, adding it if it does not exist. New pairs are oriented
+     * such that the first term is lexicographically smaller or equal to the second term.
+     */
+    private static int getPair(final int term1, final int term2, final PairCountMap pairs, final List<Term> terms) {
+        final long key = PairCountMap.key(term1, term2);
+        final int e = pairs.find(key);
+        if (e >= 0) {
+            return e;
+        }
+        if (terms.get(term1).getText().compareTo(terms.get(term2).getText()) <= 0) {
+            return pairs.addPair(key, term1, term2);
+        }
+        return pairs.addPair(key, term2, term1);
+    }
+
+    /**
+     * Counts the co-occurrences of all terms in the block of the given level and clears the block.
+     */
+    private void processBlock(final CooccurrenceLevel level) {
+        final TermBlock block = m_blocks[level.ordinal()];
+        final boolean count = m_levels[level.ordinal()];
+        final boolean score = m_dictionary != null && level == m_scoreLevel;
+        if (score) {
+            m_blockCount++;
+            m_blockSeq++;
+            for (int i = 0; i < block.m_size; i++) {
+                final int globalId = m_dictionary.getId(m_terms.get(block.m_ids[i]));
+                if (globalId >= m_termBlockFreqs.length) {
+                    m_termBlockFreqs = Arrays.copyOf(m_termBlockFreqs, Math.max(globalId + 1,
+                        2 * m_termBlockFreqs.length));
+                }
+                m_termBlockFreqs[globalId]++;
+            }
+        }
+        if (!count && !score || block.m_size < 2) {
+            block.clear();
+            return;
+        }
+
+        final int column = level.ordinal();
+        if (m_windowSize <= 0) {
+            for (int i = 0; i < block.m_size; i++) {
+                final int outer = block.m_ids[i];
+                for (int j = i + 1; j < block.m_size; j++) {
+                    final int inner = block.m_ids[j];
+                    final int e = getPair(outer, inner, m_pairs, m_terms);
+                    if (count) {
+                        m_pairs.add(e, column, Math.min(block.m_counts[outer], block.m_counts[inner]));
+                    }
+                    if (score) {
+                        m_pairs.add(e, JOINT_FREQ, 1);
+                    }
+                }
+            }
+        } else {
+            for (int j = 1; j < block.m_occurrences; j++) {
+                final int inner = block.m_occurrenceIds[j];
+                for (int i = j - 1; i >= 0
+                    && block.m_occurrencePositions[j] - block.m_occurrencePositions[i] <= m_windowSize; i--) {
+                    final int outer = block.m_occurrenceIds[i];
+                    if (outer == inner) {
+                        continue;
+                    }
+                    final int e = getPair(outer, inner, m_pairs, m_terms);
+                    if (count) {
+                        m_pairs.add(e, column, 1);
+                    }
+                    if (score && m_pairs.get(e, LAST_BLOCK) != m_blockSeq) {
+                        m_pairs.set(e, LAST_BLOCK, m_blockSeq);
+                        m_pairs.add(e, JOINT_FREQ, 1);
+                    }
+                }
+            }
+        }
+        block.clear();
+    }
+
+    /**
+     * Adds the pair counts of the current document to the corpus counts.
+     */
+    private void aggregate() {
+        for (int e = 0; e < m_pairs.size(); e++) {
+            final int term1 = m_dictionary.getId(m_terms.get(m_pairs.getTerm1(e)));
+            final int term2 = m_dictionary.getId(m_terms.get(m_pairs.getTerm2(e)));
+            final long key = PairCountMap.key(term1, term2);
+            int corpusEntry = m_corpusPairs.find(key);
+            if (corpusEntry < 0) {
+                corpusEntry = m_corpusPairs.addPair(key, term1, term2);
+            }
+            for (int column = 0; column <= JOINT_FREQ; column++) {
+                m_corpusPairs.add(corpusEntry, column, m_pairs.get(e, column));
+            }
+        }
+    }
+
+    /**
+     * @return the number of co-occurring pairs of the current document.
+     */
+    int getNumberOfPairs() {
+        return m_pairs.size();
+    }
+
+    /**
+     * @param pair the index of the pair in the current document.
+     * @return the first term of the pair.
+     */
+    Term getTerm1(final int pair) {
+        return m_terms.get(m_pairs.getTerm1(pair));
+    }
+
+    /**
+     * @param pair the index of the pair in the current document.
+     * @return the second term of the pair.
+     */
+    Term getTerm2(final int pair) {
+        return m_terms.get(m_pairs.getTerm2(pair));
+    }
+
+    /**
+     * @param pair the index of the pair in the current document.
+     * @param level the co-occurrence level.
+     * @return the co-occurrence count of the pair in the current document on the given level.
+     */
+    long getCount(final int pair, final CooccurrenceLevel level) {
+        return m_pairs.get(pair, level.ordinal());
+    }
+
+    /**
+     * Adds the corpus counts of the given counter to the corpus counts of this counter. Both counters must use the
+     * same dictionary.
+     *
+     * @param other the counter to merge.
+     */
+    void merge(final CooccurrenceCounter other) {
+        for (int e = 0; e < other.m_corpusPairs.size(); e++) {
+            final long key = other.m_corpusPairs.getKey(e);
+            int corpusEntry = m_corpusPairs.find(key);
+            if (corpusEntry < 0) {
+                corpusEntry =
+                    m_corpusPairs.addPair(key, other.m_corpusPairs.getTerm1(e), other.m_corpusPairs.getTerm2(e));
+            }
+            for (int column = 0; column <= JOINT_FREQ; column++) {
+                m_corpusPairs.add(corpusEntry, column, other.m_corpusPairs.get(e, column));
+            }
+        }
+        if (other.m_termBlockFreqs.length > m_termBlockFreqs.length) {
+            m_termBlockFreqs = Arrays.copyOf(m_termBlockFreqs, other.m_termBlockFreqs.length);
+        }
+        for (int i = 0; i < other.m_termBlockFreqs.length; i++) {
+            m_termBlockFreqs[i] += other.m_termBlockFreqs[i];
+        }
+        m_blockCount += other.m_blockCount;
+    }
+
+    /**
+     * @return the indices of the corpus pairs, sorted by the texts of their first and second terms.
+     */
+    int[] getSortedCorpusPairs() {
+        final Comparator<Integer> comparator = Comparator
+            .comparing((Integer e) -> getCorpusTerm1(e).getText())
+            .thenComparing(e -> getCorpusTerm2(e).getText())
+            .thenComparingLong(e -> m_corpusPairs.getKey(e));
+        return IntStream.range(0, m_corpusPairs.size()).boxed().sorted(comparator).mapToInt(Integer::intValue)
+            .toArray();
+    }
+
+    /**
+     * @param pair the index of the corpus pair.
+     * @return the first term of the pair.
+     */
+    Term getCorpusTerm1(final int pair) {
+        return m_dictionary.getTerm(m_corpusPairs.getTerm1(pair));
+    }
+
+    /**
+     * @param pair the index of the corpus pair.
+     * @return the second term of the pair.
+     */
+    Term getCorpusTerm2(final int pair) {
+        return m_dictionary.getTerm(m_corpusPairs.getTerm2(pair));
+    }
+
+    /**
+     * @param pair the index of the corpus pair.
+     * @param level the co-occurrence level.
+     * @return the co-occurrence count of the pair in the corpus on the given level.
+     */
+    long getCorpusCount(final int pair, final CooccurrenceLevel level) {
+        return m_corpusPairs.get(pair, level.ordinal());
+    }
+
+    /**
+     * @param pair the index of the corpus pair.
+     * @return the number of score level blocks in which the terms of the pair co-occur.
+     */
+    long getJointFrequency(final int pair) {
+        return m_corpusPairs.get(pair, JOINT_FREQ);
+    }
+
+    /**
+     * @param pair the index of the corpus pair.
+     * @return the number of score level blocks containing the first term of the pair.
+     */
+    long getTerm1Frequency(final int pair) {
+        return m_termBlockFreqs[m_corpusPairs.getTerm1(pair)];
+    }
+
+    /**
+     * @param pair the index of the corpus pair.
+     * @return the number of score level blocks containing the second term of the pair.
+     */
+    long getTerm2Frequency(final int pair) {
+        return m_termBlockFreqs[m_corpusPairs.getTerm2(pair)];
+    }
+
+    /**
+     * @return the number of score level blocks in the corpus.
+     */
+    long getBlockCount() {
+        return m_blockCount;
+    }
+
+    /**
+     * Computes the pointwise mutual information log2(p(x,y) / (p(x) * p(y))).
+     *
+     * @param joint the number of blocks in which both terms occur.
+     * @param freq1 the number of blocks containing the first term.
+     * @param freq2 the number of blocks containing the second term.
+     * @param n the number of blocks.
+     * @return the pointwise mutual information.
+     */
+    static double pmi(final long joint, final long freq1, final long freq2, final long n) {
+        return log2((double)joint * n / ((double)freq1 * freq2));
+    }
+
+    /**
+     * Computes the normalized pointwise mutual information pmi(x,y) / -log2(p(x,y)), ranging from -1 to 1.
+     *
+     * @param joint the number of blocks in which both terms occur.
+     * @param freq1 the number of blocks containing the first term.
+     * @param freq2 the number of blocks containing the second term.
+     * @param n the number of blocks.
+     * @return the normalized pointwise mutual information.
+     */
+    static double npmi(final long joint, final long freq1, final long freq2, final long n) {
+        if (joint >= n) {
+            return 1;
+        }
+        return pmi(joint, freq1, freq2, n) / -log2((double)joint / n);
+    }
+
+    /**
+     * Computes Dunning's log-likelihood ratio (G<sup>2</sup>) of the 2x2 contingency table of the two terms.
+     *
+     * @param joint the number of blocks in which both terms occur.
+     * @param freq1 the number of blocks containing the first term.
+     * @param freq2 the number of blocks containing the second term.
+     * @param n the number of blocks.
+     * @return the log-likelihood ratio.
+     */
+    static double logLikelihood(final long joint, final long freq1, final long freq2, final long n) {
+        final long k11 = joint;
+        final long k12 = freq1 - joint;
+        final long k21 = freq2 - joint;
+        final long k22 = n - freq1 - freq2 + joint;
+        return 2 * (llTerm(k11, freq1, freq2, n) + llTerm(k12, freq1, n - freq2, n)
+            + llTerm(k21, n - freq1, freq2, n) + llTerm(k22, n - freq1, n - freq2, n));
+    }
+
+    private static double llTerm(final long k, final long rowSum, final long colSum, final long n) {
+        if (k <= 0) {
+            return 0;
+        }
+        return k * Math.log((double)k * n / ((double)rowSum * colSum));
+    }
+
+    private static double log2(final double x) {
+        return Math.log(x) / Math.log(2);
+    }
+
+    /**
+     * The terms of a block (e.g. a sentence) with their numbers of occurrences and, if a window is used, their
+     * positions.
+     */
+    private static final class TermBlock {
+
+        private int[] m_counts = new int[16];
+
+        private int[] m_ids = new int[16];
+
+        private int m_size = 0;
+
+        private int[] m_occurrenceIds = new int[16];
+
+        private int[] m_occurrencePositions = new int[16];
+
+        private int m_occurrences = 0;
+
+        void add(final int id, final int position, final boolean trackOccurrences) {
+            if (id >= m_counts.length) {
+                m_counts = Arrays.copyOf(m_counts, Math.max(id + 1, 2 * m_counts.length));
+            }
+            if (m_counts[id]++ == 0) {
+                if (m_size == m_ids.length) {
+                    m_ids = Arrays.copyOf(m_ids, 2 * m_size);
+                }
+                m_ids[m_size++] = id;
+            }
+            if (trackOccurrences) {
+                if (m_occurrences == m_occurrenceIds.length) {
+                    m_occurrenceIds = Arrays.copyOf(m_occurrenceIds, 2 * m_occurrences);
+                    m_occurrencePositions = Arrays.copyOf(m_occurrencePositions, 2 * m_occurrences);
+                }
+                m_occurrenceIds[m_occurrences] = id;
+                m_occurrencePositions[m_occurrences++] = position;
+            }
+        }
+
+        void clear() {
+            for (int i = 0; i < m_size; i++) {
+                m_counts[m_ids[i]] = 0;
+            }
+            m_size = 0;
+            m_occurrences = 0;
+        }
+    }
+
+    /**
+     * Maps terms to corpus wide ids, shared by the counters of all worker threads.
+     */
+    static final class TermDictionary {
+
+        private final boolean m_checkTags;
+
+        private final ConcurrentHashMap<TermContainer, Integer> m_ids = new ConcurrentHashMap<TermContainer, Integer>();
+
+        private final List<Term> m_terms = new ArrayList<Term>();
+
+        /**
+         * @param checkTags {@code true} if terms with different tags are distinguished.
+         */
+        TermDictionary(final boolean checkTags) {
+            m_checkTags = checkTags;
+        }
+
+        int getId(final Term term) {
+            return m_ids.computeIfAbsent(new TermContainer(m_checkTags, term), t -> {
+                synchronized (m_terms) {
+                    m_terms.add(t.getTerm());
+                    return m_terms.size() - 1;
+                }
+            });
+        }
+
+        Term getTerm(final int id) {
+            synchronized (m_terms) {
+                return m_terms.get(id);
+            }
+        }
+    }
+}
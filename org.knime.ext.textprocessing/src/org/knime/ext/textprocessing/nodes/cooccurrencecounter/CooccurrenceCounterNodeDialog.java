@@ -75,6 +75,10 @@ public CooccurrenceCounterNodeDialog() {
         createNewGroup(" Co-occurrence level ");
         addDialogComponent(new DialogComponentButtonGroup(CooccurrenceCounterNodeModel.createCoocLevelModel(),
                                                             null, false, CooccurrenceLevel.values()));
+        addDialogComponent(new DialogComponentNumber(CooccurrenceCounterNodeModel.createWindowSizeModel(),
+                                                        "Window size (0 = unrestricted)", Integer.valueOf(1), 5));
+        addDialogComponent(new DialogComponentBoolean(CooccurrenceCounterNodeModel.createAggregateCorpusModel(),
+                                                        "Aggregate over corpus"));
         createNewGroup(" Advanced settings ");
         setHorizontalPlacement(true);
         addDialogComponent(new DialogComponentBoolean(CooccurrenceCounterNodeModel.createCheckTagsModel(),
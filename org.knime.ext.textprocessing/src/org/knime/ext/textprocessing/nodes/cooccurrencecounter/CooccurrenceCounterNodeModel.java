@@ -47,19 +47,16 @@
 
 import java.io.File;
 import java.io.IOException;
-import java.util.HashMap;
-import java.util.LinkedHashMap;
+import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.Map;
-import java.util.Map.Entry;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.Phaser;
-import java.util.concurrent.Semaphore;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.atomic.AtomicLong;
 
 import org.knime.base.data.sort.SortedTable;
 import org.knime.core.data.DataCell;
@@ -68,9 +65,12 @@
 import org.knime.core.data.DataRow;
 import org.knime.core.data.DataTable;
 import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
 import org.knime.core.data.RowKey;
 import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.DoubleCell;
 import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
 import org.knime.core.data.def.StringCell;
 import org.knime.core.node.BufferedDataContainer;
 import org.knime.core.node.BufferedDataTable;
@@ -86,16 +86,11 @@
 import org.knime.core.node.defaultnodesettings.SettingsModelInteger;
 import org.knime.core.node.defaultnodesettings.SettingsModelIntegerBounded;
 import org.knime.core.node.defaultnodesettings.SettingsModelString;
-import org.knime.core.util.MutableInteger;
 import org.knime.core.util.ThreadPool;
 import org.knime.core.util.ThreadUtils;
 import org.knime.ext.textprocessing.data.Document;
 import org.knime.ext.textprocessing.data.DocumentCell;
 import org.knime.ext.textprocessing.data.DocumentValue;
-import org.knime.ext.textprocessing.data.Paragraph;
-import org.knime.ext.textprocessing.data.Section;
-import org.knime.ext.textprocessing.data.SectionAnnotation;
-import org.knime.ext.textprocessing.data.Sentence;
 import org.knime.ext.textprocessing.data.Term;
 import org.knime.ext.textprocessing.data.TermValue;
 import org.knime.ext.textprocessing.util.ColumnSelectionVerifier;
@@ -124,6 +119,10 @@ public class CooccurrenceCounterNodeModel extends NodeModel {
 
     private final SettingsModelInteger m_procCount = createProcessCountModel();
 
+    private final SettingsModelIntegerBounded m_windowSize = createWindowSizeModel();
+
+    private final SettingsModelBoolean m_aggregate = createAggregateCorpusModel();
+
     private TextContainerDataCellFactory m_termFac = TextContainerDataCellFactoryBuilder.createTermCellFactory();
 
     /**
@@ -163,6 +162,20 @@ static SettingsModelInteger createProcessCountModel() {
             Integer.MAX_VALUE);
     }
 
+    /**
+     * @return the window size model, 0 if the distance of co-occurring terms is not restricted
+     */
+    static SettingsModelIntegerBounded createWindowSizeModel() {
+        return new SettingsModelIntegerBounded("windowSize", 0, 0, Integer.MAX_VALUE);
+    }
+
+    /**
+     * @return the aggregate corpus model
+     */
+    static SettingsModelBoolean createAggregateCorpusModel() {
+        return new SettingsModelBoolean("aggregateCorpus", false);
+    }
+
     /**
      * @return the sort input table model
      */
@@ -231,15 +244,25 @@ protected BufferedDataTable[] execute(final BufferedDataTable[] inData, final Ex
         final BufferedDataContainer dc = exec.createDataContainer(createResultSpec(spec));
         DataCell previousDocCell = null;
         final boolean checkTags = m_checkTags.getBooleanValue();
-        final boolean skipMetaInfo = m_skipMetaInfo.getBooleanValue();
+        final boolean aggregate = m_aggregate.getBooleanValue();
         TermChecker terms = new TermChecker(checkTags);
         int docRowCounter = 0;
         int totalRowCounter = 0;
         final AtomicInteger rowId = new AtomicInteger();
         final AtomicInteger progressCounter = new AtomicInteger();
         exec.setMessage("Processing documents...");
-        //The semaphore restricts the number of concurrent processes
-        final Semaphore semaphore = new Semaphore(m_procCount.getIntValue());
+        //The counters restrict the number of concurrent processes, each process takes one from the queue
+        final CooccurrenceCounter.TermDictionary dictionary =
+            aggregate ? new CooccurrenceCounter.TermDictionary(checkTags) : null;
+        final List<CooccurrenceCounter> allCounters = new ArrayList<CooccurrenceCounter>();
+        final BlockingQueue<CooccurrenceCounter> counters =
+            new ArrayBlockingQueue<CooccurrenceCounter>(m_procCount.getIntValue());
+        for (int i = 0; i < m_procCount.getIntValue(); i++) {
+            final CooccurrenceCounter counter = new CooccurrenceCounter(getCooccurrenceLevel(), checkTags,
+                m_skipMetaInfo.getBooleanValue(), m_windowSize.getIntValue(), dictionary);
+            allCounters.add(counter);
+            counters.add(counter);
+        }
         final ThreadPool pool = ThreadPool.currentPool(); // non-null in ordinary execution, null when streaming
         final Executor executor = pool != null ? pool::enqueue
             : f -> ForkJoinPool.commonPool().execute(ThreadUtils.runnableWithContext(f));
@@ -269,8 +292,8 @@ protected BufferedDataTable[] execute(final BufferedDataTable[] inData, final Ex
                 terms.addTerm(term);
             } else {
                 phaser.register();
-                executor.execute(processDocument(myExec, rowCount, progressCounter, docRowCounter,
-                        semaphore, rowId, dc, previousDocCell, terms, skipMetaInfo, checkTags, phaser));
+                executor.execute(processDocument(myExec, rowCount, progressCounter, docRowCounter, counters, rowId,
+                    aggregate ? null : dc, previousDocCell, terms, phaser));
                 previousDocCell = docCell;
                 terms = new TermChecker(checkTags);
                 terms.addTerm(term);
@@ -279,228 +302,85 @@ protected BufferedDataTable[] execute(final BufferedDataTable[] inData, final Ex
         }
         //process the last document
         exec.setMessage("Processing documents...");
-        phaser.register();
-        executor.execute(processDocument(myExec, rowCount, progressCounter, docRowCounter,
-            semaphore, rowId, dc, previousDocCell, terms, skipMetaInfo, checkTags, phaser));
+        if (previousDocCell != null) {
+            phaser.register();
+            executor.execute(processDocument(myExec, rowCount, progressCounter, docRowCounter, counters, rowId,
+                aggregate ? null : dc, previousDocCell, terms, phaser));
+        }
 
         if (pool != null) {
             pool.runInvisible(Executors.callable(phaser::arriveAndAwaitAdvance, null));
         } else {
             phaser.arriveAndAwaitAdvance();
         }
+        if (aggregate) {
+            exec.checkCanceled();
+            exec.setMessage("Creating corpus co-occurrence table...");
+            final CooccurrenceCounter corpusCounter = allCounters.get(0);
+            for (int i = 1; i < allCounters.size(); i++) {
+                corpusCounter.merge(allCounters.get(i));
+            }
+            createCorpusRows(exec, dc, corpusCounter);
+        }
         dc.close();
         return new BufferedDataTable[]{dc.getTable()};
     }
 
     private Runnable processDocument(final ExecutionMonitor exec, final long totalRowCount,
-        final AtomicInteger progressCounter, final int docRowCounter, final Semaphore semaphore,
-        final AtomicInteger rowId, final BufferedDataContainer dc, final DataCell docCell, final TermChecker terms,
-        final boolean skipMetaInformation, final boolean checkTags, final Phaser phaser)
+        final AtomicInteger progressCounter, final int docRowCounter,
+        final BlockingQueue<CooccurrenceCounter> counters, final AtomicInteger rowId,
+        final BufferedDataContainer dc, final DataCell docCell, final TermChecker terms, final Phaser phaser)
         throws CanceledExecutionException {
         exec.checkCanceled();
         return new Runnable() {
             @Override
             public void run() {
+                CooccurrenceCounter counter = null;
                 try {
-                    semaphore.acquire();
+                    counter = counters.take();
                     final Document doc = ((DocumentValue)docCell).getDocument();
-                    final HashMap<TermTuple, TermTuple> tuples = new LinkedHashMap<TermTuple, TermTuple>();
-                    final List<Section> sections = doc.getSections();
-                    final Map<TermContainer, MutableInteger> documentTerms =
-                        new LinkedHashMap<TermContainer, MutableInteger>();
-                    final Map<TermContainer, MutableInteger> titleTerms =
-                        new LinkedHashMap<TermContainer, MutableInteger>();
-                    final Map<TermContainer, MutableInteger> sectionTerms =
-                        new LinkedHashMap<TermContainer, MutableInteger>();
-                    final Map<TermContainer, MutableInteger> paragraphTerms =
-                        new LinkedHashMap<TermContainer, MutableInteger>();
-                    final Map<TermContainer, MutableInteger> sentenceTerms =
-                        new LinkedHashMap<TermContainer, MutableInteger>();
-                    for (final Section section : sections) {
-                        final SectionAnnotation annotation = section.getAnnotation();
-                        final boolean title = SectionAnnotation.TITLE.equals(annotation)
-                            || SectionAnnotation.CONFERENCE_TITLE.equals(annotation)
-                            || SectionAnnotation.JOURNAL_TITLE.equals(annotation);
-                        if (skipMetaInformation && SectionAnnotation.META_INFORMATION.equals(annotation)) {
-                            //this is a meta information section that should be skipped -> continue
-                            continue;
-                        }
-                        final List<Paragraph> paragraphs = section.getParagraphs();
-                        for (final Paragraph paragraph : paragraphs) {
-                            final List<Sentence> sentences = paragraph.getSentences();
-                            TermContainer previousTermContainer = null;
-                            for (final Sentence sentence : sentences) {
-                                exec.checkCanceled();
-                                final List<Term> termList = sentence.getTerms();
-                                for (final Term term : termList) {
-                                    if (terms.containsTerm(term)) {
-                                        final TermContainer termContainer = new TermContainer(checkTags, term);
-                                        if (inclDoc()) {
-                                            addTerm(documentTerms, termContainer);
-                                        }
-                                        if (inclSection()) {
-                                            addTerm(sectionTerms, termContainer);
-                                        }
-                                        if (inclParagraph()) {
-                                            addTerm(paragraphTerms, termContainer);
-                                        }
-                                        if (inclSentence()) {
-                                            addTerm(sentenceTerms, termContainer);
-                                        }
-                                        //tread the title section extra
-                                        if (title && inclTitle()) {
-                                            addTerm(titleTerms, termContainer);
-                                        }
-                                        if (inclNeighbors()) {
-                                            if (previousTermContainer != null) {
-                                                //the two terms are neighbors
-                                                processNeighbors(tuples, previousTermContainer, termContainer);
-                                            }
-                                            previousTermContainer = termContainer;
-                                        }
-                                    } else {
-                                        previousTermContainer = null;
-                                    }
-                                }
-                                //process all terms that co-occur in this sentence
-                                processTerms(tuples, sentenceTerms, CooccurrenceLevel.SENTENCE);
-                                //count neighbors only within a sentence
-                                previousTermContainer = null;
-                            }
-                            //process all terms that co-occur in this paragraph
-                            processTerms(tuples, paragraphTerms, CooccurrenceLevel.PARAGRAPH);
-                        }
-                        if (title) {
-                            //process all terms that co-occur in the title of this document
-                            processTerms(tuples, titleTerms, CooccurrenceLevel.TITLE);
-                        }
-                        //process all terms that co-occur in this section
-                        processTerms(tuples, sectionTerms, CooccurrenceLevel.SECTION);
+                    counter.count(doc, terms, exec);
+                    if (dc != null) {
+                        //create a data row for each term pair
+                        createRows(exec, rowId, dc, docCell, counter);
                     }
-                    //process all terms that co-occur in this document
-                    processTerms(tuples, documentTerms, CooccurrenceLevel.DOCUMENT);
-                    //create a data row for each tuple
-                    createRows(exec, rowId, dc, docCell, tuples);
                     exec.setProgress(progressCounter.addAndGet(docRowCounter) / (double)totalRowCount);
                 } catch (final CanceledExecutionException e) {
                     // this exception is handled outside of the thread
                 } catch (final InterruptedException e) {
                     throw new IllegalStateException(e);
                 } finally {
-                    semaphore.release();
+                    if (counter != null) {
+                        counters.add(counter);
+                    }
                     phaser.arriveAndDeregister();
                 }
             }
         };
     }
 
-    /**
-     * @param containerMap the term container and their occurrence counter
-     * @param termContainer the term to add to the map
-     */
-    void addTerm(final Map<TermContainer, MutableInteger> containerMap, final TermContainer termContainer) {
-        MutableInteger counter = containerMap.get(termContainer);
-        if (counter == null) {
-            counter = new MutableInteger(0);
-            containerMap.put(termContainer, counter);
-        }
-        counter.inc();
-    }
-
-    /**
-     * @param tuples {@link Map} that holds all {@link TermTuple}s
-     * @param terms the terms to add to the tuple map
-     * @param occurrence the type of occurrence
-     */
-    void processTerms(final Map<TermTuple, TermTuple> tuples, final Map<TermContainer, MutableInteger> terms,
-        final CooccurrenceLevel occurrence) {
-        if (terms.size() < 2) {
-            //the map might contain one element which we need to remove as well
-            terms.clear();
-            return;
-        }
-        for (final Entry<TermContainer, MutableInteger> outerTerm : terms.entrySet()) {
-            boolean skip = true;
-            for (final Entry<TermContainer, MutableInteger> innerTerm : terms.entrySet()) {
-                if (skip) {
-                    if (innerTerm.equals(outerTerm)) {
-                        skip = false;
-                    }
-                    continue;
-                }
-                final TermTuple tuple = new TermTuple(outerTerm.getKey(), innerTerm.getKey());
-                TermTuple termTuple = tuples.get(tuple);
-                if (termTuple == null) {
-                    tuples.put(tuple, tuple);
-                    termTuple = tuple;
-                }
-                termTuple.inc(occurrence, outerTerm.getValue().intValue(), innerTerm.getValue().intValue());
-            }
-        }
-        terms.clear();
-    }
-
-    /**
-     * @param tuples the {@link TermTuple}s
-     * @param termContainer1 the first term
-     * @param termContainer2 the second term
-     */
-    void processNeighbors(final Map<TermTuple, TermTuple> tuples, final TermContainer termContainer1,
-        final TermContainer termContainer2) {
-        //ignore terms that are equal
-        if (termContainer1.equals(termContainer2)) {
-            return;
-        }
-        final TermTuple tuple = new TermTuple(termContainer1, termContainer2);
-        TermTuple termTuple = tuples.get(tuple);
-        if (termTuple == null) {
-            tuples.put(tuple, tuple);
-            termTuple = tuple;
-        }
-        termTuple.incNeighbors();
-    }
-
     /**
      * @param exec provide progress and cancellation
      * @param rowId the {@link AtomicInteger} that holds the row id
      * @param dc the data container to use
-     * @param docCell the {@link DocumentCell} that contains the given tuples
-     * @param tuples the tuples that occurred in the given document
+     * @param docCell the {@link DocumentCell} that contains the counted term pairs
+     * @param counter the counter holding the term pairs that occurred in the given document
      * @throws CanceledExecutionException if the operation has been canceled
      */
-    void createRows(final ExecutionMonitor exec, final AtomicLong rowId, final BufferedDataContainer dc,
-        final DataCell docCell, final HashMap<TermTuple, TermTuple> tuples) throws CanceledExecutionException {
+    private void createRows(final ExecutionMonitor exec, final AtomicInteger rowId, final BufferedDataContainer dc,
+        final DataCell docCell, final CooccurrenceCounter counter) throws CanceledExecutionException {
         synchronized (dc) {
             //we synchronize the whole block to ensure that the tuples of a
             //document added consecutively to the table
-            for (final TermTuple tuple : tuples.keySet()) {
+            for (int pair = 0; pair < counter.getNumberOfPairs(); pair++) {
                 exec.checkCanceled();
-                final List<DataCell> cells = new LinkedList<DataCell>();
+                final List<DataCell> cells = new ArrayList<DataCell>();
                 cells.add(docCell);
-                if (m_checkTags.getBooleanValue()) {
-                    cells.add(m_termFac.createDataCell(tuple.getTerm1()));
-                    cells.add(m_termFac.createDataCell(tuple.getTerm2()));
-                } else {
-                    cells.add(new StringCell(tuple.getTerm1().getText()));
-                    cells.add(new StringCell(tuple.getTerm2().getText()));
-                }
-                if (inclDoc()) {
-                    cells.add(new IntCell(tuple.getDocument()));
-                }
-                if (inclSection()) {
-                    cells.add(new IntCell(tuple.getSection()));
-                }
-                if (inclParagraph()) {
-                    cells.add(new IntCell(tuple.getParagraph()));
-                }
-                if (inclSentence()) {
-                    cells.add(new IntCell(tuple.getSentence()));
-                }
-                if (inclNeighbors()) {
-                    cells.add(new IntCell(tuple.getNeighbor()));
-                }
-                if (inclTitle()) {
-                    cells.add(new IntCell(tuple.getTitle()));
+                addTermCells(cells, counter.getTerm1(pair), counter.getTerm2(pair));
+                for (final CooccurrenceLevel level : CooccurrenceLevel.values()) {
+                    if (includes(level)) {
+                        cells.add(new IntCell((int)counter.getCount(pair, level)));
+                    }
                 }
                 final DefaultRow row = new DefaultRow(RowKey.createRowKey(rowId.getAndIncrement()), cells);
                 dc.addRowToTable(row);
@@ -510,59 +390,68 @@ void createRows(final ExecutionMonitor exec, final AtomicLong rowId, final Buffe
 
     /**
      * @param exec provide progress and cancellation
-     * @param rowId the {@link AtomicInteger} that holds the row id
      * @param dc the data container to use
-     * @param docCell the {@link DocumentCell} that contains the given tuples
-     * @param tuples the tuples that occurred in the given document
+     * @param counter the counter holding the merged term pairs of the whole corpus
      * @throws CanceledExecutionException if the operation has been canceled
-     * @deprecated Use
-     *             {@link CooccurrenceCounterNodeModel#createRows(ExecutionMonitor, AtomicLong, BufferedDataContainer, DataCell, HashMap)}
-     *             instead.
      */
-    @Deprecated
-    void createRows(final ExecutionMonitor exec, final AtomicInteger rowId, final BufferedDataContainer dc,
-        final DataCell docCell, final HashMap<TermTuple, TermTuple> tuples) throws CanceledExecutionException {
-        synchronized (dc) {
-            //we synchronize the whole block to ensure that the tuples of a
-            //document added consecutively to the table
-            for (final TermTuple tuple : tuples.keySet()) {
-                exec.checkCanceled();
-                final List<DataCell> cells = new LinkedList<DataCell>();
-                cells.add(docCell);
-                if (m_checkTags.getBooleanValue()) {
-                    cells.add(m_termFac.createDataCell(tuple.getTerm1()));
-                    cells.add(m_termFac.createDataCell(tuple.getTerm2()));
-                } else {
-                    cells.add(new StringCell(tuple.getTerm1().getText()));
-                    cells.add(new StringCell(tuple.getTerm2().getText()));
-                }
-                if (inclDoc()) {
-                    cells.add(new IntCell(tuple.getDocument()));
-                }
-                if (inclSection()) {
-                    cells.add(new IntCell(tuple.getSection()));
-                }
-                if (inclParagraph()) {
-                    cells.add(new IntCell(tuple.getParagraph()));
-                }
-                if (inclSentence()) {
-                    cells.add(new IntCell(tuple.getSentence()));
-                }
-                if (inclNeighbors()) {
-                    cells.add(new IntCell(tuple.getNeighbor()));
-                }
-                if (inclTitle()) {
-                    cells.add(new IntCell(tuple.getTitle()));
+    private void createCorpusRows(final ExecutionMonitor exec, final BufferedDataContainer dc,
+        final CooccurrenceCounter counter) throws CanceledExecutionException {
+        final int[] pairs = counter.getSortedCorpusPairs();
+        final long blockCount = counter.getBlockCount();
+        long rowId = 0;
+        for (int i = 0; i < pairs.length; i++) {
+            final int pair = pairs[i];
+            exec.checkCanceled();
+            exec.setProgress(i / (double)pairs.length);
+            final List<DataCell> cells = new ArrayList<DataCell>();
+            addTermCells(cells, counter.getCorpusTerm1(pair), counter.getCorpusTerm2(pair));
+            long total = 0;
+            for (final CooccurrenceLevel level : CooccurrenceLevel.values()) {
+                if (includes(level)) {
+                    final long count = counter.getCorpusCount(pair, level);
+                    cells.add(new LongCell(count));
+                    total += count;
                 }
-                final DefaultRow row = new DefaultRow(RowKey.createRowKey(rowId.getAndIncrement()), cells);
-                dc.addRowToTable(row);
             }
+            if (total == 0) {
+                //the pair only co-occurs in the blocks used for the scores but not on the selected levels
+                continue;
+            }
+            final long freq1 = counter.getTerm1Frequency(pair);
+            final long freq2 = counter.getTerm2Frequency(pair);
+            final long joint = counter.getJointFrequency(pair);
+            cells.add(new LongCell(freq1));
+            cells.add(new LongCell(freq2));
+            cells.add(new LongCell(joint));
+            if (joint > 0) {
+                cells.add(new DoubleCell(CooccurrenceCounter.pmi(joint, freq1, freq2, blockCount)));
+                cells.add(new DoubleCell(CooccurrenceCounter.npmi(joint, freq1, freq2, blockCount)));
+                cells.add(new DoubleCell(CooccurrenceCounter.logLikelihood(joint, freq1, freq2, blockCount)));
+            } else {
+                cells.add(DataType.getMissingCell());
+                cells.add(DataType.getMissingCell());
+                cells.add(DataType.getMissingCell());
+            }
+            dc.addRowToTable(new DefaultRow(RowKey.createRowKey(rowId++), cells));
+        }
+    }
+
+    private void addTermCells(final List<DataCell> cells, final Term term1, final Term term2) {
+        if (m_checkTags.getBooleanValue()) {
+            cells.add(m_termFac.createDataCell(term1));
+            cells.add(m_termFac.createDataCell(term2));
+        } else {
+            cells.add(new StringCell(term1.getText()));
+            cells.add(new StringCell(term2.getText()));
         }
     }
 
     private DataTableSpec createResultSpec(final DataTableSpec spec) {
+        final boolean aggregate = m_aggregate.getBooleanValue();
         final List<DataColumnSpec> specs = new LinkedList<DataColumnSpec>();
-        specs.add(spec.getColumnSpec(m_docCol.getStringValue()));
+        if (!aggregate) {
+            specs.add(spec.getColumnSpec(m_docCol.getStringValue()));
+        }
         final DataColumnSpecCreator creator;
         if (m_checkTags.getBooleanValue()) {
             creator = new DataColumnSpecCreator(spec.getColumnSpec(m_termCol.getStringValue()));
@@ -573,7 +462,7 @@ private DataTableSpec createResultSpec(final DataTableSpec spec) {
         specs.add(creator.createSpec());
         creator.setName("Term2");
         specs.add(creator.createSpec());
-        creator.setType(IntCell.TYPE);
+        creator.setType(aggregate ? LongCell.TYPE : IntCell.TYPE);
         if (inclDoc()) {
             creator.setName("Document cooccurrence");
             specs.add(creator.createSpec());
@@ -598,6 +487,21 @@ private DataTableSpec createResultSpec(final DataTableSpec spec) {
             creator.setName("Title cooccurrence");
             specs.add(creator.createSpec());
         }
+        if (aggregate) {
+            creator.setName("Term1 frequency");
+            specs.add(creator.createSpec());
+            creator.setName("Term2 frequency");
+            specs.add(creator.createSpec());
+            creator.setName("Joint frequency");
+            specs.add(creator.createSpec());
+            creator.setType(DoubleCell.TYPE);
+            creator.setName("PMI");
+            specs.add(creator.createSpec());
+            creator.setName("NPMI");
+            specs.add(creator.createSpec());
+            creator.setName("Log-likelihood");
+            specs.add(creator.createSpec());
+        }
         return new DataTableSpec(specs.toArray(new DataColumnSpec[0]));
     }
 
@@ -648,8 +552,11 @@ boolean inclNeighbors() {
      * @return <code>true</code> if the user selected {@link CooccurrenceLevel} includes the given level
      */
     private boolean includes(final CooccurrenceLevel level) {
-        final CooccurrenceLevel selectedLevel = CooccurrenceLevel.getCooccurrenceLevel(m_coocLevel.getStringValue());
-        return level.getLevel() <= selectedLevel.getLevel();
+        return level.getLevel() <= getCooccurrenceLevel().getLevel();
+    }
+
+    private CooccurrenceLevel getCooccurrenceLevel() {
+        return CooccurrenceLevel.getCooccurrenceLevel(m_coocLevel.getStringValue());
     }
 
     /**
@@ -664,6 +571,8 @@ protected void saveSettingsTo(final NodeSettingsWO settings) {
         m_checkTags.saveSettingsTo(settings);
         m_coocLevel.saveSettingsTo(settings);
         m_skipMetaInfo.saveSettingsTo(settings);
+        m_windowSize.saveSettingsTo(settings);
+        m_aggregate.saveSettingsTo(settings);
     }
 
     /**
@@ -696,6 +605,14 @@ protected void loadValidatedSettingsFrom(final NodeSettingsRO settings) throws I
             //new introduced in KNIME 2.8
             m_skipMetaInfo.setBooleanValue(false);
         }
+        try {
+            m_windowSize.loadSettingsFrom(settings);
+            m_aggregate.loadSettingsFrom(settings);
+        } catch (Exception e) {
+            //new introduced in KNIME 5.12
+            m_windowSize.setIntValue(0);
+            m_aggregate.setBooleanValue(false);
+        }
     }
 
     /**
@@ -0,0 +1,244 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.ext.textprocessing.nodes.cooccurrencecounter;
+
+import java.util.Arrays;
+
+/**
+ * An open addressing hash map from term pairs, encoded as long keys of two int term ids, to a fixed number of long
+ * counts. The map keeps the oriented term ids of each pair, i.e. the order of the terms as they are written to the
+ * output, and its entries in insertion order. All data is kept in primitive arrays, entries are addressed by their
+ * insertion index. Instances are not thread safe.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 5.12
+ */
+final class PairCountMap {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final int m_columns;
+
+    /** The hash table, containing entry index + 1 or 0 for empty slots. */
+    private int[] m_table;
+
+    private int m_size;
+
+    private long[] m_keys;
+
+    private int[] m_terms1;
+
+    private int[] m_terms2;
+
+    private long[] m_counts;
+
+    /**
+     * Creates a new empty map.
+     *
+     * @param columns the number of counts per pair.
+     */
+    PairCountMap(final int columns) {
+        m_columns = columns;
+        m_table = new int[2 * INITIAL_CAPACITY];
+        m_keys = new long[INITIAL_CAPACITY];
+        m_terms1 = new int[INITIAL_CAPACITY];
+        m_terms2 = new int[INITIAL_CAPACITY];
+        m_counts = new long[INITIAL_CAPACITY * columns];
+    }
+
+    /**
+     * Creates the key of an unordered pair of term ids.
+     *
+     * @param term1 the first term id.
+     * @param term2 the second term id.
+     * @return the key, equal for both orders of the terms.
+     */
+    static long key(final int term1, final int term2) {
+        final int min = Math.min(term1, term2);
+        final int max = Math.max(term1, term2);
+        return ((long)min << 32) | (max & 0xFFFFFFFFL);
+    }
+
+    /**
+     * @return the number of pairs.
+     */
+    int size() {
+        return m_size;
+    }
+
+    /**
+     * Removes all entries, keeping the allocated arrays.
+     */
+    void clear() {
+        if (m_size > 0) {
+            Arrays.fill(m_table, 0);
+            Arrays.fill(m_counts, 0, m_size * m_columns, 0);
+            m_size = 0;
+        }
+    }
+
+    /**
+     * @param key the pair key.
+     * @return the entry index of the pair or -1 if the pair is not contained.
+     */
+    int find(final long key) {
+        final int mask = m_table.length - 1;
+        int slot = slot(key, mask);
+        while (m_table[slot] != 0) {
+            final int e = m_table[slot] - 1;
+            if (m_keys[e] == key) {
+                return e;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Adds a pair that is not contained yet, with all counts set to zero.
+     *
+     * @param key the pair key, see {@link #key(int, int)}.
+     * @param term1 the id of the first term in output order.
+     * @param term2 the id of the second term in output order.
+     * @return the entry index of the new pair.
+     */
+    int addPair(final long key, final int term1, final int term2) {
+        final int e = m_size++;
+        if (m_size > m_keys.length) {
+            final int newLength = 2 * m_keys.length;
+            m_keys = Arrays.copyOf(m_keys, newLength);
+            m_terms1 = Arrays.copyOf(m_terms1, newLength);
+            m_terms2 = Arrays.copyOf(m_terms2, newLength);
+            m_counts = Arrays.copyOf(m_counts, newLength * m_columns);
+        }
+        m_keys[e] = key;
+        m_terms1[e] = term1;
+        m_terms2[e] = term2;
+
+        final int mask = m_table.length - 1;
+        int slot = slot(key, mask);
+        while (m_table[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        m_table[slot] = e + 1;
+        if (2 * m_size > m_table.length) {
+            rehash();
+        }
+        return e;
+    }
+
+    private void rehash() {
+        m_table = new int[2 * m_table.length];
+        final int mask = m_table.length - 1;
+        for (int e = 0; e < m_size; e++) {
+            int slot = slot(m_keys[e], mask);
+            while (m_table[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            m_table[slot] = e + 1;
+        }
+    }
+
+    private static int slot(final long key, final int mask) {
+        long h = key * 0x9e3779b97f4a7c15L;
+        h ^= h >>> 32;
+        return (int)h & mask;
+    }
+
+    /**
+     * @param e the entry index.
+     * @return the id of the first term of the pair in output order.
+     */
+    int getTerm1(final int e) {
+        return m_terms1[e];
+    }
+
+    /**
+     * @param e the entry index.
+     * @return the id of the second term of the pair in output order.
+     */
+    int getTerm2(final int e) {
+        return m_terms2[e];
+    }
+
+    /**
+     * @param e the entry index.
+     * @return the key of the pair.
+     */
+    long getKey(final int e) {
+        return m_keys[e];
+    }
+
+    /**
+     * @param e the entry index.
+     * @param column the count column.
+     * @return the count.
+     */
+    long get(final int e, final int column) {
+        return m_counts[e * m_columns + column];
+    }
+
+    /**
+     * @param e the entry index.
+     * @param column the count column.
+     * @param value the value to add to the count.
+     */
+    void add(final int e, final int column, final long value) {
+        m_counts[e * m_columns + column] += value;
+    }
+
+    /**
+     * @param e the entry index.
+     * @param column the count column.
+     * @param value the value to set.
+     */
+    void set(final int e, final int column, final long value) {
+        m_counts[e * m_columns + column] = value;
+    }
+}
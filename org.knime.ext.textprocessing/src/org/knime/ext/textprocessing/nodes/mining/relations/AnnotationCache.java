@@ -0,0 +1,273 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.ext.textprocessing.nodes.mining.relations;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.node.NodeLogger;
+
+import edu.stanford.nlp.ling.CoreAnnotations;
+import edu.stanford.nlp.ling.CoreLabel;
+import edu.stanford.nlp.pipeline.Annotation;
+import edu.stanford.nlp.util.CoreMap;
+
+/**
+ * A persistent cache of parsed CoreNLP {@link Annotation Annotations}. Entries are stored as compressed, serialized
+ * files in a cache directory located in the KNIME temp directory. The file of an entry is named by the UUID of the
+ * document and a digest computed from the signature of the parsing pipeline and the tokens, tags and lemmas of the
+ * converted document. Hence a cached annotation is only used if the same document content has been parsed by a
+ * pipeline with the same configuration, e.g. in a previous execution of the same or another extractor node. If the
+ * cache directory exceeds its maximum size, the least recently used entries are removed.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 5.12
+ */
+public final class AnnotationCache {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(AnnotationCache.class);
+
+    /** The name of the cache directory within the KNIME temp directory. */
+    private static final String CACHE_DIR_NAME = "textprocessing_corenlp_annotations";
+
+    /** The file extension of cache entries. */
+    private static final String FILE_EXTENSION = ".ser.gz";
+
+    /**
+     * Only CoreNLP and JDK classes are deserialized from cache entries, since the cache directory is shared and might
+     * contain files not written by this class.
+     */
+    private static final ObjectInputFilter ANNOTATION_FILTER =
+        ObjectInputFilter.Config.createFilter("edu.stanford.nlp.**;java.**;!*");
+
+    /** The default maximum size of the cache directory in bytes (2 GB). */
+    private static final long DEF_MAX_CACHE_SIZE = 2L * 1024 * 1024 * 1024;
+
+    private final File m_cacheDir;
+
+    private final String m_pipelineSignature;
+
+    private final long m_maxCacheSize;
+
+    /**
+     * Creates a new instance of {@code AnnotationCache} located in the KNIME temp directory.
+     *
+     * @param pipelineSignature A string uniquely identifying the configuration of the parsing pipeline.
+     */
+    AnnotationCache(final String pipelineSignature) {
+        this(new File(KNIMEConstants.getKNIMETempDir(), CACHE_DIR_NAME), pipelineSignature, DEF_MAX_CACHE_SIZE);
+    }
+
+    /**
+     * Creates a new instance of {@code AnnotationCache}.
+     *
+     * @param cacheDir The directory to store the cache entries in.
+     * @param pipelineSignature A string uniquely identifying the configuration of the parsing pipeline.
+     * @param maxCacheSize The maximum size of the cache directory in bytes.
+     */
+    AnnotationCache(final File cacheDir, final String pipelineSignature, final long maxCacheSize) {
+        m_cacheDir = cacheDir;
+        m_pipelineSignature = pipelineSignature;
+        m_maxCacheSize = maxCacheSize;
+    }
+
+    /**
+     * Creates the key of the given document and its converted (unparsed) annotation.
+     *
+     * @param docUuid The UUID of the document.
+     * @param annotation The converted, but not yet parsed annotation of the document.
+     * @return The key identifying the cache entry.
+     */
+    String createKey(final UUID docUuid, final Annotation annotation) {
+        final MessageDigest digest = createDigest();
+        update(digest, m_pipelineSignature);
+        for (final CoreMap sentence : annotation.get(CoreAnnotations.SentencesAnnotation.class)) {
+            for (final CoreLabel label : sentence.get(CoreAnnotations.TokensAnnotation.class)) {
+                update(digest, label.word());
+                update(digest, label.after());
+                update(digest, label.tag());
+                update(digest, label.ner());
+                update(digest, label.lemma());
+            }
+            // sentence separator
+            digest.update((byte)0);
+        }
+        final StringBuilder sb = new StringBuilder(docUuid.toString()).append('-');
+        for (final byte b : digest.digest()) {
+            sb.append(String.format("%02x", b));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Returns the cached annotation for the given key, or {@code null} if the key is not cached or the entry could not
+     * be read.
+     *
+     * @param key The key created by {@link #createKey(UUID, Annotation)}.
+     * @return The cached annotation or {@code null}.
+     */
+    Annotation get(final String key) {
+        final File file = getFile(key);
+        if (!file.isFile()) {
+            return null;
+        }
+        try (final ObjectInputStream in =
+            new ObjectInputStream(new GZIPInputStream(new BufferedInputStream(Files.newInputStream(file.toPath()))))) {
+            in.setObjectInputFilter(ANNOTATION_FILTER);
+            final Annotation annotation = (Annotation)in.readObject();
+            // mark entry as recently used
+            file.setLastModified(System.currentTimeMillis());
+            return annotation;
+        } catch (final IOException | ClassNotFoundException | ClassCastException e) {
+            LOGGER.debug("Could not read cached annotation '" + file + "', removing entry.", e);
+            deleteQuietly(file);
+            return null;
+        }
+    }
+
+    /**
+     * Stores the given parsed annotation under the given key. Annotations that can not be serialized are not cached.
+     *
+     * @param key The key created by {@link #createKey(UUID, Annotation)}.
+     * @param annotation The parsed annotation to cache.
+     */
+    void put(final String key, final Annotation annotation) {
+        if (!m_cacheDir.isDirectory() && !m_cacheDir.mkdirs()) {
+            LOGGER.debug("Could not create annotation cache directory '" + m_cacheDir + "'.");
+            return;
+        }
+        final File file = getFile(key);
+        File tmpFile = null;
+        try {
+            // write to temp file first, so that concurrent readers never see partially written entries
+            tmpFile = File.createTempFile(key, ".tmp", m_cacheDir);
+            try (final ObjectOutputStream out = new ObjectOutputStream(
+                new GZIPOutputStream(new BufferedOutputStream(Files.newOutputStream(tmpFile.toPath()))))) {
+                out.writeObject(annotation);
+            }
+            Files.move(tmpFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+        } catch (final IOException e) {
+            LOGGER.debug("Could not cache annotation with key '" + key + "'.", e);
+            if (tmpFile != null) {
+                deleteQuietly(tmpFile);
+            }
+        }
+    }
+
+    /**
+     * Removes the least recently used entries if the size of the cache directory exceeds the maximum cache size.
+     */
+    void prune() {
+        final File[] files = m_cacheDir.listFiles((dir, name) -> name.endsWith(FILE_EXTENSION));
+        if (files == null) {
+            return;
+        }
+        long size = Arrays.stream(files).mapToLong(File::length).sum();
+        if (size <= m_maxCacheSize) {
+            return;
+        }
+        final List<File> lru = Arrays.asList(files);
+        lru.sort(Comparator.comparingLong(File::lastModified));
+        for (final File file : lru) {
+            if (size <= m_maxCacheSize) {
+                break;
+            }
+            size -= file.length();
+            deleteQuietly(file);
+        }
+        LOGGER.debug("Pruned annotation cache to " + size + " bytes.");
+    }
+
+    private File getFile(final String key) {
+        return new File(m_cacheDir, key + FILE_EXTENSION);
+    }
+
+    private static void deleteQuietly(final File file) {
+        try {
+            Files.deleteIfExists(file.toPath());
+        } catch (final IOException e) {
+            LOGGER.debug("Could not delete file '" + file + "'.", e);
+        }
+    }
+
+    private static void update(final MessageDigest digest, final String value) {
+        if (value != null) {
+            digest.update(value.getBytes(StandardCharsets.UTF_8));
+        }
+        // field separator
+        digest.update((byte)1);
+    }
+
+    private static MessageDigest createDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (final NoSuchAlgorithmException e) {
+            // every Java platform is required to support SHA-256
+            throw new IllegalStateException("SHA-256 is not available.", e);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.ext.textprocessing.nodes.mining.relations;
+
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+
+import org.knime.core.data.util.memory.MemoryAlert;
+import org.knime.core.data.util.memory.MemoryAlertListener;
+import org.knime.core.data.util.memory.MemoryAlertSystem;
+import org.knime.core.node.NodeLogger;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import edu.stanford.nlp.pipeline.StanfordCoreNLP;
+
+/**
+ * Keeps {@link StanfordCoreNLP} pipelines and their annotators alive across node executions, so that models (e.g. the
+ * parser models) are only loaded once per configuration. Pipelines and the CoreNLP annotator pool are released if
+ * memory gets low.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class AnnotationPipelines {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(AnnotationPipelines.class);
+
+    /** Pipelines keyed by their signature (sorted properties). */
+    private static final Cache<String, StanfordCoreNLP> PIPELINES = CacheBuilder.newBuilder()//
+        .softValues()//
+        .build();
+
+    /** To check memory usage and react on low memory. */
+    private static final MemoryAlertListener MEMORY_ALERT_LISTENER = new MemoryAlertListener() {
+        @Override
+        protected boolean memoryAlert(final MemoryAlert alert) {
+            LOGGER.debug("Low memory encountered in Textprocessing, releasing " + PIPELINES.size()
+                + " CoreNLP pipeline(s).");
+            clear();
+            return false;
+        }
+    };
+
+    static {
+        MemoryAlertSystem.getInstance().addListener(MEMORY_ALERT_LISTENER);
+    }
+
+    private AnnotationPipelines() {
+        // utility class
+    }
+
+    /**
+     * Returns a string uniquely identifying the pipeline configuration specified by the given properties.
+     *
+     * @param props The pipeline properties.
+     * @return The signature of the pipeline.
+     */
+    static String getSignature(final Properties props) {
+        final TreeMap<String, String> sorted = new TreeMap<>();
+        props.stringPropertyNames().forEach(key -> sorted.put(key, props.getProperty(key)));
+        return sorted.toString();
+    }
+
+    /**
+     * Returns the shared pipeline for the given properties. The pipeline is created on first access only. Requirements
+     * of annotators are not enforced, since pipelines might continue the annotation of already (partly) annotated
+     * documents.
+     *
+     * @param props The pipeline properties.
+     * @return The shared pipeline.
+     */
+    static StanfordCoreNLP getPipeline(final Properties props) {
+        try {
+            return PIPELINES.get(getSignature(props), () -> new StanfordCoreNLP(props, false));
+        } catch (final ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException)cause;
+            }
+            throw new IllegalStateException("Could not create CoreNLP pipeline: " + cause.getMessage(), cause);
+        }
+    }
+
+    /**
+     * Releases all pipelines and the annotators kept in CoreNLP's annotator pool.
+     */
+    static void clear() {
+        PIPELINES.invalidateAll();
+        StanfordCoreNLP.clearAnnotatorPool();
+    }
+}
@@ -84,9 +84,19 @@ public abstract class MultiThreadRelationExtractor extends MultiThreadWorker<Dat
     private final BufferedDataContainer m_dataContainer;
 
     /**
-     * The {@link StanfordCoreNLP} to process the documents.
+     * The {@link StanfordCoreNLP} to tag and parse the documents.
      */
-    private final StanfordCoreNLP m_annotationPipeline;
+    private final StanfordCoreNLP m_parsingPipeline;
+
+    /**
+     * The {@link StanfordCoreNLP} to extract relations from parsed documents.
+     */
+    private final StanfordCoreNLP m_extractionPipeline;
+
+    /**
+     * The cache of parsed annotations, might be {@code null}.
+     */
+    private final AnnotationCache m_annotationCache;
 
     /**
      * The document column index.
@@ -129,7 +139,9 @@ public abstract class MultiThreadRelationExtractor extends MultiThreadWorker<Dat
      * @param container The {@link BufferedDataContainer} used to create a data table.
      * @param docColIdx The document column index.
      * @param lemmaDocColIdx The lemmatized document column index.
-     * @param annotationPipeline The {@link StanfordCoreNLP}.
+     * @param parsingPipeline The {@link StanfordCoreNLP} used to tag and parse documents.
+     * @param extractionPipeline The {@link StanfordCoreNLP} used to extract relations from parsed documents.
+     * @param annotationCache The cache of parsed annotations, or {@code null} if parsed annotations are not cached.
      * @param maxQueueSize Maximum queue size of finished jobs (finished computations might be cached in order to ensure
      *            the proper output ordering). If this queue is full (because the next-to-be-processed computation is
      *            still ongoing), no further tasks are submitted.
@@ -138,13 +150,16 @@ public abstract class MultiThreadRelationExtractor extends MultiThreadWorker<Dat
      * @param exec ExecutionContext
      */
     protected MultiThreadRelationExtractor(final BufferedDataContainer container, final int docColIdx,
-        final int lemmaDocColIdx, final StanfordCoreNLP annotationPipeline, final int maxQueueSize,
-        final int maxActiveInstanceSize, final ExecutionContext exec) {
+        final int lemmaDocColIdx, final StanfordCoreNLP parsingPipeline, final StanfordCoreNLP extractionPipeline,
+        final AnnotationCache annotationCache, final int maxQueueSize, final int maxActiveInstanceSize,
+        final ExecutionContext exec) {
         super(maxQueueSize, maxQueueSize > maxActiveInstanceSize ? maxActiveInstanceSize : maxQueueSize);
         m_dataContainer = container;
         m_docColIdx = docColIdx;
         m_lemmaDocColIdx = lemmaDocColIdx;
-        m_annotationPipeline = annotationPipeline;
+        m_parsingPipeline = parsingPipeline;
+        m_extractionPipeline = extractionPipeline;
+        m_annotationCache = annotationCache;
         m_exec = exec;
         m_maxQueueSize = maxQueueSize;
     }
@@ -165,8 +180,9 @@ protected List<ExtractionResult> compute(final DataRow in, final long index) thr
             m_posTagsAvailable = !m_posTagsAvailable ? converter.posTagsAvailable() : m_posTagsAvailable;
             m_neTagsAvailable = !m_neTagsAvailable ? converter.neTagsAvailable() : m_neTagsAvailable;
             try {
-                m_annotationPipeline.annotate(annotation);
-                extractionResults = extractRelations(annotation);
+                final Annotation parsedAnnotation = parse(doc, annotation);
+                m_extractionPipeline.annotate(parsedAnnotation);
+                extractionResults = extractRelations(parsedAnnotation);
             } catch (final AssertionError | NullPointerException e) {
                 extractionResults = Arrays.asList(ExtractionResult.getEmptyResult("Extraction failed."));
             }
@@ -180,6 +196,29 @@ protected List<ExtractionResult> compute(final DataRow in, final long index) thr
         return extractionResults;
     }
 
+    /**
+     * Tags and parses the given annotation, or returns the cached parsed annotation if the document has been parsed
+     * with the same pipeline configuration before.
+     *
+     * @param doc The document the annotation has been created from.
+     * @param annotation The converted annotation.
+     * @return The parsed annotation.
+     */
+    private Annotation parse(final Document doc, final Annotation annotation) {
+        if (m_annotationCache == null) {
+            m_parsingPipeline.annotate(annotation);
+            return annotation;
+        }
+        final String key = m_annotationCache.createKey(doc.getUUID(), annotation);
+        final Annotation cached = m_annotationCache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        m_parsingPipeline.annotate(annotation);
+        m_annotationCache.put(key, annotation);
+        return annotation;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -206,7 +245,6 @@ protected void processFinished(final MultiThreadWorker<DataRow, List<ExtractionR
      */
     BufferedDataTable createDataTable(final ExecutionContext exec) {
         m_dataContainer.close();
-        StanfordCoreNLP.clearAnnotatorPool();
         return m_dataContainer.getTable();
     }
 
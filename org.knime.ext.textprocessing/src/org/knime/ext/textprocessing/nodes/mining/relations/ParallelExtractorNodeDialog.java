@@ -114,6 +114,12 @@ public ParallelExtractorNodeDialog() {
         addDialogComponent(
             new DialogComponentNumber(ParallelExtractorNodeModel.getNumberOfThreadsModel(), "Number of threads", 1));
 
+        final DialogComponentBoolean cacheParsedDocsComp = new DialogComponentBoolean(
+            ParallelExtractorNodeModel.getCacheParsedDocumentsModel(), "Cache parsed documents");
+        cacheParsedDocsComp.setToolTipText("Reuse parsed documents of previous executions with the same parser "
+            + "configuration and document content.");
+        addDialogComponent(cacheParsedDocsComp);
+
         update();
     }
 
@@ -50,6 +50,7 @@
 
 import java.io.File;
 import java.io.IOException;
+import java.util.Properties;
 
 import org.knime.core.data.DataTableSpec;
 import org.knime.core.node.BufferedDataContainer;
@@ -97,6 +98,16 @@ public abstract class ParallelExtractorNodeModel extends NodeModel {
      */
     private static final String CFG_KEY_NUMBER_OF_THREADS = "number_of_threads";
 
+    /**
+     * Configuration key for the option to cache parsed documents.
+     */
+    private static final String CFG_KEY_CACHE_PARSED_DOCUMENTS = "cache_parsed_documents";
+
+    /**
+     * Default value for the option to cache parsed documents.
+     */
+    private static final boolean DEF_CACHE_PARSED_DOCUMENTS = false;
+
     /**
      * Default number of threads.
      */
@@ -144,6 +155,16 @@ static final SettingsModelIntegerBounded getNumberOfThreadsModel() {
         return new SettingsModelIntegerBounded(CFG_KEY_NUMBER_OF_THREADS, DEF_NUMBER_OF_THREADS, 1, Integer.MAX_VALUE);
     }
 
+    /**
+     * Creates and returns a new {@link SettingsModelBoolean} containing the value for the option to cache parsed
+     * documents.
+     *
+     * @return {@code SettingsModelBoolean} containing the value for the option to cache parsed documents.
+     */
+    static final SettingsModelBoolean getCacheParsedDocumentsModel() {
+        return new SettingsModelBoolean(CFG_KEY_CACHE_PARSED_DOCUMENTS, DEF_CACHE_PARSED_DOCUMENTS);
+    }
+
     /**
      * The path to the part-of-speech tagging model.
      */
@@ -176,6 +197,11 @@ static final SettingsModelIntegerBounded getNumberOfThreadsModel() {
      */
     private final SettingsModelIntegerBounded m_noOfThreadsModel = getNumberOfThreadsModel();
 
+    /**
+     * The {@link SettingsModelBoolean} containing the value for the option to cache parsed documents.
+     */
+    private final SettingsModelBoolean m_cacheParsedDocsModel = getCacheParsedDocumentsModel();
+
     /**
      * Creates a new instance of {@code ParallelExtractorNodeModel}.
      */
@@ -256,15 +282,29 @@ protected BufferedDataTable[] execute(final BufferedDataTable[] inData, final Ex
         final int lemmaDocColIdx =
             m_lemmaDocColModel.isEnabled() ? dataTableSpec.findColumnIndex(m_lemmaDocColModel.getStringValue()) : -1;
 
-        // create annotation pipeline and a data table creator instance, which collects the results
+        // get (possibly already loaded) annotation pipelines and a data table creator instance, which collects the
+        // results
         exec.setProgress(0.01, "Load models...");
-        final StanfordCoreNLP annotationPipeline = createAnnotationPipeline(m_applyReqPreprocModel.getBooleanValue());
+        final boolean applyPreprocessing = m_applyReqPreprocModel.getBooleanValue();
+        final Properties parsingProps = createParsingProperties(applyPreprocessing);
+        final StanfordCoreNLP parsingPipeline = AnnotationPipelines.getPipeline(parsingProps);
+        final StanfordCoreNLP extractionPipeline =
+            AnnotationPipelines.getPipeline(createExtractionProperties(applyPreprocessing));
+        final AnnotationCache annotationCache = m_cacheParsedDocsModel.getBooleanValue()
+            ? new AnnotationCache(AnnotationPipelines.getSignature(parsingProps)) : null;
 
         // Open data container
         final BufferedDataContainer dataContainer = exec.createDataContainer(createDataTableSpec(dataTableSpec));
         final MultiThreadRelationExtractor extractor = createExtractor(dataContainer, docColIdx, lemmaDocColIdx,
-            annotationPipeline, (int)totalNoOfRows, m_noOfThreadsModel.getIntValue(), exec);
-        extractor.run(inputData);
+            parsingPipeline, extractionPipeline, annotationCache, (int)totalNoOfRows,
+            m_noOfThreadsModel.getIntValue(), exec);
+        try {
+            extractor.run(inputData);
+        } finally {
+            if (annotationCache != null) {
+                annotationCache.prune();
+            }
+        }
         dataContainer.close();
 
         if (extractor.getMissingValueCount() > 0) {
@@ -274,8 +314,7 @@ protected BufferedDataTable[] execute(final BufferedDataTable[] inData, final Ex
             setWarningMessage(extractor.getWarningMessage());
         }
 
-        // free memory
-        StanfordCoreNLP.clearAnnotatorPool();
+        // pipelines are kept for subsequent executions, they are released if memory gets low
         return new BufferedDataTable[]{dataContainer.getTable()};
     }
 
@@ -285,7 +324,9 @@ protected BufferedDataTable[] execute(final BufferedDataTable[] inData, final Ex
      * @param container The {@link BufferedDataContainer} used to create a data table.
      * @param docColIdx The document column index.
      * @param lemmaDocColIdx The lemmatized document column index.
-     * @param annotationPipeline The {@link StanfordCoreNLP} object.
+     * @param parsingPipeline The {@link StanfordCoreNLP} object used to tag and parse documents.
+     * @param extractionPipeline The {@link StanfordCoreNLP} object used to extract relations from parsed documents.
+     * @param annotationCache The cache of parsed annotations, or {@code null} if parsed annotations are not cached.
      * @param maxQueueSize Maximum queue size of finished jobs (finished computations might be cached in order to ensure
      *            the proper output ordering). If this queue is full (because the next-to-be-processed computation is
      *            still ongoing), no further tasks are submitted.
@@ -296,17 +337,28 @@ protected BufferedDataTable[] execute(final BufferedDataTable[] inData, final Ex
      * @return Returns a new instance of {@link MultiThreadRelationExtractor}.
      */
     protected abstract MultiThreadRelationExtractor createExtractor(final BufferedDataContainer container,
-        final int docColIdx, final int lemmaDocColIdx, final StanfordCoreNLP annotationPipeline, final int maxQueueSize,
+        final int docColIdx, final int lemmaDocColIdx, final StanfordCoreNLP parsingPipeline,
+        final StanfordCoreNLP extractionPipeline, final AnnotationCache annotationCache, final int maxQueueSize,
         final int maxActiveInstanceSize, final ExecutionContext exec);
 
     /**
-     * Creates and returns an {@link StanfordCoreNLP} object for the specified tasks.
+     * Creates and returns the properties of the {@link StanfordCoreNLP} pipeline that tags and parses documents. The
+     * results of this pipeline are cached if the corresponding option is set, hence it must not contain annotators
+     * that depend on node settings not contained in the properties.
      *
      * @param applyPreprocessing Set true, if pos, ne tagging and lemmatizing should be done beforehand.
-     * @return An {@code StanfordCoreNLP} object for the specified tasks
-     * @throws IOException Thrown if model could not be load.
+     * @return The properties of the parsing pipeline.
      */
-    protected abstract StanfordCoreNLP createAnnotationPipeline(final boolean applyPreprocessing) throws IOException;
+    protected abstract Properties createParsingProperties(final boolean applyPreprocessing);
+
+    /**
+     * Creates and returns the properties of the {@link StanfordCoreNLP} pipeline that extracts relations from parsed
+     * documents.
+     *
+     * @param applyPreprocessing Set true, if pos, ne tagging and lemmatizing should be done beforehand.
+     * @return The properties of the extraction pipeline.
+     */
+    protected abstract Properties createExtractionProperties(final boolean applyPreprocessing);
 
     /**
      * {@inheritDoc}
@@ -317,6 +369,7 @@ protected final void saveSettingsTo(final NodeSettingsWO settings) {
         m_lemmaDocColModel.saveSettingsTo(settings);
         m_applyReqPreprocModel.saveSettingsTo(settings);
         m_noOfThreadsModel.saveSettingsTo(settings);
+        m_cacheParsedDocsModel.saveSettingsTo(settings);
         saveAdditionalSettingsTo(settings);
     }
 
@@ -329,6 +382,10 @@ protected void validateSettings(final NodeSettingsRO settings) throws InvalidSet
         m_lemmaDocColModel.validateSettings(settings);
         m_applyReqPreprocModel.validateSettings(settings);
         m_noOfThreadsModel.validateSettings(settings);
+        // only validate settings if settings contain SettingsModel key (for backwards compatibility)
+        if (settings.containsKey(CFG_KEY_CACHE_PARSED_DOCUMENTS)) {
+            m_cacheParsedDocsModel.validateSettings(settings);
+        }
     }
 
     /**
@@ -340,6 +397,12 @@ protected final void loadValidatedSettingsFrom(final NodeSettingsRO settings) th
         m_lemmaDocColModel.loadSettingsFrom(settings);
         m_applyReqPreprocModel.loadSettingsFrom(settings);
         m_noOfThreadsModel.loadSettingsFrom(settings);
+        // nodes created before the option existed did not cache parsed documents
+        if (settings.containsKey(CFG_KEY_CACHE_PARSED_DOCUMENTS)) {
+            m_cacheParsedDocsModel.loadSettingsFrom(settings);
+        } else {
+            m_cacheParsedDocsModel.setBooleanValue(false);
+        }
         loadAdditionalSettingsFrom(settings);
     }
 
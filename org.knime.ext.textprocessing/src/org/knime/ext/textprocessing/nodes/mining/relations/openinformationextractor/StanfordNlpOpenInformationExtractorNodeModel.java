@@ -48,7 +48,6 @@
  */
 package org.knime.ext.textprocessing.nodes.mining.relations.openinformationextractor;
 
-import java.io.IOException;
 import java.util.Properties;
 
 import org.knime.core.data.DataTableSpec;
@@ -62,6 +61,7 @@
 import org.knime.core.node.defaultnodesettings.SettingsModelDoubleBounded;
 import org.knime.core.node.defaultnodesettings.SettingsModelIntegerBounded;
 import org.knime.ext.textprocessing.TextprocessingCorePlugin;
+import org.knime.ext.textprocessing.nodes.mining.relations.AnnotationCache;
 import org.knime.ext.textprocessing.nodes.mining.relations.MultiThreadRelationExtractor;
 import org.knime.ext.textprocessing.nodes.mining.relations.ParallelExtractorNodeModel;
 
@@ -290,6 +290,11 @@ static final SettingsModelBoolean getAllNominalsModel() {
     private static final String COREF_MD_DEP_MODEL_PATH =
         TextprocessingCorePlugin.resolvePath("stanfordmodels/coref/md-model-dep.ser.gz").getAbsolutePath();
 
+    /**
+     * Annotators property key.
+     */
+    private static final String ANNOTATORS = "annotators";
+
     /**
      * OpenIE property prefix.
      */
@@ -339,30 +344,34 @@ protected final DataTableSpec createDataTableSpec(final DataTableSpec spec) {
      * {@inheritDoc}
      */
     @Override
-    protected final StanfordCoreNLP createAnnotationPipeline(final boolean applyPreprocessing) throws IOException {
-        // create properties
-        final String annotators = "annotators";
-        final boolean resolveCoref = m_resolveCorefModel.getBooleanValue();
+    protected final Properties createParsingProperties(final boolean applyPreprocessing) {
         final Properties props = new Properties();
-        if (applyPreprocessing && resolveCoref) {
-            props.setProperty(annotators, "pos, lemma, ner, entitymentions, depparse, coref, natlog, openie");
-            setPreprocessingProps(props);
-            setCorefProps(props);
-        } else if (!applyPreprocessing && resolveCoref) {
-            props.setProperty(annotators, "entitymentions, depparse, coref, natlog, openie");
-            setCorefProps(props);
-        } else if (applyPreprocessing) {
-            props.setProperty(annotators, "pos, lemma, ner, entitymentions, depparse, natlog, openie");
+        if (applyPreprocessing) {
+            props.setProperty(ANNOTATORS, "pos, lemma, ner, entitymentions, depparse");
             setPreprocessingProps(props);
         } else {
-            props.setProperty(annotators, "entitymentions, depparse, natlog, openie");
+            props.setProperty(ANNOTATORS, "entitymentions, depparse");
         }
+        props.setProperty("depparse.model", DEP_PARSE_MODEL_PATH);
+        return props;
+    }
 
-        setNecessaryProps(props, m_resolveCorefModel.getBooleanValue(), m_affinityProbCapModel.getDoubleValue(),
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected final Properties createExtractionProperties(final boolean applyPreprocessing) {
+        final boolean resolveCoref = m_resolveCorefModel.getBooleanValue();
+        final Properties props = new Properties();
+        if (resolveCoref) {
+            props.setProperty(ANNOTATORS, "coref, natlog, openie");
+            setCorefProps(props);
+        } else {
+            props.setProperty(ANNOTATORS, "natlog, openie");
+        }
+        setNecessaryProps(props, resolveCoref, m_affinityProbCapModel.getDoubleValue(),
             m_tripleStrictModel.getBooleanValue(), m_allNominalsModel.getBooleanValue());
-
-        // create pipeline
-        return new StanfordCoreNLP(props, false);
+        return props;
     }
 
     /**
@@ -410,7 +419,6 @@ private static final void setCorefProps(final Properties props) {
      */
     private static final void setNecessaryProps(final Properties props, final boolean resolveCoref,
         final double affinityProbCap, final boolean tripleStrict, final boolean allNominals) {
-        props.setProperty("depparse.model", DEP_PARSE_MODEL_PATH);
         props.setProperty(OPENIE_PREFIX + "splitter.model", CLAUSES_SPLIT_MODEL_PATH);
         props.setProperty(OPENIE_PREFIX + "affinity_models", AFFINITY_MODEL_PATH);
         props.setProperty(OPENIE_PREFIX + CFG_KEY_RESOLVE_COREFERENCE, Boolean.toString(resolveCoref));
@@ -424,10 +432,12 @@ private static final void setNecessaryProps(final Properties props, final boolea
      */
     @Override
     protected final MultiThreadRelationExtractor createExtractor(final BufferedDataContainer container,
-        final int docColIdx, final int lemmaDocColIdx, final StanfordCoreNLP annotationPipeline,
-        final int maxQueueSize, final int maxActiveInstanceSize, final ExecutionContext exec) {
+        final int docColIdx, final int lemmaDocColIdx, final StanfordCoreNLP parsingPipeline,
+        final StanfordCoreNLP extractionPipeline, final AnnotationCache annotationCache, final int maxQueueSize,
+        final int maxActiveInstanceSize, final ExecutionContext exec) {
         return new StanfordOpenInformationExtractor(container, docColIdx, lemmaDocColIdx,
-            m_lemmatizedResultsModel.getBooleanValue(), annotationPipeline, maxQueueSize, maxActiveInstanceSize, exec);
+            m_lemmatizedResultsModel.getBooleanValue(), parsingPipeline, extractionPipeline, annotationCache,
+            maxQueueSize, maxActiveInstanceSize, exec);
     }
 
     /**
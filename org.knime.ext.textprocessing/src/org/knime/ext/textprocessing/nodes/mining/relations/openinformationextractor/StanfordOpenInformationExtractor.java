@@ -58,6 +58,7 @@
 import org.knime.core.data.def.StringCell;
 import org.knime.core.node.BufferedDataContainer;
 import org.knime.core.node.ExecutionContext;
+import org.knime.ext.textprocessing.nodes.mining.relations.AnnotationCache;
 import org.knime.ext.textprocessing.nodes.mining.relations.ExtractionResult;
 import org.knime.ext.textprocessing.nodes.mining.relations.MultiThreadRelationExtractor;
 
@@ -113,7 +114,9 @@ final class StanfordOpenInformationExtractor extends MultiThreadRelationExtracto
      * @param docColIdx The document column index.
      * @param lemmaDocColIdx The lemmatized document column index.
      * @param lemmatizedResults Set true, if results should be lemmatized.
-     * @param annotationPipeline The {@link StanfordCoreNLP} object.
+     * @param parsingPipeline The {@link StanfordCoreNLP} object used to tag and parse documents.
+     * @param extractionPipeline The {@link StanfordCoreNLP} object used to extract relations from parsed documents.
+     * @param annotationCache The cache of parsed annotations, or {@code null} if parsed annotations are not cached.
      * @param maxQueueSize Maximum queue size of finished jobs (finished computations might be cached in order to ensure
      *            the proper output ordering). If this queue is full (because the next-to-be-processed computation is
      *            still ongoing), no further tasks are submitted.
@@ -122,9 +125,11 @@ final class StanfordOpenInformationExtractor extends MultiThreadRelationExtracto
      * @param exec The {@link ExecutionContext}.
      */
     StanfordOpenInformationExtractor(final BufferedDataContainer container, final int docColIdx,
-        final int lemmaDocColIdx, final boolean lemmatizedResults, final StanfordCoreNLP annotationPipeline,
-        final int maxQueueSize, final int maxActiveInstanceSize, final ExecutionContext exec) {
-        super(container, docColIdx, lemmaDocColIdx, annotationPipeline, maxQueueSize, maxActiveInstanceSize, exec);
+        final int lemmaDocColIdx, final boolean lemmatizedResults, final StanfordCoreNLP parsingPipeline,
+        final StanfordCoreNLP extractionPipeline, final AnnotationCache annotationCache, final int maxQueueSize,
+        final int maxActiveInstanceSize, final ExecutionContext exec) {
+        super(container, docColIdx, lemmaDocColIdx, parsingPipeline, extractionPipeline, annotationCache, maxQueueSize,
+            maxActiveInstanceSize, exec);
         m_lemmatizedResults = lemmatizedResults;
     }
 
@@ -48,7 +48,6 @@
  */
 package org.knime.ext.textprocessing.nodes.mining.relations.relationextractor;
 
-import java.io.IOException;
 import java.util.Properties;
 
 import org.knime.core.data.DataTableSpec;
@@ -56,6 +55,7 @@
 import org.knime.core.node.ExecutionContext;
 import org.knime.core.node.NodeModel;
 import org.knime.ext.textprocessing.TextprocessingCorePlugin;
+import org.knime.ext.textprocessing.nodes.mining.relations.AnnotationCache;
 import org.knime.ext.textprocessing.nodes.mining.relations.MultiThreadRelationExtractor;
 import org.knime.ext.textprocessing.nodes.mining.relations.ParallelExtractorNodeModel;
 
@@ -99,25 +99,32 @@ protected final DataTableSpec createDataTableSpec(final DataTableSpec spec) {
      * {@inheritDoc}
      */
     @Override
-    protected final StanfordCoreNLP createAnnotationPipeline(final boolean applyPreprocessing) throws IOException {
-        // create properties
+    protected final Properties createParsingProperties(final boolean applyPreprocessing) {
         final Properties props = new Properties();
         if (applyPreprocessing) {
             final String falseFlag = "false";
-            props.setProperty("annotators", "pos, lemma, ner, parse, relation");
+            props.setProperty("annotators", "pos, lemma, ner, parse");
             props.setProperty("ner.model", NER_MODEL_PATH);
             props.setProperty("ner.applyNumericClassifiers", falseFlag);
             props.setProperty("ner.useSUTime", falseFlag);
             props.setProperty("ner.applyFineGrained", falseFlag);
             props.setProperty("pos.model", POS_MODEL_PATH);
         } else {
-            props.setProperty("annotators", "parse, relation");
+            props.setProperty("annotators", "parse");
         }
-        props.setProperty("sup.relation.model", RELATION_EXTRACTOR_MODEL);
         props.setProperty("parse.model", PARSER_MODEL_PATH);
+        return props;
+    }
 
-        // create pipeline
-        return new StanfordCoreNLP(props, false);
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected final Properties createExtractionProperties(final boolean applyPreprocessing) {
+        final Properties props = new Properties();
+        props.setProperty("annotators", "relation");
+        props.setProperty("sup.relation.model", RELATION_EXTRACTOR_MODEL);
+        return props;
     }
 
     /**
@@ -125,9 +132,10 @@ protected final StanfordCoreNLP createAnnotationPipeline(final boolean applyPrep
      */
     @Override
     protected final MultiThreadRelationExtractor createExtractor(final BufferedDataContainer container,
-        final int docColIdx, final int lemmaDocColIdx, final StanfordCoreNLP annotationPipeline,
-        final int maxQueueSize, final int maxActiveInstanceSize, final ExecutionContext exec) {
-        return new StanfordRelationExtractor(container, docColIdx, lemmaDocColIdx, annotationPipeline, maxQueueSize,
-            maxActiveInstanceSize, exec);
+        final int docColIdx, final int lemmaDocColIdx, final StanfordCoreNLP parsingPipeline,
+        final StanfordCoreNLP extractionPipeline, final AnnotationCache annotationCache, final int maxQueueSize,
+        final int maxActiveInstanceSize, final ExecutionContext exec) {
+        return new StanfordRelationExtractor(container, docColIdx, lemmaDocColIdx, parsingPipeline,
+            extractionPipeline, annotationCache, maxQueueSize, maxActiveInstanceSize, exec);
     }
 }
@@ -88,17 +88,19 @@
 import org.knime.core.node.defaultnodesettings.SettingsModelInteger;
 import org.knime.core.node.defaultnodesettings.SettingsModelIntegerBounded;
 import org.knime.core.node.defaultnodesettings.SettingsModelString;
+import org.knime.core.node.port.PortObject;
+import org.knime.core.node.port.PortObjectSpec;
+import org.knime.core.node.port.PortType;
 import org.knime.ext.textprocessing.data.DocumentValue;
+import org.knime.ext.textprocessing.data.TopicModelPortObject;
+import org.knime.ext.textprocessing.data.TopicModelPortObjectSpec;
 import org.knime.ext.textprocessing.util.ColumnSelectionVerifier;
 import org.knime.ext.textprocessing.util.DataTableSpecVerifier;
-import org.knime.ext.textprocessing.util.mallet.Document2FeatureSequencePipe;
-import org.knime.ext.textprocessing.util.mallet.DocumentInstanceIterator;
+import org.knime.ext.textprocessing.util.mallet.ParallelDocumentInstanceListBuilder;
 
-import cc.mallet.pipe.Pipe;
 import cc.mallet.topics.ParallelTopicModel;
 import cc.mallet.types.Alphabet;
 import cc.mallet.types.IDSorter;
-import cc.mallet.types.Instance;
 import cc.mallet.types.InstanceList;
 
 /**
@@ -248,7 +250,8 @@ public void close() throws SecurityException {
      * Constructor.
      */
     ParallelTopicExtractorNodeModel() {
-        super(1, 3);
+        super(new PortType[]{BufferedDataTable.TYPE}, new PortType[]{BufferedDataTable.TYPE, BufferedDataTable.TYPE,
+            BufferedDataTable.TYPE, TopicModelPortObject.TYPE});
     }
 
     /**
@@ -312,8 +315,8 @@ static SettingsModelString createDocColModel() {
      * {@inheritDoc}
      */
     @Override
-    protected DataTableSpec[] configure(final DataTableSpec[] inSpecs) throws InvalidSettingsException {
-        final DataTableSpec spec = inSpecs[0];
+    protected PortObjectSpec[] configure(final PortObjectSpec[] inSpecs) throws InvalidSettingsException {
+        final DataTableSpec spec = (DataTableSpec)inSpecs[0];
         if (spec == null) {
             return null;
         }
@@ -321,29 +324,25 @@ protected DataTableSpec[] configure(final DataTableSpec[] inSpecs) throws Invali
 
         final ColumnRearranger docTopCR = createDocumentTopicColumnRearranger(spec, m_noOfTopics.getIntValue(), null,
             spec.findColumnIndex(m_docCol.getStringValue()));
-        return new DataTableSpec[]{docTopCR.createSpec(), createTopicTableSpec(), createDetailedTableSpec()};
+        return new PortObjectSpec[]{docTopCR.createSpec(), createTopicTableSpec(), createDetailedTableSpec(),
+            createTopicModelSpec()};
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    protected BufferedDataTable[] execute(final BufferedDataTable[] inData, final ExecutionContext exec)
-        throws Exception {
-        final BufferedDataTable table = inData[0];
+    protected PortObject[] execute(final PortObject[] inData, final ExecutionContext exec) throws Exception {
+        final BufferedDataTable table = (BufferedDataTable)inData[0];
         checkDataTableSpec(table.getDataTableSpec());
         final int noOfTopics = m_noOfTopics.getIntValue();
         final int colIdx = table.getSpec().findColumnIndex(m_docCol.getStringValue());
         final int noOfThreads = m_noOfThreads.getIntValue();
         final int noOfIterations = m_noOfIterations.getIntValue();
-        final Iterator<Instance> docsIter =
-            new DocumentInstanceIterator(exec.createSubProgress(0.05), table, colIdx, false);
-        final Pipe docPipe = new Document2FeatureSequencePipe();
         exec.setMessage("Preprocessing documents");
         // Begin by importing documents from text to feature sequences
-        final InstanceList instances = new InstanceList(docPipe);
-        exec.checkCanceled();
-        instances.addThruPipe(docsIter);
+        final InstanceList instances = new ParallelDocumentInstanceListBuilder(noOfThreads).build(table, colIdx,
+            exec.createSubProgress(0.05));
         exec.checkCanceled();
         final ParallelTopicModel model =
             new ParallelTopicModel(noOfTopics, m_alpha.getDoubleValue() * noOfTopics, m_beta.getDoubleValue());
@@ -376,7 +375,13 @@ protected BufferedDataTable[] execute(final BufferedDataTable[] inData, final Ex
         // Get an array of sorted sets of word ID/count pairs
         final BufferedDataTable topicTable =
             createTopicTable(exec.createSubExecutionContext(0.025), dataAlphabet, model, m_topKWords.getIntValue());
-        return new BufferedDataTable[]{docTopicTable, topicTable, myLogHandler.getDetailsTable()};
+        final TopicModelPortObject topicModel = new TopicModelPortObject(createTopicModelSpec(), model);
+        return new PortObject[]{docTopicTable, topicTable, myLogHandler.getDetailsTable(), topicModel};
+    }
+
+    private TopicModelPortObjectSpec createTopicModelSpec() {
+        return new TopicModelPortObjectSpec(m_noOfTopics.getIntValue(), m_alpha.getDoubleValue(),
+            m_beta.getDoubleValue());
     }
 
     private final void checkDataTableSpec(final DataTableSpec spec) throws InvalidSettingsException {
@@ -0,0 +1,201 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.ext.textprocessing.nodes.mining.topic.assigner;
+
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpec;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.container.AbstractCellFactory;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.ext.textprocessing.data.Document;
+import org.knime.ext.textprocessing.data.DocumentValue;
+import org.knime.ext.textprocessing.data.Sentence;
+import org.knime.ext.textprocessing.data.Term;
+import org.knime.ext.textprocessing.data.TopicModelPortObject;
+import org.knime.ext.textprocessing.nodes.mining.topic.DocumentTopicCellFactory;
+
+import cc.mallet.topics.TopicInferencer;
+import cc.mallet.types.Alphabet;
+import cc.mallet.types.FeatureSequence;
+import cc.mallet.types.Instance;
+
+/**
+ * Cell factory that infers the topic distribution of each document using a frozen topic model. The documents are
+ * processed in parallel, each thread samples with its own {@link TopicInferencer} while all inferencers share the
+ * counts of the model.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class TopicAssignerCellFactory extends AbstractCellFactory {
+
+    private final int m_noOfTopics;
+
+    private final int m_docColIdx;
+
+    private final TopicModelPortObject m_model;
+
+    private final int m_noOfIterations;
+
+    private final int m_burnIn;
+
+    private final int m_thinning;
+
+    private final int m_seed;
+
+    private final Queue<TopicInferencer> m_inferencers = new ConcurrentLinkedQueue<TopicInferencer>();
+
+    /**
+     * @param columnSpecs the specs of the topic probability columns and the assigned topic column
+     * @param docColIdx the index of the document column
+     * @param model the topic model to use, {@code null} if the factory is only used to create the specs
+     * @param noOfIterations the number of sampling iterations per document
+     * @param burnIn the number of iterations before the first sample is taken
+     * @param thinning the number of iterations between two samples
+     * @param seed the seed used for the sampling
+     * @param noOfThreads the number of threads used to process the documents
+     */
+    TopicAssignerCellFactory(final DataColumnSpec[] columnSpecs, final int docColIdx,
+        final TopicModelPortObject model, final int noOfIterations, final int burnIn, final int thinning,
+        final int seed, final int noOfThreads) {
+        super(columnSpecs);
+        this.setParallelProcessing(true, noOfThreads, 10 * noOfThreads);
+        m_noOfTopics = columnSpecs.length - 1;
+        m_docColIdx = docColIdx;
+        m_model = model;
+        m_noOfIterations = noOfIterations;
+        m_burnIn = burnIn;
+        m_thinning = thinning;
+        m_seed = seed;
+    }
+
+    /**
+     * @param inSpec the spec of the input table
+     * @param noOfTopics the number of topics of the model
+     * @return the specs of the topic probability columns and the assigned topic column
+     */
+    static DataColumnSpec[] createColumnSpecs(final DataTableSpec inSpec, final int noOfTopics) {
+        final DataColumnSpec[] specs = new DataColumnSpec[noOfTopics + 1];
+        for (int idx = 0; idx < noOfTopics; idx++) {
+            specs[idx] = new DataColumnSpecCreator(
+                DataTableSpec.getUniqueColumnName(inSpec, DocumentTopicCellFactory.TOPIC_PREFIX + idx),
+                DoubleCell.TYPE).createSpec();
+        }
+        specs[noOfTopics] = new DataColumnSpecCreator(DataTableSpec.getUniqueColumnName(inSpec, "Assigned topic"),
+            StringCell.TYPE).createSpec();
+        return specs;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public DataCell[] getCells(final DataRow row) {
+        final DataCell[] cells = new DataCell[m_noOfTopics + 1];
+        final DataCell docCell = row.getCell(m_docColIdx);
+        if (docCell.isMissing()) {
+            for (int idx = 0; idx < cells.length; idx++) {
+                cells[idx] = DataType.getMissingCell();
+            }
+            return cells;
+        }
+        final Document doc = ((DocumentValue)docCell).getDocument();
+        final Instance instance = new Instance(createFeatureSequence(doc), null, doc.getTitle(), null);
+        TopicInferencer inferencer = m_inferencers.poll();
+        if (inferencer == null) {
+            inferencer = m_model.createInferencer();
+        }
+        final double[] topicDistribution;
+        try {
+            // seed per row so that the result does not depend on the thread the row is processed by
+            inferencer.setRandomSeed(m_seed + 31 * row.getKey().getString().hashCode());
+            topicDistribution = inferencer.getSampledDistribution(instance, m_noOfIterations, m_thinning, m_burnIn);
+        } finally {
+            m_inferencers.offer(inferencer);
+        }
+        double maxProb = 0;
+        int maxTopicIdx = 0;
+        for (int idx = 0; idx < m_noOfTopics; idx++) {
+            final double topicProb = topicDistribution[idx];
+            if (topicProb > maxProb) {
+                maxProb = topicProb;
+                maxTopicIdx = idx;
+            }
+            cells[idx] = new DoubleCell(topicProb);
+        }
+        cells[m_noOfTopics] = new StringCell(DocumentTopicCellFactory.TOPIC_PREFIX + maxTopicIdx);
+        return cells;
+    }
+
+    /**
+     * Creates the feature sequence of the terms of the given document which are known to the model. Unknown terms
+     * are ignored since the model has no topic counts for them.
+     */
+    private FeatureSequence createFeatureSequence(final Document doc) {
+        final Alphabet alphabet = m_model.getAlphabet();
+        final FeatureSequence sequence = new FeatureSequence(alphabet, doc.getLength());
+        final Iterator<Sentence> sentences = doc.sentenceIterator();
+        while (sentences.hasNext()) {
+            for (final Term term : sentences.next().getTerms()) {
+                final int idx = alphabet.lookupIndex(term.getText(), false);
+                if (idx >= 0) {
+                    sequence.add(idx);
+                }
+            }
+        }
+        return sequence;
+    }
+}
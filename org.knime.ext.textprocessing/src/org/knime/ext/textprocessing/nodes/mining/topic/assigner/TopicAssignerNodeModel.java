@@ -0,0 +1,303 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.ext.textprocessing.nodes.mining.topic.assigner;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Random;
+
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.container.ColumnRearranger;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.node.NodeModel;
+import org.knime.core.node.NodeSettingsRO;
+import org.knime.core.node.NodeSettingsWO;
+import org.knime.core.node.defaultnodesettings.SettingsModel;
+import org.knime.core.node.defaultnodesettings.SettingsModelInteger;
+import org.knime.core.node.defaultnodesettings.SettingsModelIntegerBounded;
+import org.knime.core.node.defaultnodesettings.SettingsModelString;
+import org.knime.core.node.port.PortObject;
+import org.knime.core.node.port.PortObjectSpec;
+import org.knime.core.node.port.PortType;
+import org.knime.core.node.streamable.InputPortRole;
+import org.knime.core.node.streamable.OutputPortRole;
+import org.knime.core.node.streamable.PartitionInfo;
+import org.knime.core.node.streamable.PortInput;
+import org.knime.core.node.streamable.PortObjectInput;
+import org.knime.core.node.streamable.PortOutput;
+import org.knime.core.node.streamable.StreamableOperator;
+import org.knime.ext.textprocessing.data.DocumentValue;
+import org.knime.ext.textprocessing.data.TopicModelPortObject;
+import org.knime.ext.textprocessing.data.TopicModelPortObjectSpec;
+import org.knime.ext.textprocessing.util.ColumnSelectionVerifier;
+import org.knime.ext.textprocessing.util.DataTableSpecVerifier;
+
+/**
+ * The {@code NodeModel} of the Topic Assigner node, which infers the topic distributions of documents using a topic
+ * model learned by the Topic Extractor node. The model is not changed by the inference, so the documents are
+ * processed independently of each other and the node is distributed streamable.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class TopicAssignerNodeModel extends NodeModel {
+
+    private static final Random RANDOM = new Random();
+
+    private final SettingsModelString m_docCol = createDocColModel();
+
+    private final SettingsModelInteger m_noOfIterations = createNoOfIterationsModel();
+
+    private final SettingsModelInteger m_burnIn = createBurnInModel();
+
+    private final SettingsModelInteger m_thinning = createThinningModel();
+
+    private final SettingsModelInteger m_seed = createSeedModel();
+
+    private final SettingsModelInteger m_noOfThreads = createNoOfThreadsModel();
+
+    private final SettingsModel[] m_models =
+        new SettingsModel[]{m_docCol, m_noOfIterations, m_burnIn, m_thinning, m_seed, m_noOfThreads};
+
+    /**
+     * Creates a new instance of {@code TopicAssignerNodeModel} with one topic model input port, one data table input
+     * port and one data table output port.
+     */
+    TopicAssignerNodeModel() {
+        super(new PortType[]{TopicModelPortObject.TYPE, BufferedDataTable.TYPE},
+            new PortType[]{BufferedDataTable.TYPE});
+    }
+
+    /**
+     * @return the document column model
+     */
+    static SettingsModelString createDocColModel() {
+        return new SettingsModelString("docCol", null);
+    }
+
+    /**
+     * @return the number of sampling iterations model
+     */
+    static SettingsModelInteger createNoOfIterationsModel() {
+        return new SettingsModelIntegerBounded("noOfIterations", 100, 1, Integer.MAX_VALUE);
+    }
+
+    /**
+     * @return the burn-in model
+     */
+    static SettingsModelInteger createBurnInModel() {
+        return new SettingsModelIntegerBounded("burnIn", 10, 0, Integer.MAX_VALUE);
+    }
+
+    /**
+     * @return the thinning model
+     */
+    static SettingsModelInteger createThinningModel() {
+        return new SettingsModelIntegerBounded("thinning", 10, 1, Integer.MAX_VALUE);
+    }
+
+    /**
+     * @return the seed model
+     */
+    static SettingsModelInteger createSeedModel() {
+        return new SettingsModelInteger("seed", RANDOM.nextInt());
+    }
+
+    /**
+     * @return the number of threads model
+     */
+    static SettingsModelInteger createNoOfThreadsModel() {
+        return new SettingsModelIntegerBounded("noOfThreads", KNIMEConstants.GLOBAL_THREAD_POOL.getMaxThreads(), 1,
+            Integer.MAX_VALUE);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected PortObjectSpec[] configure(final PortObjectSpec[] inSpecs) throws InvalidSettingsException {
+        if (inSpecs[0] == null) {
+            throw new InvalidSettingsException("No topic model available. Please execute the Topic Extractor node.");
+        }
+        if (inSpecs[1] == null) {
+            throw new InvalidSettingsException("No input table specification available.");
+        }
+        final TopicModelPortObjectSpec modelSpec = (TopicModelPortObjectSpec)inSpecs[0];
+        final DataTableSpec spec = (DataTableSpec)inSpecs[1];
+        checkDataTableSpec(spec);
+        return new PortObjectSpec[]{createColumnRearranger(spec, modelSpec, null).createSpec()};
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected PortObject[] execute(final PortObject[] inObjects, final ExecutionContext exec) throws Exception {
+        final TopicModelPortObject model = (TopicModelPortObject)inObjects[0];
+        final BufferedDataTable table = (BufferedDataTable)inObjects[1];
+        checkDataTableSpec(table.getDataTableSpec());
+        final ColumnRearranger rearranger = createColumnRearranger(table.getDataTableSpec(), model.getSpec(), model);
+        return new PortObject[]{exec.createColumnRearrangeTable(table, rearranger, exec)};
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public InputPortRole[] getInputPortRoles() {
+        return new InputPortRole[]{InputPortRole.NONDISTRIBUTED_NONSTREAMABLE, InputPortRole.DISTRIBUTED_STREAMABLE};
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public OutputPortRole[] getOutputPortRoles() {
+        return new OutputPortRole[]{OutputPortRole.DISTRIBUTED};
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public StreamableOperator createStreamableOperator(final PartitionInfo partitionInfo,
+        final PortObjectSpec[] inSpecs) throws InvalidSettingsException {
+        return new StreamableOperator() {
+
+            @Override
+            public void runFinal(final PortInput[] inputs, final PortOutput[] outputs, final ExecutionContext exec)
+                throws Exception {
+                final TopicModelPortObject model =
+                    (TopicModelPortObject)((PortObjectInput)inputs[0]).getPortObject();
+                final ColumnRearranger rearranger =
+                    createColumnRearranger((DataTableSpec)inSpecs[1], model.getSpec(), model);
+                rearranger.createStreamableFunction(1, 0).runFinal(inputs, outputs, exec);
+            }
+        };
+    }
+
+    private void checkDataTableSpec(final DataTableSpec spec) throws InvalidSettingsException {
+        final DataTableSpecVerifier verifier = new DataTableSpecVerifier(spec);
+        verifier.verifyMinimumDocumentCells(1, true);
+
+        ColumnSelectionVerifier.verifyColumn(m_docCol, spec, DocumentValue.class, null)
+            .ifPresent(msg -> setWarningMessage(msg));
+    }
+
+    private ColumnRearranger createColumnRearranger(final DataTableSpec spec,
+        final TopicModelPortObjectSpec modelSpec, final TopicModelPortObject model) {
+        final TopicAssignerCellFactory factory = new TopicAssignerCellFactory(
+            TopicAssignerCellFactory.createColumnSpecs(spec, modelSpec.getNoOfTopics()),
+            spec.findColumnIndex(m_docCol.getStringValue()), model, m_noOfIterations.getIntValue(),
+            m_burnIn.getIntValue(), m_thinning.getIntValue(), m_seed.getIntValue(), m_noOfThreads.getIntValue());
+        final ColumnRearranger rearranger = new ColumnRearranger(spec);
+        rearranger.append(factory);
+        return rearranger;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void saveSettingsTo(final NodeSettingsWO settings) {
+        for (SettingsModel model : m_models) {
+            model.saveSettingsTo(settings);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void validateSettings(final NodeSettingsRO settings) throws InvalidSettingsException {
+        for (SettingsModel model : m_models) {
+            model.validateSettings(settings);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void loadValidatedSettingsFrom(final NodeSettingsRO settings) throws InvalidSettingsException {
+        for (SettingsModel model : m_models) {
+            model.loadSettingsFrom(settings);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void loadInternals(final File nodeInternDir, final ExecutionMonitor exec)
+        throws IOException, CanceledExecutionException {
+        // nothing to do
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void saveInternals(final File nodeInternDir, final ExecutionMonitor exec)
+        throws IOException, CanceledExecutionException {
+        // nothing to do
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void reset() {
+        // nothing to do
+    }
+}
@@ -0,0 +1,937 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.ext.textprocessing.nodes.misc.markuptagfilter;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Entities;
+import org.jsoup.parser.Tag;
+
+/**
+ * Strips the markup tags from a string and returns its text exactly as {@code Jsoup.parse(markup).text()} would. The
+ * characters are processed in a single pass by a state machine that decodes entities, skips comments, script and
+ * style blocks and only keeps track of the names of the open elements instead of building a DOM. Markup for which
+ * the HTML tree builder of Jsoup would restructure the document beyond that (tables, forms, mis-nested formatting
+ * elements, ...) is detected and handed over to Jsoup, so the result is always the same as before. The stripper has
+ * no state and can be used by multiple threads concurrently.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class MarkupStripper {
+
+    /** Elements that are never pushed on the stack of open elements. */
+    private static final Set<String> VOID_ELEMENTS = set("area", "base", "basefont", "bgsound", "br", "command",
+        "embed", "hr", "img", "input", "keygen", "link", "meta", "param", "source", "track", "wbr");
+
+    /** Elements that the tree builder processes with its head rules, regardless of where they occur. */
+    private static final Set<String> HEAD_ELEMENTS =
+        set("base", "basefont", "bgsound", "command", "link", "meta", "script", "style", "title");
+
+    /** Elements whose handling by the tree builder is left to Jsoup. */
+    private static final Set<String> DELEGATED_ELEMENTS = set("applet", "body", "button", "caption", "col",
+        "colgroup", "form", "frame", "frameset", "head", "html", "iframe", "image", "isindex", "listing", "marquee",
+        "math", "menuitem", "nobr", "noembed", "noframes", "noscript", "object", "optgroup", "option", "plaintext",
+        "pre", "rb", "rp", "rt", "rtc", "ruby", "select", "svg", "table", "tbody", "td", "template", "textarea",
+        "tfoot", "th", "thead", "tr", "xmp");
+
+    private static final Set<String> FORMATTING_ELEMENTS =
+        set("a", "b", "big", "code", "em", "font", "i", "nobr", "s", "small", "strike", "strong", "tt", "u");
+
+    private static final Set<String> HEADINGS = set("h1", "h2", "h3", "h4", "h5", "h6");
+
+    /** Start tags that close an open paragraph. */
+    private static final Set<String> PARAGRAPH_CLOSERS = set("address", "article", "aside", "blockquote", "center",
+        "dd", "details", "dir", "div", "dl", "dt", "fieldset", "figcaption", "figure", "footer", "h1", "h2", "h3",
+        "h4", "h5", "h6", "header", "hgroup", "hr", "li", "menu", "nav", "ol", "p", "section", "summary", "ul");
+
+    /** Start tags that may occur within an open paragraph without closing it. */
+    private static final Set<String> PHRASING_ELEMENTS = set("a", "abbr", "b", "bdi", "bdo", "big", "br", "cite",
+        "code", "data", "dfn", "em", "font", "i", "img", "kbd", "mark", "q", "s", "samp", "small", "span", "strike",
+        "strong", "sub", "sup", "time", "tt", "u", "var", "wbr");
+
+    /** End tags that close the element of the same name and all elements opened within it. */
+    private static final Set<String> BLOCK_CLOSERS = set("address", "article", "aside", "blockquote", "center",
+        "details", "dir", "div", "dl", "fieldset", "figcaption", "figure", "footer", "header", "hgroup", "menu",
+        "nav", "ol", "section", "summary", "ul");
+
+    /** Elements at which the search for an item to close by the start of a new item stops. */
+    private static final Set<String> ITEM_BOUNDARIES = set("article", "aside", "blockquote", "center", "dd",
+        "details", "dir", "dl", "dt", "fieldset", "figcaption", "figure", "footer", "h1", "h2", "h3", "h4", "h5", "h6",
+        "header", "hgroup", "li", "menu", "nav", "ol", "section", "summary", "ul");
+
+    /** Elements at which the search for a list item to close by an end tag stops. */
+    private static final Set<String> LIST_BOUNDARIES = set("ol", "ul");
+
+    private static final Set<String> NO_BOUNDARIES = set();
+
+    /** Elements that can be open and stop the search for the element to close by an unspecific end tag. */
+    private static final Set<String> SPECIAL_ELEMENTS = set("address", "article", "aside", "blockquote", "center",
+        "dd", "details", "dir", "div", "dl", "dt", "fieldset", "figcaption", "figure", "footer", "h1", "h2", "h3",
+        "h4", "h5", "h6", "header", "hgroup", "li", "menu", "nav", "ol", "p", "section", "summary", "ul");
+
+    private static final Set<String> LIST_ITEMS = set("li");
+
+    private static final Set<String> DEFINITION_ITEMS = set("dd", "dt");
+
+    private static final UnsupportedMarkupException UNSUPPORTED = new UnsupportedMarkupException();
+
+    private static final char EOF = '\uFFFF';
+
+    private static final char NO_BREAK_SPACE = '\u00A0';
+
+    private static final char ZERO_WIDTH_SPACE = '\u200B';
+
+    private static final char SOFT_HYPHEN = '\u00AD';
+
+    // insertion modes of the tree builder
+    private static final int BEFORE_HTML = 0;
+
+    private static final int BEFORE_HEAD = 1;
+
+    private static final int IN_HEAD = 2;
+
+    private static final int AFTER_HEAD = 3;
+
+    private static final int IN_BODY = 4;
+
+    private static final int AFTER_BODY = 5;
+
+    // tokenizer states within a tag
+    private static final int BEFORE_ATTRIBUTE_NAME = 0;
+
+    private static final int ATTRIBUTE_NAME = 1;
+
+    private static final int AFTER_ATTRIBUTE_NAME = 2;
+
+    private static final int BEFORE_ATTRIBUTE_VALUE = 3;
+
+    private static final int DOUBLE_QUOTED_VALUE = 4;
+
+    private static final int SINGLE_QUOTED_VALUE = 5;
+
+    private static final int UNQUOTED_VALUE = 6;
+
+    private static final int AFTER_QUOTED_VALUE = 7;
+
+    private static final int SELF_CLOSING_TAG = 8;
+
+    private final String m_markup;
+
+    private final int m_length;
+
+    private final StringBuilder m_text = new StringBuilder();
+
+    private final StringBuilder m_accum;
+
+    private final int[] m_codepoints = new int[2];
+
+    private String[] m_openElements = new String[16];
+
+    private boolean[] m_openBlocks = new boolean[16];
+
+    private int m_depth = 0;
+
+    private int m_pos = 0;
+
+    private int m_mode = BEFORE_HTML;
+
+    private boolean m_selfClosing = false;
+
+    /** Whether a block element has just been closed, which is separated by a space from a following text. */
+    private boolean m_pendingBlockEnd = false;
+
+    private MarkupStripper(final String markup) {
+        m_markup = markup;
+        m_length = markup.length();
+        m_accum = new StringBuilder(m_length);
+    }
+
+    /**
+     * Strips the markup tags from the given string.
+     *
+     * @param markup the string to strip the markup from.
+     * @return the normalized text of the given markup, same as {@code Jsoup.parse(markup).text()}.
+     */
+    static String strip(final String markup) {
+        final String text = stripWithoutFallback(markup);
+        return text != null ? text : Jsoup.parse(markup).text();
+    }
+
+    /**
+     * Strips the markup tags from the given string without handing the markup over to Jsoup.
+     *
+     * @param markup the string to strip the markup from.
+     * @return the normalized text of the given markup or {@code null} if the markup requires a full HTML tree
+     *         builder.
+     */
+    static String stripWithoutFallback(final String markup) {
+        try {
+            return new MarkupStripper(markup).strip();
+        } catch (UnsupportedMarkupException e) {
+            return null;
+        }
+    }
+
+    private String strip() {
+        while (m_pos < m_length) {
+            final char c = m_markup.charAt(m_pos);
+            if (c == '<') {
+                if (!readMarkup()) {
+                    // a tag cut off by the end of the input is dropped
+                    break;
+                }
+            } else if (c == '&') {
+                m_pos = readCharacterReference(m_pos + 1, m_length, m_text);
+            } else if (c == '\0') {
+                throw UNSUPPORTED;
+            } else {
+                m_text.append(c);
+                m_pos++;
+            }
+        }
+        flushText();
+        return m_accum.toString().trim();
+    }
+
+    //
+    /// TOKENIZER
+    //
+
+    /** Reads the markup starting at the current '&lt;', returns false if the input ends within a tag. */
+    private boolean readMarkup() {
+        final char c = charAt(m_pos + 1);
+        if (c == '!') {
+            m_pos += 2;
+            flushText();
+            if (m_markup.startsWith("--", m_pos)) {
+                m_pos += 2;
+                skipComment();
+                comment();
+            } else if (m_markup.regionMatches(true, m_pos, "DOCTYPE", 0, 7)) {
+                // a doctype does not add any node the text could be affected by
+                skipPast('>');
+            } else if (m_markup.startsWith("[CDATA[", m_pos)) {
+                throw UNSUPPORTED;
+            } else {
+                skipPast('>');
+                comment();
+            }
+        } else if (c == '/') {
+            m_pos += 2;
+            final char d = charAt(m_pos);
+            if (d == EOF) {
+                m_text.append("</");
+            } else if (d == '>') {
+                // "</>" is ignored
+                m_pos++;
+            } else if (isAsciiLetter(d)) {
+                final String name = readTag();
+                if (name == null) {
+                    return false;
+                }
+                endTag(name);
+            } else if (Character.isLetter(d)) {
+                throw UNSUPPORTED;
+            } else {
+                flushText();
+                skipPast('>');
+                comment();
+            }
+        } else if (c == '?') {
+            m_pos++;
+            flushText();
+            skipPast('>');
+            comment();
+        } else if (isAsciiLetter(c)) {
+            m_pos++;
+            final String name = readTag();
+            if (name == null) {
+                return false;
+            }
+            startTag(name);
+        } else if (c != EOF && Character.isLetter(c)) {
+            throw UNSUPPORTED;
+        } else {
+            m_text.append('<');
+            m_pos++;
+        }
+        return true;
+    }
+
+    /** Reads the name and the attributes of a tag, returns null if the input ends within the tag. */
+    private String readTag() {
+        final int start = m_pos;
+        while (m_pos < m_length) {
+            final char c = m_markup.charAt(m_pos);
+            if (c == '<' || c == '\0') {
+                throw UNSUPPORTED;
+            } else if (c == '/' || c == '>' || isWhitespace(c)) {
+                break;
+            }
+            m_pos++;
+        }
+        final String name = m_markup.substring(start, m_pos).toLowerCase(Locale.ENGLISH);
+        return readAttributes() ? name : null;
+    }
+
+    /** Skips the attributes of a tag up to and including the closing '&gt;', returns false on the end of input. */
+    private boolean readAttributes() {
+        m_selfClosing = false;
+        int state = BEFORE_ATTRIBUTE_NAME;
+        while (m_pos < m_length) {
+            final char c = m_markup.charAt(m_pos++);
+            if (c == '\0') {
+                throw UNSUPPORTED;
+            }
+            switch (state) {
+                case BEFORE_ATTRIBUTE_NAME:
+                    if (c == '>') {
+                        return true;
+                    } else if (c == '/') {
+                        state = SELF_CLOSING_TAG;
+                    } else if (c == '<') {
+                        throw UNSUPPORTED;
+                    } else if (!isWhitespace(c)) {
+                        state = ATTRIBUTE_NAME;
+                    }
+                    break;
+                case ATTRIBUTE_NAME:
+                case AFTER_ATTRIBUTE_NAME:
+                    if (c == '>') {
+                        return true;
+                    } else if (c == '/') {
+                        state = SELF_CLOSING_TAG;
+                    } else if (c == '=') {
+                        state = BEFORE_ATTRIBUTE_VALUE;
+                    } else {
+                        state = isWhitespace(c) ? AFTER_ATTRIBUTE_NAME : ATTRIBUTE_NAME;
+                    }
+                    break;
+                case BEFORE_ATTRIBUTE_VALUE:
+                    if (c == '>') {
+                        return true;
+                    } else if (c == '"') {
+                        state = DOUBLE_QUOTED_VALUE;
+                    } else if (c == '\'') {
+                        state = SINGLE_QUOTED_VALUE;
+                    } else if (!isWhitespace(c)) {
+                        state = UNQUOTED_VALUE;
+                    }
+                    break;
+                case DOUBLE_QUOTED_VALUE:
+                    if (c == '"') {
+                        state = AFTER_QUOTED_VALUE;
+                    }
+                    break;
+                case SINGLE_QUOTED_VALUE:
+                    if (c == '\'') {
+                        state = AFTER_QUOTED_VALUE;
+                    }
+                    break;
+                case UNQUOTED_VALUE:
+                    if (c == '>') {
+                        return true;
+                    } else if (isWhitespace(c)) {
+                        state = BEFORE_ATTRIBUTE_NAME;
+                    }
+                    break;
+                case AFTER_QUOTED_VALUE:
+                    if (c == '>') {
+                        return true;
+                    } else if (c == '/') {
+                        state = SELF_CLOSING_TAG;
+                    } else {
+                        if (!isWhitespace(c)) {
+                            m_pos--;
+                        }
+                        state = BEFORE_ATTRIBUTE_NAME;
+                    }
+                    break;
+                default: // SELF_CLOSING_TAG
+                    if (c == '>') {
+                        m_selfClosing = true;
+                        return true;
+                    }
+                    m_pos--;
+                    state = BEFORE_ATTRIBUTE_NAME;
+                    break;
+            }
+        }
+        return false;
+    }
+
+    /** Skips a comment, the current position is behind its opening "&lt;!--". */
+    private void skipComment() {
+        if (m_markup.startsWith(">", m_pos)) {
+            m_pos++;
+        } else if (m_markup.startsWith("->", m_pos)) {
+            m_pos += 2;
+        } else {
+            final int end = m_markup.indexOf("-->", m_pos);
+            final int bangEnd = m_markup.indexOf("--!>", m_pos);
+            if (bangEnd >= 0 && (end < 0 || bangEnd < end)) {
+                m_pos = bangEnd + 4;
+            } else {
+                m_pos = end >= 0 ? end + 3 : m_length;
+            }
+        }
+    }
+
+    private void skipPast(final char c) {
+        final int end = m_markup.indexOf(c, m_pos);
+        m_pos = end >= 0 ? end + 1 : m_length;
+    }
+
+    /** Reads the content of a title, script or style element and its end tag, appends the text of a title. */
+    private void readRawText(final String name) {
+        final int end = findEndTag(name);
+        final int contentEnd = end >= 0 ? end : m_length;
+        if ("title".equals(name)) {
+            if (end < 0) {
+                // Jsoup re-tokenizes an unterminated title as markup when it reaches the end of the input
+                throw UNSUPPORTED;
+            }
+            final StringBuilder title = new StringBuilder();
+            int pos = m_pos;
+            while (pos < contentEnd) {
+                final char c = m_markup.charAt(pos);
+                if (c == '&') {
+                    pos = readCharacterReference(pos + 1, contentEnd, title);
+                } else if (c == '\0') {
+                    throw UNSUPPORTED;
+                } else {
+                    title.append(c);
+                    pos++;
+                }
+            }
+            if (title.length() > 0) {
+                appendText(title, true);
+            }
+        } else if ("script".equals(name)) {
+            // escaped script content is tokenized differently
+            final int escape = m_markup.indexOf("<!--", m_pos);
+            if (escape >= 0 && escape < contentEnd) {
+                throw UNSUPPORTED;
+            }
+        }
+        if (end < 0) {
+            m_pos = m_length;
+        } else {
+            // an end tag cut off by the end of the input leaves the position there
+            m_pos = end + 2 + name.length();
+            readAttributes();
+        }
+    }
+
+    /** @return the position of the end tag of the given raw text element or -1 if there is none. */
+    private int findEndTag(final String name) {
+        int pos = m_pos;
+        while ((pos = m_markup.indexOf("</", pos)) >= 0) {
+            final char next = charAt(pos + 2 + name.length());
+            if ((next == '/' || next == '>' || isWhitespace(next))
+                && m_markup.regionMatches(true, pos + 2, name, 0, name.length())) {
+                return pos;
+            }
+            pos += 2;
+        }
+        return -1;
+    }
+
+    /**
+     * Reads a character reference and appends the referenced characters, or the '&amp;' itself if the reference is
+     * not valid.
+     *
+     * @param start the position behind the '&amp;'.
+     * @param end the position at which the reference ends at the latest.
+     * @param out the builder to append the characters to.
+     * @return the position behind the reference.
+     */
+    private int readCharacterReference(final int start, final int end, final StringBuilder out) {
+        if (start >= end) {
+            out.append('&');
+            return start;
+        }
+        final char first = m_markup.charAt(start);
+        if (isWhitespace(first) || first == '<' || first == '&') {
+            out.append('&');
+            return start;
+        }
+        int pos = start;
+        if (first == '#') {
+            pos++;
+            final boolean hex = pos < end && (m_markup.charAt(pos) == 'x' || m_markup.charAt(pos) == 'X');
+            if (hex) {
+                pos++;
+            }
+            final int digitsStart = pos;
+            while (pos < end && Character.digit(m_markup.charAt(pos), hex ? 16 : 10) >= 0
+                && m_markup.charAt(pos) < 128) {
+                pos++;
+            }
+            if (pos == digitsStart) {
+                out.append('&');
+                return start;
+            } else if (pos - digitsStart > 8) {
+                throw UNSUPPORTED;
+            }
+            final long codepoint = Long.parseLong(m_markup.substring(digitsStart, pos), hex ? 16 : 10);
+            // Jsoup replaces some of the code points, leave that to it
+            if (codepoint == 0 || (codepoint >= 0x80 && codepoint <= 0x9F)
+                || (codepoint >= Character.MIN_SURROGATE && codepoint <= Character.MAX_SURROGATE)
+                || codepoint > Character.MAX_CODE_POINT) {
+                throw UNSUPPORTED;
+            }
+            out.appendCodePoint((int)codepoint);
+        } else {
+            while (pos < end && (isAsciiLetter(m_markup.charAt(pos)) || Character.isLetter(m_markup.charAt(pos)))) {
+                pos++;
+            }
+            while (pos < end && m_markup.charAt(pos) >= '0' && m_markup.charAt(pos) <= '9') {
+                pos++;
+            }
+            final String name = m_markup.substring(start, pos);
+            final boolean terminated = pos < end && m_markup.charAt(pos) == ';';
+            // entities of HTML 4 are recognized without a semicolon, all others only with one
+            if (!Entities.isBaseNamedEntity(name) && !(terminated && Entities.isNamedEntity(name))) {
+                out.append('&');
+                return start;
+            }
+            final int noOfCodepoints = Entities.codepointsForName(name, m_codepoints);
+            for (int i = 0; i < noOfCodepoints; i++) {
+                out.appendCodePoint(m_codepoints[i]);
+            }
+        }
+        if (pos < end && m_markup.charAt(pos) == ';') {
+            pos++;
+        }
+        return pos;
+    }
+
+    //
+    /// TREE BUILDER
+    //
+
+    private void flushText() {
+        if (m_text.length() == 0) {
+            return;
+        }
+        final boolean blank = isBlank(m_text);
+        switch (m_mode) {
+            case BEFORE_HTML:
+            case BEFORE_HEAD:
+                if (blank) {
+                    m_text.setLength(0);
+                    return;
+                }
+                openBody();
+                break;
+            case IN_HEAD:
+            case AFTER_HEAD:
+                if (!blank) {
+                    openBody();
+                }
+                break;
+            case AFTER_BODY:
+                if (!blank) {
+                    throw UNSUPPORTED;
+                }
+                // trailing whitespace does not change the text
+                m_text.setLength(0);
+                return;
+            default:
+                break;
+        }
+        appendText(m_text, false);
+        m_text.setLength(0);
+    }
+
+    private void comment() {
+        m_pendingBlockEnd = false;
+    }
+
+    private void startTag(final String name) {
+        flushText();
+        if (m_selfClosing && !VOID_ELEMENTS.contains(name)) {
+            throw UNSUPPORTED;
+        }
+        if (m_mode < IN_BODY) {
+            if ("html".equals(name)) {
+                if (m_mode != BEFORE_HTML) {
+                    throw UNSUPPORTED;
+                }
+                openHtml();
+                return;
+            } else if ("head".equals(name)) {
+                if (m_mode != BEFORE_HTML && m_mode != BEFORE_HEAD) {
+                    throw UNSUPPORTED;
+                }
+                openHead();
+                return;
+            } else if (HEAD_ELEMENTS.contains(name)) {
+                if (m_mode == AFTER_HEAD) {
+                    throw UNSUPPORTED;
+                }
+                openHead();
+                headElement(name);
+                return;
+            }
+            openBody();
+            if ("body".equals(name)) {
+                return;
+            }
+        } else if (m_mode == AFTER_BODY) {
+            // the tree builder reopens elements after the end of the body
+            throw UNSUPPORTED;
+        }
+        bodyElement(name);
+    }
+
+    private void endTag(final String name) {
+        flushText();
+        if (m_mode < IN_BODY) {
+            if ("head".equals(name)) {
+                if (m_mode == AFTER_HEAD) {
+                    throw UNSUPPORTED;
+                }
+                closeHead();
+                return;
+            } else if ("body".equals(name) || "html".equals(name)) {
+                openBody();
+            } else if ("br".equals(name)) {
+                throw UNSUPPORTED;
+            } else {
+                // any other end tag is ignored before the body
+                return;
+            }
+        }
+        if ("body".equals(name) || "html".equals(name)) {
+            m_mode = AFTER_BODY;
+            return;
+        } else if (m_mode == AFTER_BODY) {
+            throw UNSUPPORTED;
+        }
+        if ("br".equals(name)) {
+            insertVoidElement(name);
+        } else if ("p".equals(name)) {
+            final int p = lastIndexOf(name);
+            if (p >= 0) {
+                popTo(p);
+            } else {
+                // a paragraph end without start creates an empty paragraph
+                insertVoidElement(name);
+            }
+        } else if ("li".equals(name)) {
+            final int li = findElement(name, LIST_BOUNDARIES);
+            if (li >= 0) {
+                popTo(li);
+            }
+        } else if (DEFINITION_ITEMS.contains(name) || BLOCK_CLOSERS.contains(name)) {
+            final int element = lastIndexOf(name);
+            if (element >= 0) {
+                popTo(element);
+            }
+        } else if (HEADINGS.contains(name)) {
+            final int heading = findItem(HEADINGS, NO_BOUNDARIES);
+            if (heading >= 0) {
+                popTo(heading);
+            }
+        } else if (FORMATTING_ELEMENTS.contains(name) && lastIndexOf(name) >= 0) {
+            if (!name.equals(m_openElements[m_depth - 1])) {
+                // mis-nested formatting elements are restructured by the tree builder
+                throw UNSUPPORTED;
+            }
+            pop();
+        } else if (DELEGATED_ELEMENTS.contains(name) || HEAD_ELEMENTS.contains(name)) {
+            throw UNSUPPORTED;
+        } else {
+            // closes the element unless a special element has been opened within it, otherwise it is ignored
+            final int element = findElement(name, SPECIAL_ELEMENTS);
+            if (element >= 0) {
+                popTo(element);
+            }
+        }
+    }
+
+    private void headElement(final String name) {
+        final boolean block = Tag.valueOf(name).isBlock();
+        openElement(name, block);
+        if (!VOID_ELEMENTS.contains(name)) {
+            readRawText(name);
+        }
+        m_pendingBlockEnd = block;
+    }
+
+    private void bodyElement(final String name) {
+        if (HEAD_ELEMENTS.contains(name)) {
+            headElement(name);
+            return;
+        }
+        final Tag tag = Tag.valueOf(name);
+        if (DELEGATED_ELEMENTS.contains(name) || tag.preserveWhitespace()
+            || (tag.isEmpty() && !VOID_ELEMENTS.contains(name))) {
+            throw UNSUPPORTED;
+        }
+        if ("li".equals(name)) {
+            closeItem(LIST_ITEMS);
+        } else if (DEFINITION_ITEMS.contains(name)) {
+            closeItem(DEFINITION_ITEMS);
+        } else if ("a".equals(name) && lastIndexOf(name) >= 0) {
+            throw UNSUPPORTED;
+        }
+        final int p = lastIndexOf("p");
+        if (p >= 0) {
+            if (PARAGRAPH_CLOSERS.contains(name)) {
+                popTo(p);
+            } else if (Tag.isKnownTag(name) && !PHRASING_ELEMENTS.contains(name)) {
+                throw UNSUPPORTED;
+            }
+        }
+        if (HEADINGS.contains(name) && m_depth > 0 && HEADINGS.contains(m_openElements[m_depth - 1])) {
+            pop();
+        }
+        if (VOID_ELEMENTS.contains(name)) {
+            insertVoidElement(name);
+        } else {
+            push(name, tag.isBlock());
+        }
+    }
+
+    /** Closes an open list or definition item if no other block is opened within it. */
+    private void closeItem(final Set<String> items) {
+        final int item = findItem(items, ITEM_BOUNDARIES);
+        if (item >= 0) {
+            popTo(item);
+        }
+    }
+
+    /** @return the index of the innermost open item in front of any of the boundaries or -1 if there is none. */
+    private int findItem(final Set<String> items, final Set<String> boundaries) {
+        for (int i = m_depth - 1; i >= 0; i--) {
+            final String element = m_openElements[i];
+            if (items.contains(element)) {
+                return i;
+            } else if (boundaries.contains(element)) {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    /** @return the index of the given open element in front of any of the boundaries or -1 if there is none. */
+    private int findElement(final String name, final Set<String> boundaries) {
+        for (int i = m_depth - 1; i >= 0; i--) {
+            final String element = m_openElements[i];
+            if (name.equals(element)) {
+                return i;
+            } else if (boundaries.contains(element)) {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    private void openHtml() {
+        if (m_mode == BEFORE_HTML) {
+            openElement("html", true);
+            m_mode = BEFORE_HEAD;
+        }
+    }
+
+    private void openHead() {
+        openHtml();
+        if (m_mode == BEFORE_HEAD) {
+            openElement("head", true);
+            m_mode = IN_HEAD;
+        }
+    }
+
+    private void closeHead() {
+        openHead();
+        if (m_mode == IN_HEAD) {
+            m_pendingBlockEnd = true;
+            m_mode = AFTER_HEAD;
+        }
+    }
+
+    private void openBody() {
+        closeHead();
+        if (m_mode == AFTER_HEAD) {
+            openElement("body", true);
+            m_mode = IN_BODY;
+        }
+    }
+
+    private void push(final String name, final boolean block) {
+        openElement(name, block);
+        if (m_depth == m_openElements.length) {
+            m_openElements = Arrays.copyOf(m_openElements, m_depth * 2);
+            m_openBlocks = Arrays.copyOf(m_openBlocks, m_depth * 2);
+        }
+        m_openElements[m_depth] = name;
+        m_openBlocks[m_depth] = block;
+        m_depth++;
+    }
+
+    private void pop() {
+        m_depth--;
+        m_pendingBlockEnd = m_openBlocks[m_depth];
+    }
+
+    /** Closes the open element at the given index and all elements opened within it. */
+    private void popTo(final int index) {
+        for (int i = m_depth - 1; i > index; i--) {
+            // implicitly closed formatting elements would be reopened by the tree builder
+            if (FORMATTING_ELEMENTS.contains(m_openElements[i])) {
+                throw UNSUPPORTED;
+            }
+        }
+        m_depth = index + 1;
+        pop();
+    }
+
+    private int lastIndexOf(final String name) {
+        for (int i = m_depth - 1; i >= 0; i--) {
+            if (name.equals(m_openElements[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void insertVoidElement(final String name) {
+        final boolean block = Tag.valueOf(name).isBlock();
+        openElement(name, block);
+        m_pendingBlockEnd = block;
+    }
+
+    //
+    /// TEXT
+    //
+
+    /** Separates a block or line break from the preceding text, same as Jsoup's {@code Element.text()}. */
+    private void openElement(final String name, final boolean block) {
+        m_pendingBlockEnd = false;
+        if ((block || "br".equals(name)) && m_accum.length() > 0 && !lastCharIsSpace()) {
+            m_accum.append(' ');
+        }
+    }
+
+    private void appendText(final CharSequence text, final boolean preserveWhitespace) {
+        if (m_pendingBlockEnd && !lastCharIsSpace()) {
+            m_accum.append(' ');
+        }
+        m_pendingBlockEnd = false;
+        if (preserveWhitespace) {
+            m_accum.append(text);
+            return;
+        }
+        final boolean stripLeading = lastCharIsSpace();
+        boolean lastWasWhite = false;
+        boolean reachedNonWhite = false;
+        for (int i = 0; i < text.length(); i++) {
+            final char c = text.charAt(i);
+            if (isWhitespace(c) || c == NO_BREAK_SPACE) {
+                if ((stripLeading && !reachedNonWhite) || lastWasWhite) {
+                    continue;
+                }
+                m_accum.append(' ');
+                lastWasWhite = true;
+            } else if (c != ZERO_WIDTH_SPACE && c != SOFT_HYPHEN) {
+                m_accum.append(c);
+                lastWasWhite = false;
+                reachedNonWhite = true;
+            }
+        }
+    }
+
+    private boolean lastCharIsSpace() {
+        return m_accum.length() > 0 && m_accum.charAt(m_accum.length() - 1) == ' ';
+    }
+
+    private char charAt(final int pos) {
+        return pos < m_length ? m_markup.charAt(pos) : EOF;
+    }
+
+    private static boolean isBlank(final CharSequence text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (!isWhitespace(text.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isWhitespace(final char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\f' || c == '\r';
+    }
+
+    private static boolean isAsciiLetter(final char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    private static Set<String> set(final String... names) {
+        return new HashSet<>(Arrays.asList(names));
+    }
+
+    /**
+     * Thrown if the markup requires the HTML tree builder of Jsoup. It is used like a signal and has no stack trace.
+     */
+    private static final class UnsupportedMarkupException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        UnsupportedMarkupException() {
+            super(null, null, false, false);
+        }
+    }
+}
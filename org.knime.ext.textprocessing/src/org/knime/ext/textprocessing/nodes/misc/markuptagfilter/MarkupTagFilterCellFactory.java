@@ -50,7 +50,6 @@
 
 import org.apache.commons.lang3.concurrent.ConcurrentException;
 import org.apache.commons.lang3.concurrent.LazyInitializer;
-import org.jsoup.Jsoup;
 import org.knime.core.data.DataCell;
 import org.knime.core.data.DataColumnSpec;
 import org.knime.core.data.DataRow;
@@ -93,6 +92,7 @@ class MarkupTagFilterCellFactory extends AbstractCellFactory {
     MarkupTagFilterCellFactory(final int[] colIndexToFilter, final DataColumnSpec[] newColSpecs,
         final String tokenizerName) {
         super(newColSpecs);
+        this.setParallelProcessing(true);
         m_tokenizerName = tokenizerName;
 
         m_colIndexToFilter = colIndexToFilter;
@@ -166,20 +166,23 @@ public DataCell[] getCells(final DataRow row) {
                         int j = 0;
                         for (Section sec : doc.getSections()) {
                             docAnnos[j] = sec.getAnnotation();
-                            docSecTexts[j] = Jsoup.parse(sec.getTextWithWsSuffix()).text();
+                            docSecTexts[j] = MarkupStripper.strip(sec.getTextWithWsSuffix());
                             docBuilder.addSection(docSecTexts[j], docAnnos[j]);
                             j++;
                         }
 
                         // create new document and attach it to the output cell
 
-                        DataCellCache dataCellCache = getDataCellCache();
-
-                        outCell = dataCellCache.getInstance(docBuilder.createDocument());
+                        final Document filteredDoc = docBuilder.createDocument();
+                        final DataCellCache dataCellCache = getDataCellCache();
+                        // the cache is not thread safe but the cells are processed in parallel
+                        synchronized (dataCellCache) {
+                            outCell = dataCellCache.getInstance(filteredDoc);
+                        }
 
                     } else if (row.getCell(i).getType().isCompatible(StringValue.class)) {
                         String value = ((StringValue)row.getCell(i)).getStringValue();
-                        value = Jsoup.parse(value).text();
+                        value = MarkupStripper.strip(value);
 
                         outCell = StringCellFactory.create(value);
                     } else {
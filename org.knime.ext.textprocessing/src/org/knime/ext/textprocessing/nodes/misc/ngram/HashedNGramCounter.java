@@ -0,0 +1,910 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.ext.textprocessing.nodes.misc.ngram;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.knime.core.data.util.memory.MemoryAlert;
+import org.knime.core.data.util.memory.MemoryAlertListener;
+import org.knime.core.data.util.memory.MemoryAlertSystem;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.NodeLogger;
+import org.knime.core.util.FileUtil;
+import org.knime.ext.textprocessing.data.Document;
+import org.knime.ext.textprocessing.data.Sentence;
+import org.knime.ext.textprocessing.data.Tag;
+import org.knime.ext.textprocessing.data.Term;
+import org.knime.ext.textprocessing.data.Word;
+
+/**
+ * Counts word or character n-grams and their corpus, document and block (sentence or word) frequencies without
+ * keeping strings or text containers per n-gram. Words are interned to integer ids, characters are used as ids
+ * directly, and n-grams are identified by a rolling 64-bit hash over the ids.
+ *
+ * <p>
+ * Documents are counted by {@link Partition Partitions}, each of which is used by a single worker thread and holds its
+ * counts in a primitive {@link NGramHashMap}. If a partition exceeds its maximum size or the memory alert system
+ * reports low memory, the partition writes its counts as a run sorted by hash to disk and starts over.
+ * {@link #merge(NGramConsumer, ExecutionMonitor)} finally merges all runs and partitions.
+ * </p>
+ *
+ * <p>
+ * The counts equal those of {@link NGramFrequencyDataTableCreator}: documents are distinguished by their UUID and
+ * blocks by their content, i.e. documents with the same UUID and blocks with the same content are counted only once
+ * for the document and block frequencies. The UUIDs and block contents seen so far, as well as the word dictionary,
+ * are kept in {@link SpillingKeyMap SpillingKeyMaps}, which compare the actual contents on equal hashes and move to
+ * disk together with the partitions.
+ * </p>
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 5.12
+ */
+final class HashedNGramCounter implements Closeable {
+
+    /**
+     * Consumer of the merged n-grams and their frequencies.
+     */
+    @FunctionalInterface
+    interface NGramConsumer {
+
+        /**
+         * @param nGram the n-gram.
+         * @param corpusFreq the frequency of the n-gram in the corpus.
+         * @param documentFreq the number of documents containing the n-gram.
+         * @param blockFreq the number of blocks (sentences or words) containing the n-gram.
+         * @param firstOccurrence the position of the first occurrence of the n-gram, consisting of the document index
+         *            in the upper and the index of the n-gram in the document in the lower 32 bits.
+         * @throws CanceledExecutionException if the execution has been canceled.
+         */
+        void accept(String nGram, int corpusFreq, int documentFreq, int blockFreq, long firstOccurrence)
+            throws CanceledExecutionException;
+    }
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(HashedNGramCounter.class);
+
+    /**
+     * The default maximum number of distinct n-grams held by a partition before it is spilled to disk.
+     */
+    private static final int DEF_MAX_PARTITION_SIZE = 1 << 20;
+
+    /** The maximum number of word ids cached by each partition. */
+    private static final int MAX_CACHED_IDS = 1 << 16;
+
+    /** The number of words between two entries of the index of the spilled dictionary. */
+    private static final int INDEX_INTERVAL = 64;
+
+    /** The maximum number of runs merged at once. */
+    private static final int MAX_MERGE_FAN_IN = 64;
+
+    private static final long HASH_BASE = 0x100000001b3L;
+
+    private final int m_n;
+
+    private final boolean m_characterNGrams;
+
+    private final String m_wordSeparator;
+
+    private final boolean m_countDocumentFreqs;
+
+    private final int m_maxPartitionSize;
+
+    /** HASH_BASE to the power of n - 1, to remove the first token from a rolling hash. */
+    private final long m_basePower;
+
+    private final TokenDictionary m_dictionary;
+
+    private final SpillingKeyMap m_countedDocuments;
+
+    private final SpillingKeyMap m_countedBlocks;
+
+    private final List<Partition> m_partitions = new ArrayList<Partition>();
+
+    private final List<File> m_runs = new ArrayList<File>();
+
+    private File m_spillDir;
+
+    private final AtomicInteger m_memoryAlerts = new AtomicInteger();
+
+    private final MemoryAlertListener m_memoryAlertListener = new MemoryAlertListener() {
+        @Override
+        protected boolean memoryAlert(final MemoryAlert alert) {
+            LOGGER.debug("Low memory encountered, spilling n-gram counts to disk.");
+            m_memoryAlerts.incrementAndGet();
+            return false;
+        }
+    };
+
+    /**
+     * Creates a new counter.
+     *
+     * @param n the N value.
+     * @param characterNGrams {@code true} to count character n-grams, {@code false} to count word n-grams.
+     * @param wordSeparator the string separating the words of word n-grams.
+     * @param countDocumentFreqs {@code true} to count document and block frequencies.
+     */
+    HashedNGramCounter(final int n, final boolean characterNGrams, final String wordSeparator,
+        final boolean countDocumentFreqs) {
+        this(n, characterNGrams, wordSeparator, countDocumentFreqs, DEF_MAX_PARTITION_SIZE);
+    }
+
+    /**
+     * Creates a new counter.
+     *
+     * @param n the N value.
+     * @param characterNGrams {@code true} to count character n-grams, {@code false} to count word n-grams.
+     * @param wordSeparator the string separating the words of word n-grams.
+     * @param countDocumentFreqs {@code true} to count document and block frequencies.
+     * @param maxPartitionSize the maximum number of distinct n-grams held by a partition before it is spilled.
+     */
+    HashedNGramCounter(final int n, final boolean characterNGrams, final String wordSeparator,
+        final boolean countDocumentFreqs, final int maxPartitionSize) {
+        if (n <= 0) {
+            throw new IllegalArgumentException("N value must be positive for n gram extraction!");
+        }
+        m_n = n;
+        m_characterNGrams = characterNGrams;
+        m_wordSeparator = wordSeparator != null ? wordSeparator : NGramWordIterator.DEFAULT_WORD_SEPARATOR;
+        m_countDocumentFreqs = countDocumentFreqs;
+        m_maxPartitionSize = maxPartitionSize;
+        long basePower = 1;
+        for (int i = 1; i < n; i++) {
+            basePower *= HASH_BASE;
+        }
+        m_basePower = basePower;
+        m_dictionary = new TokenDictionary(this::createRunFile, maxPartitionSize);
+        m_countedDocuments = new SpillingKeyMap(this::createRunFile, maxPartitionSize);
+        m_countedBlocks = new SpillingKeyMap(this::createRunFile, maxPartitionSize);
+        MemoryAlertSystem.getInstance().addListener(m_memoryAlertListener);
+    }
+
+    /**
+     * Creates a new partition. Partitions are not thread safe, each worker thread has to use its own partition.
+     *
+     * @return a new partition.
+     */
+    Partition createPartition() {
+        final Partition partition = new Partition();
+        synchronized (m_partitions) {
+            m_partitions.add(partition);
+        }
+        return partition;
+    }
+
+    /**
+     * @return the number of n-gram runs spilled to disk so far.
+     */
+    int getNumberOfRuns() {
+        synchronized (m_runs) {
+            return m_runs.size();
+        }
+    }
+
+    /**
+     * @return the number of runs of the document UUIDs, block contents and words spilled to disk so far.
+     */
+    int getNumberOfKeyRuns() {
+        return m_countedDocuments.getNumberOfRuns() + m_countedBlocks.getNumberOfRuns()
+            + m_dictionary.m_ids.getNumberOfRuns();
+    }
+
+    /**
+     * Merges the counts of all partitions and spilled runs and passes each distinct n-gram with its frequencies to
+     * the given consumer. N-grams are passed in the order of their hashes. No documents may be added concurrently.
+     *
+     * @param consumer the consumer of the merged n-grams.
+     * @param exec the execution monitor to check for cancellation.
+     * @throws IOException if spilled runs cannot be read or written.
+     * @throws CanceledExecutionException if the execution has been canceled.
+     */
+    void merge(final NGramConsumer consumer, final ExecutionMonitor exec)
+        throws IOException, CanceledExecutionException {
+        final List<File> runs;
+        synchronized (m_runs) {
+            runs = new ArrayList<File>(m_runs);
+        }
+
+        // merge runs until all remaining runs and partitions can be merged at once
+        while (runs.size() > 1 && runs.size() + m_partitions.size() > MAX_MERGE_FAN_IN) {
+            exec.checkCanceled();
+            final int groupSize = Math.min(MAX_MERGE_FAN_IN, runs.size());
+            final List<File> group = new ArrayList<File>(runs.subList(0, groupSize));
+            runs.subList(0, groupSize).clear();
+            final File merged = createRunFile();
+            final List<RunCursor> cursors = new ArrayList<RunCursor>();
+            try (final RunWriter writer = new RunWriter(merged)) {
+                for (final File run : group) {
+                    cursors.add(new FileCursor(run, m_n));
+                }
+                mergeCursors(cursors, writer::write, exec);
+            } finally {
+                closeAll(cursors);
+            }
+            for (final File run : group) {
+                if (!run.delete()) {
+                    LOGGER.debug("N-gram run " + run.getName() + " could not be deleted.");
+                }
+            }
+            runs.add(merged);
+        }
+
+        final List<RunCursor> cursors = new ArrayList<RunCursor>();
+        try {
+            for (final Partition partition : m_partitions) {
+                cursors.add(new PartitionCursor(partition.m_map, m_n));
+            }
+            for (final File run : runs) {
+                cursors.add(new FileCursor(run, m_n));
+            }
+            mergeCursors(cursors, (hash, tokens, corpusFreq, docFreq, blockFreq, firstOccurrence) -> consumer
+                .accept(toNGram(tokens), corpusFreq, docFreq, blockFreq, firstOccurrence), exec);
+        } finally {
+            closeAll(cursors);
+        }
+    }
+
+    private void mergeCursors(final List<RunCursor> cursors, final EntryConsumer consumer,
+        final ExecutionMonitor exec) throws IOException, CanceledExecutionException {
+        final PriorityQueue<RunCursor> queue =
+            new PriorityQueue<RunCursor>(Math.max(1, cursors.size()), HashedNGramCounter::compare);
+        for (final RunCursor cursor : cursors) {
+            if (cursor.next()) {
+                queue.add(cursor);
+            }
+        }
+
+        final int[] tokens = new int[m_n];
+        long count = 0;
+        while (!queue.isEmpty()) {
+            final RunCursor cursor = queue.poll();
+            final long hash = cursor.m_hash;
+            System.arraycopy(cursor.m_tokens, 0, tokens, 0, m_n);
+            int corpusFreq = cursor.m_corpusFreq;
+            int docFreq = cursor.m_docFreq;
+            int blockFreq = cursor.m_blockFreq;
+            long firstOccurrence = cursor.m_firstOccurrence;
+            if (cursor.next()) {
+                queue.add(cursor);
+            }
+
+            // sum up the counts of the same n-gram in other runs
+            while (!queue.isEmpty() && queue.peek().m_hash == hash && Arrays.equals(queue.peek().m_tokens, tokens)) {
+                final RunCursor other = queue.poll();
+                corpusFreq += other.m_corpusFreq;
+                docFreq += other.m_docFreq;
+                blockFreq += other.m_blockFreq;
+                firstOccurrence = Math.min(firstOccurrence, other.m_firstOccurrence);
+                if (other.next()) {
+                    queue.add(other);
+                }
+            }
+
+            consumer.accept(hash, tokens, corpusFreq, docFreq, blockFreq, firstOccurrence);
+            if ((++count & 0xFFFF) == 0) {
+                exec.checkCanceled();
+            }
+        }
+    }
+
+    private static int compare(final RunCursor c1, final RunCursor c2) {
+        final int c = Long.compare(c1.m_hash, c2.m_hash);
+        if (c != 0) {
+            return c;
+        }
+        return Arrays.compare(c1.m_tokens, c2.m_tokens);
+    }
+
+    private String toNGram(final int[] tokens) throws IOException {
+        final StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < tokens.length; i++) {
+            if (m_characterNGrams) {
+                sb.append((char)tokens[i]);
+            } else {
+                if (i > 0) {
+                    sb.append(m_wordSeparator);
+                }
+                sb.append(m_dictionary.getToken(tokens[i]));
+            }
+        }
+        return sb.toString();
+    }
+
+    private File createRunFile() throws IOException {
+        synchronized (m_runs) {
+            if (m_spillDir == null) {
+                m_spillDir = FileUtil.createTempDir("ngrams");
+            }
+            return File.createTempFile("run", ".bin", m_spillDir);
+        }
+    }
+
+    private static void closeAll(final List<RunCursor> cursors) {
+        for (final RunCursor cursor : cursors) {
+            try {
+                cursor.close();
+            } catch (IOException e) {
+                LOGGER.debug("N-gram run could not be closed: " + e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * Deletes all spilled runs and releases the partitions.
+     */
+    @Override
+    public void close() {
+        MemoryAlertSystem.getInstance().removeListener(m_memoryAlertListener);
+        m_dictionary.close();
+        m_countedDocuments.close();
+        m_countedBlocks.close();
+        synchronized (m_runs) {
+            m_runs.clear();
+            if (m_spillDir != null) {
+                FileUtil.deleteRecursively(m_spillDir);
+                m_spillDir = null;
+            }
+        }
+        m_partitions.clear();
+    }
+
+    private static long token(final int id) {
+        return (id + 1) * 0x9e3779b97f4a7c15L;
+    }
+
+    private static long hash(final long hash, final String s) {
+        long h = hash;
+        for (int i = 0; i < s.length(); i++) {
+            h = h * HASH_BASE + s.charAt(i);
+        }
+        return h * HASH_BASE + s.length();
+    }
+
+    private static long hash(final int[] key, final int length) {
+        long h = 1;
+        for (int i = 0; i < length; i++) {
+            h = h * HASH_BASE + key[i];
+        }
+        return h * HASH_BASE + length;
+    }
+
+    /**
+     * Counts the n-grams of the documents it is given. Each partition must only be used by a single thread at a time.
+     */
+    final class Partition {
+
+        private final NGramHashMap m_map = new NGramHashMap(m_n);
+
+        private int[] m_tokens = new int[64];
+
+        /** The content of the current block, see {@link #addSentenceKey(Sentence)}. */
+        private int[] m_blockKey = new int[64];
+
+        private int m_blockKeyLength;
+
+        private final int[] m_documentKey = new int[4];
+
+        /** Caches the ids of frequent words to avoid synchronizing on the shared dictionary. */
+        private final Map<String, Integer> m_ids = new HashMap<String, Integer>();
+
+        private int m_docSeq = 0;
+
+        private int m_blockSeq = 0;
+
+        private int m_memoryAlertsSeen = m_memoryAlerts.get();
+
+        private Partition() {
+        }
+
+        /**
+         * Counts the n-grams of the given document.
+         *
+         * @param doc the document to count the n-grams of.
+         * @param docIndex the index of the document in the input, used to determine the first occurrence of n-grams.
+         * @throws IOException if the counts cannot be spilled to disk.
+         */
+        void addDocument(final Document doc, final int docIndex) throws IOException {
+            final boolean countDoc = m_countDocumentFreqs && isNewDocument(doc.getUUID());
+            m_docSeq++;
+            long occurrence = (long)docIndex << 32;
+
+            final Iterator<Sentence> it = doc.sentenceIterator();
+            while (it.hasNext()) {
+                final Sentence sentence = it.next();
+                if (m_characterNGrams) {
+                    for (final Term term : sentence.getTerms()) {
+                        for (final Word word : term.getWords()) {
+                            final String text = word.getText();
+                            ensureTokenCapacity(text.length());
+                            for (int i = 0; i < text.length(); i++) {
+                                m_tokens[i] = text.charAt(i);
+                            }
+                            occurrence = countBlock(text.length(), occurrence, countDoc, m_countDocumentFreqs
+                                && text.length() >= m_n && isNewBlock(m_tokens, text.length()));
+                        }
+                    }
+                } else {
+                    int length = 0;
+                    for (final Term term : sentence.getTerms()) {
+                        for (final Word word : term.getWords()) {
+                            ensureTokenCapacity(length + 1);
+                            m_tokens[length++] = getId(word.getText());
+                        }
+                    }
+                    occurrence = countBlock(length, occurrence, countDoc, m_countDocumentFreqs && length >= m_n
+                        && isNewBlock(addSentenceKey(sentence), m_blockKeyLength));
+                }
+            }
+
+            final int memoryAlerts = m_memoryAlerts.get();
+            if (memoryAlerts != m_memoryAlertsSeen) {
+                m_memoryAlertsSeen = memoryAlerts;
+                spill();
+                m_dictionary.spill();
+                m_countedDocuments.spill();
+                m_countedBlocks.spill();
+            } else if (m_map.size() >= m_maxPartitionSize) {
+                spill();
+            }
+        }
+
+        private int getId(final String word) throws IOException {
+            final Integer cached = m_ids.get(word);
+            if (cached != null) {
+                return cached;
+            }
+            final int id = m_dictionary.getId(word);
+            if (m_ids.size() >= MAX_CACHED_IDS) {
+                m_ids.clear();
+            }
+            m_ids.put(word, id);
+            return id;
+        }
+
+        private boolean isNewDocument(final UUID uuid) throws IOException {
+            final long msb = uuid.getMostSignificantBits();
+            final long lsb = uuid.getLeastSignificantBits();
+            m_documentKey[0] = (int)(msb >>> 32);
+            m_documentKey[1] = (int)msb;
+            m_documentKey[2] = (int)(lsb >>> 32);
+            m_documentKey[3] = (int)lsb;
+            return m_countedDocuments.putIfAbsent(hash(m_documentKey, 4), m_documentKey, 4,
+                0) == SpillingKeyMap.NO_VALUE;
+        }
+
+        private boolean isNewBlock(final int[] key, final int length) throws IOException {
+            return m_countedBlocks.putIfAbsent(hash(key, length), key, length, 0) == SpillingKeyMap.NO_VALUE;
+        }
+
+        /**
+         * Encodes everything {@link Sentence#equals(Object)} considers into the block key: per term a marker for the
+         * unmodifiable flag, the word ids, a separator and the tag types and values as length-prefixed characters.
+         * Word ids, lengths and characters are non-negative, so the markers make the encoding unambiguous.
+         *
+         * @return the block key.
+         */
+        private int[] addSentenceKey(final Sentence sentence) throws IOException {
+            m_blockKeyLength = 0;
+            for (final Term term : sentence.getTerms()) {
+                addToBlockKey(term.isUnmodifiable() ? -1 : -2);
+                for (final Word word : term.getWords()) {
+                    addToBlockKey(getId(word.getWord()));
+                }
+                addToBlockKey(-3);
+                for (final Tag tag : term.getTags()) {
+                    addToBlockKey(tag.getTagType());
+                    addToBlockKey(tag.getTagValue());
+                }
+            }
+            return m_blockKey;
+        }
+
+        private void addToBlockKey(final String s) {
+            addToBlockKey(s.length());
+            for (int i = 0; i < s.length(); i++) {
+                addToBlockKey(s.charAt(i));
+            }
+        }
+
+        private void addToBlockKey(final int i) {
+            if (m_blockKeyLength == m_blockKey.length) {
+                m_blockKey = Arrays.copyOf(m_blockKey, 2 * m_blockKey.length);
+            }
+            m_blockKey[m_blockKeyLength++] = i;
+        }
+
+        private long countBlock(final int length, final long occurrence, final boolean countDoc,
+            final boolean countBlock) {
+            if (length < m_n) {
+                return occurrence;
+            }
+            final int doc = countDoc ? m_docSeq : 0;
+            final int block = countBlock ? ++m_blockSeq : 0;
+
+            long pos = occurrence;
+            long hash = 0;
+            for (int i = 0; i < m_n; i++) {
+                hash = hash * HASH_BASE + token(m_tokens[i]);
+            }
+            m_map.count(hash, m_tokens, 0, pos++, doc, block);
+            for (int i = 1; i + m_n <= length; i++) {
+                hash = (hash - token(m_tokens[i - 1]) * m_basePower) * HASH_BASE + token(m_tokens[i + m_n - 1]);
+                m_map.count(hash, m_tokens, i, pos++, doc, block);
+            }
+            return pos;
+        }
+
+        private void ensureTokenCapacity(final int capacity) {
+            if (capacity > m_tokens.length) {
+                m_tokens = Arrays.copyOf(m_tokens, Math.max(capacity, 2 * m_tokens.length));
+            }
+        }
+
+        /**
+         * Writes the counts of this partition as a sorted run to disk and clears the partition.
+         */
+        private void spill() throws IOException {
+            if (m_map.size() == 0) {
+                return;
+            }
+            final File run = createRunFile();
+            LOGGER.debug("Spilling " + m_map.size() + " n-grams to " + run.getName() + ".");
+            final int[] tokens = new int[m_n];
+            try (final RunWriter writer = new RunWriter(run)) {
+                for (final int e : m_map.sortedEntries()) {
+                    m_map.getTokens(e, tokens);
+                    writer.write(m_map.getHash(e), tokens, m_map.getCorpusFrequency(e),
+                        m_map.getDocumentFrequency(e), m_map.getBlockFrequency(e), m_map.getFirstOccurrence(e));
+                }
+            }
+            synchronized (m_runs) {
+                m_runs.add(run);
+            }
+            m_map.clear();
+        }
+    }
+
+    @FunctionalInterface
+    private interface EntryConsumer {
+        void accept(long hash, int[] tokens, int corpusFreq, int docFreq, int blockFreq, long firstOccurrence)
+            throws IOException, CanceledExecutionException;
+    }
+
+    private static final class RunWriter implements Closeable {
+
+        private final DataOutputStream m_out;
+
+        RunWriter(final File file) throws IOException {
+            m_out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file), 1 << 16));
+        }
+
+        void write(final long hash, final int[] tokens, final int corpusFreq, final int docFreq,
+            final int blockFreq, final long firstOccurrence) throws IOException {
+            m_out.writeLong(hash);
+            for (final int token : tokens) {
+                m_out.writeInt(token);
+            }
+            m_out.writeInt(corpusFreq);
+            m_out.writeInt(docFreq);
+            m_out.writeInt(blockFreq);
+            m_out.writeLong(firstOccurrence);
+        }
+
+        @Override
+        public void close() throws IOException {
+            m_out.close();
+        }
+    }
+
+    /**
+     * A cursor over the entries of a run, sorted by hash and tokens.
+     */
+    private abstract static class RunCursor implements Closeable {
+
+        long m_hash;
+
+        final int[] m_tokens;
+
+        int m_corpusFreq;
+
+        int m_docFreq;
+
+        int m_blockFreq;
+
+        long m_firstOccurrence;
+
+        RunCursor(final int n) {
+            m_tokens = new int[n];
+        }
+
+        /**
+         * Moves the cursor to the next entry.
+         *
+         * @return {@code true} if there is a next entry, {@code false} if the run is exhausted.
+         */
+        abstract boolean next() throws IOException;
+
+        @Override
+        public void close() throws IOException {
+            // nothing to close by default
+        }
+    }
+
+    private static final class PartitionCursor extends RunCursor {
+
+        private final NGramHashMap m_map;
+
+        private final int[] m_entries;
+
+        private int m_index = 0;
+
+        PartitionCursor(final NGramHashMap map, final int n) {
+            super(n);
+            m_map = map;
+            m_entries = map.sortedEntries();
+        }
+
+        @Override
+        boolean next() {
+            if (m_index >= m_entries.length) {
+                return false;
+            }
+            final int e = m_entries[m_index++];
+            m_hash = m_map.getHash(e);
+            m_map.getTokens(e, m_tokens);
+            m_corpusFreq = m_map.getCorpusFrequency(e);
+            m_docFreq = m_map.getDocumentFrequency(e);
+            m_blockFreq = m_map.getBlockFrequency(e);
+            m_firstOccurrence = m_map.getFirstOccurrence(e);
+            return true;
+        }
+    }
+
+    private static final class FileCursor extends RunCursor {
+
+        private final DataInputStream m_in;
+
+        FileCursor(final File file, final int n) throws IOException {
+            super(n);
+            m_in = new DataInputStream(new BufferedInputStream(new FileInputStream(file), 1 << 16));
+        }
+
+        @Override
+        boolean next() throws IOException {
+            try {
+                m_hash = m_in.readLong();
+            } catch (EOFException e) {
+                return false;
+            }
+            for (int i = 0; i < m_tokens.length; i++) {
+                m_tokens[i] = m_in.readInt();
+            }
+            m_corpusFreq = m_in.readInt();
+            m_docFreq = m_in.readInt();
+            m_blockFreq = m_in.readInt();
+            m_firstOccurrence = m_in.readLong();
+            return true;
+        }
+
+        @Override
+        public void close() throws IOException {
+            m_in.close();
+        }
+    }
+
+    /**
+     * Interns words to integer ids, shared by all partitions so that ids are comparable across runs. The words and
+     * their ids are kept in a {@link SpillingKeyMap}, the words in the order of their ids are appended to a file
+     * whenever the map is spilled.
+     */
+    private static final class TokenDictionary implements Closeable {
+
+        private static final int MAX_CACHED_TOKENS = 1 << 14;
+
+        private final SpillingKeyMap m_ids;
+
+        private final SpillingKeyMap.RunFileFactory m_files;
+
+        private final int m_maxSize;
+
+        /** The words whose ids are at least {@link #m_spilledTokens}. */
+        private final List<String> m_tokens = new ArrayList<String>();
+
+        private int m_spilledTokens = 0;
+
+        private File m_tokenFile;
+
+        private RandomAccessFile m_tokenAccess;
+
+        /** The file offset of every {@value HashedNGramCounter#INDEX_INTERVAL}th spilled word. */
+        private long[] m_tokenOffsets = new long[16];
+
+        private long m_tokenFileLength = 0;
+
+        private int[] m_key = new int[64];
+
+        private final Map<Integer, String> m_tokenCache = new LinkedHashMap<Integer, String>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Integer, String> eldest) {
+                return size() > MAX_CACHED_TOKENS;
+            }
+        };
+
+        TokenDictionary(final SpillingKeyMap.RunFileFactory files, final int maxSize) {
+            m_ids = new SpillingKeyMap(files, maxSize);
+            m_files = files;
+            m_maxSize = maxSize;
+        }
+
+        synchronized int getId(final String token) throws IOException {
+            if (token.length() > m_key.length) {
+                m_key = new int[Math.max(token.length(), 2 * m_key.length)];
+            }
+            for (int i = 0; i < token.length(); i++) {
+                m_key[i] = token.charAt(i);
+            }
+            final int nextId = m_spilledTokens + m_tokens.size();
+            final int id = m_ids.putIfAbsent(hash(1, token), m_key, token.length(), nextId);
+            if (id != SpillingKeyMap.NO_VALUE) {
+                return id;
+            }
+            m_tokens.add(token);
+            if (m_tokens.size() >= m_maxSize) {
+                spillTokens();
+            }
+            return nextId;
+        }
+
+        synchronized String getToken(final int id) throws IOException {
+            if (id >= m_spilledTokens) {
+                return m_tokens.get(id - m_spilledTokens);
+            }
+            final String cached = m_tokenCache.get(id);
+            if (cached != null) {
+                return cached;
+            }
+            final int block = id / INDEX_INTERVAL;
+            final long end =
+                (block + 1) * INDEX_INTERVAL < m_spilledTokens ? m_tokenOffsets[block + 1] : m_tokenFileLength;
+            final byte[] bytes = new byte[(int)(end - m_tokenOffsets[block])];
+            m_tokenAccess.seek(m_tokenOffsets[block]);
+            m_tokenAccess.readFully(bytes);
+            final DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+            for (int i = block * INDEX_INTERVAL; i < id; i++) {
+                in.skipBytes(2 * in.readInt());
+            }
+            final char[] chars = new char[in.readInt()];
+            for (int i = 0; i < chars.length; i++) {
+                chars[i] = in.readChar();
+            }
+            final String token = new String(chars);
+            m_tokenCache.put(id, token);
+            return token;
+        }
+
+        /**
+         * Spills the words and their ids to disk.
+         */
+        synchronized void spill() throws IOException {
+            m_ids.spill();
+            spillTokens();
+        }
+
+        private void spillTokens() throws IOException {
+            if (m_tokens.isEmpty()) {
+                return;
+            }
+            if (m_tokenAccess == null) {
+                m_tokenFile = m_files.createRunFile();
+                m_tokenAccess = new RandomAccessFile(m_tokenFile, "rw");
+            }
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            final DataOutputStream out = new DataOutputStream(bytes);
+            long offset = m_tokenFileLength;
+            for (final String token : m_tokens) {
+                if (m_spilledTokens % INDEX_INTERVAL == 0) {
+                    final int block = m_spilledTokens / INDEX_INTERVAL;
+                    if (block >= m_tokenOffsets.length) {
+                        m_tokenOffsets = Arrays.copyOf(m_tokenOffsets, 2 * m_tokenOffsets.length);
+                    }
+                    m_tokenOffsets[block] = offset + out.size();
+                }
+                out.writeInt(token.length());
+                out.writeChars(token);
+                m_spilledTokens++;
+            }
+            out.flush();
+            m_tokenAccess.seek(m_tokenFileLength);
+            m_tokenAccess.write(bytes.toByteArray());
+            m_tokenFileLength += bytes.size();
+            m_tokens.clear();
+        }
+
+        @Override
+        public synchronized void close() {
+            m_ids.close();
+            m_tokens.clear();
+            m_tokenCache.clear();
+            if (m_tokenAccess != null) {
+                try {
+                    m_tokenAccess.close();
+                } catch (IOException e) {
+                    LOGGER.debug("N-gram dictionary could not be closed: " + e.getMessage(), e);
+                }
+                m_tokenAccess = null;
+            }
+            if (m_tokenFile != null && !m_tokenFile.delete()) {
+                LOGGER.debug("N-gram dictionary " + m_tokenFile.getName() + " could not be deleted.");
+            }
+        }
+    }
+}
@@ -0,0 +1,322 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.ext.textprocessing.nodes.misc.ngram;
+
+import java.util.Arrays;
+
+/**
+ * An open addressing hash map counting the corpus, document and block frequencies of n-grams. N-grams are sequences
+ * of n integer tokens, identified by a 64-bit rolling hash. The tokens of each n-gram are stored as well and compared
+ * on equal hashes, so hash collisions do not falsify the counts. All data is kept in primitive arrays, entries are
+ * addressed by their insertion index. Instances are not thread safe.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 5.12
+ */
+final class NGramHashMap {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final int m_n;
+
+    /** The hash table, containing entry index + 1 or 0 for empty slots. */
+    private int[] m_table;
+
+    private int m_size;
+
+    private long[] m_hashes;
+
+    private int[] m_tokens;
+
+    private int[] m_corpusFreqs;
+
+    private int[] m_docFreqs;
+
+    private int[] m_blockFreqs;
+
+    private int[] m_lastDocs;
+
+    private int[] m_lastBlocks;
+
+    private long[] m_firstOccurrences;
+
+    /**
+     * Creates a new empty map for n-grams of the given length.
+     *
+     * @param n the number of tokens of each n-gram.
+     */
+    NGramHashMap(final int n) {
+        m_n = n;
+        clear();
+    }
+
+    /**
+     * Removes all entries and releases the allocated arrays.
+     */
+    void clear() {
+        m_table = new int[2 * INITIAL_CAPACITY];
+        m_size = 0;
+        m_hashes = new long[INITIAL_CAPACITY];
+        m_tokens = new int[INITIAL_CAPACITY * m_n];
+        m_corpusFreqs = new int[INITIAL_CAPACITY];
+        m_docFreqs = new int[INITIAL_CAPACITY];
+        m_blockFreqs = new int[INITIAL_CAPACITY];
+        m_lastDocs = new int[INITIAL_CAPACITY];
+        m_lastBlocks = new int[INITIAL_CAPACITY];
+        m_firstOccurrences = new long[INITIAL_CAPACITY];
+    }
+
+    /**
+     * @return the number of distinct n-grams.
+     */
+    int size() {
+        return m_size;
+    }
+
+    /**
+     * Counts an occurrence of the n-gram consisting of the n tokens starting at the given offset.
+     *
+     * @param hash the rolling hash of the n-gram.
+     * @param tokens the token array.
+     * @param offset the offset of the first token of the n-gram.
+     * @param occurrence the position of the occurrence, the minimum of all positions is kept.
+     * @param doc the sequence number of the current document or 0 if the document frequency is not counted.
+     * @param block the sequence number of the current block or 0 if the block frequency is not counted.
+     */
+    void count(final long hash, final int[] tokens, final int offset, final long occurrence, final int doc,
+        final int block) {
+        final int e = getOrAdd(hash, tokens, offset, occurrence);
+        m_corpusFreqs[e]++;
+        if (doc != 0 && m_lastDocs[e] != doc) {
+            m_lastDocs[e] = doc;
+            m_docFreqs[e]++;
+        }
+        if (block != 0 && m_lastBlocks[e] != block) {
+            m_lastBlocks[e] = block;
+            m_blockFreqs[e]++;
+        }
+    }
+
+    private int getOrAdd(final long hash, final int[] tokens, final int offset, final long occurrence) {
+        final int mask = m_table.length - 1;
+        int slot = (int)mix(hash) & mask;
+        while (m_table[slot] != 0) {
+            final int e = m_table[slot] - 1;
+            if (m_hashes[e] == hash && equalTokens(e, tokens, offset)) {
+                if (occurrence < m_firstOccurrences[e]) {
+                    m_firstOccurrences[e] = occurrence;
+                }
+                return e;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        final int e = m_size++;
+        ensureEntryCapacity(m_size);
+        m_hashes[e] = hash;
+        System.arraycopy(tokens, offset, m_tokens, e * m_n, m_n);
+        m_firstOccurrences[e] = occurrence;
+        m_table[slot] = e + 1;
+        if (2 * m_size > m_table.length) {
+            rehash();
+        }
+        return e;
+    }
+
+    private boolean equalTokens(final int e, final int[] tokens, final int offset) {
+        final int start = e * m_n;
+        for (int i = 0; i < m_n; i++) {
+            if (m_tokens[start + i] != tokens[offset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void ensureEntryCapacity(final int capacity) {
+        if (capacity <= m_hashes.length) {
+            return;
+        }
+        final int newLength = 2 * m_hashes.length;
+        m_hashes = Arrays.copyOf(m_hashes, newLength);
+        m_tokens = Arrays.copyOf(m_tokens, newLength * m_n);
+        m_corpusFreqs = Arrays.copyOf(m_corpusFreqs, newLength);
+        m_docFreqs = Arrays.copyOf(m_docFreqs, newLength);
+        m_blockFreqs = Arrays.copyOf(m_blockFreqs, newLength);
+        m_lastDocs = Arrays.copyOf(m_lastDocs, newLength);
+        m_lastBlocks = Arrays.copyOf(m_lastBlocks, newLength);
+        m_firstOccurrences = Arrays.copyOf(m_firstOccurrences, newLength);
+    }
+
+    private void rehash() {
+        final int[] table = new int[2 * m_table.length];
+        final int mask = table.length - 1;
+        for (int e = 0; e < m_size; e++) {
+            int slot = (int)mix(m_hashes[e]) & mask;
+            while (table[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            table[slot] = e + 1;
+        }
+        m_table = table;
+    }
+
+    /**
+     * @return the entry indices sorted by hash and tokens, i.e. in the order of {@link #compare(int, int)}.
+     */
+    int[] sortedEntries() {
+        final int[] entries = new int[m_size];
+        for (int i = 0; i < m_size; i++) {
+            entries[i] = i;
+        }
+        mergeSort(entries, new int[m_size], 0, m_size);
+        return entries;
+    }
+
+    private void mergeSort(final int[] entries, final int[] buffer, final int from, final int to) {
+        if (to - from < 2) {
+            return;
+        }
+        final int mid = (from + to) >>> 1;
+        mergeSort(entries, buffer, from, mid);
+        mergeSort(entries, buffer, mid, to);
+        if (compare(entries[mid - 1], entries[mid]) <= 0) {
+            return;
+        }
+        System.arraycopy(entries, from, buffer, from, to - from);
+        int i = from;
+        int j = mid;
+        for (int k = from; k < to; k++) {
+            if (j >= to || (i < mid && compare(buffer[i], buffer[j]) <= 0)) {
+                entries[k] = buffer[i++];
+            } else {
+                entries[k] = buffer[j++];
+            }
+        }
+    }
+
+    /**
+     * Compares two entries by their hashes and, on equal hashes, by their tokens.
+     *
+     * @param e1 the index of the first entry.
+     * @param e2 the index of the second entry.
+     * @return a negative integer, zero, or a positive integer if the first entry is less than, equal to, or greater
+     *         than the second.
+     */
+    int compare(final int e1, final int e2) {
+        final int c = Long.compare(m_hashes[e1], m_hashes[e2]);
+        if (c != 0) {
+            return c;
+        }
+        return Arrays.compare(m_tokens, e1 * m_n, (e1 + 1) * m_n, m_tokens, e2 * m_n, (e2 + 1) * m_n);
+    }
+
+    /**
+     * @param e the entry index.
+     * @return the hash of the entry.
+     */
+    long getHash(final int e) {
+        return m_hashes[e];
+    }
+
+    /**
+     * Copies the tokens of the entry into the given array.
+     *
+     * @param e the entry index.
+     * @param tokens the array of length n to copy the tokens to.
+     */
+    void getTokens(final int e, final int[] tokens) {
+        System.arraycopy(m_tokens, e * m_n, tokens, 0, m_n);
+    }
+
+    /**
+     * @param e the entry index.
+     * @return the corpus frequency of the entry.
+     */
+    int getCorpusFrequency(final int e) {
+        return m_corpusFreqs[e];
+    }
+
+    /**
+     * @param e the entry index.
+     * @return the document frequency of the entry.
+     */
+    int getDocumentFrequency(final int e) {
+        return m_docFreqs[e];
+    }
+
+    /**
+     * @param e the entry index.
+     * @return the block frequency of the entry.
+     */
+    int getBlockFrequency(final int e) {
+        return m_blockFreqs[e];
+    }
+
+    /**
+     * @param e the entry index.
+     * @return the position of the first occurrence of the entry.
+     */
+    long getFirstOccurrence(final int e) {
+        return m_firstOccurrences[e];
+    }
+
+    /**
+     * The finalization step of MurmurHash3, spreading the bits of rolling hashes over the table.
+     */
+    static long mix(final long hash) {
+        long h = hash;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -49,14 +49,30 @@
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpecCreator;
 import org.knime.core.data.DataRow;
 import org.knime.core.data.DataTableSpec;
 import org.knime.core.data.RowIterator;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.data.sort.BufferedDataTableSorter;
+import org.knime.core.node.BufferedDataContainer;
 import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.CanceledExecutionException;
 import org.knime.core.node.ExecutionContext;
@@ -256,6 +272,9 @@ protected BufferedDataTable[] execute(final BufferedDataTable[] inData, final Ex
         checkDataTableSpec(inputTable.getDataTableSpec());
 
         m_nGramDataTableCreator = createNGramCreator(exec);
+        if (m_nGramOutputTableModel.getStringValue().equals(FREQUENCY_NGRAM_OUTPUT)) {
+            return new BufferedDataTable[]{countNGrams(inputTable, exec)};
+        }
 
         final ThreadPool pool = KNIMEConstants.GLOBAL_THREAD_POOL;
         //The semaphore restricts the number of concurrent processes
@@ -344,6 +363,162 @@ public void run() {
         };
     }
 
+    /**
+     * Counts the n-gram frequencies with a {@link HashedNGramCounter}. Chunks of documents are counted in parallel,
+     * each worker uses its own partition of the counter. The merged counts are sorted by the first occurrence of the
+     * n-grams to create the same output as {@link NGramFrequencyDataTableCreator}.
+     */
+    private BufferedDataTable countNGrams(final BufferedDataTable inputTable, final ExecutionContext exec)
+        throws Exception {
+        final long inputTableSize = inputTable.size();
+        final int numberOfThreads = m_numberOfThreadsModel.getIntValue();
+        final int chunkSize = m_chunkSizeModel.getIntValue();
+        final ExecutionContext countExec = exec.createSubExecutionContext(0.6);
+
+        try (final HashedNGramCounter counter = new HashedNGramCounter(m_nModel.getIntValue(),
+            m_nGramTypeModel.getStringValue().equals(CHAR_NGRAM_TYPE), NGramWordIterator.DEFAULT_WORD_SEPARATOR,
+            true)) {
+            // each worker uses its own partition, the queue restricts the number of concurrent processes
+            final BlockingQueue<HashedNGramCounter.Partition> partitions =
+                new ArrayBlockingQueue<HashedNGramCounter.Partition>(numberOfThreads);
+            for (int i = 0; i < numberOfThreads; i++) {
+                partitions.add(counter.createPartition());
+            }
+
+            // restricts the number of chunks read from the input but not yet counted
+            final int maxChunksInFlight = 2 * numberOfThreads;
+            final AtomicInteger docCount = new AtomicInteger(0);
+            final List<Future<?>> futures = new ArrayList<>();
+            try {
+                List<Document> documentChunk = new ArrayList<Document>(chunkSize);
+                int docIndex = 0;
+                for (final DataRow row : inputTable) {
+                    countExec.checkCanceled();
+                    if (row.getCell(m_documentColIndex).isMissing()) {
+                        continue;
+                    }
+                    documentChunk.add(((DocumentValue)row.getCell(m_documentColIndex)).getDocument());
+                    if (documentChunk.size() >= chunkSize) {
+                        enqueueChunk(countChunk(documentChunk, docIndex, partitions, countExec, docCount,
+                            inputTableSize), maxChunksInFlight, futures);
+                        docIndex += documentChunk.size();
+                        documentChunk = new ArrayList<Document>(chunkSize);
+                    }
+                }
+                if (!documentChunk.isEmpty()) {
+                    enqueueChunk(countChunk(documentChunk, docIndex, partitions, countExec, docCount, inputTableSize),
+                        maxChunksInFlight, futures);
+                }
+                for (Future<?> f : futures) {
+                    getResult(f); // this call allows an additional thread from pool to run
+                }
+            } catch (final Exception e) {
+                futures.forEach(future -> future.cancel(true));
+                throw e;
+            }
+            countExec.setProgress(1.0);
+
+            exec.setMessage("Merging ngram frequencies.");
+            return createFrequencyTable(counter, exec.createSubExecutionContext(0.4));
+        }
+    }
+
+    /**
+     * Enqueues the chunk after removing the futures of the chunks counted so far, rethrowing their exceptions. If the
+     * maximum number of chunks is still in flight, waits for the oldest one first.
+     */
+    private static void enqueueChunk(final Callable<Void> chunk, final int maxChunksInFlight,
+        final List<Future<?>> futures) throws Exception {
+        final Iterator<Future<?>> it = futures.iterator();
+        while (it.hasNext()) {
+            final Future<?> f = it.next();
+            if (f.isDone()) {
+                getResult(f);
+                it.remove();
+            }
+        }
+        while (futures.size() >= maxChunksInFlight) {
+            getResult(futures.remove(0)); // this call allows an additional thread from pool to run
+        }
+        futures.add(KNIMEConstants.GLOBAL_THREAD_POOL.enqueue(chunk));
+    }
+
+    private static void getResult(final Future<?> future) throws Exception {
+        try {
+            future.get();
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof Exception ? (Exception)e.getCause() : e;
+        }
+    }
+
+    private static Callable<Void> countChunk(final List<Document> documents, final int firstDocIndex,
+        final BlockingQueue<HashedNGramCounter.Partition> partitions, final ExecutionContext exec,
+        final AtomicInteger docCount, final long inputTableSize) {
+        return () -> {
+            final HashedNGramCounter.Partition partition = partitions.take();
+            try {
+                int docIndex = firstDocIndex;
+                for (Document d : documents) {
+                    exec.checkCanceled();
+                    partition.addDocument(d, docIndex++);
+                }
+            } finally {
+                partitions.add(partition);
+            }
+
+            final int docs = docCount.addAndGet(documents.size());
+            exec.setProgress((double)docs / (double)inputTableSize,
+                "Created ngrams for documents " + docs + " of " + inputTableSize + " ...");
+            return null;
+        };
+    }
+
+    private BufferedDataTable createFrequencyTable(final HashedNGramCounter counter, final ExecutionContext exec)
+        throws IOException, CanceledExecutionException {
+        final DataTableSpec spec = m_nGramDataTableCreator.createDataTableSpec();
+        final String occurrenceColName = DataTableSpec.getUniqueColumnName(spec, "First occurrence");
+        final DataTableSpec occurrenceSpec = new DataTableSpec(spec,
+            new DataTableSpec(new DataColumnSpecCreator(occurrenceColName, LongCell.TYPE).createSpec()));
+        final boolean docFreqs = spec.getNumColumns() > 2;
+
+        // write merged counts in hash order, remember first occurrence to restore the order of appearance
+        final ExecutionContext mergeExec = exec.createSubExecutionContext(0.4);
+        final BufferedDataContainer mergeDc = mergeExec.createDataContainer(occurrenceSpec);
+        final AtomicLong mergeCount = new AtomicLong(0);
+        counter.merge((nGram, corpusFreq, documentFreq, blockFreq, firstOccurrence) -> {
+            final RowKey rowKey = RowKey.createRowKey(mergeCount.getAndIncrement());
+            if (docFreqs) {
+                mergeDc.addRowToTable(new DefaultRow(rowKey, new StringCell(nGram), new IntCell(corpusFreq),
+                    new IntCell(documentFreq), new IntCell(blockFreq), new LongCell(firstOccurrence)));
+            } else {
+                mergeDc.addRowToTable(new DefaultRow(rowKey, new StringCell(nGram), new IntCell(corpusFreq),
+                    new LongCell(firstOccurrence)));
+            }
+        }, mergeExec);
+        mergeDc.close();
+
+        final BufferedDataTable sorted = new BufferedDataTableSorter(mergeDc.getTable(),
+            Collections.singletonList(occurrenceColName), new boolean[]{true})
+                .sort(exec.createSubExecutionContext(0.4));
+
+        final ExecutionContext outputExec = exec.createSubExecutionContext(0.2);
+        final BufferedDataContainer dc = outputExec.createDataContainer(spec);
+        final long rowCount = sorted.size();
+        long rowIndex = 0;
+        for (final DataRow row : sorted) {
+            outputExec.checkCanceled();
+            final DataCell[] cells = new DataCell[spec.getNumColumns()];
+            for (int i = 0; i < cells.length; i++) {
+                cells[i] = row.getCell(i);
+            }
+            dc.addRowToTable(new DefaultRow(new RowKey(Long.toString(rowIndex)), cells));
+            rowIndex++;
+            outputExec.setProgress((double)rowIndex / rowCount);
+        }
+        dc.close();
+        return dc.getTable();
+    }
+
     /**
      * {@inheritDoc}
      */
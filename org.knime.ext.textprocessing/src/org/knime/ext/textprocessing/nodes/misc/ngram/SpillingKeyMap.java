@@ -0,0 +1,461 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.ext.textprocessing.nodes.misc.ngram;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.knime.core.node.NodeLogger;
+
+/**
+ * A map from keys of variable length, consisting of integers, to non-negative integer values, that moves its entries
+ * to disk when it grows too large. Keys are identified by a 64-bit hash given by the caller, keys with equal hashes
+ * are compared element by element, so hash collisions never merge distinct keys.
+ *
+ * <p>
+ * The entries in memory are kept in primitive arrays. If the map exceeds its maximum size or {@link #spill()} is
+ * called, the entries are written to a run file sorted by hash. Of each run only a Bloom filter and a sparse index of
+ * every {@value #INDEX_INTERVAL}th hash remain in memory, so a lookup of a key that is not contained reads a run only
+ * for the few false positives of the filter, and a lookup of a contained key reads one or two blocks of the run.
+ * </p>
+ *
+ * <p>
+ * All methods are synchronized.
+ * </p>
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 5.12
+ */
+final class SpillingKeyMap implements Closeable {
+
+    /**
+     * Creates the files the runs are written to.
+     */
+    @FunctionalInterface
+    interface RunFileFactory {
+
+        /**
+         * @return a new, empty file.
+         * @throws IOException if the file cannot be created.
+         */
+        File createRunFile() throws IOException;
+    }
+
+    /** The value returned by {@link #putIfAbsent(long, int[], int, int)} for keys that were not contained. */
+    static final int NO_VALUE = -1;
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(SpillingKeyMap.class);
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    /** The number of entries of a run between two entries of the sparse index. */
+    private static final int INDEX_INTERVAL = 64;
+
+    private static final int BLOOM_BITS_PER_KEY = 10;
+
+    private static final int BLOOM_HASHES = 7;
+
+    /** The number of key elements kept in memory per entry on average before the map is spilled. */
+    private static final int KEY_ELEMENTS_PER_ENTRY = 16;
+
+    private final RunFileFactory m_runFiles;
+
+    private final int m_maxSize;
+
+    /** The hash table, containing entry index + 1 or 0 for empty slots. */
+    private int[] m_table;
+
+    private int m_size;
+
+    private long[] m_hashes;
+
+    private int[] m_values;
+
+    /** The offset of the key of each entry in {@link #m_keys}, the key of entry e ends at the offset of e + 1. */
+    private int[] m_keyOffsets;
+
+    private int[] m_keys;
+
+    private final List<Run> m_runs = new ArrayList<Run>();
+
+    /**
+     * Creates a new empty map.
+     *
+     * @param runFiles the factory of the run files.
+     * @param maxSize the maximum number of entries held in memory before the map is spilled to disk.
+     */
+    SpillingKeyMap(final RunFileFactory runFiles, final int maxSize) {
+        m_runFiles = runFiles;
+        m_maxSize = maxSize;
+        clear();
+    }
+
+    private void clear() {
+        m_table = new int[2 * INITIAL_CAPACITY];
+        m_size = 0;
+        m_hashes = new long[INITIAL_CAPACITY];
+        m_values = new int[INITIAL_CAPACITY];
+        m_keyOffsets = new int[INITIAL_CAPACITY + 1];
+        m_keys = new int[INITIAL_CAPACITY * 4];
+    }
+
+    /**
+     * @return the number of entries in memory and on disk.
+     */
+    synchronized long size() {
+        long size = m_size;
+        for (final Run run : m_runs) {
+            size += run.m_size;
+        }
+        return size;
+    }
+
+    /**
+     * @return the number of runs written to disk so far.
+     */
+    synchronized int getNumberOfRuns() {
+        return m_runs.size();
+    }
+
+    /**
+     * Associates the given key with the given value unless the key is already contained.
+     *
+     * @param hash the hash of the key.
+     * @param key the array containing the key.
+     * @param length the length of the key, starting at index 0 of the array.
+     * @param value the non-negative value to associate with the key.
+     * @return the value associated with the key or {@link #NO_VALUE} if the key was not contained and has been added.
+     * @throws IOException if the runs cannot be read or written.
+     */
+    synchronized int putIfAbsent(final long hash, final int[] key, final int length, final int value)
+        throws IOException {
+        final int mask = m_table.length - 1;
+        int slot = (int)NGramHashMap.mix(hash) & mask;
+        while (m_table[slot] != 0) {
+            final int e = m_table[slot] - 1;
+            if (m_hashes[e] == hash && equalKeys(e, key, length)) {
+                return m_values[e];
+            }
+            slot = (slot + 1) & mask;
+        }
+        for (final Run run : m_runs) {
+            final int v = run.get(hash, key, length);
+            if (v != NO_VALUE) {
+                return v;
+            }
+        }
+
+        final int e = m_size++;
+        ensureCapacity(m_size, m_keyOffsets[e] + length);
+        m_hashes[e] = hash;
+        m_values[e] = value;
+        System.arraycopy(key, 0, m_keys, m_keyOffsets[e], length);
+        m_keyOffsets[e + 1] = m_keyOffsets[e] + length;
+        m_table[slot] = e + 1;
+        if (2 * m_size > m_table.length) {
+            rehash();
+        }
+
+        if (m_size >= m_maxSize || m_keyOffsets[m_size] >= KEY_ELEMENTS_PER_ENTRY * m_maxSize) {
+            spill();
+        }
+        return NO_VALUE;
+    }
+
+    private boolean equalKeys(final int e, final int[] key, final int length) {
+        final int start = m_keyOffsets[e];
+        if (m_keyOffsets[e + 1] - start != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (m_keys[start + i] != key[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void ensureCapacity(final int size, final int keyLength) {
+        if (size > m_hashes.length) {
+            final int newLength = 2 * m_hashes.length;
+            m_hashes = Arrays.copyOf(m_hashes, newLength);
+            m_values = Arrays.copyOf(m_values, newLength);
+            m_keyOffsets = Arrays.copyOf(m_keyOffsets, newLength + 1);
+        }
+        if (keyLength > m_keys.length) {
+            m_keys = Arrays.copyOf(m_keys, Math.max(keyLength, 2 * m_keys.length));
+        }
+    }
+
+    private void rehash() {
+        final int[] table = new int[2 * m_table.length];
+        final int mask = table.length - 1;
+        for (int e = 0; e < m_size; e++) {
+            int slot = (int)NGramHashMap.mix(m_hashes[e]) & mask;
+            while (table[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            table[slot] = e + 1;
+        }
+        m_table = table;
+    }
+
+    /**
+     * Writes the entries in memory as a run sorted by hash to disk and clears the memory.
+     *
+     * @throws IOException if the run cannot be written.
+     */
+    synchronized void spill() throws IOException {
+        if (m_size == 0) {
+            return;
+        }
+        final File file = m_runFiles.createRunFile();
+        LOGGER.debug("Spilling " + m_size + " keys to " + file.getName() + ".");
+        final int[] entries = new int[m_size];
+        for (int i = 0; i < m_size; i++) {
+            entries[i] = i;
+        }
+        mergeSort(entries, new int[m_size], 0, m_size);
+
+        final int blocks = (m_size + INDEX_INTERVAL - 1) / INDEX_INTERVAL;
+        final long[] indexHashes = new long[blocks];
+        final long[] indexOffsets = new long[blocks + 1];
+        final long[] bloomFilter = new long[Math.max(1, (int)(((long)m_size * BLOOM_BITS_PER_KEY + 63) / 64))];
+        long offset = 0;
+        try (final DataOutputStream out =
+            new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file), 1 << 16))) {
+            for (int i = 0; i < m_size; i++) {
+                final int e = entries[i];
+                if (i % INDEX_INTERVAL == 0) {
+                    indexHashes[i / INDEX_INTERVAL] = m_hashes[e];
+                    indexOffsets[i / INDEX_INTERVAL] = offset;
+                }
+                addToBloomFilter(bloomFilter, m_hashes[e]);
+                final int start = m_keyOffsets[e];
+                final int length = m_keyOffsets[e + 1] - start;
+                out.writeLong(m_hashes[e]);
+                out.writeInt(m_values[e]);
+                out.writeInt(length);
+                for (int k = 0; k < length; k++) {
+                    out.writeInt(m_keys[start + k]);
+                }
+                offset += 16 + 4L * length;
+            }
+        }
+        indexOffsets[blocks] = offset;
+        m_runs.add(new Run(file, m_size, indexHashes, indexOffsets, bloomFilter));
+        clear();
+    }
+
+    private void mergeSort(final int[] entries, final int[] buffer, final int from, final int to) {
+        if (to - from < 2) {
+            return;
+        }
+        final int mid = (from + to) >>> 1;
+        mergeSort(entries, buffer, from, mid);
+        mergeSort(entries, buffer, mid, to);
+        if (m_hashes[entries[mid - 1]] <= m_hashes[entries[mid]]) {
+            return;
+        }
+        System.arraycopy(entries, from, buffer, from, to - from);
+        int i = from;
+        int j = mid;
+        for (int k = from; k < to; k++) {
+            if (j >= to || (i < mid && m_hashes[buffer[i]] <= m_hashes[buffer[j]])) {
+                entries[k] = buffer[i++];
+            } else {
+                entries[k] = buffer[j++];
+            }
+        }
+    }
+
+    private static void addToBloomFilter(final long[] bloomFilter, final long hash) {
+        final long numBits = 64L * bloomFilter.length;
+        final long h = NGramHashMap.mix(hash);
+        final int h1 = (int)h;
+        final int h2 = (int)(h >>> 32);
+        for (int i = 0; i < BLOOM_HASHES; i++) {
+            final int bit = (int)(((h1 + i * h2) & 0xFFFFFFFFL) % numBits);
+            bloomFilter[bit >>> 6] |= 1L << bit;
+        }
+    }
+
+    private static boolean mightContain(final long[] bloomFilter, final long hash) {
+        final long numBits = 64L * bloomFilter.length;
+        final long h = NGramHashMap.mix(hash);
+        final int h1 = (int)h;
+        final int h2 = (int)(h >>> 32);
+        for (int i = 0; i < BLOOM_HASHES; i++) {
+            final int bit = (int)(((h1 + i * h2) & 0xFFFFFFFFL) % numBits);
+            if ((bloomFilter[bit >>> 6] & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Deletes all runs and releases the memory.
+     */
+    @Override
+    public synchronized void close() {
+        for (final Run run : m_runs) {
+            run.close();
+        }
+        m_runs.clear();
+        clear();
+    }
+
+    /**
+     * A run on disk, consisting of blocks of {@value SpillingKeyMap#INDEX_INTERVAL} entries sorted by hash.
+     */
+    private static final class Run {
+
+        private final File m_file;
+
+        private final int m_size;
+
+        /** The hash of the first entry of each block. */
+        private final long[] m_indexHashes;
+
+        /** The file offset of each block, followed by the file length. */
+        private final long[] m_indexOffsets;
+
+        private final long[] m_bloomFilter;
+
+        private RandomAccessFile m_reader;
+
+        Run(final File file, final int size, final long[] indexHashes, final long[] indexOffsets,
+            final long[] bloomFilter) {
+            m_file = file;
+            m_size = size;
+            m_indexHashes = indexHashes;
+            m_indexOffsets = indexOffsets;
+            m_bloomFilter = bloomFilter;
+        }
+
+        int get(final long hash, final int[] key, final int length) throws IOException {
+            if (!mightContain(m_bloomFilter, hash)) {
+                return NO_VALUE;
+            }
+            // entries with this hash may start in the last block beginning with a smaller hash
+            int lo = 0;
+            int hi = m_indexHashes.length - 1;
+            int first = 0;
+            while (lo <= hi) {
+                final int mid = (lo + hi) >>> 1;
+                if (m_indexHashes[mid] < hash) {
+                    first = mid;
+                    lo = mid + 1;
+                } else {
+                    hi = mid - 1;
+                }
+            }
+
+            for (int b = first; b < m_indexHashes.length; b++) {
+                final ByteBuffer block = readBlock(b);
+                while (block.hasRemaining()) {
+                    final long h = block.getLong();
+                    final int value = block.getInt();
+                    final int l = block.getInt();
+                    if (h > hash) {
+                        return NO_VALUE;
+                    }
+                    if (h == hash && l == length && equalKeys(block, key, length)) {
+                        return value;
+                    }
+                    block.position(block.position() + 4 * l);
+                }
+            }
+            return NO_VALUE;
+        }
+
+        private static boolean equalKeys(final ByteBuffer block, final int[] key, final int length) {
+            final int start = block.position();
+            for (int i = 0; i < length; i++) {
+                if (block.getInt(start + 4 * i) != key[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private ByteBuffer readBlock(final int b) throws IOException {
+            if (m_reader == null) {
+                m_reader = new RandomAccessFile(m_file, "r");
+            }
+            final byte[] bytes = new byte[(int)(m_indexOffsets[b + 1] - m_indexOffsets[b])];
+            m_reader.seek(m_indexOffsets[b]);
+            m_reader.readFully(bytes);
+            return ByteBuffer.wrap(bytes);
+        }
+
+        void close() {
+            try {
+                if (m_reader != null) {
+                    m_reader.close();
+                }
+            } catch (IOException e) {
+                LOGGER.debug("Key run " + m_file.getName() + " could not be closed: " + e.getMessage(), e);
+            }
+            if (!m_file.delete()) {
+                LOGGER.debug("Key run " + m_file.getName() + " could not be deleted.");
+            }
+        }
+    }
+}
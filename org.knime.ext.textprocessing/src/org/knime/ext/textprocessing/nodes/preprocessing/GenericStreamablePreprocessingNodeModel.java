@@ -81,6 +81,7 @@
 import org.knime.core.node.streamable.StreamableOperator;
 import org.knime.core.node.streamable.StreamableOperatorInternals;
 import org.knime.ext.textprocessing.util.DataTableSpecVerifier;
+import org.knime.ext.textprocessing.util.DocumentResultCache;
 import org.knime.ext.textprocessing.util.TextContainerDataCellFactoryBuilder;
 
 /**
@@ -358,7 +359,8 @@ protected final ColumnRearranger createColumnRearranger(final DataTableSpec in,
         try {
 
             T preprocessing = createPreprocessing(selectedDocCol);
-            if (preprocessing == null) {
+            final boolean usesInternals = preprocessing == null;
+            if (usesInternals) {
                 preprocessing = createPreprocessingWithInternals(internals);
             }
 
@@ -366,6 +368,13 @@ protected final ColumnRearranger createColumnRearranger(final DataTableSpec in,
             final ColumnRearranger rearranger = new ColumnRearranger(in);
             final SingleCellFactory cellFac = createDocumentCellFactory(preprocessing, docColIndex, docCol,
                 m_preproUnModifiableModel.getBooleanValue());
+            // results of preprocessings with internals depend on the data, not only on the settings
+            if (cellFac instanceof PreprocessingCellFactory && !usesInternals) {
+                ((PreprocessingCellFactory)cellFac).setResultCache(DocumentResultCache.create(this, settings -> {
+                    saveSettingsTo(settings);
+                    selectedDocCol.getProperties().save(settings.addNodeSettings("documentColumnProperties"));
+                }));
+            }
 
             // replace or append
             if (m_replaceOldDocModel.getBooleanValue()) {
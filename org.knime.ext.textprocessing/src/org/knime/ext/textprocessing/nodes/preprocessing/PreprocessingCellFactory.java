@@ -48,20 +48,32 @@
  */
 package org.knime.ext.textprocessing.nodes.preprocessing;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
 import org.knime.core.data.DataCell;
 import org.knime.core.data.DataColumnSpec;
 import org.knime.core.data.DataRow;
 import org.knime.core.data.DataType;
 import org.knime.core.data.container.SingleCellFactory;
+import org.knime.core.node.NodeLogger;
 import org.knime.ext.textprocessing.data.Document;
 import org.knime.ext.textprocessing.data.DocumentBuilder;
 import org.knime.ext.textprocessing.data.DocumentValue;
 import org.knime.ext.textprocessing.data.Paragraph;
 import org.knime.ext.textprocessing.data.Section;
 import org.knime.ext.textprocessing.data.Sentence;
+import org.knime.ext.textprocessing.data.Tag;
 import org.knime.ext.textprocessing.data.Term;
+import org.knime.ext.textprocessing.data.Word;
+import org.knime.ext.textprocessing.util.DocumentResultCache;
 import org.knime.ext.textprocessing.util.TextContainerDataCellFactory;
 import org.knime.ext.textprocessing.util.TextContainerDataCellFactoryBuilder;
+import org.knime.ext.textprocessing.util.metrics.Metric;
+import org.knime.ext.textprocessing.util.metrics.TextprocessingMetrics;
+
+import com.google.common.hash.HashCode;
 
 /**
  * Cell Factory, creating new document cells of preprocessed documents.
@@ -70,6 +82,8 @@
  */
 final class PreprocessingCellFactory extends SingleCellFactory {
 
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(PreprocessingCellFactory.class);
+
     private final TermPreprocessing m_preprocessing;
 
     private final int m_docColIndex;
@@ -80,6 +94,8 @@ final class PreprocessingCellFactory extends SingleCellFactory {
 
     private boolean m_isFactoryPrepared = false;
 
+    private DocumentResultCache m_resultCache = null;
+
     public PreprocessingCellFactory(final TermPreprocessing preprocessing, final int documentColIndex,
         final DataColumnSpec newColSpec, final boolean preprocessUnmodifiable) {
         super(true, newColSpec);
@@ -91,6 +107,13 @@ public PreprocessingCellFactory(final TermPreprocessing preprocessing, final int
         m_documentCellFac = TextContainerDataCellFactoryBuilder.createDocumentCellFactory();
     }
 
+    /**
+     * @param resultCache the cache of preprocessed documents to use, or {@code null} to preprocess all documents
+     */
+    void setResultCache(final DocumentResultCache resultCache) {
+        m_resultCache = resultCache;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -109,20 +132,69 @@ public DataCell getCell(final DataRow row) {
             return DataType.getMissingCell();
         }
 
+        final Document document = ((DocumentValue)row.getCell(m_docColIndex)).getDocument();
+
+        // reuse the result of a previous execution
+        HashCode key = null;
+        if (m_resultCache != null) {
+            try {
+                key = m_resultCache.createKey(document);
+                final Document cachedDoc = m_resultCache.get(key);
+                if (cachedDoc != null) {
+                    return m_documentCellFac.createDataCell(cachedDoc);
+                }
+            } catch (IOException e) {
+                LOGGER.debug("Result cache key of document could not be created.", e);
+            }
+        }
+
         // apply preprocessing
         // Note: TermPreprocessing has to be thread safe!
-        Document preprocessedDoc = preprocessDocument(((DocumentValue)row.getCell(m_docColIndex)).getDocument());
+        final long start = TextprocessingMetrics.startTimer();
+        Document preprocessedDoc = preprocessDocument(document);
+        TextprocessingMetrics.stopTimer(Metric.PREPROCESSING_TIME, start);
+        TextprocessingMetrics.increment(Metric.DOCUMENTS_PREPROCESSED);
+        if (key != null) {
+            m_resultCache.put(key, preprocessedDoc);
+        }
 
         // create new document cell
         return m_documentCellFac.createDataCell(preprocessedDoc);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void afterProcessing() {
+        if (m_resultCache != null) {
+            m_resultCache.prune();
+        }
+    }
+
+    /**
+     * Creates a copy of the given term with the given string appended to the whitespace suffix of its last word. The
+     * words of the term are not modified since they may be shared with other documents.
+     *
+     * @param term the term to copy
+     * @param whiteSpaceSuffix the string to append to the whitespace suffix
+     * @return the copy of the term with the appended whitespace suffix
+     */
+    static Term appendWhiteSpaceSuffix(final Term term, final String whiteSpaceSuffix) {
+        final List<Word> words = new ArrayList<Word>(term.getWords());
+        final Word last = words.get(words.size() - 1);
+        words.set(words.size() - 1, new Word(last.getWord(), last.getWhitespaceSuffix() + whiteSpaceSuffix));
+        return new Term(words, new ArrayList<Tag>(term.getTags()), term.isUnmodifiable());
+    }
+
     private Document preprocessDocument(final Document document) {
         final DocumentBuilder builder = new DocumentBuilder(document);
+        long noOfTerms = 0;
         for (final Section s : document.getSections()) {
             for (final Paragraph p : s.getParagraphs()) {
                 for (final Sentence sen : p.getSentences()) {
                     Term previous = null;
+                    noOfTerms += sen.getTerms().size();
                     for (Term t : sen.getTerms()) {
                         // check unmodifiability, or ignore flag and preprocess term
                         if (!t.isUnmodifiable() || m_preprocessUnmodifiable) {
@@ -132,8 +204,7 @@ private Document preprocessDocument(final Document document) {
                         if (t != null && t.getText().isEmpty() && previous != null) {
                             final String whiteSpaceSuffix =
                                 t.getWords().get(t.getWords().size() - 1).getWhitespaceSuffix();
-                            previous.getWords().get(previous.getWords().size() - 1)
-                                .addWhiteSpaceSuffix(whiteSpaceSuffix);
+                            previous = appendWhiteSpaceSuffix(previous, whiteSpaceSuffix);
                         }
                         // add previous term if not empty
                         if (previous != null && !previous.getText().isEmpty()) {
@@ -153,6 +224,7 @@ private Document preprocessDocument(final Document document) {
             }
             builder.createNewSection(s.getAnnotation());
         }
+        TextprocessingMetrics.add(Metric.TERMS_PREPROCESSED, noOfTerms);
         return builder.createDocument();
     }
 }
@@ -80,6 +80,8 @@ public class HyphenationPatterns {
 
     private Map<String, int[]> m_patterns;
 
+    private HyphenationTrie m_trie;
+
     private String m_language;
 
     private File m_patternFile;
@@ -113,7 +115,7 @@ public HyphenationPatterns(final String lang, final File file)
     /**
      * @return Returns a map with all available patterns.
      */
-    public Map<String, int[]> getPatterns() {
+    public synchronized Map<String, int[]> getPatterns() {
         if (m_patterns == null) {
             m_patterns = new HashMap<String, int[]>();
             parsePatterns();
@@ -121,6 +123,16 @@ public Map<String, int[]> getPatterns() {
         return m_patterns;
     }
 
+    /**
+     * @return A packed trie containing all available patterns, which is created once on first access.
+     */
+    synchronized HyphenationTrie getTrie() {
+        if (m_trie == null) {
+            m_trie = new HyphenationTrie(getPatterns());
+        }
+        return m_trie;
+    }
+
     /**
      * @return The language.
      */
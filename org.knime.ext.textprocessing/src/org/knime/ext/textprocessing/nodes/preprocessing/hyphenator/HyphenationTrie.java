@@ -0,0 +1,158 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.ext.textprocessing.nodes.preprocessing.hyphenator;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * An immutable packed trie over hyphenation patterns. All nodes are stored in flat arrays: the children of a node are
+ * stored contiguously, sorted by their character, and are looked up by binary search. This allows to find all
+ * patterns starting at a position of a word in a single pass over the following characters, without creating any
+ * substrings.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class HyphenationTrie {
+
+    /** Index of the root node. */
+    static final int ROOT = 0;
+
+    /** Returned by {@link #child(int, char)} if there is no such child. */
+    static final int NO_NODE = -1;
+
+    /* the characters of the edges, the children of node n are at [m_firstChild[n], m_firstChild[n + 1]) */
+    private final char[] m_labels;
+
+    private final int[] m_firstChild;
+
+    /* the points of the pattern ending at node n, or null if no pattern ends at n */
+    private final int[][] m_points;
+
+    /**
+     * Creates a new trie containing the given patterns.
+     *
+     * @param patterns the patterns (letters only) mapped to their points
+     */
+    HyphenationTrie(final Map<String, int[]> patterns) {
+        final BuildNode root = new BuildNode();
+        int noOfNodes = 1;
+        for (final Map.Entry<String, int[]> e : patterns.entrySet()) {
+            BuildNode node = root;
+            for (final char c : e.getKey().toCharArray()) {
+                BuildNode child = node.m_children.get(c);
+                if (child == null) {
+                    child = new BuildNode();
+                    node.m_children.put(c, child);
+                    noOfNodes++;
+                }
+                node = child;
+            }
+            if (node != root) {
+                node.m_points = e.getValue();
+            }
+        }
+
+        // number the nodes breadth first, so that the children of each node are contiguous
+        m_labels = new char[noOfNodes];
+        m_firstChild = new int[noOfNodes + 1];
+        m_points = new int[noOfNodes][];
+        final Deque<BuildNode> queue = new ArrayDeque<>();
+        queue.add(root);
+        int nodeIndex = 0;
+        int nextFreeIndex = 1;
+        while (!queue.isEmpty()) {
+            final BuildNode node = queue.poll();
+            m_points[nodeIndex] = node.m_points;
+            m_firstChild[nodeIndex] = nextFreeIndex;
+            for (final Map.Entry<Character, BuildNode> child : node.m_children.entrySet()) {
+                m_labels[nextFreeIndex++] = child.getKey();
+                queue.add(child.getValue());
+            }
+            nodeIndex++;
+        }
+        m_firstChild[noOfNodes] = nextFreeIndex;
+    }
+
+    /**
+     * @param node the index of the parent node
+     * @param c the character of the edge to follow
+     * @return the index of the child node reached by the given character, or {@link #NO_NODE}
+     */
+    int child(final int node, final char c) {
+        final int idx = Arrays.binarySearch(m_labels, m_firstChild[node], m_firstChild[node + 1], c);
+        return idx >= 0 ? idx : NO_NODE;
+    }
+
+    /**
+     * @param node the index of the node
+     * @return the points of the pattern ending at the given node, or <code>null</code> if no pattern ends there
+     */
+    int[] getPoints(final int node) {
+        return m_points[node];
+    }
+
+    /**
+     * @return the number of nodes of the trie, including the root
+     */
+    int size() {
+        return m_points.length;
+    }
+
+    /** A node of the (unpacked) trie during construction. */
+    private static final class BuildNode {
+
+        private final TreeMap<Character, BuildNode> m_children = new TreeMap<>();
+
+        private int[] m_points;
+    }
+}
@@ -48,24 +48,31 @@
 package org.knime.ext.textprocessing.nodes.preprocessing.hyphenator;
 
 import java.util.ArrayList;
-import java.util.LinkedList;
 import java.util.List;
-import java.util.Map;
 
 import org.knime.ext.textprocessing.data.Term;
 import org.knime.ext.textprocessing.data.Word;
 import org.knime.ext.textprocessing.nodes.preprocessing.StringPreprocessing;
 import org.knime.ext.textprocessing.nodes.preprocessing.TermPreprocessing;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
 /**
+ * Hyphenates words based on Liang's hyphenation patterns. For each position of a word the longest pattern starting
+ * there is looked up in a packed trie and its points are applied. Hyphenated words are cached.
  *
  * @author thiel, University of Konstanz
  */
 public class Hyphenator implements TermPreprocessing, StringPreprocessing {
 
+    private static final int MAX_CACHE_SIZE = 10000;
+
     private String m_separator;
 
-    private Map<String, int[]> m_patterns;
+    private HyphenationTrie m_trie;
+
+    private final Cache<String, String> m_cache = CacheBuilder.newBuilder().maximumSize(MAX_CACHE_SIZE).build();
 
     /**
      * Creates an instance of <code>Hyphenator</code> with given m_patterns
@@ -76,7 +83,7 @@ public class Hyphenator implements TermPreprocessing, StringPreprocessing {
     public Hyphenator(final HyphenationPatterns patterns,
             final String separator) {
         m_separator = separator;
-        m_patterns = patterns.getPatterns();
+        m_trie = patterns.getTrie();
     }
 
     /**
@@ -96,53 +103,52 @@ public Term preprocessTerm(final Term term) {
      */
     @Override
     public String preprocessString(final String str) {
-        String returnWord = "";
-        List<String> hyphens = hyphenate(str);
-        int hcount = 0;
-        for (String hyphen : hyphens) {
-            hcount++;
-            returnWord += hyphen;
-            if (hcount < hyphens.size()) {
-                returnWord += m_separator;
-            }
+        String hyphenatedWord = m_cache.getIfPresent(str);
+        if (hyphenatedWord == null) {
+            hyphenatedWord = hyphenate(str);
+            m_cache.put(str, hyphenatedWord);
         }
-        return returnWord;
+        return hyphenatedWord;
     }
 
-    private List<String> hyphenate(final String word) {
-        List<String> hyphenatedWord = new LinkedList<String>();
+    private String hyphenate(final String word) {
         if (word.length() <= 2) {
-            hyphenatedWord.add(word);
-            return hyphenatedWord;
+            return word;
         }
 
-        int[] points;
-        String lowerCaseWord = "_" + word.toLowerCase() + "_";
-        points = new int[lowerCaseWord.length() + 1];
-        int[] tpoints;
-        BACK:
-        for (int i = 0; i < lowerCaseWord.length(); i++) {
-            for (int j = lowerCaseWord.length(); j > i; j--) {
-                if (m_patterns.containsKey(lowerCaseWord.substring(i, j))) {
-                    tpoints = m_patterns.get(lowerCaseWord.substring(i, j));
-                    for (int k = 0; k < tpoints.length; k++) {
-                        if (points[i + k] <= tpoints[k]) {
-                            points[i + k] = tpoints[k];
-                        }
+        final String lowerCaseWord = "_" + word.toLowerCase() + "_";
+        final int length = lowerCaseWord.length();
+        final int[] points = new int[length + 1];
+        for (int i = 0; i < length; i++) {
+            // find the longest pattern starting at i
+            int[] tpoints = null;
+            int node = HyphenationTrie.ROOT;
+            for (int j = i; j < length; j++) {
+                node = m_trie.child(node, lowerCaseWord.charAt(j));
+                if (node == HyphenationTrie.NO_NODE) {
+                    break;
+                }
+                if (m_trie.getPoints(node) != null) {
+                    tpoints = m_trie.getPoints(node);
+                }
+            }
+            if (tpoints != null) {
+                for (int k = 0; k < tpoints.length; k++) {
+                    if (points[i + k] <= tpoints[k]) {
+                        points[i + k] = tpoints[k];
                     }
-                    continue BACK;
                 }
             }
         }
-        String tstr = "";
+
+        // insert the separator after each character followed by an odd point
+        final StringBuilder hyphenatedWord = new StringBuilder(2 * word.length());
         for (int i = 0; i < (points.length - 3); i++) {
-            tstr += word.charAt(i);
+            hyphenatedWord.append(word.charAt(i));
             if ((points[i + 2] % 2) == 1) {
-                hyphenatedWord.add(tstr);
-                tstr = "";
+                hyphenatedWord.append(m_separator);
             }
         }
-        hyphenatedWord.add(tstr);
-        return hyphenatedWord;
+        return hyphenatedWord.toString();
     }
 }
@@ -56,9 +56,16 @@
 import org.knime.ext.textprocessing.data.Word;
 import org.knime.ext.textprocessing.nodes.preprocessing.TermPreprocessing;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+
 import edu.stanford.nlp.process.Morphology;
 
 /**
+ * Lemmatizes terms based on their POS tags with the StanfordNLP {@link Morphology}. Since a {@code Morphology} is a
+ * lexer that is expensive to create and not thread safe, one instance per thread is reused. The lemmas are memoized
+ * by word and POS tag in a bounded cache, which is shared by the threads processing the documents.
  *
  * @author Andisa Dewi, KNIME.com, Berlin, Germany
  */
@@ -67,6 +74,16 @@ public class StanfordLemmatizer implements TermPreprocessing {
     /** Constant for the boolean flag to determine whether the node should fail. */
     public static final boolean DEF_FAIL = false;
 
+    /** The maximum number of lemmas kept in the cache. */
+    private static final int MAX_CACHE_SIZE = 100_000;
+
+    /** The morphology of each thread, reused for all terms processed by the thread. */
+    private static final ThreadLocal<Morphology> MORPHOLOGY = ThreadLocal.withInitial(Morphology::new);
+
+    /** Cache mapping a word and its POS tag to the lemma. */
+    private final Cache<LemmaKey, String> m_lemmaCache =
+        CacheBuilder.newBuilder().maximumSize(MAX_CACHE_SIZE).recordStats().build();
+
     private boolean m_skipTerms;
 
     private WarningMessage m_warnMessage;
@@ -87,8 +104,6 @@ public StanfordLemmatizer(final WarningMessage msg, final boolean skip) {
      */
     @Override
     public Term preprocessTerm(final Term term) {
-
-        Morphology morph = new Morphology();
         final List<Tag> tags = term.getTags();
         String tag = "";
         // if term doesn't have any tags
@@ -117,15 +132,69 @@ public Term preprocessTerm(final Term term) {
         final List<Word> words = term.getWords();
         final List<Word> newWords = new ArrayList<Word>();
         for (final Word w : words) {
-            newWords.add(new Word(morph.lemma(w.getWord(), tag), w.getWhitespaceSuffix()));
+            newWords.add(new Word(lemma(w.getWord(), tag), w.getWhitespaceSuffix()));
         }
         return new Term(newWords, term.getTags(), term.isUnmodifiable());
     }
 
+    /**
+     * Returns the lemma of the given word from the cache or computes it with the morphology of the current thread.
+     */
+    private String lemma(final String word, final String tag) {
+        final LemmaKey key = new LemmaKey(word, tag);
+        String lemma = m_lemmaCache.getIfPresent(key);
+        if (lemma == null) {
+            lemma = MORPHOLOGY.get().lemma(word, tag);
+            m_lemmaCache.put(key, lemma);
+        }
+        return lemma;
+    }
+
+    /**
+     * @return the statistics of the lemma cache, e.g. to report its hit rate
+     * @since 5.12
+     */
+    public CacheStats getCacheStats() {
+        return m_lemmaCache.stats();
+    }
+
     /**
      * @return the WarningMessage object that contains the warning message
      */
     public WarningMessage getWarnMessage() {
         return m_warnMessage;
     }
+
+    /** A word and its POS tag, the key of the lemma cache. */
+    private static final class LemmaKey {
+
+        private final String m_word;
+
+        private final String m_tag;
+
+        private final int m_hashCode;
+
+        private LemmaKey(final String word, final String tag) {
+            m_word = word;
+            m_tag = tag;
+            m_hashCode = 31 * word.hashCode() + tag.hashCode();
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof LemmaKey)) {
+                return false;
+            }
+            final LemmaKey other = (LemmaKey)obj;
+            return m_hashCode == other.m_hashCode && m_word.equals(other.m_word) && m_tag.equals(other.m_tag);
+        }
+
+        @Override
+        public int hashCode() {
+            return m_hashCode;
+        }
+    }
 }
@@ -50,18 +50,23 @@
 
 import org.apache.commons.lang3.StringUtils;
 import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.NodeLogger;
 import org.knime.core.node.NodeSettingsRO;
 import org.knime.core.node.NodeSettingsWO;
 import org.knime.core.node.defaultnodesettings.SettingsModelBoolean;
 import org.knime.ext.textprocessing.nodes.preprocessing.StreamableProcessingWithInternalsNodeModel;
 import org.knime.ext.textprocessing.nodes.preprocessing.TermPreprocessing;
 
+import com.google.common.cache.CacheStats;
+
 /**
  * The node model for the Stanford Lemmatizer.
  *
  * @author Andisa Dewi, KNIME.com, Berlin, Germany
  */
 class StanfordLemmatizerNodeModel extends StreamableProcessingWithInternalsNodeModel<WarningMessage> {
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(StanfordLemmatizerNodeModel.class);
+
     private SettingsModelBoolean m_failModel = StanfordLemmatizerNodeDialog.getFailModel();
     private StanfordLemmatizer m_lemma;
 
@@ -86,12 +91,24 @@ protected TermPreprocessing createPreprocessing(final WarningMessage internals)
      */
     @Override
     protected void afterProcessing() {
+        logCacheStats();
         String warningMessage = m_lemma.getWarnMessage().get();
         if (!StringUtils.isEmpty(warningMessage)) {
             setWarningMessage(warningMessage);
         }
     }
 
+    /**
+     * Reports the hit rate of the lemma cache of the last created lemmatizer.
+     */
+    private void logCacheStats() {
+        if (m_lemma != null) {
+            final CacheStats stats = m_lemma.getCacheStats();
+            LOGGER.debug(String.format("Lemma cache hit rate: %.1f%% (%d hits, %d misses).", stats.hitRate() * 100,
+                stats.hitCount(), stats.missCount()));
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -122,6 +139,7 @@ protected WarningMessage mergeStreamingOperatorInternals(final WarningMessage[]
      */
     @Override
     protected void finishStreamableExecution(final WarningMessage operatorInternals) {
+        logCacheStats();
         WarningMessage warningMessage = operatorInternals;
         if (warningMessage.get() != null && warningMessage.get().length() > 0) {
             setWarningMessage(warningMessage.get());
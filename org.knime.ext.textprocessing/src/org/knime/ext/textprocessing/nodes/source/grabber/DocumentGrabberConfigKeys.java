@@ -107,4 +107,10 @@ private DocumentGrabberConfigKeys() { }
      * @since 3.3
      */
     public static final String CFGKEY_TOKENIZER = "WordTokenizer";
+
+    /**
+     * Config key for the parse while downloading option.
+     * @since 5.12
+     */
+    public static final String CFGKEY_PARSE_WHILE_DOWNLOADING = "ParseWhileDownloading";
 }
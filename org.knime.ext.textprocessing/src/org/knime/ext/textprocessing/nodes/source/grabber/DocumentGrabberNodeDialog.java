@@ -160,6 +160,15 @@ public static final SettingsModelString getTokenizerModel() {
             TextprocessingPreferenceInitializer.tokenizerName());
     }
 
+    /**
+     * @return Creates and returns the settings model of the parse while downloading option.
+     * @since 5.12
+     */
+    public static final SettingsModelBoolean getParseWhileDownloadingModel() {
+        return new SettingsModelBoolean(DocumentGrabberConfigKeys.CFGKEY_PARSE_WHILE_DOWNLOADING,
+            DocumentGrabberNodeModel.DEF_PARSE_WHILE_DOWNLOADING);
+    }
+
     private DialogComponentButtonLabel m_buttonLabel;
 
     private SettingsModelString m_queryModel;
@@ -170,6 +179,8 @@ public static final SettingsModelString getTokenizerModel() {
 
     private SettingsModelString m_directoryModel;
 
+    private SettingsModelBoolean m_parseWhileDownloadingModel;
+
     /**
      * Creates new instance of <code>DocumentGrabberNodeDialog</code>.
      */
@@ -214,6 +225,9 @@ public DocumentGrabberNodeDialog() {
 
         addDialogComponent(new DialogComponentBoolean(getDeleteFilesModel(), "Delete after parsing"));
 
+        m_parseWhileDownloadingModel = getParseWhileDownloadingModel();
+        addDialogComponent(new DialogComponentBoolean(m_parseWhileDownloadingModel, "Parse while downloading"));
+
         addDialogComponent(new DialogComponentString(getDocumentCategoryModel(), "Document Category:"));
 
         String[] types = DocumentType.asStringList().toArray(new String[0]);
@@ -233,7 +247,10 @@ public void saveAdditionalSettingsTo(final NodeSettingsWO settings) throws Inval
         super.saveAdditionalSettingsTo(settings);
 
         // check the validity of the directory path
-        DocumentGrabberNodeModel.getFile(m_directoryModel.getStringValue());
+        DocumentGrabberNodeModel.getFile(m_directoryModel.getStringValue(),
+            DocumentGrabberNodeModel.getResumableQuery(m_databaseModel.getStringValue(),
+                m_parseWhileDownloadingModel.getBooleanValue(), m_queryModel.getStringValue(),
+                m_maxResultsModel.getIntValue()));
     }
 
     /**
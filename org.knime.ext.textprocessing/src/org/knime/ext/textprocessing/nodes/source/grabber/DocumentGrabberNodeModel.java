@@ -110,6 +110,12 @@ public class DocumentGrabberNodeModel extends NodeModel {
      */
     public static final boolean DEF_DELETE_AFTER_PARSE = false;
 
+    /**
+     * The default setting if documents are parsed while the next ones are downloaded.
+     * @since 5.12
+     */
+    public static final boolean DEF_PARSE_WHILE_DOWNLOADING = true;
+
     /**
      * The default target directory.
      */
@@ -140,6 +146,9 @@ public class DocumentGrabberNodeModel extends NodeModel {
 
     private SettingsModelString m_tokenizerModel = DocumentGrabberNodeDialog.getTokenizerModel();
 
+    private SettingsModelBoolean m_parseWhileDownloadingModel =
+        DocumentGrabberNodeDialog.getParseWhileDownloadingModel();
+
     private DocumentDataTableBuilder m_dtBuilder = new DocumentDataTableBuilder(m_tokenizerModel.getStringValue());
 
     /**
@@ -162,7 +171,9 @@ protected DataTableSpec[] configure(final DataTableSpec[] inSpecs) throws Invali
         }
 
         // check target directory
-        getFile(m_directoryModel.getStringValue());
+        getFile(m_directoryModel.getStringValue(),
+            getResumableQuery(m_dataBaseModel.getStringValue(), m_parseWhileDownloadingModel.getBooleanValue(),
+                m_queryModel.getStringValue(), m_maxResultsModel.getIntValue()));
 
         return new DataTableSpec[]{createColumnRearranger(m_dtBuilder.createDataTableSpec()).createSpec()};
     }
@@ -202,6 +213,9 @@ protected BufferedDataTable[] execute(final BufferedDataTable[] inData, final Ex
                     ((AbstractDocumentGrabber)grabber).setTokenizerName(m_tokenizerModel.getStringValue());
                     ((AbstractDocumentGrabber)grabber).setExec(exec);
                 }
+                if (grabber instanceof PubMedDocumentGrabber) {
+                    ((PubMedDocumentGrabber)grabber).setPipelined(m_parseWhileDownloadingModel.getBooleanValue());
+                }
 
                 grabber.removeAllDocumentParsedListener();
                 grabber.addDocumentParsedListener(new InternalDocumentParsedEventListener());
@@ -220,7 +234,35 @@ protected BufferedDataTable[] execute(final BufferedDataTable[] inData, final Ex
         }
     }
 
-    static final File getFile(final String dir) throws InvalidSettingsException {
+    /**
+     * Returns the query whose interrupted download can be resumed in the documents directory. Only the pipelined
+     * PubMed download stores a {@link PubMedCheckpoint} and can be resumed.
+     *
+     * @param database the name of the grabber
+     * @param parseWhileDownloading whether the documents are parsed while downloading
+     * @param query the query string
+     * @param maxResults the maximal number of results
+     * @return the query or <code>null</code> if the download can not be resumed
+     */
+    static final Query getResumableQuery(final String database, final boolean parseWhileDownloading,
+        final String query, final int maxResults) {
+        if (parseWhileDownloading && PubMedDocumentGrabber.NAME.equals(database)) {
+            return new Query(query, maxResults);
+        }
+        return null;
+    }
+
+    /**
+     * Checks the documents directory, which has to be an empty writable directory unless it contains the checkpoint
+     * of an interrupted download of the given query.
+     *
+     * @param dir the documents directory
+     * @param resumableQuery the query whose download can be resumed, or <code>null</code> if downloads can not be
+     *            resumed
+     * @return the documents directory
+     * @throws InvalidSettingsException if the directory can not be used
+     */
+    static final File getFile(final String dir, final Query resumableQuery) throws InvalidSettingsException {
         try {
             File directoryPath = FileUtil.getFileFromURL(FileUtil.toURL(dir));
 
@@ -228,7 +270,9 @@ static final File getFile(final String dir) throws InvalidSettingsException {
                 throw new InvalidSettingsException("Selected directory: " + dir + " is not a directory!");
             } else if (!directoryPath.canWrite()) {
                 throw new InvalidSettingsException("Selected directory: " + dir + " is not writable!");
-            } else if (directoryPath.listFiles().length > 0) {
+            } else if (directoryPath.listFiles().length > 0
+                && (resumableQuery == null || !PubMedCheckpoint.existsFor(directoryPath, resumableQuery))) {
+                // a directory containing an interrupted download of the same query can be used to resume it
                 throw new InvalidSettingsException("Selected directory: " + dir + " is not empty!");
             }
 
@@ -279,6 +323,7 @@ protected void saveSettingsTo(final NodeSettingsWO settings) {
         m_extractMetaInfoSettingsModel.saveSettingsTo(settings);
         m_appendQueryColumnModel.saveSettingsTo(settings);
         m_tokenizerModel.saveSettingsTo(settings);
+        m_parseWhileDownloadingModel.saveSettingsTo(settings);
     }
 
     /**
@@ -305,6 +350,9 @@ protected void validateSettings(final NodeSettingsRO settings) throws InvalidSet
         if (settings.containsKey(m_appendQueryColumnModel.getConfigName())) {
             m_appendQueryColumnModel.validateSettings(settings);
         }
+        if (settings.containsKey(m_parseWhileDownloadingModel.getConfigName())) {
+            m_parseWhileDownloadingModel.validateSettings(settings);
+        }
     }
 
     /**
@@ -330,6 +378,12 @@ protected void loadValidatedSettingsFrom(final NodeSettingsRO settings) throws I
         if (settings.containsKey(m_appendQueryColumnModel.getConfigName())) {
             m_appendQueryColumnModel.loadSettingsFrom(settings);
         }
+        if (settings.containsKey(m_parseWhileDownloadingModel.getConfigName())) {
+            m_parseWhileDownloadingModel.loadSettingsFrom(settings);
+        } else {
+            // nodes created before KNIME 5.12 download all documents before parsing them
+            m_parseWhileDownloadingModel.setBooleanValue(false);
+        }
     }
 
     /**
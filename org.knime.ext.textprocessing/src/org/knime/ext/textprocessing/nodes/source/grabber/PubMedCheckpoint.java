@@ -0,0 +1,253 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.ext.textprocessing.nodes.source.grabber;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Properties;
+
+/**
+ * The progress of a pipelined PubMed download, stored in the documents directory. It keeps the ids of the search
+ * result and the number of batches that have been downloaded completely, so that an interrupted download can be
+ * resumed without sending the search again and without downloading the completed batches again.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class PubMedCheckpoint {
+
+    /** The name of the checkpoint file. */
+    static final String FILE_NAME = "PubMedGrabber.checkpoint";
+
+    private static final String KEY_QUERY = "query";
+
+    private static final String KEY_MAX_RESULTS = "maxResults";
+
+    private static final String KEY_STEP_SIZE = "stepSize";
+
+    private static final String KEY_IDS = "ids";
+
+    private static final String KEY_FETCHED_BATCHES = "fetchedBatches";
+
+    private final File m_file;
+
+    private final String m_query;
+
+    private final int m_maxResults;
+
+    private final int m_stepSize;
+
+    private final List<Integer> m_ids;
+
+    private int m_fetchedBatches;
+
+    private PubMedCheckpoint(final File file, final String query, final int maxResults, final int stepSize,
+        final List<Integer> ids, final int fetchedBatches) {
+        m_file = file;
+        m_query = query;
+        m_maxResults = maxResults;
+        m_stepSize = stepSize;
+        m_ids = Collections.unmodifiableList(ids);
+        m_fetchedBatches = fetchedBatches;
+    }
+
+    /**
+     * Creates a new checkpoint without any downloaded batches. The checkpoint is not saved.
+     *
+     * @param directory the documents directory
+     * @param query the query
+     * @param stepSize the number of ids per batch
+     * @param ids the ids of the search result
+     * @return the new checkpoint
+     */
+    static PubMedCheckpoint create(final File directory, final Query query, final int stepSize,
+        final List<Integer> ids) {
+        return new PubMedCheckpoint(new File(directory, FILE_NAME), query.getQuery(), query.getMaxResults(), stepSize,
+            new ArrayList<Integer>(ids), 0);
+    }
+
+    /**
+     * @param directory the documents directory
+     * @return <code>true</code> if the directory contains a checkpoint file
+     */
+    static boolean exists(final File directory) {
+        return new File(directory, FILE_NAME).isFile();
+    }
+
+    /**
+     * @param directory the documents directory
+     * @param query the query to resume
+     * @return <code>true</code> if the directory contains a checkpoint of an interrupted download of the given query
+     */
+    static boolean existsFor(final File directory, final Query query) {
+        final File file = new File(directory, FILE_NAME);
+        if (!file.isFile()) {
+            return false;
+        }
+        try {
+            final Properties props = readProperties(file);
+            return Objects.equals(props.getProperty(KEY_QUERY), query.getQuery())
+                && Integer.toString(query.getMaxResults()).equals(props.getProperty(KEY_MAX_RESULTS));
+        } catch (final IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Loads the checkpoint of the given directory.
+     *
+     * @param directory the documents directory
+     * @param query the query to resume
+     * @param stepSize the number of ids per batch
+     * @return the checkpoint or <code>null</code> if the directory does not contain a checkpoint
+     * @throws IOException if the checkpoint could not be read or belongs to a different query
+     */
+    static PubMedCheckpoint load(final File directory, final Query query, final int stepSize)
+        throws IOException {
+        final File file = new File(directory, FILE_NAME);
+        if (!file.isFile()) {
+            return null;
+        }
+        final Properties props = readProperties(file);
+        try {
+            final String queryStr = props.getProperty(KEY_QUERY);
+            final int maxResults = Integer.parseInt(props.getProperty(KEY_MAX_RESULTS));
+            final int checkpointStepSize = Integer.parseInt(props.getProperty(KEY_STEP_SIZE));
+            if (!Objects.equals(queryStr, query.getQuery()) || maxResults != query.getMaxResults()
+                || checkpointStepSize != stepSize) {
+                throw new IOException("The directory \"" + directory.getAbsolutePath()
+                    + "\" contains an interrupted download of a different query. Please select an empty directory.");
+            }
+            final List<Integer> ids = new ArrayList<Integer>();
+            for (final String id : props.getProperty(KEY_IDS, "").split(",")) {
+                if (!id.isEmpty()) {
+                    ids.add(Integer.valueOf(id));
+                }
+            }
+            final int fetchedBatches = Integer.parseInt(props.getProperty(KEY_FETCHED_BATCHES));
+            return new PubMedCheckpoint(file, queryStr, maxResults, checkpointStepSize, ids, fetchedBatches);
+        } catch (final NumberFormatException e) {
+            throw new IOException("The checkpoint file \"" + file.getAbsolutePath() + "\" is corrupt.", e);
+        }
+    }
+
+    private static Properties readProperties(final File file) throws IOException {
+        final Properties props = new Properties();
+        try (final InputStream in = Files.newInputStream(file.toPath())) {
+            props.load(in);
+        }
+        return props;
+    }
+
+    /**
+     * Writes the checkpoint to its file. The file is replaced atomically, so that an interruption never leaves a
+     * partially written checkpoint behind.
+     *
+     * @throws IOException if the checkpoint could not be written
+     */
+    void save() throws IOException {
+        final Properties props = new Properties();
+        props.setProperty(KEY_QUERY, m_query);
+        props.setProperty(KEY_MAX_RESULTS, Integer.toString(m_maxResults));
+        props.setProperty(KEY_STEP_SIZE, Integer.toString(m_stepSize));
+        final StringBuilder ids = new StringBuilder();
+        for (final Integer id : m_ids) {
+            if (ids.length() > 0) {
+                ids.append(',');
+            }
+            ids.append(id);
+        }
+        props.setProperty(KEY_IDS, ids.toString());
+        props.setProperty(KEY_FETCHED_BATCHES, Integer.toString(m_fetchedBatches));
+
+        final File tmp = new File(m_file.getParentFile(), m_file.getName() + ".tmp");
+        try (final OutputStream out = Files.newOutputStream(tmp.toPath())) {
+            props.store(out, "Progress of the PubMed download");
+        }
+        Files.move(tmp.toPath(), m_file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+            StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Deletes the checkpoint file.
+     *
+     * @throws IOException if the file could not be deleted
+     */
+    void delete() throws IOException {
+        Files.deleteIfExists(m_file.toPath());
+    }
+
+    /**
+     * @return the unmodifiable list of ids of the search result
+     */
+    List<Integer> getIds() {
+        return m_ids;
+    }
+
+    /**
+     * @return the number of batches that have been downloaded completely
+     */
+    int getFetchedBatches() {
+        return m_fetchedBatches;
+    }
+
+    /**
+     * @param fetchedBatches the number of batches that have been downloaded completely
+     */
+    void setFetchedBatches(final int fetchedBatches) {
+        m_fetchedBatches = fetchedBatches;
+    }
+}
@@ -56,6 +56,7 @@
 import java.io.InputStreamReader;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
+import java.net.HttpURLConnection;
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URISyntaxException;
@@ -64,6 +65,11 @@
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.zip.GZIPInputStream;
@@ -71,6 +77,7 @@
 
 import org.apache.commons.io.FileUtils;
 import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.KNIMEConstants;
 import org.knime.core.node.NodeLogger;
 import org.knime.core.util.ThreadLocalHTTPAuthenticator;
 import org.knime.core.util.proxy.URLConnectionFactory;
@@ -116,14 +123,26 @@ public class PubMedDocumentGrabber extends AbstractDocumentGrabber {
         "&retmode=xml&rettype=abstract";
 
 
+    /** The name of the grabber. */
+    static final String NAME = "PUBMED";
+
     private static final String BASIC_FILE_NAME = "PubMedAbstracts";
 
     private static final String FILE_EXTENSION = "gz";
 
+    private static final int HTTP_TOO_MANY_REQUESTS = 429;
+
+    /** The number of times a rejected request is repeated in pipelined mode. */
+    private static final int MAX_RETRIES = 3;
+
     private int m_stepSize = 100;
 
     private long m_delayMillis = 1000;
 
+    private boolean m_pipelined = false;
+
+    private URI m_baseUri = URI.create(PROTOCOL + "://" + HOST);
+
     private List<Integer> m_idList = new ArrayList<Integer>();
 
     /**
@@ -139,7 +158,7 @@ public class PubMedDocumentGrabber extends AbstractDocumentGrabber {
      */
     @Override
     public String getName() {
-        return "PUBMED";
+        return NAME;
     }
 
     /**
@@ -190,6 +209,10 @@ public void fetchAndParseDocuments(final File directory, final Query query)
             throws Exception {
         if (directory != null && query != null) {
             if (directory.exists() && directory.isDirectory()) {
+                if (m_pipelined) {
+                    fetchAndParseDocumentsPipelined(directory, query);
+                    return;
+                }
 
                 try {
                     fetchDocuments(directory, query);
@@ -253,8 +276,7 @@ private void fetchDocuments(final File directory, final Query query)
 
                     String fetchStr = FETCH_QUERY + idString
                         + FETCH_QUERY_POSTFIX;
-                    URI uri = new URI(PROTOCOL, HOST, FETCH_PATH, fetchStr, "");
-                    pubmed = uri.toURL();
+                    pubmed = createUrl(FETCH_PATH, fetchStr);
 
                     LOGGER.info("PubMed fetching: " + pubmed.toString());
 
@@ -279,8 +301,128 @@ private void fetchDocuments(final File directory, final Query query)
         return;
     }
 
-    private void parseDocumentsAndNotify(final File dir) throws Exception {
+    /**
+     * Fetches the documents in batches and parses each batch while the next one is downloaded. The requests are
+     * limited by an adaptive token bucket instead of fixed delays and the progress is stored in a
+     * {@link PubMedCheckpoint}, so that a failed or canceled download can be resumed in the same directory.
+     */
+    private void fetchAndParseDocumentsPipelined(final File directory, final Query query) throws Exception {
+        final TokenBucketRateLimiter rateLimiter =
+            new TokenBucketRateLimiter(1000.0 / Math.max(1, m_delayMillis), 1);
+
+        PubMedCheckpoint checkpoint = PubMedCheckpoint.load(directory, query, m_stepSize);
+        if (checkpoint == null) {
+            final URL pubmed = buildUrl(query, true);
+            LOGGER.info("PubMed Query: " + pubmed.toString());
+            rateLimiter.acquire();
+            buildResultList(pubmed);
+            checkpoint = PubMedCheckpoint.create(directory, query, m_stepSize, m_idList);
+            checkpoint.save();
+        } else {
+            LOGGER.info("Resuming PubMed download after " + checkpoint.getFetchedBatches() + " batches.");
+            m_idList.clear();
+            m_idList.addAll(checkpoint.getIds());
+        }
+
+        // first and last id index of each batch
+        final List<int[]> batches = new ArrayList<int[]>();
+        int idStart = 0;
+        while (idStart < m_idList.size()) {
+            final int idEnd = getEnd(idStart, m_idList.size() - 1);
+            batches.add(new int[]{idStart, idEnd});
+            idStart = idEnd + 1;
+        }
+
+        final DocumentParser parser = createParser();
+        Future<File> next = null;
+        try {
+            if (!batches.isEmpty()) {
+                next = fetchBatchAsync(directory, 0, batches.get(0), checkpoint, rateLimiter);
+            }
+            for (int b = 0; b < batches.size(); b++) {
+                final File file = waitForBatch(next);
+                if (b >= checkpoint.getFetchedBatches()) {
+                    checkpoint.setFetchedBatches(b + 1);
+                    checkpoint.save();
+                }
+                next = b + 1 < batches.size()
+                    ? fetchBatchAsync(directory, b + 1, batches.get(b + 1), checkpoint, rateLimiter) : null;
+
+                setProgress((double)b / (double)batches.size(), "Parsing batch " + (b + 1) + " of "
+                    + batches.size() + " while fetching the next one");
+                checkCanceled();
+                LOGGER.info("Parsing file: " + file.getAbsolutePath());
+                parseFile(parser, file);
+            }
+        } finally {
+            if (next != null) {
+                next.cancel(true);
+            }
+        }
 
+        checkpoint.delete();
+        if (getDeleteFiles()) {
+            FileUtils.cleanDirectory(directory);
+        }
+    }
+
+    private Future<File> fetchBatchAsync(final File directory, final int batch, final int[] idRange,
+        final PubMedCheckpoint checkpoint, final TokenBucketRateLimiter rateLimiter) {
+        final File file = new File(directory, BASIC_FILE_NAME + (batch + 1) + "." + FILE_EXTENSION);
+        if (batch < checkpoint.getFetchedBatches() && file.isFile()) {
+            // downloaded completely before the interruption
+            return CompletableFuture.completedFuture(file);
+        }
+        return KNIMEConstants.GLOBAL_THREAD_POOL.enqueue(() -> {
+            fetchBatch(file, idRange[0], idRange[1], rateLimiter);
+            return file;
+        });
+    }
+
+    private void fetchBatch(final File file, final int idStart, final int idEnd,
+        final TokenBucketRateLimiter rateLimiter) throws IOException, URISyntaxException, InterruptedException {
+        final StringBuilder idString = new StringBuilder();
+        for (int i = idStart; i <= idEnd; i++) {
+            idString.append(m_idList.get(i)).append(',');
+        }
+        final URL pubmed = createUrl(FETCH_PATH, FETCH_QUERY + idString + FETCH_QUERY_POSTFIX);
+        LOGGER.info("PubMed fetching: " + pubmed.toString());
+
+        for (int attempt = 0;; attempt++) {
+            rateLimiter.acquire();
+            try {
+                saveDocument(pubmed, file.getParentFile(), file.getName());
+                rateLimiter.onSuccess();
+                return;
+            } catch (final RetryableResponseException e) {
+                rateLimiter.onThrottled();
+                if (attempt >= MAX_RETRIES) {
+                    LOGGER.warn("Could not read PubMed Xml-Website!");
+                    throw e;
+                }
+                LOGGER.debug(e.getMessage() + " Retrying with " + rateLimiter.getRate() + " requests per second.");
+            }
+        }
+    }
+
+    private File waitForBatch(final Future<File> future) throws Exception {
+        while (true) {
+            checkCanceled();
+            try {
+                return future.get(1, TimeUnit.SECONDS);
+            } catch (final TimeoutException e) {
+                // check for cancellation and continue waiting
+            } catch (final ExecutionException e) {
+                final Throwable cause = e.getCause();
+                if (cause instanceof Exception) {
+                    throw (Exception)cause;
+                }
+                throw e;
+            }
+        }
+    }
+
+    private DocumentParser createParser() {
         DocumentParser parser = new PubMedDocumentParser(getExtractMetaInfo(), getTokenizerName());
 
         parser.addDocumentParsedListener(
@@ -293,6 +435,19 @@ private void parseDocumentsAndNotify(final File dir) throws Exception {
         if (getDocumentType() != null) {
             parser.setDocumentType(getDocumentType());
         }
+        return parser;
+    }
+
+    private static void parseFile(final DocumentParser parser, final File f) throws Exception {
+        try (final InputStream is = new GZIPInputStream(new FileInputStream(f))) {
+            parser.setDocumentFilepath(f.getAbsolutePath());
+            parser.parseDocument(is);
+        }
+    }
+
+    private void parseDocumentsAndNotify(final File dir) throws Exception {
+
+        DocumentParser parser = createParser();
 
         List<String> validExtensions = new ArrayList<String>();
         validExtensions.add(FILE_EXTENSION);
@@ -395,6 +550,12 @@ private void saveDocument(final URL url, final File dir,
         conn.setConnectTimeout(60000);
         try (final var c = ThreadLocalHTTPAuthenticator.suppressAuthenticationPopups()) {
             conn.connect();
+            if (conn instanceof HttpURLConnection) {
+                final int status = ((HttpURLConnection)conn).getResponseCode();
+                if (status == HTTP_TOO_MANY_REQUESTS || status >= HttpURLConnection.HTTP_INTERNAL_ERROR) {
+                    throw new RetryableResponseException(status);
+                }
+            }
         }
 
         try (final var c = ThreadLocalHTTPAuthenticator.suppressAuthenticationPopups();
@@ -432,8 +593,11 @@ private URL buildUrl(final Query query, final boolean applyMaxResults)
         if (applyMaxResults) {
             str += SEARCH_QUERY_POSTFIX + query.getMaxResults();
         }
-        URI uri = new URI(PROTOCOL, HOST, SEARCH_PATH, str, "");
+        return createUrl(SEARCH_PATH, str);
+    }
 
+    private URL createUrl(final String path, final String query) throws URISyntaxException, MalformedURLException {
+        URI uri = new URI(m_baseUri.getScheme(), null, m_baseUri.getHost(), m_baseUri.getPort(), path, query, "");
         return uri.toURL();
     }
 
@@ -497,6 +661,30 @@ public void setDelayMillis(final long delayMillis) {
         m_delayMillis = delayMillis;
     }
 
+    /**
+     * @return <code>true</code> if each batch of documents is parsed while the next one is downloaded
+     * @since 5.12
+     */
+    public boolean isPipelined() {
+        return m_pipelined;
+    }
+
+    /**
+     * @param pipelined if <code>true</code> each batch of documents is parsed while the next one is downloaded, the
+     * requests are limited by an adaptive rate limiter and interrupted downloads can be resumed.
+     * @since 5.12
+     */
+    public void setPipelined(final boolean pipelined) {
+        m_pipelined = pipelined;
+    }
+
+    /**
+     * @param baseUri the scheme, host and port of the E-utilities service to send the requests to
+     */
+    void setBaseUri(final URI baseUri) {
+        m_baseUri = baseUri;
+    }
+
     /**
      * @return the stepSize which specifies the number of abstracts stored in
      * one file.
@@ -513,6 +701,18 @@ public void setStepSize(final int stepSize) {
         m_stepSize = stepSize;
     }
 
+    /**
+     * Thrown if the service rejected a request since it is overloaded or requests were sent too fast.
+     */
+    private static final class RetryableResponseException extends IOException {
+
+        private static final long serialVersionUID = 1L;
+
+        RetryableResponseException(final int status) {
+            super("PubMed rejected the request with HTTP status " + status + ".");
+        }
+    }
+
     private class InternalDocumentParsedEventListener
     implements DocumentParsedEventListener {
         /**
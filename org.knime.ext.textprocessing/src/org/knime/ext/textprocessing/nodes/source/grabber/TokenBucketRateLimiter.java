@@ -0,0 +1,164 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.ext.textprocessing.nodes.source.grabber;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * An adaptive token bucket limiting the rate of requests sent to a web service. A request takes one token, tokens are
+ * refilled at the current rate up to the capacity of the bucket. If the service signals that requests are sent too
+ * fast, the rate is halved down to a minimum, after each successful request it is increased again by a tenth of the
+ * maximum rate up to the maximum rate.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class TokenBucketRateLimiter {
+
+    private static final double NANOS_PER_SECOND = 1e9;
+
+    private final double m_maxRate;
+
+    private final double m_minRate;
+
+    private final double m_capacity;
+
+    private final LongSupplier m_clock;
+
+    private double m_rate;
+
+    private double m_tokens;
+
+    private long m_lastRefill;
+
+    /**
+     * @param maxRate the maximum number of requests per second
+     * @param capacity the maximum number of requests that can be sent at once
+     */
+    TokenBucketRateLimiter(final double maxRate, final double capacity) {
+        this(maxRate, capacity, System::nanoTime);
+    }
+
+    /**
+     * @param maxRate the maximum number of requests per second
+     * @param capacity the maximum number of requests that can be sent at once
+     * @param clock the clock providing the current time in nanoseconds
+     */
+    TokenBucketRateLimiter(final double maxRate, final double capacity, final LongSupplier clock) {
+        if (maxRate <= 0) {
+            throw new IllegalArgumentException("Rate must be positive");
+        }
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be at least one");
+        }
+        m_maxRate = maxRate;
+        m_minRate = maxRate / 16;
+        m_capacity = capacity;
+        m_clock = clock;
+        m_rate = maxRate;
+        m_tokens = capacity;
+        m_lastRefill = clock.getAsLong();
+    }
+
+    /**
+     * Takes a token, waiting until it is available.
+     *
+     * @throws InterruptedException if the thread has been interrupted while waiting
+     */
+    void acquire() throws InterruptedException {
+        final long waitNanos = reserve();
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    /**
+     * Takes a token without waiting. If no token is available the bucket goes into debt.
+     *
+     * @return the time in nanoseconds the caller has to wait before sending the request
+     */
+    synchronized long reserve() {
+        refill();
+        m_tokens -= 1;
+        if (m_tokens >= 0) {
+            return 0;
+        }
+        return (long)Math.ceil(-m_tokens / m_rate * NANOS_PER_SECOND);
+    }
+
+    /**
+     * Halves the rate, to be called if the service rejected a request since requests were sent too fast.
+     */
+    synchronized void onThrottled() {
+        refill();
+        m_rate = Math.max(m_minRate, m_rate / 2);
+        m_tokens = Math.min(m_tokens, 0);
+    }
+
+    /**
+     * Increases the rate, to be called after the service answered a request successfully.
+     */
+    synchronized void onSuccess() {
+        refill();
+        m_rate = Math.min(m_maxRate, m_rate + m_maxRate / 10);
+    }
+
+    /**
+     * @return the current number of requests per second
+     */
+    synchronized double getRate() {
+        return m_rate;
+    }
+
+    private void refill() {
+        final long now = m_clock.getAsLong();
+        m_tokens = Math.min(m_capacity, m_tokens + (now - m_lastRefill) / NANOS_PER_SECOND * m_rate);
+        m_lastRefill = now;
+    }
+}
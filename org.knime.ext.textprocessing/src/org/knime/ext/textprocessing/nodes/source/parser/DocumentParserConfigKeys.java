@@ -103,4 +103,10 @@ private DocumentParserConfigKeys() {
      */
     public static final String CFGKEY_TOKENIZER = "WordTokenizer";
 
+    /**
+     * The configuration key of the parse records in parallel flag.
+     * @since 5.12
+     */
+    public static final String CFGKEY_PARSE_RECORDS_IN_PARALLEL = "ParseRecordsInParallel";
+
 }
@@ -47,6 +47,8 @@
 
 package org.knime.ext.textprocessing.nodes.source.parser;
 
+import java.util.Collections;
+import java.util.Set;
 
 /**
  * Factory that create {@link DocumentParser} instances.
@@ -62,4 +64,16 @@ public interface DocumentParserFactory {
      * @since 3.3
      */
     public DocumentParser createParser(String tokenizerName) throws InstantiationException;
+
+    /**
+     * Returns the names of the XML elements that each contain one document, if the files read by the created parsers
+     * are XML files whose records can be parsed independently of each other. Such files can be split into records
+     * that are parsed in parallel.
+     *
+     * @return the lower case names of the record elements, or an empty set if the files cannot be split
+     * @since 5.12
+     */
+    public default Set<String> getRecordElementNames() {
+        return Collections.emptySet();
+    }
 }
@@ -48,6 +48,7 @@
 package org.knime.ext.textprocessing.nodes.source.parser;
 
 import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
@@ -55,14 +56,21 @@
 import java.net.MalformedURLException;
 import java.nio.charset.Charset;
 import java.nio.file.InvalidPathException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Deque;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.zip.GZIPInputStream;
 
+import javax.xml.stream.XMLStreamException;
+
 import org.knime.core.data.DataTableSpec;
 import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.CanceledExecutionException;
@@ -143,6 +151,17 @@ public class DocumentParserNodeModel extends NodeModel {
      * @since 3.1*/
     public static final boolean DEFAULT_FILENAME_TITLE = false;
 
+    /**
+     * The default setting to parse the records of a file in parallel.
+     * @since 5.12
+     */
+    public static final boolean DEFAULT_PARSE_RECORDS_IN_PARALLEL = true;
+
+    /**
+     * The number of records parsed by a thread at once, if the records of a file are parsed in parallel.
+     */
+    private static final int RECORDS_PER_BATCH = 200;
+
     private static final NodeLogger LOGGER = NodeLogger.getLogger(DocumentParserNodeModel.class);
 
     private SettingsModelString m_pathModel = DocumentParserNodeDialog.getPathModel();
@@ -164,6 +183,9 @@ public class DocumentParserNodeModel extends NodeModel {
 
     private SettingsModelString m_tokenizerModel = DocumentParserNodeDialog.getTokenizerModel();
 
+    private SettingsModelBoolean m_parseRecordsInParallelModel =
+        XmlRecordDocumentParserNodeDialog.getParseRecordsInParallelModel();
+
     private boolean m_withCharset = false;
 
     private final DocumentParserFactory m_parserFactory;
@@ -280,6 +302,17 @@ protected BufferedDataTable[] execute(final BufferedDataTable[] inData, final Ex
         final List<File> files = fc.getFiles();
         final int numberOfFiles = files.size();
 
+        final Set<String> recordNames = m_parserFactory.getRecordElementNames();
+        if (!recordNames.isEmpty() && m_parseRecordsInParallelModel.getBooleanValue()) {
+            try {
+                m_dtBuilder.openDataTable(exec);
+                parseRecords(files, recordNames, exec);
+                return new BufferedDataTable[]{m_dtBuilder.getAndCloseDataTable()};
+            } finally {
+                m_dtBuilder.closeCache();
+            }
+        }
+
         final int numberOfThreads = KNIMEConstants.GLOBAL_THREAD_POOL.getMaxThreads();
         final ThreadPool pool = KNIMEConstants.GLOBAL_THREAD_POOL;
         final List<Future<?>> futures = new ArrayList<>();
@@ -346,11 +379,7 @@ public void run() {
 
                         InputStream is = null;
                         try {
-                            if (f.getName().toLowerCase().endsWith(".gz")) {
-                                is = new BufferedInputStream(new GZIPInputStream(new FileInputStream(f)));
-                            } else {
-                                is = new BufferedInputStream(new FileInputStream(f));
-                            }
+                            is = openInputStream(f);
                             parser.setDocumentFilepath(f.getAbsolutePath());
 
                             // first remove all listeners in order to avoid that two or more listeners are registered,
@@ -389,6 +418,99 @@ public void run() {
         };
     }
 
+    private static InputStream openInputStream(final File f) throws IOException {
+        if (f.getName().toLowerCase().endsWith(".gz")) {
+            return new BufferedInputStream(new GZIPInputStream(new FileInputStream(f)));
+        }
+        return new BufferedInputStream(new FileInputStream(f));
+    }
+
+    /**
+     * Parses the given files one after the other. Each file is split into batches of records by the main thread, the
+     * batches are parsed concurrently by the worker threads of the KNIME thread pool. The documents are added to the
+     * table in the order of the files and records. At most two batches per thread are parsed or waiting to be added
+     * at a time, to bound the memory.
+     *
+     * @param files The files to parse.
+     * @param recordNames The lower case names of the record elements.
+     * @param exec The execution context.
+     * @throws CanceledExecutionException If execution was canceled.
+     * @throws InterruptedException If the thread was interrupted while waiting for a batch.
+     */
+    private void parseRecords(final List<File> files, final Set<String> recordNames, final ExecutionContext exec)
+        throws CanceledExecutionException, InterruptedException {
+        final ThreadPool pool = KNIMEConstants.GLOBAL_THREAD_POOL;
+        final int numberOfThreads = pool.getMaxThreads();
+        final Deque<Future<List<Document>>> batches = new ArrayDeque<>();
+        try {
+            int fileCount = 0;
+            for (final File f : files) {
+                exec.checkCanceled();
+                fileCount++;
+                exec.setProgress(fileCount / (double)files.size(),
+                    "Parsing file " + fileCount + " of " + files.size() + " ...");
+                LOGGER.info("Parsing file: " + f.getAbsolutePath());
+
+                try (final XmlRecordSplitter splitter =
+                    new XmlRecordSplitter(openInputStream(f), recordNames, RECORDS_PER_BATCH)) {
+                    byte[] batch;
+                    while ((batch = splitter.nextBatch()) != null) {
+                        exec.checkCanceled();
+                        batches.add(pool.enqueue(parseBatch(batch, f)));
+                        while (batches.size() > 2 * numberOfThreads) {
+                            addDocuments(batches.poll());
+                        }
+                    }
+                } catch (IOException | XMLStreamException e) {
+                    LOGGER.error("Could not parse file: " + f.getAbsolutePath().toString(), e);
+                    setWarningMessage("Could not parse all files properly!");
+                }
+            }
+            while (!batches.isEmpty()) {
+                exec.checkCanceled();
+                addDocuments(batches.poll());
+            }
+        } finally {
+            for (final Future<List<Document>> f : batches) {
+                f.cancel(true);
+            }
+        }
+    }
+
+    /**
+     * Creates and returns a new {@link Callable} that parses the given batch of records with a new parser instance.
+     *
+     * @param batch The UTF-8 encoded XML document containing the records.
+     * @param file The file containing the records.
+     * @return new {@link Callable} returning the parsed documents in the order of the records.
+     */
+    private Callable<List<Document>> parseBatch(final byte[] batch, final File file) {
+        return () -> {
+            final List<Document> docs = new ArrayList<>();
+            final DocumentParser parser = createParser();
+            parser.setDocumentFilepath(file.getAbsolutePath());
+            parser.addDocumentParsedListener(event -> {
+                if (event.getDocument() != null) {
+                    docs.add(event.getDocument());
+                }
+            });
+            parser.parseDocument(new ByteArrayInputStream(batch));
+            parser.clean();
+            return docs;
+        };
+    }
+
+    private void addDocuments(final Future<List<Document>> batch) throws InterruptedException {
+        try {
+            for (final Document d : batch.get()) {
+                m_dtBuilder.addDocument(d);
+            }
+        } catch (ExecutionException e) {
+            LOGGER.error("Could not parse records.", e.getCause());
+            setWarningMessage("Could not parse all files properly!");
+        }
+    }
+
     private class InternalDocumentParsedEventListener implements DocumentParsedEventListener {
         /**
          * {@inheritDoc}
@@ -454,6 +576,12 @@ protected void loadValidatedSettingsFrom(final NodeSettingsRO settings) throws I
         if (settings.containsKey(m_fileNameAsTitleModel.getConfigName())) {
             m_fileNameAsTitleModel.loadSettingsFrom(settings);
         }
+        if (settings.containsKey(m_parseRecordsInParallelModel.getConfigName())) {
+            m_parseRecordsInParallelModel.loadSettingsFrom(settings);
+        } else {
+            // nodes created before KNIME 5.12 parse each file by a single thread
+            m_parseRecordsInParallelModel.setBooleanValue(false);
+        }
     }
 
     /**
@@ -474,6 +602,7 @@ protected void saveSettingsTo(final NodeSettingsWO settings) {
 
         m_fileNameAsTitleModel.saveSettingsTo(settings);
         m_tokenizerModel.saveSettingsTo(settings);
+        m_parseRecordsInParallelModel.saveSettingsTo(settings);
     }
 
     /**
@@ -498,5 +627,8 @@ protected void validateSettings(final NodeSettingsRO settings) throws InvalidSet
         if (settings.containsKey(m_fileNameAsTitleModel.getConfigName())) {
             m_fileNameAsTitleModel.validateSettings(settings);
         }
+        if (settings.containsKey(m_parseRecordsInParallelModel.getConfigName())) {
+            m_parseRecordsInParallelModel.validateSettings(settings);
+        }
     }
 }
@@ -0,0 +1,187 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.ext.textprocessing.nodes.source.parser;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Set;
+
+import javax.xml.stream.XMLEventFactory;
+import javax.xml.stream.XMLEventReader;
+import javax.xml.stream.XMLEventWriter;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.events.StartElement;
+import javax.xml.stream.events.XMLEvent;
+
+/**
+ * Splits an XML file into batches of records, e.g. the <code>PubmedArticle</code> elements of a PubMed file, using a
+ * StAX reader. Each batch is a small well-formed XML document, containing the records wrapped into a
+ * <code>Records</code> element, that can be parsed by a {@link DocumentParser} independently of the other batches.
+ * Only the current batch is held in memory. Elements outside of records are skipped.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class XmlRecordSplitter implements AutoCloseable {
+
+    /** The name of the element wrapping the records of a batch. */
+    static final String BATCH_ELEMENT = "Records";
+
+    private final InputStream m_in;
+
+    private final XMLEventReader m_reader;
+
+    private final Set<String> m_recordNames;
+
+    private final int m_recordsPerBatch;
+
+    private final XMLOutputFactory m_outputFactory = XMLOutputFactory.newInstance();
+
+    private final XMLEventFactory m_eventFactory = XMLEventFactory.newInstance();
+
+    /**
+     * @param in the stream of the XML file to split, closed by {@link #close()}
+     * @param recordNames the lower case names of the record elements
+     * @param recordsPerBatch the maximum number of records per batch
+     * @throws XMLStreamException if the reader could not be created
+     */
+    XmlRecordSplitter(final InputStream in, final Set<String> recordNames, final int recordsPerBatch)
+        throws XMLStreamException {
+        if (recordsPerBatch < 1) {
+            throw new IllegalArgumentException("Number of records per batch must be positive");
+        }
+        final XMLInputFactory factory = XMLInputFactory.newInstance();
+        // neither load nor validate against the DTD, the parsers of the batches do not validate either
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, Boolean.FALSE);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, Boolean.FALSE);
+        m_in = in;
+        try {
+            m_reader = factory.createXMLEventReader(in);
+        } catch (final XMLStreamException e) {
+            try {
+                in.close();
+            } catch (final IOException ioe) {
+                e.addSuppressed(ioe);
+            }
+            throw e;
+        }
+        m_recordNames = recordNames;
+        m_recordsPerBatch = recordsPerBatch;
+    }
+
+    /**
+     * @return the next batch as UTF-8 encoded XML document or <code>null</code> if the file contains no more records
+     * @throws XMLStreamException if the file is not well-formed
+     */
+    byte[] nextBatch() throws XMLStreamException {
+        ByteArrayOutputStream out = null;
+        XMLEventWriter writer = null;
+        int records = 0;
+        while (records < m_recordsPerBatch && m_reader.hasNext()) {
+            final XMLEvent event = m_reader.nextEvent();
+            if (event.isStartElement() && isRecord(event.asStartElement())) {
+                if (writer == null) {
+                    out = new ByteArrayOutputStream();
+                    writer = m_outputFactory.createXMLEventWriter(out, StandardCharsets.UTF_8.name());
+                    writer.add(m_eventFactory.createStartDocument(StandardCharsets.UTF_8.name()));
+                    writer.add(m_eventFactory.createStartElement("", "", BATCH_ELEMENT));
+                }
+                copyRecord(event, writer);
+                records++;
+            }
+        }
+        if (writer == null) {
+            return null;
+        }
+        writer.add(m_eventFactory.createEndElement("", "", BATCH_ELEMENT));
+        writer.add(m_eventFactory.createEndDocument());
+        writer.close();
+        return out.toByteArray();
+    }
+
+    private boolean isRecord(final StartElement element) {
+        return m_recordNames.contains(element.getName().getLocalPart().toLowerCase(Locale.ROOT));
+    }
+
+    private void copyRecord(final XMLEvent start, final XMLEventWriter writer) throws XMLStreamException {
+        writer.add(start);
+        int depth = 1;
+        while (depth > 0) {
+            if (!m_reader.hasNext()) {
+                throw new XMLStreamException("Unexpected end of file within record "
+                    + start.asStartElement().getName().getLocalPart());
+            }
+            final XMLEvent event = m_reader.nextEvent();
+            if (event.isStartElement()) {
+                depth++;
+            } else if (event.isEndElement()) {
+                depth--;
+            }
+            writer.add(event);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            m_reader.close();
+        } catch (final XMLStreamException e) {
+            throw new IOException(e);
+        } finally {
+            m_in.close();
+        }
+    }
+}
@@ -47,6 +47,8 @@
 
 package org.knime.ext.textprocessing.nodes.source.parser.dml;
 
+import java.util.Set;
+
 import org.knime.ext.textprocessing.nodes.source.parser.DocumentParser;
 import org.knime.ext.textprocessing.nodes.source.parser.DocumentParserFactory;
 
@@ -65,4 +67,13 @@ public class DmlDocumentParserFactory implements DocumentParserFactory {
     public DocumentParser createParser(final String tokenizerName) throws InstantiationException {
         return new DmlDocumentParser(tokenizerName);
     }
+
+    /**
+     * {@inheritDoc} The records are the <code>Document</code> elements.
+     * @since 5.12
+     */
+    @Override
+    public Set<String> getRecordElementNames() {
+        return Set.of(DmlDocumentParser.DOCUMENT);
+    }
 }
@@ -100,7 +100,7 @@ public class PubMedDocumentParser extends DefaultHandler implements DocumentPars
     /**
      * The name of the book article tag.
      */
-    private static final String PUBMEDBOOKARTICLE = "pubmedbookarticle";
+    static final String PUBMEDBOOKARTICLE = "pubmedbookarticle";
 
     /**
      * The name of the delete citation tag.
@@ -50,8 +50,8 @@
 import org.knime.core.node.NodeDialogPane;
 import org.knime.core.node.NodeFactory;
 import org.knime.core.node.NodeView;
-import org.knime.ext.textprocessing.nodes.source.parser.DocumentParserNodeDialog;
 import org.knime.ext.textprocessing.nodes.source.parser.DocumentParserNodeModel;
+import org.knime.ext.textprocessing.nodes.source.parser.XmlRecordDocumentParserNodeDialog;
 
 /**
  * The {@link org.knime.core.node.NodeFactory} of the PubMed document parser node provides methods to create the model
@@ -66,7 +66,7 @@ public class PubMedDocumentParserNodeFactory extends NodeFactory<DocumentParserN
      */
     @Override
     protected NodeDialogPane createNodeDialogPane() {
-        return new DocumentParserNodeDialog();
+        return new XmlRecordDocumentParserNodeDialog();
     }
 
     /**
@@ -48,6 +48,8 @@
 package org.knime.ext.textprocessing.nodes.tagging;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 
@@ -161,6 +163,25 @@ public AbstractDocumentTagger(final boolean setUnmodifiable, final boolean caseS
      */
     protected abstract List<TaggedEntity> tagEntities(final Sentence sentence);
 
+    /**
+     * Analyzes all given sentences and returns for each sentence the list of recognized entities and the
+     * corresponding tags. Taggers can override this method to tag the sentences at once and to reuse conversion
+     * buffers between them, which reduces the overhead per sentence. The default implementation calls
+     * {@link #tagEntities(Sentence)} for each sentence.
+     *
+     * @param sentences The sentences to analyze.
+     * @return For each sentence a list of recognized entities and the corresponding tags, in the order of the given
+     *         sentences.
+     * @since 5.12
+     */
+    protected List<List<TaggedEntity>> tagEntities(final List<Sentence> sentences) {
+        final List<List<TaggedEntity>> entities = new ArrayList<>(sentences.size());
+        for (final Sentence sentence : sentences) {
+            entities.add(tagEntities(sentence));
+        }
+        return entities;
+    }
+
     /**
      * Preprocesses a document before tagging. This is where a tagger would build a private model to use for tagging
      * entities in the method tagEntities(Sentence).
@@ -171,10 +192,25 @@ public AbstractDocumentTagger(final boolean setUnmodifiable, final boolean caseS
 
     /**
      * {@inheritDoc}
+     * The sentences of the document are tagged with one call of {@link #tagEntities(List)}.
      */
     @Override
     public synchronized Document tag(final Document doc) {
-        DocumentBuilder db = new DocumentBuilder(doc, m_tokenizerName);
+        // collect the sentences of the document, empty sentences are not tagged to prevent exceptions in the taggers
+        final List<Sentence> sentences = new ArrayList<>();
+        for (final Section s : doc.getSections()) {
+            for (final Paragraph p : s.getParagraphs()) {
+                for (final Sentence sn : p.getSentences()) {
+                    if (!sn.getTerms().isEmpty()) {
+                        sentences.add(sn);
+                    }
+                }
+            }
+        }
+        final Iterator<List<TaggedEntity>> entities =
+            sentences.isEmpty() ? Collections.emptyIterator() : tagEntities(sentences).iterator();
+
+        final DocumentBuilder db = new DocumentBuilder(doc, m_tokenizerName);
         for (Section s : doc.getSections()) {
             for (Paragraph p : s.getParagraphs()) {
                 List<Sentence> newSentenceList = new ArrayList<>();
@@ -186,7 +222,7 @@ public synchronized Document tag(final Document doc) {
                         taggedSentence = sn;
                     } else {
                         // tag sentence
-                        taggedSentence = tagSentence(sn);
+                        taggedSentence = tagSentence(sn, entities.next());
                     }
                     // add tagged sentence to document
                     newSentenceList.add(taggedSentence);
@@ -198,9 +234,7 @@ public synchronized Document tag(final Document doc) {
         return db.createDocument();
     }
 
-    private Sentence tagSentence(final Sentence s) {
-        // detect named entities
-        List<TaggedEntity> entities = tagEntities(s);
+    private Sentence tagSentence(final Sentence s, final List<TaggedEntity> entities) {
         if (entities.isEmpty()) {
             return s;
         }
@@ -48,6 +48,8 @@
 package org.knime.ext.textprocessing.nodes.tagging;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
@@ -115,10 +117,25 @@ public MultipleTagsetDocumentTagger(final boolean setUnmodifiable, final Sentenc
 
     /**
      * {@inheritDoc}
+     * The sentences of the document are tagged with one call of {@link SentenceTagger#tagEntities(List)}.
      */
     @Override
     public synchronized Document tag(final Document doc) {
-        DocumentBuilder db = new DocumentBuilder(doc, m_tokenizerName);
+        // collect the sentences of the document, empty sentences are not tagged to prevent exceptions in the taggers
+        final List<Sentence> sentences = new ArrayList<>();
+        for (final Section s : doc.getSections()) {
+            for (final Paragraph p : s.getParagraphs()) {
+                for (final Sentence sn : p.getSentences()) {
+                    if (!sn.getTerms().isEmpty()) {
+                        sentences.add(sn);
+                    }
+                }
+            }
+        }
+        final Iterator<List<MultipleTaggedEntity>> entities =
+            sentences.isEmpty() ? Collections.emptyIterator() : m_sentenceTagger.tagEntities(sentences).iterator();
+
+        final DocumentBuilder db = new DocumentBuilder(doc, m_tokenizerName);
         for (Section s : doc.getSections()) {
             for (Paragraph p : s.getParagraphs()) {
                 List<Sentence> newSentenceList = new ArrayList<>();
@@ -130,7 +147,7 @@ public synchronized Document tag(final Document doc) {
                         taggedSentence = sn;
                     } else {
                         // tag sentence
-                        taggedSentence = tagSentence(sn);
+                        taggedSentence = tagSentence(sn, entities.next());
                     }
                     // add tagged sentence to document
                     newSentenceList.add(taggedSentence);
@@ -146,11 +163,10 @@ public synchronized Document tag(final Document doc) {
      * Tags a {@code Sentence}.
      *
      * @param s The sentence to tag.
+     * @param entities The entities detected in the sentence.
      * @return Returns the tagged sentence.
      */
-    private final Sentence tagSentence(final Sentence s) {
-        // detect named entities and return a list of MultipleTaggedEntities
-        final List<MultipleTaggedEntity> entities = m_sentenceTagger.tagEntities(s);
+    private final Sentence tagSentence(final Sentence s, final List<MultipleTaggedEntity> entities) {
         if (entities.isEmpty()) {
             return s;
         }
@@ -48,6 +48,7 @@
  */
 package org.knime.ext.textprocessing.nodes.tagging;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import org.knime.ext.textprocessing.data.Sentence;
@@ -69,4 +70,22 @@ public interface SentenceTagger {
      * @return Returns a list of {@link MultipleTaggedEntity MultipleTaggedEntities}.
      */
     public List<MultipleTaggedEntity> tagEntities(final Sentence sentence);
+
+    /**
+     * Tags entities within all given sentences. Implementations can override this method to tag the sentences at once
+     * and to reuse conversion buffers between them. The default implementation calls
+     * {@link #tagEntities(Sentence)} for each sentence.
+     *
+     * @param sentences The sentences to be tagged.
+     * @return Returns for each sentence the list of {@link MultipleTaggedEntity MultipleTaggedEntities}, in the order
+     *         of the given sentences.
+     * @since 5.12
+     */
+    public default List<List<MultipleTaggedEntity>> tagEntities(final List<Sentence> sentences) {
+        final List<List<MultipleTaggedEntity>> entities = new ArrayList<>(sentences.size());
+        for (final Sentence sentence : sentences) {
+            entities.add(tagEntities(sentence));
+        }
+        return entities;
+    }
 }
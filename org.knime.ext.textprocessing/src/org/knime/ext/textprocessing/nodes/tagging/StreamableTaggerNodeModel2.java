@@ -85,6 +85,7 @@
 import org.knime.ext.textprocessing.util.ColumnSelectionVerifier;
 import org.knime.ext.textprocessing.util.DataTableSpecVerifier;
 import org.knime.ext.textprocessing.util.DocumentDataTableBuilder;
+import org.knime.ext.textprocessing.util.DocumentResultCache;
 import org.knime.ext.textprocessing.util.TextContainerDataCellFactory;
 import org.knime.ext.textprocessing.util.TextContainerDataCellFactoryBuilder;
 
@@ -328,6 +329,7 @@ protected final ColumnRearranger createColumnRearranger(final DataTableSpec in)
             getMaxNumberOfParallelThreads() <= 0 ? 1 : getMaxNumberOfParallelThreads();
 
         final TaggerCellFactory cellFac = new TaggerCellFactory(this, docColIndex, docCol, maxNumberOfParallelThreads);
+        cellFac.setResultCache(DocumentResultCache.create(this, this::saveSettingsTo));
         final ColumnRearranger rearranger = new ColumnRearranger(in);
         // replace or append
         if (m_replaceOldDocModel.getBooleanValue()) {
@@ -47,6 +47,7 @@
 
 package org.knime.ext.textprocessing.nodes.tagging;
 
+import java.io.IOException;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.knime.core.data.DataCell;
@@ -57,8 +58,13 @@
 import org.knime.core.node.NodeLogger;
 import org.knime.ext.textprocessing.data.Document;
 import org.knime.ext.textprocessing.data.DocumentValue;
+import org.knime.ext.textprocessing.util.DocumentResultCache;
 import org.knime.ext.textprocessing.util.TextContainerDataCellFactory;
 import org.knime.ext.textprocessing.util.TextContainerDataCellFactoryBuilder;
+import org.knime.ext.textprocessing.util.metrics.Metric;
+import org.knime.ext.textprocessing.util.metrics.TextprocessingMetrics;
+
+import com.google.common.hash.HashCode;
 
 /**
  * Cell Factory, creating new document cells of tagged documents. The cell factory uses thread local tagger instances
@@ -83,6 +89,8 @@ final class TaggerCellFactory extends SingleCellFactory {
 
     private AtomicInteger m_taggerCount = new AtomicInteger(0);
 
+    private DocumentResultCache m_resultCache = null;
+
     /**
      * Constructor for class TaggerCellFactory, with tagger factory, index of the document column, new column specs,
      * number of threads to use and execution context to set.
@@ -104,6 +112,13 @@ public TaggerCellFactory(final DocumentTaggerFactory taggerFac, final int docume
         m_documentCellFac = TextContainerDataCellFactoryBuilder.createDocumentCellFactory();
     }
 
+    /**
+     * @param resultCache the cache of tagged documents to use, or {@code null} to tag all documents
+     */
+    void setResultCache(final DocumentResultCache resultCache) {
+        m_resultCache = resultCache;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -116,21 +131,42 @@ public DataCell getCell(final DataRow row) {
             }
         }
 
-        final DocumentTagger tagger;
-        try {
-            tagger = getTaggerFromPool();
-        } catch (Exception e) {
-            LOGGER.error("Tagger could not be borrowed from pool.", e);
-            return DataType.getMissingCell();
-        }
-
         // if not missing
         if (!row.getCell(m_docColIndex).isMissing()) {
             final Document d = ((DocumentValue)row.getCell(m_docColIndex)).getDocument();
+
+            // reuse the result of a previous execution
+            HashCode key = null;
+            if (m_resultCache != null) {
+                try {
+                    key = m_resultCache.createKey(d);
+                    final Document cachedDocument = m_resultCache.get(key);
+                    if (cachedDocument != null) {
+                        return m_documentCellFac.createDataCell(cachedDocument);
+                    }
+                } catch (IOException e) {
+                    LOGGER.debug("Result cache key of document could not be created.", e);
+                }
+            }
+
+            final DocumentTagger tagger;
+            try {
+                tagger = getTaggerFromPool();
+            } catch (Exception e) {
+                LOGGER.error("Tagger could not be borrowed from pool.", e);
+                return DataType.getMissingCell();
+            }
+
             final Document taggedDocument;
+            final long start = TextprocessingMetrics.startTimer();
             synchronized (tagger) {
                 taggedDocument = tagger.tag(d);
             }
+            TextprocessingMetrics.stopTimer(Metric.TAGGING_TIME, start);
+            TextprocessingMetrics.increment(Metric.DOCUMENTS_TAGGED);
+            if (key != null) {
+                m_resultCache.put(key, taggedDocument);
+            }
             return m_documentCellFac.createDataCell(taggedDocument);
         }
 
@@ -147,11 +183,22 @@ public void afterProcessing() {
         LOGGER.debug("Clearing tagger pool.");
         if (m_taggerPool != null) {
             for (int i = 0; i < m_taggerPool.length; i++) {
+                if (m_taggerPool[i] instanceof AutoCloseable) {
+                    try {
+                        ((AutoCloseable)m_taggerPool[i]).close();
+                    } catch (Exception e) {
+                        LOGGER.debug("Could not close pooled tagger.", e);
+                    }
+                }
                 m_taggerPool[i] = null;
             }
         }
         m_taggerPool = null;
         m_taggerCount = new AtomicInteger(0);
+
+        if (m_resultCache != null) {
+            m_resultCache.prune();
+        }
     }
 
     private synchronized DocumentTagger getTaggerFromPool() throws Exception {
@@ -165,10 +212,13 @@ private synchronized DocumentTagger getTaggerFromPool() throws Exception {
         DocumentTagger tagger = m_taggerPool[index];
         // initialize tagger if it has not been initialized and put to pool
         if (tagger == null) {
+            TextprocessingMetrics.increment(Metric.TAGGER_POOL_MISSES);
             tagger = m_taggerFac.createTagger();
             m_taggerPool[index] = tagger;
             LOGGER.debug("Created new pooled tagger instance: " + tagger.getClass()
                 + " (" + (m_taggerCount.get() + 1) + ")");
+        } else {
+            TextprocessingMetrics.increment(Metric.TAGGER_POOL_HITS);
         }
 
         // update current index of tagger in pool
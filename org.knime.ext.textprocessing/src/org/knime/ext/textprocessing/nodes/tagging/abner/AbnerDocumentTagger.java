@@ -47,6 +47,7 @@
  */
 package org.knime.ext.textprocessing.nodes.tagging.abner;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -67,10 +68,13 @@
  * Named Entity Recognizer). For more details about ABNER see (http://pages.cs.wisc.edu/~bsettles/abner/). The method
  * {@link AbnerDocumentTagger#getTags(String)} returns tag of the type
  * {@link org.knime.ext.textprocessing.data.BiomedicalNeTag}.
+ * <p>
+ * ABNER keeps its state in static fields, thus taggers using the ABNER library loaded with this bundle are globally
+ * synchronized. Taggers created as isolated load their own copy of the library and can tag concurrently.
  *
  * @author Kilian Thiel, University of Konstanz
  */
-public class AbnerDocumentTagger extends AbstractDocumentTagger {
+public class AbnerDocumentTagger extends AbstractDocumentTagger implements AutoCloseable {
     /**
      * Name of the Biocreative model of ABNER.
      */
@@ -83,6 +87,8 @@ public class AbnerDocumentTagger extends AbstractDocumentTagger {
 
     private Tagger m_tagger;
 
+    private IsolatedAbnerTagger m_isolatedTagger;
+
     /**
      * Creates a new instance of <code>AbnerDocumentTagger</code> with given flag specifying if recognized named
      * entities is set unmodifiable. The specified ABNER model is used for named entity recognition, if no model or a
@@ -103,6 +109,32 @@ public AbnerDocumentTagger(final boolean setNeUnmodifiable, final String model,
         }
     }
 
+    /**
+     * Creates a new instance of <code>AbnerDocumentTagger</code> with given flag specifying if recognized named
+     * entities is set unmodifiable. If isolated, the ABNER library is loaded by a class loader of its own, so that the
+     * tagger does not share any state with other taggers and tags without global synchronization. Isolated taggers
+     * should be closed after use.
+     *
+     * @param setNeUnmodifiable The unmodifiable flag to set.
+     * @param model The ABNER model to use for tagging.
+     * @param tokenizerName The tokenizer used for word tokenization.
+     * @param isolated If <code>true</code> the ABNER library is loaded in isolation.
+     * @throws IOException If the isolated ABNER library could not be loaded.
+     * @since 5.12
+     */
+    public AbnerDocumentTagger(final boolean setNeUnmodifiable, final String model, final String tokenizerName,
+        final boolean isolated) throws IOException {
+        super(setNeUnmodifiable, tokenizerName);
+
+        if (isolated) {
+            m_isolatedTagger = new IsolatedAbnerTagger(model);
+        } else if (model.equals(MODEL_NLPBA)) {
+            m_tagger = new Tagger(Tagger.NLPBA);
+        } else {
+            m_tagger = new Tagger(Tagger.BIOCREATIVE);
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -120,8 +152,13 @@ protected List<Tag> getTags(final String tag) {
     protected List<TaggedEntity> tagEntities(final Sentence sentence) {
         String[][] nes;
 
-        synchronized (Tagger.class) {
-            nes = m_tagger.getEntities(sentence.getText());
+        if (m_isolatedTagger != null) {
+            // the isolated tagger is only used by this instance, which is synchronized itself
+            nes = m_isolatedTagger.getEntities(sentence.getText());
+        } else {
+            synchronized (Tagger.class) {
+                nes = m_tagger.getEntities(sentence.getText());
+            }
         }
 
         List<TaggedEntity> entities = new ArrayList<TaggedEntity>();
@@ -138,4 +175,17 @@ protected List<TaggedEntity> tagEntities(final Sentence sentence) {
     protected void preprocess(final Document doc) {
         // no preprocessing required
     }
+
+    /**
+     * Releases the class loader of an isolated tagger, does nothing otherwise.
+     *
+     * @since 5.12
+     */
+    @Override
+    public synchronized void close() {
+        if (m_isolatedTagger != null) {
+            m_isolatedTagger.close();
+            m_isolatedTagger = null;
+        }
+    }
 }
@@ -68,4 +68,9 @@ private AbnerTaggerConfigKeys2() {
      */
     static final String CFGKEY_MODEL = "ABNER Model";
 
+    /**
+     * The configuration key for the number of parallel taggers.
+     */
+    static final String CFGKEY_NUMBER_OF_TAGGERS = "NumberOfTaggers";
+
 }
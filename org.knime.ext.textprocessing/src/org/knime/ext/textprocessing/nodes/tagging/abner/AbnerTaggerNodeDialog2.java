@@ -54,9 +54,11 @@
 import org.knime.core.node.defaultnodesettings.DefaultNodeSettingsPane;
 import org.knime.core.node.defaultnodesettings.DialogComponentBoolean;
 import org.knime.core.node.defaultnodesettings.DialogComponentColumnNameSelection;
+import org.knime.core.node.defaultnodesettings.DialogComponentNumber;
 import org.knime.core.node.defaultnodesettings.DialogComponentString;
 import org.knime.core.node.defaultnodesettings.DialogComponentStringSelection;
 import org.knime.core.node.defaultnodesettings.SettingsModelBoolean;
+import org.knime.core.node.defaultnodesettings.SettingsModelIntegerBounded;
 import org.knime.core.node.defaultnodesettings.SettingsModelString;
 import org.knime.ext.textprocessing.data.DocumentValue;
 import org.knime.ext.textprocessing.nodes.tagging.TaggerNodeSettingsPane2;
@@ -92,6 +94,17 @@ static SettingsModelString createAbnerModelModel() {
         return new SettingsModelString(AbnerTaggerConfigKeys2.CFGKEY_MODEL, AbnerTaggerNodeModel2.DEF_ABNERMODEL);
     }
 
+    /**
+     * Creates and returns a {@link org.knime.core.node.defaultnodesettings.SettingsModelIntegerBounded} containing the
+     * number of ABNER taggers tagging in parallel.
+     *
+     * @return A {@code SettingsModelIntegerBounded} containing the number of parallel taggers.
+     */
+    static SettingsModelIntegerBounded createNumberOfTaggersModel() {
+        return new SettingsModelIntegerBounded(AbnerTaggerConfigKeys2.CFGKEY_NUMBER_OF_TAGGERS,
+            AbnerTaggerNodeModel2.DEF_NUMBER_OF_TAGGERS, 1, Integer.MAX_VALUE);
+    }
+
     private final SettingsModelBoolean m_replaceDocModel = TaggerNodeSettingsPane2.getReplaceDocumentModel();
 
     private final SettingsModelString m_newDocumentColModel = TaggerNodeSettingsPane2.getNewDocumentColumnModel();
@@ -141,5 +154,10 @@ static SettingsModelString createAbnerModelModel() {
         modelNames.add(AbnerDocumentTagger.MODEL_NLPBA);
         addDialogComponent(new DialogComponentStringSelection(createAbnerModelModel(), "ABNER model", modelNames));
 
+        final DialogComponentNumber numberOfTaggersComp =
+            new DialogComponentNumber(createNumberOfTaggersModel(), "Number of parallel taggers", 1);
+        numberOfTaggersComp.setToolTipText("Each additional tagger loads its own copy of the ABNER model.");
+        addDialogComponent(numberOfTaggersComp);
+
     }
 }
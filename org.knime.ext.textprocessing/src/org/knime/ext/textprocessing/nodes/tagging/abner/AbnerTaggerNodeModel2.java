@@ -56,6 +56,7 @@
 import org.knime.core.node.NodeSettingsRO;
 import org.knime.core.node.NodeSettingsWO;
 import org.knime.core.node.defaultnodesettings.SettingsModelBoolean;
+import org.knime.core.node.defaultnodesettings.SettingsModelIntegerBounded;
 import org.knime.core.node.defaultnodesettings.SettingsModelString;
 import org.knime.ext.textprocessing.nodes.tagging.DocumentTagger;
 import org.knime.ext.textprocessing.nodes.tagging.StreamableFunctionTaggerNodeModel2;
@@ -79,10 +80,18 @@ class AbnerTaggerNodeModel2 extends StreamableFunctionTaggerNodeModel2 {
      */
     static final String DEF_ABNERMODEL = AbnerDocumentTagger.MODEL_BIOCREATIVE;
 
+    /**
+     * The default number of parallel taggers.
+     */
+    static final int DEF_NUMBER_OF_TAGGERS = 1;
+
     private final SettingsModelBoolean m_setUnmodifiableModel = AbnerTaggerNodeDialog2.createSetUnmodifiableModel();
 
     private final SettingsModelString m_abnerTaggingModel = AbnerTaggerNodeDialog2.createAbnerModelModel();
 
+    private final SettingsModelIntegerBounded m_numberOfTaggersModel =
+        AbnerTaggerNodeDialog2.createNumberOfTaggersModel();
+
     /**
      * Creates a new instance of {@code AbnerTaggerNodeModel2} with one table in and one out port.
      */
@@ -95,8 +104,9 @@ class AbnerTaggerNodeModel2 extends StreamableFunctionTaggerNodeModel2 {
      */
     @Override
     public DocumentTagger createTagger() throws Exception {
+        // a single tagger uses the shared ABNER library, parallel taggers need an isolated copy each
         return new AbnerDocumentTagger(m_setUnmodifiableModel.getBooleanValue(), m_abnerTaggingModel.getStringValue(),
-            getTokenizerName());
+            getTokenizerName(), m_numberOfTaggersModel.getIntValue() > 1);
     }
 
     /**
@@ -104,8 +114,8 @@ public DocumentTagger createTagger() throws Exception {
      */
     @Override
     protected int getMaxNumberOfParallelThreads() {
-        // Abner model can not be parallelized. Maximal number of parallel threads is limited here to 1.
-        return 1;
+        // ABNER taggers are not thread safe, each thread uses its own tagger.
+        return m_numberOfTaggersModel.getIntValue();
     }
 
     /**
@@ -116,6 +126,12 @@ protected void loadValidatedSettingsFrom(final NodeSettingsRO settings) throws I
         super.loadValidatedSettingsFrom(settings);
         m_setUnmodifiableModel.loadSettingsFrom(settings);
         m_abnerTaggingModel.loadSettingsFrom(settings);
+        // added in 5.12, older nodes use a single tagger
+        if (settings.containsKey(AbnerTaggerConfigKeys2.CFGKEY_NUMBER_OF_TAGGERS)) {
+            m_numberOfTaggersModel.loadSettingsFrom(settings);
+        } else {
+            m_numberOfTaggersModel.setIntValue(DEF_NUMBER_OF_TAGGERS);
+        }
     }
 
     /**
@@ -126,6 +142,7 @@ protected void saveSettingsTo(final NodeSettingsWO settings) {
         super.saveSettingsTo(settings);
         m_setUnmodifiableModel.saveSettingsTo(settings);
         m_abnerTaggingModel.saveSettingsTo(settings);
+        m_numberOfTaggersModel.saveSettingsTo(settings);
     }
 
     /**
@@ -136,6 +153,9 @@ protected void validateSettings(final NodeSettingsRO settings) throws InvalidSet
         super.validateSettings(settings);
         m_setUnmodifiableModel.validateSettings(settings);
         m_abnerTaggingModel.validateSettings(settings);
+        if (settings.containsKey(AbnerTaggerConfigKeys2.CFGKEY_NUMBER_OF_TAGGERS)) {
+            m_numberOfTaggersModel.validateSettings(settings);
+        }
     }
 
     /**
@@ -0,0 +1,147 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.ext.textprocessing.nodes.tagging.abner;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+
+import org.knime.core.node.NodeLogger;
+import org.knime.ext.textprocessing.TextprocessingCorePlugin;
+
+/**
+ * An ABNER tagger loaded by its own class loader. ABNER keeps its state in static fields, which is why all instances
+ * loaded by the bundle class loader have to be synchronized globally. Each instance of this class loads the ABNER
+ * library anew, so that its static state is not shared and several instances can tag concurrently. An instance
+ * itself is not thread safe.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class IsolatedAbnerTagger implements Closeable {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(IsolatedAbnerTagger.class);
+
+    private static final String ABNER_JAR = "lib/abner.jar";
+
+    private static final String TAGGER_CLASS = "abner.Tagger";
+
+    private final URLClassLoader m_classLoader;
+
+    private final Object m_tagger;
+
+    private final Method m_getEntities;
+
+    /**
+     * Loads the ABNER library in a new class loader and creates a tagger with the given model.
+     *
+     * @param model the name of the ABNER model, {@link AbnerDocumentTagger#MODEL_NLPBA} or
+     *            {@link AbnerDocumentTagger#MODEL_BIOCREATIVE}
+     * @throws IOException if the ABNER library cannot be found or the tagger cannot be created
+     */
+    IsolatedAbnerTagger(final String model) throws IOException {
+        final File abnerJar = TextprocessingCorePlugin.resolvePath(ABNER_JAR);
+        if (!abnerJar.isFile()) {
+            throw new IOException("ABNER library could not be found at [" + abnerJar.getAbsolutePath() + "].");
+        }
+        // ABNER only depends on the JDK, hence the platform class loader is used as parent
+        m_classLoader = new URLClassLoader(new URL[]{abnerJar.toURI().toURL()}, ClassLoader.getPlatformClassLoader());
+        try {
+            final Class<?> taggerClass = Class.forName(TAGGER_CLASS, true, m_classLoader);
+            final int modelId = taggerClass
+                .getField(AbnerDocumentTagger.MODEL_NLPBA.equals(model) ? "NLPBA" : "BIOCREATIVE").getInt(null);
+            final Constructor<?> constructor = taggerClass.getConstructor(int.class);
+            m_tagger = constructor.newInstance(modelId);
+            m_getEntities = taggerClass.getMethod("getEntities", String.class);
+        } catch (final ReflectiveOperationException | LinkageError e) {
+            close();
+            throw new IOException("Isolated ABNER tagger could not be created: " + e.getMessage(), e);
+        }
+        LOGGER.debug("Created isolated ABNER tagger with model " + model + ".");
+    }
+
+    /**
+     * Recognizes the named entities of the given text, see <code>abner.Tagger#getEntities(String)</code>.
+     *
+     * @param text the text to tag
+     * @return an array of two arrays, the first containing the entities and the second their tags
+     */
+    String[][] getEntities(final String text) {
+        try {
+            return (String[][])m_getEntities.invoke(m_tagger, text);
+        } catch (final InvocationTargetException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException)cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error)cause;
+            }
+            throw new IllegalStateException(cause);
+        } catch (final IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Closes the class loader of the tagger, the tagger must not be used afterwards.
+     */
+    @Override
+    public void close() {
+        try {
+            m_classLoader.close();
+        } catch (final IOException e) {
+            LOGGER.debug("Could not close class loader of isolated ABNER tagger.", e);
+        }
+    }
+}
@@ -149,7 +149,28 @@ protected void preprocess(final Document doc) {
      */
     @Override
     protected List<TaggedEntity> tagEntities(final Sentence sentence) {
-        List<String> words = new ArrayList<String>();
+        return tagEntities(sentence, new ArrayList<String>(), new StringBuilder());
+    }
+
+    /**
+     * Tags all sentences reusing the word list and the string builder of the named entities.
+     *
+     * @since 5.12
+     */
+    @Override
+    protected List<List<TaggedEntity>> tagEntities(final List<Sentence> sentences) {
+        final List<String> words = new ArrayList<String>();
+        final StringBuilder namedEntity = new StringBuilder();
+        final List<List<TaggedEntity>> entities = new ArrayList<>(sentences.size());
+        for (final Sentence sentence : sentences) {
+            words.clear();
+            entities.add(tagEntities(sentence, words, namedEntity));
+        }
+        return entities;
+    }
+
+    private List<TaggedEntity> tagEntities(final Sentence sentence, final List<String> words,
+        final StringBuilder namedEntity) {
         for (Term t : sentence.getTerms()) {
             for (Word w : t.getWords()) {
                 words.add(w.getWord());
@@ -158,20 +179,20 @@ protected List<TaggedEntity> tagEntities(final Sentence sentence) {
         String[] wordsArr = words.toArray(new String[0]);
 
         Span[] spans = m_tagger.find(wordsArr);
-        List<TaggedEntity> nes = new ArrayList<TaggedEntity>();
+        List<TaggedEntity> nes = new ArrayList<TaggedEntity>(spans.length);
 
         for (Span span : spans) {
             int start = span.getStart();
             int end = span.getEnd();
 
-            String namedEntity = "";
+            namedEntity.setLength(0);
             for (int i = start; i < end; i++) {
-                namedEntity += wordsArr[i];
+                namedEntity.append(wordsArr[i]);
                 if (i < end - 1) {
-                    namedEntity += Term.WORD_SEPARATOR;
+                    namedEntity.append(Term.WORD_SEPARATOR);
                 }
             }
-            TaggedEntity te = new TaggedEntity(namedEntity, m_model.getTag());
+            TaggedEntity te = new TaggedEntity(namedEntity.toString(), m_model.getTag());
             nes.add(te);
         }
 
@@ -115,7 +115,26 @@ protected List<Tag> getTags(final String tag) {
      */
     @Override
     protected List<TaggedEntity> tagEntities(final Sentence sentence) {
-        SortedSet<String> words = new TreeSet<String>();
+        return tagEntities(sentence, new TreeSet<String>());
+    }
+
+    /**
+     * Tags all sentences reusing one word set.
+     *
+     * @since 5.12
+     */
+    @Override
+    protected List<List<TaggedEntity>> tagEntities(final List<Sentence> sentences) {
+        final SortedSet<String> words = new TreeSet<String>();
+        final List<List<TaggedEntity>> entities = new ArrayList<>(sentences.size());
+        for (final Sentence sentence : sentences) {
+            words.clear();
+            entities.add(tagEntities(sentence, words));
+        }
+        return entities;
+    }
+
+    private List<TaggedEntity> tagEntities(final Sentence sentence, final SortedSet<String> words) {
         for (Term t : sentence.getTerms()) {
             for (Word w : t.getWords()) {
                 words.add(w.getWord());
@@ -124,15 +124,41 @@ protected List<Tag> getTags(final String tag) {
      */
     @Override
     protected List<TaggedEntity> tagEntities(final Sentence sentence) {
-        List<HasWord> wordList = new ArrayList<>();
+        return toTaggedEntities(m_tagger.tagSentence(toWordList(sentence)));
+    }
+
+    /**
+     * Tags all sentences with one call of {@link MaxentTagger#process(List)}.
+     *
+     * @since 5.12
+     */
+    @Override
+    protected List<List<TaggedEntity>> tagEntities(final List<Sentence> sentences) {
+        final List<List<HasWord>> wordLists = new ArrayList<>(sentences.size());
+        for (final Sentence sentence : sentences) {
+            wordLists.add(toWordList(sentence));
+        }
+        final List<List<TaggedWord>> taggedSentences = m_tagger.process(wordLists);
+
+        final List<List<TaggedEntity>> entities = new ArrayList<>(taggedSentences.size());
+        for (final List<TaggedWord> taggedWords : taggedSentences) {
+            entities.add(toTaggedEntities(taggedWords));
+        }
+        return entities;
+    }
+
+    private static List<HasWord> toWordList(final Sentence sentence) {
+        final List<HasWord> wordList = new ArrayList<>();
         for (Term t : sentence.getTerms()) {
             for (Word w : t.getWords()) {
                 wordList.add(new edu.stanford.nlp.ling.Word(w.getText()));
             }
         }
-        final List<TaggedWord> taggedWords = m_tagger.tagSentence(wordList);
+        return wordList;
+    }
 
-        final List<TaggedEntity> taggedEntities = new ArrayList<>(wordList.size());
+    private static List<TaggedEntity> toTaggedEntities(final List<TaggedWord> taggedWords) {
+        final List<TaggedEntity> taggedEntities = new ArrayList<>(taggedWords.size());
         for (final TaggedWord tw : taggedWords) {
             taggedEntities.add(new TaggedEntity(tw.word(), tw.tag()));
         }
@@ -0,0 +1,234 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.ext.textprocessing.nodes.tagging.stanfordnlpnelearner;
+
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.NodeLogger;
+
+import edu.stanford.nlp.ie.crf.CRFClassifier;
+import edu.stanford.nlp.ling.CoreLabel;
+import edu.stanford.nlp.optimization.DiffFunction;
+import edu.stanford.nlp.optimization.Evaluator;
+import edu.stanford.nlp.optimization.HasEvaluators;
+import edu.stanford.nlp.optimization.Minimizer;
+import edu.stanford.nlp.sequences.SeqClassifierFlags;
+
+/**
+ * A {@link CRFClassifier} that reports the iterations of the minimizer and their duration to an
+ * {@link ExecutionMonitor} during training, and that allows to cancel the training. The trained model is serialized
+ * exactly like a plain {@code CRFClassifier} and can be loaded as such.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class ProgressReportingCRFClassifier extends CRFClassifier<CoreLabel> {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(ProgressReportingCRFClassifier.class);
+
+    private final ExecutionMonitor m_exec;
+
+    /**
+     * Creates a new instance of {@code ProgressReportingCRFClassifier}.
+     *
+     * @param flags The flags specifying the features and training options.
+     * @param exec The execution monitor to report progress to and check for cancellation.
+     */
+    ProgressReportingCRFClassifier(final SeqClassifierFlags flags, final ExecutionMonitor exec) {
+        super(flags);
+        m_exec = exec;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Minimizer<DiffFunction> getMinimizer(final int featurePruneIteration, final Evaluator[] evaluators) {
+        final Minimizer<DiffFunction> minimizer = super.getMinimizer(featurePruneIteration, evaluators);
+        // the minimizer calls its evaluators once per finished iteration, which is where progress is reported
+        if (minimizer instanceof HasEvaluators) {
+            ((HasEvaluators)minimizer).setEvaluators(1,
+                new Evaluator[]{new IterationReporter(evaluators, flags.evaluateIters, m_exec)});
+        } else {
+            LOGGER.debug("Minimizer " + minimizer.getClass().getName() + " does not report its iterations.");
+        }
+        return new CancelableMinimizer(minimizer, m_exec);
+    }
+
+    /**
+     * Thrown from within the objective function or the minimizer if the execution has been canceled, since the
+     * minimizer does not allow checked exceptions to pass.
+     */
+    static final class TrainingCanceledException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        TrainingCanceledException(final CanceledExecutionException cause) {
+            super(cause);
+        }
+
+        @Override
+        public synchronized CanceledExecutionException getCause() {
+            return (CanceledExecutionException)super.getCause();
+        }
+    }
+
+    private static void checkCanceled(final ExecutionMonitor exec) {
+        try {
+            exec.checkCanceled();
+        } catch (final CanceledExecutionException e) {
+            throw new TrainingCanceledException(e);
+        }
+    }
+
+    /**
+     * Evaluator that is called by the minimizer after each iteration and reports the iteration and its duration. The
+     * evaluators of the classifier are still called every {@code evaluateIters} iterations.
+     */
+    private static final class IterationReporter implements Evaluator {
+
+        private final Evaluator[] m_evaluators;
+
+        private final int m_evaluateIters;
+
+        private final ExecutionMonitor m_exec;
+
+        private int m_iteration = 0;
+
+        private long m_lastIterationEnd = System.currentTimeMillis();
+
+        IterationReporter(final Evaluator[] evaluators, final int evaluateIters, final ExecutionMonitor exec) {
+            m_evaluators = evaluators;
+            m_evaluateIters = evaluateIters;
+            m_exec = exec;
+        }
+
+        @Override
+        public double evaluate(final double[] x) {
+            final long now = System.currentTimeMillis();
+            final long duration = now - m_lastIterationEnd;
+            m_lastIterationEnd = now;
+            m_iteration++;
+            m_exec.setMessage("Learning model: iteration " + m_iteration + " took " + duration + " ms");
+            LOGGER.debug("CRF training iteration " + m_iteration + " took " + duration + " ms.");
+            checkCanceled(m_exec);
+
+            double score = Double.NEGATIVE_INFINITY;
+            if (m_evaluators != null && m_evaluateIters > 0 && m_iteration % m_evaluateIters == 0) {
+                for (final Evaluator evaluator : m_evaluators) {
+                    score = evaluator.evaluate(x);
+                }
+            }
+            return score;
+        }
+
+        @Override
+        public String toString() {
+            return "iteration progress";
+        }
+    }
+
+    /**
+     * Minimizer that delegates to the minimizer of the classifier, wrapping the objective function to allow canceling
+     * the training in between two evaluations of the function.
+     */
+    private static final class CancelableMinimizer implements Minimizer<DiffFunction> {
+
+        private final Minimizer<DiffFunction> m_minimizer;
+
+        private final ExecutionMonitor m_exec;
+
+        CancelableMinimizer(final Minimizer<DiffFunction> minimizer, final ExecutionMonitor exec) {
+            m_minimizer = minimizer;
+            m_exec = exec;
+        }
+
+        @Override
+        public double[] minimize(final DiffFunction function, final double functionTolerance, final double[] initial) {
+            return m_minimizer.minimize(new CancelableFunction(function, m_exec), functionTolerance, initial);
+        }
+
+        @Override
+        public double[] minimize(final DiffFunction function, final double functionTolerance, final double[] initial,
+            final int maxIterations) {
+            return m_minimizer.minimize(new CancelableFunction(function, m_exec), functionTolerance, initial,
+                maxIterations);
+        }
+    }
+
+    /**
+     * Objective function that checks for cancellation before each gradient evaluation.
+     */
+    private static final class CancelableFunction implements DiffFunction {
+
+        private final DiffFunction m_function;
+
+        private final ExecutionMonitor m_exec;
+
+        CancelableFunction(final DiffFunction function, final ExecutionMonitor exec) {
+            m_function = function;
+            m_exec = exec;
+        }
+
+        @Override
+        public double valueAt(final double[] x) {
+            return m_function.valueAt(x);
+        }
+
+        @Override
+        public int domainDimension() {
+            return m_function.domainDimension();
+        }
+
+        @Override
+        public double[] derivativeAt(final double[] x) {
+            checkCanceled(m_exec);
+            return m_function.derivativeAt(x);
+        }
+    }
+}
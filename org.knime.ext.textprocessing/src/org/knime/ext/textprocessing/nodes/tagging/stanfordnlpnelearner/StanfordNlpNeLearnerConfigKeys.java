@@ -101,4 +101,6 @@ private StanfordNlpNeLearnerConfigKeys() {
 
     static final String CFG_KEY_CASE_SENSITIVITY = "Case sensitivity";
 
+    static final String CFGKEY_NUMBER_OF_THREADS = "Number of threads";
+
 }
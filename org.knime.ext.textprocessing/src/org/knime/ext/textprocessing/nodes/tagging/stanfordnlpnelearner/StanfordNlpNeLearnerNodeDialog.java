@@ -56,9 +56,11 @@
 import javax.swing.event.ChangeListener;
 
 import org.knime.core.data.StringValue;
+import org.knime.core.node.KNIMEConstants;
 import org.knime.core.node.defaultnodesettings.DefaultNodeSettingsPane;
 import org.knime.core.node.defaultnodesettings.DialogComponentBoolean;
 import org.knime.core.node.defaultnodesettings.DialogComponentColumnNameSelection;
+import org.knime.core.node.defaultnodesettings.DialogComponentNumber;
 import org.knime.core.node.defaultnodesettings.DialogComponentNumberEdit;
 import org.knime.core.node.defaultnodesettings.DialogComponentStringSelection;
 import org.knime.core.node.defaultnodesettings.SettingsModelBoolean;
@@ -335,6 +337,15 @@ static final SettingsModelBoolean createCaseSensitivityModel() {
             DEF_CASE_SENSITIVITY);
     }
 
+    /**
+     * @return Creates and returns the integer settings model for the number of threads used to compute the gradient
+     *         of the CRF objective function during training.
+     */
+    static final SettingsModelIntegerBounded createNumberOfThreadsModel() {
+        return new SettingsModelIntegerBounded(StanfordNlpNeLearnerConfigKeys.CFGKEY_NUMBER_OF_THREADS,
+            KNIMEConstants.GLOBAL_THREAD_POOL.getMaxThreads(), 1, Integer.MAX_VALUE);
+    }
+
     private final SettingsModelString m_tagtypemodel;
 
     private final DialogComponentStringSelection m_tagSelection;
@@ -385,6 +396,11 @@ public StanfordNlpNeLearnerNodeDialog() {
         final Collection<String> tokenizerList = TokenizerFactoryRegistry.getTokenizerFactoryMap().keySet();
         addDialogComponent(new DialogComponentStringSelection(createTokenizerModel(), "Word tokenizer", tokenizerList));
 
+        final DialogComponentNumber threadsComp =
+            new DialogComponentNumber(createNumberOfThreadsModel(), "Number of threads", 1);
+        threadsComp.setToolTipText("The number of threads used to compute the gradient during training.");
+        addDialogComponent(threadsComp);
+
         createNewTab("Learner Properties");
         selectTab("Learner Properties");
         createNewGroup("Order of the CRF");
@@ -52,12 +52,14 @@
 import java.io.File;
 import java.io.IOException;
 import java.io.ObjectOutputStream;
-import java.io.PrintWriter;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Properties;
 import java.util.Set;
-import java.util.UUID;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.zip.GZIPOutputStream;
@@ -70,7 +72,6 @@
 import org.knime.core.node.ExecutionContext;
 import org.knime.core.node.ExecutionMonitor;
 import org.knime.core.node.InvalidSettingsException;
-import org.knime.core.node.KNIMEConstants;
 import org.knime.core.node.NodeModel;
 import org.knime.core.node.NodeSettingsRO;
 import org.knime.core.node.NodeSettingsWO;
@@ -97,6 +98,9 @@
 
 import edu.stanford.nlp.ie.crf.CRFClassifier;
 import edu.stanford.nlp.ling.CoreLabel;
+import edu.stanford.nlp.objectbank.ObjectBank;
+import edu.stanford.nlp.objectbank.ReaderIteratorFactory;
+import edu.stanford.nlp.sequences.DocumentReaderAndWriter;
 import edu.stanford.nlp.sequences.SeqClassifierFlags;
 
 /**
@@ -153,6 +157,9 @@ public class StanfordNlpNeLearnerNodeModel extends NodeModel {
 
     private final SettingsModelBoolean m_caseSensitivity = StanfordNlpNeLearnerNodeDialog.createCaseSensitivityModel();
 
+    private final SettingsModelIntegerBounded m_numberOfThreads =
+        StanfordNlpNeLearnerNodeDialog.createNumberOfThreadsModel();
+
     /**
      * Creates a new instance of {@code StanfordNlpNeLearnerNodeModel}.
      */
@@ -233,53 +240,53 @@ protected PortObject[] execute(final PortObject[] data, final ExecutionContext e
         final MultiTermRegexDocumentTagger tagger = new MultiTermRegexDocumentTagger(true, knownEntitiesPatternSet, tag,
             m_caseSensitivity.getBooleanValue(), m_tokenizer.getStringValue());
 
-        // create UUID to add them to the file path to avoid cases..
-        // .. where two instances of the node model used the same file path at the same time
-        final String tempDir = KNIMEConstants.getKNIMETempDir() + "/";
-        final String annotatedDocPath = tempDir + "aD-" + UUID.randomUUID().toString() + ".tsv";
-
-        // create files based on sentence list and known entities
-        final File annotatedDocFile = new File(annotatedDocPath);
+        // keep the annotated sentences of each document in memory, the classifier reads them with its default reader
+        final List<String> annotationData = new ArrayList<>();
         int rowCounter = 0;
         int missingValueCounter = 0;
-        try (final PrintWriter sentenceFileWriter = new PrintWriter(annotatedDocFile, "UTF-8")) {
-            final int colIndex = docTable.getDataTableSpec().findColumnIndex(m_docColumnModel.getStringValue());
-            // tag documents and transform sentences to strings while tagged terms get stanfordnlp annotation
-            for (final DataRow row : docTable) {
-                //set progress bar
-                rowCounter++;
-                final double progress = (rowCounter / (double)docTable.size()) / (2.0);
-                exec.setProgress(progress, "Preparing documents");
-
-                if (!row.getCell(colIndex).isMissing()
-                    && row.getCell(colIndex).getType().isCompatible(DocumentValue.class)) {
-                    final Document doc = ((DocumentValue)row.getCell(colIndex)).getDocument();
-                    final Document taggedDoc = tagger.tag(doc);
-                    taggedDoc.sentenceIterator()
-                        .forEachRemaining(s -> writeAnnotationData(s, knownEntitiesStringSet, sentenceFileWriter));
-                    sentenceFileWriter.println();
-                } else {
-                    missingValueCounter++;
-                }
+        final int colIndex = docTable.getDataTableSpec().findColumnIndex(m_docColumnModel.getStringValue());
+        // tag documents and transform sentences to strings while tagged terms get stanfordnlp annotation
+        for (final DataRow row : docTable) {
+            //set progress bar
+            rowCounter++;
+            final double progress = (rowCounter / (double)docTable.size()) / (2.0);
+            exec.setProgress(progress, "Preparing documents");
+            exec.checkCanceled();
+
+            if (!row.getCell(colIndex).isMissing()
+                && row.getCell(colIndex).getType().isCompatible(DocumentValue.class)) {
+                final Document doc = ((DocumentValue)row.getCell(colIndex)).getDocument();
+                final Document taggedDoc = tagger.tag(doc);
+                final StringBuilder documentData = new StringBuilder();
+                taggedDoc.sentenceIterator()
+                    .forEachRemaining(s -> writeAnnotationData(s, knownEntitiesStringSet, documentData));
+                documentData.append('\n');
+                annotationData.add(documentData.toString());
+            } else {
+                missingValueCounter++;
             }
         }
 
         // train model
         exec.setProgress(0.75, "Learning model.");
 
-        final Properties props = new StanfordNlpNeLearnerPropFileGenerator(annotatedDocPath,
-            m_useClassFeature.getBooleanValue(), m_useWord.getBooleanValue(), m_useNGrams.getBooleanValue(),
-            m_noMidNGrams.getBooleanValue(), m_maxNGramLeng.getIntValue(), m_usePrev.getBooleanValue(),
-            m_useNext.getBooleanValue(), m_useDisjunctive.getBooleanValue(), m_useSequences.getBooleanValue(),
+        final Properties props = new StanfordNlpNeLearnerPropFileGenerator(m_useClassFeature.getBooleanValue(),
+            m_useWord.getBooleanValue(), m_useNGrams.getBooleanValue(), m_noMidNGrams.getBooleanValue(),
+            m_maxNGramLeng.getIntValue(), m_usePrev.getBooleanValue(), m_useNext.getBooleanValue(),
+            m_useDisjunctive.getBooleanValue(), m_useSequences.getBooleanValue(),
             m_usePrevSequences.getBooleanValue(), m_maxLeft.getIntValue(), m_useTypeSeqs.getBooleanValue(),
-            m_useTypeSeqs2.getBooleanValue(), m_useTypeySequences.getBooleanValue(), m_wordShape.getStringValue())
-                .getPropFile();
+            m_useTypeSeqs2.getBooleanValue(), m_useTypeySequences.getBooleanValue(), m_wordShape.getStringValue(),
+            m_numberOfThreads.getIntValue()).getPropFile();
         final SeqClassifierFlags flags = new SeqClassifierFlags(props);
-        final CRFClassifier<CoreLabel> crf = new CRFClassifier<>(flags);
+        final CRFClassifier<CoreLabel> crf = new ProgressReportingCRFClassifier(flags, exec);
+        final DocumentReaderAndWriter<CoreLabel> readerAndWriter = crf.defaultReaderAndWriter();
+        // the classifier iterates the training data several times, each time reading the documents one by one
+        final ObjectBank<List<CoreLabel>> trainingData =
+            new ObjectBank<>(new DocumentReaderIteratorFactory(annotationData), readerAndWriter);
         try {
-            crf.train();
-        } finally {
-            java.nio.file.Files.delete(annotatedDocFile.toPath());
+            crf.train(trainingData, readerAndWriter);
+        } catch (final ProgressReportingCRFClassifier.TrainingCanceledException e) {
+            throw e.getCause();
         }
 
         // Serialize model to byte array
@@ -307,16 +314,16 @@ protected PortObject[] execute(final PortObject[] data, final ExecutionContext e
     }
 
     /**
-     * Writes annotation data for each term of sentence to a specified {@link PrintWriter}.
+     * Appends annotation data for each term of sentence to a specified {@link StringBuilder}, one term per line.
      * Terms contained in the known entities set are annotated with the specified tag value.
      * Other terms are annotated with 'O' meaning that the term could not be found in the known entities set.
      *
      * @param sentence The {@code sentence}.
      * @param knownEntitiesStringSet The set of known entities from the dictionary.
-     * @param sentenceFileWriter The {@code PrintWriter} to write the terms to.
+     * @param annotationData The {@code StringBuilder} to append the terms to.
      */
     private final void writeAnnotationData(final Sentence sentence, final Set<String> knownEntitiesStringSet,
-        final PrintWriter sentenceFileWriter) {
+        final StringBuilder annotationData) {
         final Iterator<Term> termIterator = sentence.getTerms().iterator();
         while (termIterator.hasNext()) {
             final Term t = termIterator.next();
@@ -326,13 +333,33 @@ private final void writeAnnotationData(final Sentence sentence, final Set<String
                 || knownEntitiesStringSet.contains(
                     m_caseSensitivity.getBooleanValue() ? termTextWithWsSuffix : termTextWithWsSuffix.toLowerCase())) {
                 t.getWords().stream()//
-                    .forEach(w -> sentenceFileWriter.println(w.getText() + "\t" + m_tagValueModel.getStringValue()));
+                    .forEach(w -> annotationData.append(w.getText()).append('\t')
+                        .append(m_tagValueModel.getStringValue()).append('\n'));
             } else {
-                sentenceFileWriter.println(termText + "\tO");
+                annotationData.append(termText).append("\tO\n");
             }
         }
     }
 
+    /**
+     * Provides one {@link Reader} per annotated document. Unlike a factory over a fixed set of readers, every call to
+     * {@link #iterator()} creates new readers, so the classifier can read the training data as often as it needs
+     * without the documents being copied into a single string.
+     */
+    private static final class DocumentReaderIteratorFactory extends ReaderIteratorFactory {
+
+        private final List<String> m_documents;
+
+        DocumentReaderIteratorFactory(final List<String> documents) {
+            m_documents = documents;
+        }
+
+        @Override
+        public Iterator<Reader> iterator() {
+            return m_documents.stream().<Reader> map(StringReader::new).iterator();
+        }
+    }
+
     /**
      * Creates a {@link Set} of known entities from the specified dictionary column.
      *
@@ -401,6 +428,7 @@ protected void saveSettingsTo(final NodeSettingsWO settings) {
         m_maxNGramLeng.saveSettingsTo(settings);
         m_tokenizer.saveSettingsTo(settings);
         m_caseSensitivity.saveSettingsTo(settings);
+        m_numberOfThreads.saveSettingsTo(settings);
     }
 
     /**
@@ -435,6 +463,9 @@ protected void validateSettings(final NodeSettingsRO settings) throws InvalidSet
         if (settings.containsKey(m_caseSensitivity.getConfigName())) {
             m_caseSensitivity.validateSettings(settings);
         }
+        if (settings.containsKey(m_numberOfThreads.getKey())) {
+            m_numberOfThreads.validateSettings(settings);
+        }
 
     }
 
@@ -470,6 +501,12 @@ protected void loadValidatedSettingsFrom(final NodeSettingsRO settings) throws I
         if (settings.containsKey(m_caseSensitivity.getConfigName())) {
             m_caseSensitivity.loadSettingsFrom(settings);
         }
+        // models of older workflows have been trained single threaded
+        if (settings.containsKey(m_numberOfThreads.getKey())) {
+            m_numberOfThreads.loadSettingsFrom(settings);
+        } else {
+            m_numberOfThreads.setIntValue(1);
+        }
     }
 
     /**
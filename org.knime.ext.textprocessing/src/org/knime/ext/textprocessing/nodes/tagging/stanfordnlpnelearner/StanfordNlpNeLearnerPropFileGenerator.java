@@ -48,7 +48,6 @@
  */
 package org.knime.ext.textprocessing.nodes.tagging.stanfordnlpnelearner;
 
-import java.io.FileNotFoundException;
 import java.util.Properties;
 
 /**
@@ -60,16 +59,15 @@ class StanfordNlpNeLearnerPropFileGenerator {
     private Properties m_propFile;
 
     /**
-     * @param trainFile
-     * @throws FileNotFoundException
+     * Creates properties for in-memory training (no training file) with default feature settings, using a single
+     * thread.
      */
-    StanfordNlpNeLearnerPropFileGenerator(final String trainFile) throws FileNotFoundException {
-        m_propFile = createPropFile(trainFile, true, true, true, true, 6, true, true, true, true, true, 1, true, true,
-            true, "chris2useLC");
+    StanfordNlpNeLearnerPropFileGenerator() {
+        m_propFile = createPropFile(true, true, true, true, 6, true, true, true, true, true, 1, true, true, true,
+            "chris2useLC", 1);
     }
 
     /**
-     * @param trainFile
      * @param useClassFeature
      * @param useWord
      * @param useNGrams
@@ -85,26 +83,25 @@ class StanfordNlpNeLearnerPropFileGenerator {
      * @param useTypeSeqs2
      * @param useTypeySequences
      * @param wordShape
-     * @throws FileNotFoundException
+     * @param numberOfThreads the number of threads used to compute the gradient during training
      */
-    StanfordNlpNeLearnerPropFileGenerator(final String trainFile, final boolean useClassFeature, final boolean useWord,
+    StanfordNlpNeLearnerPropFileGenerator(final boolean useClassFeature, final boolean useWord,
         final boolean useNGrams, final boolean noMidNGrams, final int maxNGramLeng, final boolean usePrev,
         final boolean useNext, final boolean useDisjunctive, final boolean useSequences, final boolean usePrevSequences,
         final int maxLeft, final boolean useTypeSeqs, final boolean useTypeSeqs2, final boolean useTypeySequences,
-        final String wordShape) throws FileNotFoundException {
-        m_propFile = createPropFile(trainFile, useClassFeature, useWord, useNGrams, noMidNGrams, maxNGramLeng, usePrev,
-            useNext, useDisjunctive, useSequences, usePrevSequences, maxLeft, useTypeSeqs, useTypeSeqs2,
-            useTypeySequences, wordShape);
+        final String wordShape, final int numberOfThreads) {
+        m_propFile = createPropFile(useClassFeature, useWord, useNGrams, noMidNGrams, maxNGramLeng, usePrev, useNext,
+            useDisjunctive, useSequences, usePrevSequences, maxLeft, useTypeSeqs, useTypeSeqs2, useTypeySequences,
+            wordShape, numberOfThreads);
     }
 
-    private Properties createPropFile(final String trainFile, final boolean useClassFeature, final boolean useWord,
+    private static Properties createPropFile(final boolean useClassFeature, final boolean useWord,
         final boolean useNGrams, final boolean noMidNGrams, final int maxNGramLeng, final boolean usePrev,
         final boolean useNext, final boolean useDisjunctive, final boolean useSequences, final boolean usePrevSequences,
         final int maxLeft, final boolean useTypeSeqs, final boolean useTypeSeqs2, final boolean useTypeySequences,
-        final String wordShape) throws FileNotFoundException {
+        final String wordShape, final int numberOfThreads) {
 
         Properties props = new Properties();
-        props.setProperty("trainFile", trainFile);
         props.setProperty("map", "word=0,answer=1");
         props.setProperty("useClassFeature", String.valueOf(useClassFeature));
         props.setProperty("useWord", String.valueOf(useWord));
@@ -121,6 +118,8 @@ private Properties createPropFile(final String trainFile, final boolean useClass
         props.setProperty("useTypeSeqs2", String.valueOf(useTypeSeqs2));
         props.setProperty("useTypeySequences", String.valueOf(useTypeySequences));
         props.setProperty("wordShape", wordShape);
+        // number of threads used to compute the gradient of the objective function in parallel
+        props.setProperty("multiThreadGrad", String.valueOf(Math.max(1, numberOfThreads)));
 
         return props;
     }
@@ -96,6 +96,7 @@
 import org.knime.ext.textprocessing.data.Term;
 import org.knime.ext.textprocessing.data.Word;
 import org.knime.ext.textprocessing.nodes.tagging.dict.wildcard.MultiTermRegexDocumentTagger;
+import org.knime.ext.textprocessing.nodes.tagging.stanfordnlpnetagger.StanfordNerClassifierCache;
 import org.knime.ext.textprocessing.nodes.tokenization.MissingTokenizerException;
 import org.knime.ext.textprocessing.nodes.tokenization.TokenizerFactoryRegistry;
 import org.knime.ext.textprocessing.util.ColumnSelectionVerifier;
@@ -186,7 +187,7 @@ protected PortObjectSpec[] configure(final PortObjectSpec[] inSpecs) throws Inva
     protected PortObject[] execute(final PortObject[] inObjects, final ExecutionContext exec) throws Exception {
 
         m_inputModelPortObject = (StanfordNERModelPortObject)inObjects[1];
-        m_inputModel = m_inputModelPortObject.getNERModel();
+        m_inputModel = StanfordNerClassifierCache.getClassifier(m_inputModelPortObject);
         m_usedDict = m_inputModelPortObject.getDictSet();
         m_tag = m_inputModelPortObject.getTag();
         m_tokenizerName = m_inputModelPortObject.getTokenizerName();
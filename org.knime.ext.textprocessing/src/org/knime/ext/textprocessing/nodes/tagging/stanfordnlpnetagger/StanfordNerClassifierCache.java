@@ -0,0 +1,166 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.ext.textprocessing.nodes.tagging.stanfordnlpnetagger;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+
+import org.knime.core.data.util.memory.MemoryAlert;
+import org.knime.core.data.util.memory.MemoryAlertListener;
+import org.knime.core.data.util.memory.MemoryAlertSystem;
+import org.knime.core.node.NodeLogger;
+import org.knime.ext.textprocessing.data.StanfordNERModelPortObject;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import edu.stanford.nlp.ie.crf.CRFClassifier;
+import edu.stanford.nlp.ling.CoreLabel;
+
+/**
+ * Process-wide cache of deserialized {@link CRFClassifier CRFClassifiers}. Deserializing a Stanford NER model is
+ * expensive in time and memory, hence classifiers are deserialized only once per {@link StanfordNERModelPortObject}
+ * (identified by object identity and weakly referenced) or once per built-in model path, and then shared by all tagger
+ * instances. The cached classifiers are only used for classification, which does not modify their state, so they can
+ * be used by multiple threads concurrently. The cache is cleared if memory gets low.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 5.12
+ */
+public final class StanfordNerClassifierCache {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(StanfordNerClassifierCache.class);
+
+    /** Classifiers deserialized from port objects, keys are compared by identity and weakly referenced. */
+    private static final Cache<StanfordNERModelPortObject, CRFClassifier<CoreLabel>> PORT_OBJECT_CACHE =
+        CacheBuilder.newBuilder()//
+            .weakKeys()//
+            .softValues()//
+            .build();
+
+    /** Classifiers of the built-in models, keyed by model path. */
+    private static final Cache<String, CRFClassifier<CoreLabel>> MODEL_PATH_CACHE = CacheBuilder.newBuilder()//
+        .softValues()//
+        .build();
+
+    /** To check memory usage and react on low memory. */
+    private static final MemoryAlertListener MEMORY_ALERT_LISTENER = new MemoryAlertListener() {
+        @Override
+        protected boolean memoryAlert(final MemoryAlert alert) {
+            LOGGER.debug("Low memory encountered in Textprocessing, clearing "
+                + StanfordNerClassifierCache.class.getSimpleName() + " (" + (PORT_OBJECT_CACHE.size()
+                    + MODEL_PATH_CACHE.size()) + " element(s))");
+            clear();
+            return false;
+        }
+    };
+
+    static {
+        MemoryAlertSystem.getInstance().addListener(MEMORY_ALERT_LISTENER);
+    }
+
+    private StanfordNerClassifierCache() {
+        // utility class
+    }
+
+    /**
+     * Returns the shared classifier of the given port object. The classifier is deserialized on first access only.
+     *
+     * @param portObject The port object containing the serialized model.
+     * @return The shared classifier, which must only be used for classification.
+     * @throws IOException If the classifier could not be deserialized.
+     * @throws ClassNotFoundException If there are problems interpreting the serialized data.
+     */
+    public static CRFClassifier<CoreLabel> getClassifier(final StanfordNERModelPortObject portObject)
+        throws IOException, ClassNotFoundException {
+        try {
+            return PORT_OBJECT_CACHE.get(portObject, portObject::getNERModel);
+        } catch (final ExecutionException e) {
+            throw rethrow(e);
+        }
+    }
+
+    /**
+     * Returns the shared classifier of the model stored at the given path. The classifier is loaded on first access
+     * only.
+     *
+     * @param modelPath The path of the model file.
+     * @return The shared classifier, which must only be used for classification.
+     * @throws IOException If the classifier could not be loaded.
+     * @throws ClassNotFoundException If there are problems interpreting the serialized data.
+     */
+    public static CRFClassifier<CoreLabel> getClassifier(final String modelPath)
+        throws IOException, ClassNotFoundException {
+        try {
+            return MODEL_PATH_CACHE.get(modelPath, () -> CRFClassifier.getClassifier(modelPath));
+        } catch (final ExecutionException e) {
+            throw rethrow(e);
+        }
+    }
+
+    /**
+     * Removes all cached classifiers.
+     */
+    public static void clear() {
+        PORT_OBJECT_CACHE.invalidateAll();
+        MODEL_PATH_CACHE.invalidateAll();
+    }
+
+    private static IOException rethrow(final ExecutionException e) throws ClassNotFoundException {
+        final Throwable cause = e.getCause();
+        if (cause instanceof IOException) {
+            return (IOException)cause;
+        } else if (cause instanceof ClassNotFoundException) {
+            throw (ClassNotFoundException)cause;
+        } else if (cause instanceof RuntimeException) {
+            throw (RuntimeException)cause;
+        }
+        return new IOException("Could not load Stanford NER model: " + cause.getMessage(), cause);
+    }
+}
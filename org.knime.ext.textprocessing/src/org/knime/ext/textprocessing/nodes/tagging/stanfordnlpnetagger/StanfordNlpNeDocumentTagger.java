@@ -107,7 +107,7 @@ public StanfordNlpNeDocumentTagger(final boolean setNeUnmodifiable, final boolea
         }
         m_combineMultiWords = combineMultiWords;
         m_model = StanfordTaggerModelRegistry.getInstance().getNerTaggerModelMap().get(modelName);
-        m_tagger = CRFClassifier.getClassifier(m_model.getModelPath());
+        m_tagger = StanfordNerClassifierCache.getClassifier(m_model.getModelPath());
     }
 
     /**
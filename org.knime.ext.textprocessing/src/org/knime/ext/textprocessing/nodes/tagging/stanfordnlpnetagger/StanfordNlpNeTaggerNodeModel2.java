@@ -187,7 +187,7 @@ protected final void prepareTagger(final PortObject[] inPortObjects, final Execu
         // get the port object, model, the dictionary and the tag to build the model, if needed
         if (m_useInportModel.getBooleanValue()) {
             StanfordNERModelPortObject inputModelPortObject = (StanfordNERModelPortObject)inPortObjects[1];
-            m_inputModel = inputModelPortObject.getNERModel();
+            m_inputModel = StanfordNerClassifierCache.getClassifier(inputModelPortObject);
             m_tag = inputModelPortObject.getTag();
         }
     }
@@ -73,4 +73,9 @@ private BagOfWordsConfigKeys2() {
      */
     static final String CFG_KEY_TERM_COL = "TermColumn";
 
+    /**
+     * The configuration key of the dictionary encoding flag of the term column.
+     */
+    static final String CFG_KEY_DICTIONARY_ENCODING = "DictionaryEncodedTerms";
+
 }
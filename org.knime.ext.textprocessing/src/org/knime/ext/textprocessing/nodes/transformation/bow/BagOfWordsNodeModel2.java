@@ -64,6 +64,7 @@
 import org.knime.core.data.RowIterator;
 import org.knime.core.data.RowKey;
 import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.filestore.FileStoreFactory;
 import org.knime.core.node.BufferedDataContainer;
 import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.CanceledExecutionException;
@@ -73,6 +74,7 @@
 import org.knime.core.node.NodeModel;
 import org.knime.core.node.NodeSettingsRO;
 import org.knime.core.node.NodeSettingsWO;
+import org.knime.core.node.defaultnodesettings.SettingsModelBoolean;
 import org.knime.core.node.defaultnodesettings.SettingsModelColumnFilter2;
 import org.knime.core.node.defaultnodesettings.SettingsModelString;
 import org.knime.ext.textprocessing.data.Document;
@@ -89,7 +91,8 @@
 /**
  * The model class of the Bag of word creator node. One column containing
  * {@link org.knime.ext.textprocessing.data.DocumentCell}s is necessary to create a bag of words. The output table
- * contains a {@link TermCell2} column and additionally carries over columns selected in the {@code NodeDialog}.
+ * contains a {@link TermCell2} column, or optionally a dictionary encoded term column, and additionally carries over
+ * columns selected in the {@code NodeDialog}.
  *
  * @author Kilian Thiel, University of Konstanz
  * @since 3.5
@@ -126,6 +129,23 @@ static final SettingsModelString getTermColumnModel() {
         return new SettingsModelString(BagOfWordsConfigKeys2.CFG_KEY_TERM_COL, CommonColumnNames.DEF_TERM_COLNAME);
     }
 
+    /**
+     * The default value of the dictionary encoding flag.
+     */
+    static final boolean DEF_DICTIONARY_ENCODING = false;
+
+    /**
+     * Creates and returns a {@link SettingsModelBoolean} specifying whether the created term column is dictionary
+     * encoded, i.e. whether its cells reference terms of a term dictionary shared by the whole table.
+     *
+     * @return {@code SettingsModelBoolean} containing the dictionary encoding flag.
+     * @since 5.12
+     */
+    static final SettingsModelBoolean getDictionaryEncodingModel() {
+        return new SettingsModelBoolean(BagOfWordsConfigKeys2.CFG_KEY_DICTIONARY_ENCODING,
+            DEF_DICTIONARY_ENCODING);
+    }
+
     static boolean checkIncludes(final SettingsModelColumnFilter2 colFilter, final DataTableSpec spec,
         final String colName) {
         List<String> includes = Arrays.asList(colFilter.applyTo(spec).getIncludes());
@@ -141,7 +161,9 @@ static boolean checkIncludes(final SettingsModelColumnFilter2 colFilter, final D
 
     private final SettingsModelString m_termColModel = getTermColumnModel();
 
-    private final TextContainerDataCellFactory m_termFac = TextContainerDataCellFactoryBuilder.createTermCellFactory();
+    private final SettingsModelBoolean m_dictionaryEncodingModel = getDictionaryEncodingModel();
+
+    private TextContainerDataCellFactory m_termFac = TextContainerDataCellFactoryBuilder.createTermCellFactory();
 
     private int m_documentColIndex = -1;
 
@@ -158,6 +180,7 @@ static boolean checkIncludes(final SettingsModelColumnFilter2 colFilter, final D
     @Override
     protected DataTableSpec[] configure(final DataTableSpec[] inSpecs) throws InvalidSettingsException {
         checkDataTableSpec(inSpecs[0]);
+        m_termFac = createTermCellFactory();
 
         return new DataTableSpec[]{createDataTableSpec(inSpecs[0])};
     }
@@ -187,6 +210,8 @@ protected BufferedDataTable[] execute(final BufferedDataTable[] inData, final Ex
         throws Exception {
         DataTableSpec inputSpec = inData[0].getDataTableSpec();
         checkDataTableSpec(inputSpec);
+        m_termFac = createTermCellFactory();
+        m_termFac.prepare(FileStoreFactory.createWorkflowFileStoreFactory(exec));
 
         // prepare data container
         final BufferedDataContainer bdc = exec.createDataContainer(createDataTableSpec(inputSpec));
@@ -231,6 +256,13 @@ protected BufferedDataTable[] execute(final BufferedDataTable[] inData, final Ex
         return new BufferedDataTable[]{bdc.getTable()};
     }
 
+    private TextContainerDataCellFactory createTermCellFactory() {
+        if (m_dictionaryEncodingModel.getBooleanValue()) {
+            return TextContainerDataCellFactoryBuilder.createDictionaryEncodedTermCellFactory();
+        }
+        return TextContainerDataCellFactoryBuilder.createTermCellFactory();
+    }
+
     private void addToBOW(final Set<Term> terms, final DataCell[] additionalCells, final BufferedDataContainer bdc,
         final AtomicLong rowId) {
         for (Term t : terms) {
@@ -284,6 +316,7 @@ protected void saveSettingsTo(final NodeSettingsWO settings) {
         m_docColModel.saveSettingsTo(settings);
         m_colFilterModel.saveSettingsTo(settings);
         m_termColModel.saveSettingsTo(settings);
+        m_dictionaryEncodingModel.saveSettingsTo(settings);
     }
 
     /**
@@ -294,6 +327,11 @@ protected void validateSettings(final NodeSettingsRO settings) throws InvalidSet
         m_docColModel.validateSettings(settings);
         m_colFilterModel.validateSettings(settings);
         m_termColModel.validateSettings(settings);
+
+        // dictionary encoding has been added in 5.12
+        if (settings.containsKey(BagOfWordsConfigKeys2.CFG_KEY_DICTIONARY_ENCODING)) {
+            m_dictionaryEncodingModel.validateSettings(settings);
+        }
     }
 
     /**
@@ -304,6 +342,13 @@ protected void loadValidatedSettingsFrom(final NodeSettingsRO settings) throws I
         m_docColModel.loadSettingsFrom(settings);
         m_colFilterModel.loadSettingsFrom(settings);
         m_termColModel.loadSettingsFrom(settings);
+
+        // dictionary encoding has been added in 5.12
+        if (settings.containsKey(BagOfWordsConfigKeys2.CFG_KEY_DICTIONARY_ENCODING)) {
+            m_dictionaryEncodingModel.loadSettingsFrom(settings);
+        } else {
+            m_dictionaryEncodingModel.setBooleanValue(DEF_DICTIONARY_ENCODING);
+        }
     }
 
     /**
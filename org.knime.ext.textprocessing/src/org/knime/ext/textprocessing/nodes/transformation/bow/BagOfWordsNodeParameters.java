@@ -101,6 +101,13 @@ final class BagOfWordsNodeParameters implements NodeParameters {
     @ChoicesProvider(AllColumnsProvider.class)
     ColumnFilter m_columnFilter = new ColumnFilter().withIncludeUnknownColumns();
 
+    @Persist(configKey = BagOfWordsConfigKeys2.CFG_KEY_DICTIONARY_ENCODING)
+    @Widget(title = "Dictionary encoded terms",
+        description = "If checked, each distinct term is stored only once in a term dictionary shared by the output"
+            + " table and the cells of the term column only reference their term. This reduces the size of large"
+            + " bags of words considerably. The term column can be used by all nodes processing terms.")
+    boolean m_dictionaryEncodedTerms = BagOfWordsNodeModel2.DEF_DICTIONARY_ENCODING;
+
     static final class DocumentColumnsProvider extends CompatibleColumnsProvider {
         protected DocumentColumnsProvider() {
             super(DocumentValue.class);
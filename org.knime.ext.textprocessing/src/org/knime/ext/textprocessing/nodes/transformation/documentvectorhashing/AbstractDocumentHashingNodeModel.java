@@ -2,7 +2,6 @@
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.List;
 
 import org.knime.core.data.DataCell;
@@ -35,6 +34,9 @@
 import org.knime.ext.textprocessing.util.DataTableSpecVerifier;
 import org.knime.ext.textprocessing.util.DocumentDataTableBuilder;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
 /**
  * This class provides the business logic for {@code DocumentHashingNodeModel2} and
  * {@code DocumentHashingApplierNodeModel}. It also takes care of some shared node settings and handles the PortRoles.
@@ -51,6 +53,9 @@ public abstract class AbstractDocumentHashingNodeModel extends NodeModel {
 
     private static final DoubleCell DEFAULT_CELL = new DoubleCell(0.0);
 
+    /** The maximal number of term to index mappings cached while the rows of a table are processed. */
+    private static final int MAX_CACHED_INDEXES = 20000;
+
     private final SettingsModelString m_docCol = DocumentHashingNodeDialog2.getDocumentColModel();
 
     private final SettingsModelBoolean m_asCol = DocumentHashingNodeDialog2.getAsCollectionModel();
@@ -116,11 +121,22 @@ protected ColumnRearranger createColumnRearranger(final DataTableSpec spec) thro
 
             private final int m_idx = spec.findColumnIndex(m_docCol.getStringValue());
 
+            private final HashingFunction m_hashFunction =
+                HashingFunctionFactory.getInstance().getHashFunction(m_hashFunc);
+
+            // vector indexes of already hashed terms, shared by the threads processing the rows in parallel
+            private final Cache<String, Integer> m_indexes =
+                CacheBuilder.newBuilder().maximumSize(MAX_CACHED_INDEXES).build();
+
+            {
+                setParallelProcessing(true);
+            }
+
             @Override
             public DataCell[] getCells(final DataRow row) {
                 if (!row.getCell(m_idx).isMissing()) {
                     final DocumentValue doc = (DocumentValue)row.getCell(m_idx);
-                    return createVector(m_dim, doc.getDocument());
+                    return createVector(m_dim, doc.getDocument(), m_hashFunction, m_indexes);
                 } else {
                     if (m_asCol.getBooleanValue()) {
                         return new DataCell[]{DataType.getMissingCell()};
@@ -134,17 +150,19 @@ public DataCell[] getCells(final DataRow row) {
                 }
             }
 
+            @Override
+            public void afterProcessing() {
+                m_indexes.invalidateAll();
+            }
         });
 
         return rearranger;
     }
 
-    private DataCell[] createVector(final int dim, final Document doc) {
-        Double totalTerms = 0.0;
-        final HashingFunction hashFunction = HashingFunctionFactory.getInstance().getHashFunction(m_hashFunc);
-
-        List<Integer> output = new ArrayList<Integer>(Collections.nCopies(dim, 0));
-        List<Integer> occupiedIndexes = new ArrayList<Integer>();
+    private DataCell[] createVector(final int dim, final Document doc, final HashingFunction hashFunction,
+        final Cache<String, Integer> indexes) {
+        final int[] output = new int[dim];
+        final List<String> unhashedTerms = new ArrayList<String>();
 
         for (final Section s : doc.getSections()) {
             for (final Paragraph p : s.getParagraphs()) {
@@ -152,21 +170,35 @@ private DataCell[] createVector(final int dim, final Document doc) {
                 for (final Sentence sentence : sentences) {
                     final List<Term> terms = sentence.getTerms();
                     for (final Term term : terms) {
-                        int idx = hashFunction.hash(term.getText(), m_seed) % dim;
-
-                        if (idx < 0) {
-                            idx += dim;
-                        }
-                        output.set(idx, output.get(idx) + 1);
-                        if (!occupiedIndexes.contains(idx)) {
-                            occupiedIndexes.add(idx);
+                        final String text = term.getText();
+                        final Integer idx = indexes.getIfPresent(text);
+                        if (idx != null) {
+                            output[idx]++;
+                        } else {
+                            unhashedTerms.add(text);
                         }
                     }
                 }
             }
         }
-        for (int index : occupiedIndexes) {
-            totalTerms += output.get(index);
+
+        // hash terms not seen before in one batch and remember their indexes
+        if (!unhashedTerms.isEmpty()) {
+            final int[] hashes = hashFunction.hash(unhashedTerms, m_seed);
+            for (int i = 0; i < hashes.length; i++) {
+                int idx = hashes[i] % dim;
+
+                if (idx < 0) {
+                    idx += dim;
+                }
+                output[idx]++;
+                indexes.put(unhashedTerms.get(i), idx);
+            }
+        }
+
+        double totalTerms = 0.0;
+        for (final int count : output) {
+            totalTerms += count;
         }
         DataCell[] cells;
         final DoubleCell zero = new DoubleCell(0);
@@ -178,18 +210,18 @@ private DataCell[] createVector(final int dim, final Document doc) {
 
             if (m_vectVal.equals("Binary")) {
                 for (int i = 0, length = featureVector.size(); i < length; i++) {
-                    featureVector.set(i, output.get(i) > 0 ? one : zero);
+                    featureVector.set(i, output[i] > 0 ? one : zero);
                 }
             } else if (m_vectVal.equals("TF-Absolute")) {
                 for (int i = 0, length = featureVector.size(); i < length; i++) {
-                    if (occupiedIndexes.contains(i)) {
-                        featureVector.add(i, new DoubleCell(output.get(i)));
+                    if (isOccupied(output, i)) {
+                        featureVector.add(i, new DoubleCell(output[i]));
                     }
                 }
             } else if (m_vectVal.equals("TF-Relative")) {
                 for (int i = 0, length = featureVector.size(); i < length; i++) {
-                    if (occupiedIndexes.contains(i)) {
-                        featureVector.add(i, new DoubleCell(output.get(i) / totalTerms));
+                    if (isOccupied(output, i)) {
+                        featureVector.add(i, new DoubleCell(output[i] / totalTerms));
                     }
                 }
             }
@@ -201,20 +233,20 @@ private DataCell[] createVector(final int dim, final Document doc) {
 
             if (m_vectVal.equals("Binary")) {
                 for (int i = 0, length = cells.length; i < length; i++) {
-                    cells[i] = output.get(i) > 0 ? one : zero;
+                    cells[i] = output[i] > 0 ? one : zero;
                 }
             } else if (m_vectVal.equals("TF-Absolute")) {
                 for (int i = 0, length = cells.length; i < length; i++) {
-                    if (occupiedIndexes.contains(i)) {
-                        cells[i] = new DoubleCell(output.get(i));
+                    if (isOccupied(output, i)) {
+                        cells[i] = new DoubleCell(output[i]);
                     } else {
                         cells[i] = DEFAULT_CELL;
                     }
                 }
             } else if (m_vectVal.equals("TF-Relative")) {
                 for (int i = 0, length = cells.length; i < length; i++) {
-                    if (occupiedIndexes.contains(i)) {
-                        cells[i] = new DoubleCell(output.get(i) / totalTerms);
+                    if (isOccupied(output, i)) {
+                        cells[i] = new DoubleCell(output[i] / totalTerms);
                     } else {
                         cells[i] = DEFAULT_CELL;
                     }
@@ -224,6 +256,10 @@ private DataCell[] createVector(final int dim, final Document doc) {
         return cells;
     }
 
+    private static boolean isOccupied(final int[] output, final int index) {
+        return index < output.length && output[index] > 0;
+    }
+
     private List<DoubleCell> initFeatureVector(final int size) {
         final List<DoubleCell> featureVector = new ArrayList<DoubleCell>(size);
         for (int i = 0; i < size; i++) {
@@ -48,6 +48,8 @@
  */
 package org.knime.ext.textprocessing.nodes.transformation.documentvectorhashing;
 
+import java.util.List;
+
 /**
  * The interface class for hashing functions
  *
@@ -65,6 +67,37 @@ public interface HashingFunction {
      */
     public int hash(String term, int seed);
 
+    /**
+     * Returns a hash value of a given character sequence, which is equal to the hash value of the string containing the
+     * same characters. Implementations may override this method to hash the characters without creating a string or
+     * encoding the characters into a byte array.
+     *
+     * @param term the character sequence to be hashed
+     * @param seed the initial value for hashing
+     * @return the hash value
+     * @since 5.12
+     */
+    public default int hash(final CharSequence term, final int seed) {
+        return hash(term.toString(), seed);
+    }
+
+    /**
+     * Returns the hash values of the given character sequences in one batch. The hash value at index i equals the
+     * hash value of the i-th character sequence.
+     *
+     * @param terms the character sequences to be hashed
+     * @param seed the initial value for hashing
+     * @return the hash values
+     * @since 5.12
+     */
+    public default int[] hash(final List<? extends CharSequence> terms, final int seed) {
+        final int[] hashes = new int[terms.size()];
+        for (int i = 0; i < hashes.length; i++) {
+            hashes[i] = hash(terms.get(i), seed);
+        }
+        return hashes;
+    }
+
     /**
      * @return the unique name of the function used for registration and selection
      */
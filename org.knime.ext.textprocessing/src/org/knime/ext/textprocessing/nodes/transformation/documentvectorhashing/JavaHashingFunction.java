@@ -71,6 +71,21 @@ public int hash(final String term, final int seed) {
         return term.hashCode();
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @since 5.12
+     */
+    @Override
+    public int hash(final CharSequence term, final int seed) {
+        // same computation as String.hashCode()
+        int h = 0;
+        for (int i = 0, n = term.length(); i < n; i++) {
+            h = 31 * h + term.charAt(i);
+        }
+        return h;
+    }
+
     /**
      * {@inheritDoc}
      */
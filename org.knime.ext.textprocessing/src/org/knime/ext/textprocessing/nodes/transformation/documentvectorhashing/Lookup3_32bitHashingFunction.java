@@ -73,6 +73,16 @@ public int hash(final String term, final int seed) {
         return Hash.lookup3ycs(term.subSequence(0, term.length()), 0, term.length(), seed);
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @since 5.12
+     */
+    @Override
+    public int hash(final CharSequence term, final int seed) {
+        return Hash.lookup3ycs(term, 0, term.length(), seed);
+    }
+
     /**
      * {@inheritDoc}
      */
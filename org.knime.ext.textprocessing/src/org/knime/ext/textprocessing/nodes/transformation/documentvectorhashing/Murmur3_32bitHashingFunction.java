@@ -48,13 +48,10 @@
  */
 package org.knime.ext.textprocessing.nodes.transformation.documentvectorhashing;
 
-import com.google.common.base.Charsets;
-import com.google.common.hash.HashCode;
-import com.google.common.hash.HashFunction;
-import com.google.common.hash.Hashing;
-
 /**
- * An implementation of murmur3 32 bits hash function {@link com.google.common.hash.Hashing}
+ * An implementation of murmur3 32 bits hash function {@link com.google.common.hash.Hashing}. The hash values are equal
+ * to the ones of {@code Hashing.murmur3_32(seed).hashString(term, UTF_8)}, but the characters are encoded to UTF-8
+ * on the fly, without creating a byte array.
  *
  * @author Andisa Dewi, KNIME.com, Berlin, Germany
  * @since 3.3
@@ -73,9 +70,78 @@ public Murmur3_32bitHashingFunction() {
      */
     @Override
     public int hash(final String term, final int seed) {
-        HashFunction hash = Hashing.murmur3_32(seed);
-        HashCode hashCode = hash.hashString(term, Charsets.UTF_8);
-        return hashCode.asInt();
+        return hash((CharSequence)term, seed);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 5.12
+     */
+    @Override
+    public int hash(final CharSequence term, final int seed) {
+        int h1 = seed;
+        int length = 0;
+        // UTF-8 bytes which have not been mixed in yet (little endian) and their number of bits
+        long buffer = 0;
+        int shift = 0;
+
+        for (int i = 0, n = term.length(); i < n; i++) {
+            final char c = term.charAt(i);
+            final int bytes;
+            final int count;
+            if (c < 0x80) {
+                bytes = c;
+                count = 1;
+            } else if (c < 0x800) {
+                bytes = (0xC0 | c >>> 6) | (0x80 | c & 0x3F) << 8;
+                count = 2;
+            } else if (!Character.isSurrogate(c)) {
+                bytes = (0xE0 | c >>> 12) | (0x80 | c >>> 6 & 0x3F) << 8 | (0x80 | c & 0x3F) << 16;
+                count = 3;
+            } else if (Character.isHighSurrogate(c) && i + 1 < n && Character.isLowSurrogate(term.charAt(i + 1))) {
+                final int cp = Character.toCodePoint(c, term.charAt(++i));
+                bytes = (0xF0 | cp >>> 18) | (0x80 | cp >>> 12 & 0x3F) << 8 | (0x80 | cp >>> 6 & 0x3F) << 16
+                    | (0x80 | cp & 0x3F) << 24;
+                count = 4;
+            } else {
+                // unpaired surrogates are replaced like String.getBytes(UTF_8) does
+                bytes = '?';
+                count = 1;
+            }
+
+            buffer |= (bytes & 0xFFFFFFFFL) << shift;
+            shift += 8 * count;
+            length += count;
+            if (shift >= 32) {
+                h1 = mixH1(h1, mixK1((int)buffer));
+                buffer >>>= 32;
+                shift -= 32;
+            }
+        }
+
+        if (shift > 0) {
+            h1 ^= mixK1((int)buffer);
+        }
+        return fmix(h1, length);
+    }
+
+    private static int mixK1(final int k1) {
+        return Integer.rotateLeft(k1 * 0xcc9e2d51, 15) * 0x1b873593;
+    }
+
+    private static int mixH1(final int h1, final int k1) {
+        return Integer.rotateLeft(h1 ^ k1, 13) * 5 + 0xe6546b64;
+    }
+
+    private static int fmix(final int h1, final int length) {
+        int h = h1 ^ length;
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
     }
 
     /**
@@ -49,20 +49,18 @@
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
 
 import org.knime.core.data.DataCell;
 import org.knime.core.data.DataColumnSpecCreator;
-import org.knime.core.data.DataRow;
 import org.knime.core.data.DataTableSpec;
 import org.knime.core.data.DataType;
-import org.knime.core.data.RowIterator;
-import org.knime.core.data.RowKey;
-import org.knime.core.data.def.DefaultRow;
 import org.knime.core.data.def.IntCell;
 import org.knime.core.data.def.StringCell;
 import org.knime.core.data.filestore.FileStoreFactory;
-import org.knime.core.node.BufferedDataContainer;
 import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.CanceledExecutionException;
 import org.knime.core.node.ExecutionContext;
@@ -72,6 +70,17 @@
 import org.knime.core.node.NodeSettingsRO;
 import org.knime.core.node.NodeSettingsWO;
 import org.knime.core.node.defaultnodesettings.SettingsModelString;
+import org.knime.core.node.port.PortObjectSpec;
+import org.knime.core.node.streamable.BufferedDataTableRowOutput;
+import org.knime.core.node.streamable.DataTableRowInput;
+import org.knime.core.node.streamable.InputPortRole;
+import org.knime.core.node.streamable.OutputPortRole;
+import org.knime.core.node.streamable.PartitionInfo;
+import org.knime.core.node.streamable.PortInput;
+import org.knime.core.node.streamable.PortOutput;
+import org.knime.core.node.streamable.RowInput;
+import org.knime.core.node.streamable.RowOutput;
+import org.knime.core.node.streamable.StreamableOperator;
 import org.knime.ext.textprocessing.data.Document;
 import org.knime.ext.textprocessing.data.DocumentCell;
 import org.knime.ext.textprocessing.data.DocumentValue;
@@ -81,6 +90,7 @@
 import org.knime.ext.textprocessing.util.DataTableSpecVerifier;
 import org.knime.ext.textprocessing.util.DocumentDataTableBuilder;
 import org.knime.ext.textprocessing.util.LRUDataCellCache;
+import org.knime.ext.textprocessing.util.ParallelDocumentRowExpander;
 import org.knime.ext.textprocessing.util.TextContainerDataCellFactory;
 import org.knime.ext.textprocessing.util.TextContainerDataCellFactoryBuilder;
 
@@ -152,46 +162,82 @@ protected BufferedDataTable[] execute(final BufferedDataTable[] inData, final Ex
         checkDataTableSpec(inData[0].getDataTableSpec());
         m_docColIndex = inData[0].getDataTableSpec().findColumnIndex(m_documentColModel.getStringValue());
 
+        final BufferedDataTableRowOutput output =
+            new BufferedDataTableRowOutput(exec.createDataContainer(createOutDataTableSpec()));
+        extractSentences(new DataTableRowInput(inData[0]), output, inData[0].size(), exec);
+        return new BufferedDataTable[]{output.getDataTable()};
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public InputPortRole[] getInputPortRoles() {
+        return new InputPortRole[]{InputPortRole.NONDISTRIBUTED_STREAMABLE};
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public OutputPortRole[] getOutputPortRoles() {
+        return new OutputPortRole[]{OutputPortRole.NONDISTRIBUTED};
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public StreamableOperator createStreamableOperator(final PartitionInfo partitionInfo,
+        final PortObjectSpec[] inSpecs) throws InvalidSettingsException {
+        checkDataTableSpec((DataTableSpec)inSpecs[0]);
+        return new StreamableOperator() {
+            @Override
+            public void runFinal(final PortInput[] inputs, final PortOutput[] outputs, final ExecutionContext exec)
+                throws Exception {
+                extractSentences((RowInput)inputs[0], (RowOutput)outputs[0], -1, exec);
+            }
+        };
+    }
+
+    /**
+     * Creates one row per sentence of the documents of the input, the documents are processed in parallel. A row of
+     * missing cells is created for a missing document. Both the input and the output are closed afterwards.
+     */
+    private void extractSentences(final RowInput input, final RowOutput output, final long rowCount,
+        final ExecutionContext exec) throws Exception {
         // create cache
         final TextContainerDataCellFactory docCellFac = TextContainerDataCellFactoryBuilder.createDocumentCellFactory();
         docCellFac.prepare(FileStoreFactory.createWorkflowFileStoreFactory(exec));
         final DataCellCache docCache = new LRUDataCellCache(docCellFac);
-        BufferedDataContainer dc = exec.createDataContainer(createOutDataTableSpec());
+        final int docColIndex = m_docColIndex;
 
         try {
-            long count = 0;
-            RowIterator it = inData[0].iterator();
-            while (it.hasNext()) {
-                DataRow row = it.next();
-                if (!row.getCell(m_docColIndex).isMissing()) {
-                    Document doc = ((DocumentValue)row.getCell(m_docColIndex)).getDocument();
-                    DataCell docCell = docCache.getInstance(doc);
-
-                    Iterator<Sentence> si = doc.sentenceIterator();
-                    while (si.hasNext()) {
-                        exec.checkCanceled();
-
-                        Sentence s = si.next();
-                        String sentenceStr = s.getText();
-                        int termCount = s.getTerms().size();
-                        RowKey rowKey = RowKey.createRowKey(count);
-                        DefaultRow newRow =
-                            new DefaultRow(rowKey, docCell, new StringCell(sentenceStr), new IntCell(termCount));
-                        dc.addRowToTable(newRow);
-                        count++;
-                    }
-                } else {
-                    dc.addRowToTable(new DefaultRow(RowKey.createRowKey(count), DataType.getMissingCell(),
-                        DataType.getMissingCell(), DataType.getMissingCell()));
-                    count++;
+            new ParallelDocumentRowExpander().expand(input, output, rowCount, row -> {
+                if (row.getCell(docColIndex).isMissing()) {
+                    return Collections.singletonList(new DataCell[]{DataType.getMissingCell(),
+                        DataType.getMissingCell(), DataType.getMissingCell()});
                 }
-            }
+                final Document doc = ((DocumentValue)row.getCell(docColIndex)).getDocument();
+                final DataCell docCell;
+                // the cache is not thread safe but the documents are processed in parallel
+                synchronized (docCache) {
+                    docCell = docCache.getInstance(doc);
+                }
+
+                final List<DataCell[]> rows = new ArrayList<DataCell[]>();
+                final Iterator<Sentence> si = doc.sentenceIterator();
+                while (si.hasNext()) {
+                    final Sentence s = si.next();
+                    rows.add(new DataCell[]{docCell, new StringCell(s.getText()), new IntCell(s.getTerms().size())});
+                }
+                return rows;
+            }, exec);
         } finally {
-            dc.close();
+            input.close();
+            output.close();
             docCache.close();
         }
-
-        return new BufferedDataTable[]{dc.getTable()};
     }
 
     /**
@@ -51,25 +51,21 @@
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.knime.core.data.DataCell;
 import org.knime.core.data.DataColumnSpec;
 import org.knime.core.data.DataColumnSpecCreator;
-import org.knime.core.data.DataRow;
 import org.knime.core.data.DataTableSpec;
 import org.knime.core.data.DataType;
-import org.knime.core.data.RowIterator;
-import org.knime.core.data.RowKey;
 import org.knime.core.data.collection.CollectionCellFactory;
 import org.knime.core.data.collection.ListCell;
-import org.knime.core.data.def.DefaultRow;
 import org.knime.core.data.def.StringCell;
-import org.knime.core.node.BufferedDataContainer;
 import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.CanceledExecutionException;
 import org.knime.core.node.ExecutionContext;
@@ -81,12 +77,24 @@
 import org.knime.core.node.defaultnodesettings.SettingsModelBoolean;
 import org.knime.core.node.defaultnodesettings.SettingsModelIntegerBounded;
 import org.knime.core.node.defaultnodesettings.SettingsModelString;
+import org.knime.core.node.port.PortObjectSpec;
+import org.knime.core.node.streamable.BufferedDataTableRowOutput;
+import org.knime.core.node.streamable.DataTableRowInput;
+import org.knime.core.node.streamable.InputPortRole;
+import org.knime.core.node.streamable.OutputPortRole;
+import org.knime.core.node.streamable.PartitionInfo;
+import org.knime.core.node.streamable.PortInput;
+import org.knime.core.node.streamable.PortOutput;
+import org.knime.core.node.streamable.RowInput;
+import org.knime.core.node.streamable.RowOutput;
+import org.knime.core.node.streamable.StreamableOperator;
 import org.knime.ext.textprocessing.data.Document;
 import org.knime.ext.textprocessing.data.DocumentValue;
 import org.knime.ext.textprocessing.data.Sentence;
 import org.knime.ext.textprocessing.data.Term;
 import org.knime.ext.textprocessing.util.ColumnSelectionVerifier;
 import org.knime.ext.textprocessing.util.DataTableSpecVerifier;
+import org.knime.ext.textprocessing.util.ParallelDocumentRowExpander;
 import org.knime.ext.textprocessing.util.TextContainerDataCellFactory;
 import org.knime.ext.textprocessing.util.TextContainerDataCellFactoryBuilder;
 
@@ -208,70 +216,112 @@ private final DataTableSpec createDataTableSpec(final DataTableSpec dataTableSpe
     @Override
     protected BufferedDataTable[] execute(final BufferedDataTable[] inData, final ExecutionContext exec)
         throws Exception {
-        DataTableSpec inputSpec = inData[0].getDataTableSpec();
+        final DataTableSpec inputSpec = inData[0].getDataTableSpec();
         checkDataTableSpec(inputSpec);
-        int docColIndex = inputSpec.findColumnIndex(m_docColumnModel.getStringValue());
 
         // prepare data container
-        final BufferedDataContainer bdc = exec.createDataContainer(createDataTableSpec(inputSpec));
+        final BufferedDataTableRowOutput output =
+            new BufferedDataTableRowOutput(exec.createDataContainer(createDataTableSpec(inputSpec)));
+        extractNeighborhoods(inputSpec, new DataTableRowInput(inData[0]), output, inData[0].size(), exec);
+        return new BufferedDataTable[]{output.getDataTable()};
+    }
 
-        final long rowCount = inData[0].size();
-        long currRow = 1;
-        AtomicLong rowId = new AtomicLong(0);
-        final RowIterator it = inData[0].iterator();
-        while (it.hasNext()) {
-            DataRow row = it.next();
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public InputPortRole[] getInputPortRoles() {
+        return new InputPortRole[]{InputPortRole.NONDISTRIBUTED_STREAMABLE};
+    }
 
-            // get cells from original data table
-            DataCell[] inputCells = new DataCell[inputSpec.getColumnNames().length];
-            for (int i = 0; i < inputCells.length; i++) {
-                inputCells[i] = row.getCell(inputSpec.findColumnIndex(inputSpec.getColumnNames()[i]));
-            }
-            DataCell docCell = inputCells[docColIndex];
-
-            if (!docCell.isMissing()) {
-                Document doc = ((DocumentValue)docCell).getDocument();
-                extractInformation(setOfSentences(doc), inputCells, bdc, rowId);
-            } else {
-                // set warning message
-                setWarningMessage(
-                    "Input table contains missing values in document column. Missing document values will be ignored.");
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public OutputPortRole[] getOutputPortRoles() {
+        return new OutputPortRole[]{OutputPortRole.NONDISTRIBUTED};
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public StreamableOperator createStreamableOperator(final PartitionInfo partitionInfo,
+        final PortObjectSpec[] inSpecs) throws InvalidSettingsException {
+        final DataTableSpec inputSpec = (DataTableSpec)inSpecs[0];
+        checkDataTableSpec(inputSpec);
+        return new StreamableOperator() {
+            @Override
+            public void runFinal(final PortInput[] inputs, final PortOutput[] outputs, final ExecutionContext exec)
+                throws Exception {
+                extractNeighborhoods(inputSpec, (RowInput)inputs[0], (RowOutput)outputs[0], -1, exec);
             }
-            // report status
-            double progress = (double)currRow / (double)rowCount;
-            exec.setProgress(progress, "Processing document " + currRow + " of " + rowCount);
-            exec.checkCanceled();
-            currRow++;
+        };
+    }
+
+    /**
+     * Extracts the term neighborhoods of the documents of the input, the documents are processed in parallel. Both the
+     * input and the output are closed afterwards.
+     */
+    private void extractNeighborhoods(final DataTableSpec inputSpec, final RowInput input, final RowOutput output,
+        final long rowCount, final ExecutionContext exec) throws Exception {
+        final int docColIndex = inputSpec.findColumnIndex(m_docColumnModel.getStringValue());
+        final int noOfColumns = createDataTableSpec(inputSpec).getNumColumns();
+        final AtomicBoolean missingDocs = new AtomicBoolean(false);
+
+        try {
+            new ParallelDocumentRowExpander().expand(input, output, rowCount, row -> {
+                // get cells from original data table
+                final DataCell[] inputCells = new DataCell[row.getNumCells()];
+                for (int i = 0; i < inputCells.length; i++) {
+                    inputCells[i] = row.getCell(i);
+                }
+                final DataCell docCell = inputCells[docColIndex];
+
+                if (docCell.isMissing()) {
+                    missingDocs.set(true);
+                    return Collections.emptyList();
+                }
+                final Document doc = ((DocumentValue)docCell).getDocument();
+                return extractInformation(setOfSentences(doc), inputCells, noOfColumns);
+            }, exec);
+        } finally {
+            input.close();
+            output.close();
         }
 
-        bdc.close();
-        return new BufferedDataTable[]{bdc.getTable()};
+        if (missingDocs.get()) {
+            // set warning message
+            setWarningMessage(
+                "Input table contains missing values in document column. Missing document values will be ignored.");
+        }
     }
 
     /**
-     * Extracts the term neighborhood and adds rows to the data table.
+     * Extracts the term neighborhood and creates the cells of the new rows.
      *
      * @param sentences A set of sentences.
      * @param inputCells Array of cells from the input data table.
-     * @param bdc The BufferedDataContainer.
-     * @param rowId The row id.
+     * @param noOfColumns The number of columns of the output data table.
+     * @return The cells of the new rows, one row per term.
      */
-    private void extractInformation(final Set<Sentence> sentences, final DataCell[] inputCells,
-        final BufferedDataContainer bdc, final AtomicLong rowId) {
-
-        // adding input cells to new data cells array
-        DataCell[] newDataCells = new DataCell[bdc.getTableSpec().getNumColumns()];
-        System.arraycopy(inputCells, 0, newDataCells, 0, inputCells.length);
+    private List<DataCell[]> extractInformation(final Set<Sentence> sentences, final DataCell[] inputCells,
+        final int noOfColumns) {
+        final List<DataCell[]> rows = new ArrayList<DataCell[]>();
 
         for (Sentence s : sentences) {
             List<Term> terms = s.getTerms();
+            final StringCell sentenceCell =
+                m_extractSentenceModel.getBooleanValue() ? new StringCell(s.getText()) : null;
             for (int i = 0; i < terms.size(); i++) {
-                final RowKey key = RowKey.createRowKey(rowId.getAndIncrement());
+                // adding input cells to new data cells array
+                final DataCell[] newDataCells = new DataCell[noOfColumns];
+                System.arraycopy(inputCells, 0, newDataCells, 0, inputCells.length);
                 final DataCell tc = m_termFac.createDataCell(terms.get(i));
 
                 // add term and sentence cell (if selected)
-                if (m_extractSentenceModel.getBooleanValue()) {
-                    newDataCells[inputCells.length] = new StringCell(s.getText());
+                if (sentenceCell != null) {
+                    newDataCells[inputCells.length] = sentenceCell;
                     newDataCells[inputCells.length + 1] = tc;
                 } else {
                     newDataCells[inputCells.length] = tc;
@@ -279,9 +329,10 @@ private void extractInformation(final Set<Sentence> sentences, final DataCell[]
 
                 createNeighborCells(newDataCells, terms, i);
 
-                bdc.addRowToTable(new DefaultRow(key, newDataCells));
+                rows.add(newDataCells);
             }
         }
+        return rows;
     }
 
     /**
@@ -291,7 +342,7 @@ private void extractInformation(final Set<Sentence> sentences, final DataCell[]
      * @param newDataCells The array of data cells that will be added as a row to the data table.
      * @param terms The list of terms occuring in the sentence.
      * @param i The index iterating over the term list (see
-     *            {@link #extractInformation(Set, DataCell[], BufferedDataContainer, AtomicLong)})
+     *            {@link #extractInformation(Set, DataCell[], int)})
      */
     private void createNeighborCells(final DataCell[] newDataCells, final List<Term> terms, final int i) {
         List<DataCell> rightNeighborList =
@@ -48,11 +48,13 @@
  */
 package org.knime.ext.textprocessing.nodes.transformation.uniquetermextractor;
 
+import java.io.IOException;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
-import java.util.Map.Entry;
+import java.util.PriorityQueue;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.atomic.AtomicLong;
@@ -70,6 +72,7 @@
 import org.knime.core.data.def.StringCell;
 import org.knime.core.node.BufferedDataContainer;
 import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
 import org.knime.core.node.ExecutionContext;
 import org.knime.core.util.MultiThreadWorker;
 import org.knime.ext.textprocessing.data.Document;
@@ -116,9 +119,9 @@ final class MultiThreadTermExtractor extends MultiThreadWorker<DataRow, Map<Stri
     private final int m_docColIdx;
 
     /**
-     * A map to keeptrack of all terms and their frequencies.
+     * The counter keeping track of all terms and their frequencies.
      */
-    private Map<String, FrequencyPair> m_frequencyMap = new HashMap<>();
+    private final TermCounter m_termCounter;
 
     /**
      * True, if only the top k terms should be returned.
@@ -175,11 +178,12 @@ final class MultiThreadTermExtractor extends MultiThreadWorker<DataRow, Map<Stri
      * @param appendIdxCol Set true to append a unique indices column.
      * @param appendFreqCols Set true to append frequency columns.
      * @param maxActiveInstanceSize Number of threads.
+     * @param termCounter The counter keeping track of the terms and their frequencies.
      * @param exec The ExecutionContext.
      */
     MultiThreadTermExtractor(final int docColIdx, final boolean filterTerms, final int numberOfTerms,
         final long totalNoOfRows, final String filterBy, final boolean appendIdxCol, final boolean appendFreqCols,
-        final int maxActiveInstanceSize, final ExecutionContext exec) {
+        final int maxActiveInstanceSize, final TermCounter termCounter, final ExecutionContext exec) {
         super(totalNoOfRows >= Integer.MAX_VALUE ? Integer.MAX_VALUE : (int)totalNoOfRows, maxActiveInstanceSize);
         m_docColIdx = docColIdx;
         m_numberOfTerms = numberOfTerms;
@@ -188,6 +192,7 @@ final class MultiThreadTermExtractor extends MultiThreadWorker<DataRow, Map<Stri
         m_filterBy = filterBy;
         m_appendFreqColumns = appendFreqCols;
         m_appendIdxColumn = appendIdxCol;
+        m_termCounter = termCounter;
         m_exec = exec;
     }
 
@@ -221,15 +226,21 @@ protected Map<String, FrequencyPair> compute(final DataRow in, final long index)
     @Override
     protected void processFinished(final MultiThreadWorker<DataRow, Map<String, FrequencyPair>>.ComputationTask task)
         throws ExecutionException, CancellationException, InterruptedException {
-        task.get().forEach((k, v) -> m_frequencyMap.merge(k, v, FrequencyPair::sum));
+        try {
+            m_termCounter.add(task.get());
+        } catch (IOException e) {
+            throw new ExecutionException(e);
+        }
     }
 
     /**
      * Creates and returns a new {@link BufferedDataTable} based on the processed data.
      *
      * @return Returns a new {@link BufferedDataTable} based on the processed data.
+     * @throws IOException If spilled frequencies cannot be read.
+     * @throws CanceledExecutionException If the execution has been canceled.
      */
-    BufferedDataTable createDataTable() {
+    BufferedDataTable createDataTable() throws IOException, CanceledExecutionException {
         final BufferedDataContainer dataContainer =
             m_exec.createDataContainer(createDataTableSpec(m_appendFreqColumns, m_appendIdxColumn));
         final AtomicLong rowCount = new AtomicLong(0);
@@ -237,9 +248,9 @@ BufferedDataTable createDataTable() {
         if (m_enableFiltering) {
             filterTerms(rowCount, dataContainer);
         } else {
-            m_frequencyMap.entrySet().stream()//
-                .forEach(
-                    e -> addRowToDataContainer(e.getKey(), e.getValue(), rowCount.getAndIncrement(), dataContainer));
+            m_termCounter.forEach(
+                (term, freqPair) -> addRowToDataContainer(term, freqPair, rowCount.getAndIncrement(), dataContainer),
+                m_exec);
         }
 
         dataContainer.close();
@@ -274,17 +285,37 @@ private final void addRowToDataContainer(final String term, final FrequencyPair
     }
 
     /**
-     * Filters and sorts the map to keep only the top X most frequent terms.
+     * Keeps only the top X most frequent terms and adds them sorted by frequency. Terms with the same frequency are
+     * added in the order they are passed by the term counter. Only the top X terms are kept in memory.
      *
      * @param rowCount An {@link AtomicLong} taking care of the row count.
      * @param container A {@link BufferedDataContainer} which stores the data.
+     * @throws IOException If spilled frequencies cannot be read.
+     * @throws CanceledExecutionException If the execution has been canceled.
      */
-    private final void filterTerms(final AtomicLong rowCount, final BufferedDataContainer container) {
-        m_frequencyMap.entrySet().stream()//
-            .sorted(Entry.<String, FrequencyPair> comparingByValue(new FrequencyPairComparator(m_filterBy)).reversed())//
-            .limit(m_numberOfTerms)//
-            .forEachOrdered(
-                e -> addRowToDataContainer(e.getKey(), e.getValue(), rowCount.getAndIncrement(), container));
+    private final void filterTerms(final AtomicLong rowCount, final BufferedDataContainer container)
+        throws IOException, CanceledExecutionException {
+        // the head of the queue is the least frequent term, which has been passed last among equally frequent terms
+        final Comparator<RankedTerm> comparator = Comparator
+            .<RankedTerm, FrequencyPair> comparing(t -> t.m_freqPair, new FrequencyPairComparator(m_filterBy))
+            .thenComparing(Comparator.<RankedTerm> comparingLong(t -> t.m_position).reversed());
+        final PriorityQueue<RankedTerm> topTerms = new PriorityQueue<>(comparator);
+        final AtomicLong position = new AtomicLong(0);
+        m_termCounter.forEach((term, freqPair) -> {
+            final RankedTerm rankedTerm = new RankedTerm(term, freqPair, position.getAndIncrement());
+            if (topTerms.size() < m_numberOfTerms) {
+                topTerms.add(rankedTerm);
+            } else if (comparator.compare(rankedTerm, topTerms.peek()) > 0) {
+                topTerms.poll();
+                topTerms.add(rankedTerm);
+            }
+        }, m_exec);
+
+        final RankedTerm[] sortedTerms = topTerms.toArray(new RankedTerm[0]);
+        Arrays.sort(sortedTerms, comparator.reversed());
+        for (final RankedTerm t : sortedTerms) {
+            addRowToDataContainer(t.m_term, t.m_freqPair, rowCount.getAndIncrement(), container);
+        }
     }
 
     /**
@@ -329,6 +360,24 @@ final long getMissingRowCount() {
         return m_missingRowCount.get();
     }
 
+    /**
+     * A term with its frequencies and the position it has been passed by the term counter.
+     */
+    private static final class RankedTerm {
+
+        private final String m_term;
+
+        private final FrequencyPair m_freqPair;
+
+        private final long m_position;
+
+        private RankedTerm(final String term, final FrequencyPair freqPair, final long position) {
+            m_term = term;
+            m_freqPair = freqPair;
+            m_position = position;
+        }
+    }
+
     /**
      * A comparator to compare {@link FrequencyPair FrequencyPairs} based on the selected frequency.
      *
@@ -0,0 +1,250 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.ext.textprocessing.nodes.transformation.uniquetermextractor;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionMonitor;
+
+/**
+ * Counts approximate frequencies of the most frequent terms in fixed memory, using the space-saving algorithm. At most
+ * a fixed number of terms is monitored. If a term that is not monitored occurs while all counters are in use, the
+ * term with the smallest count is replaced and the new term inherits its count. Thus the counts are upper bounds of
+ * the true frequencies, each of them overestimating by at most the total frequency divided by the number of counters,
+ * and every term occurring more often than that is guaranteed to be monitored.
+ *
+ * <p>
+ * The terms are ranked either by term or by document frequency. The other frequency is counted only while a term is
+ * monitored and is therefore a lower bound.
+ * </p>
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class SpaceSavingTermCounter extends TermCounter {
+
+    /** The largest capacity of the counter, i.e. the largest supported array size. */
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    private final long m_totalNoOfRows;
+
+    private final int m_capacity;
+
+    private final boolean m_countDocumentFreqs;
+
+    private final Map<String, Counter> m_counters = new HashMap<>();
+
+    /** Min-heap of the counters, ordered by count. */
+    private Counter[] m_heap;
+
+    private int m_size = 0;
+
+    /**
+     * Creates a new counter.
+     *
+     * @param totalNoOfRows the total number of documents.
+     * @param capacity the maximum number of monitored terms.
+     * @param countDocumentFreqs {@code true} to rank the terms by document frequency, {@code false} to rank them by
+     *            term frequency.
+     */
+    SpaceSavingTermCounter(final long totalNoOfRows, final int capacity, final boolean countDocumentFreqs) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive!");
+        }
+        m_totalNoOfRows = totalNoOfRows;
+        m_capacity = capacity;
+        m_countDocumentFreqs = countDocumentFreqs;
+        m_heap = new Counter[Math.min(capacity, 1 << 16)];
+    }
+
+    /**
+     * Returns the number of counters needed to keep the given number of terms with the given error.
+     *
+     * @param numberOfTerms the number of most frequent terms to keep.
+     * @param approximationError the maximum error of the frequencies as fraction of the total frequency of all terms.
+     * @return the number of counters.
+     */
+    static int getCapacity(final int numberOfTerms, final double approximationError) {
+        final double capacity = Math.ceil(1 / approximationError);
+        return Math.max(numberOfTerms, capacity >= MAX_CAPACITY ? MAX_CAPACITY : (int)capacity);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    void add(final Map<String, FrequencyPair> counts) {
+        counts.forEach((k, v) -> {
+            if (m_countDocumentFreqs) {
+                add(k, v.getDF(), v.getTF());
+            } else {
+                add(k, v.getTF(), v.getDF());
+            }
+        });
+    }
+
+    private void add(final String term, final long count, final long otherCount) {
+        Counter counter = m_counters.get(term);
+        if (counter != null) {
+            counter.m_count += count;
+            counter.m_otherCount += otherCount;
+            siftDown(counter.m_index);
+        } else if (m_size < m_capacity) {
+            counter = new Counter(term, count, otherCount);
+            m_counters.put(term, counter);
+            if (m_size == m_heap.length) {
+                grow();
+            }
+            counter.m_index = m_size;
+            m_heap[m_size++] = counter;
+            siftUp(counter.m_index);
+        } else {
+            // replace the term with the smallest count
+            counter = m_heap[0];
+            m_counters.remove(counter.m_term);
+            counter.m_term = term;
+            counter.m_count += count;
+            counter.m_otherCount = otherCount;
+            m_counters.put(term, counter);
+            siftDown(0);
+        }
+    }
+
+    private void grow() {
+        final int newLength = (int)Math.min((long)m_heap.length * 2, m_capacity);
+        m_heap = Arrays.copyOf(m_heap, newLength);
+    }
+
+    private void siftUp(final int index) {
+        final Counter counter = m_heap[index];
+        int i = index;
+        while (i > 0) {
+            final int parent = (i - 1) >>> 1;
+            if (m_heap[parent].m_count <= counter.m_count) {
+                break;
+            }
+            setAt(i, m_heap[parent]);
+            i = parent;
+        }
+        setAt(i, counter);
+    }
+
+    private void siftDown(final int index) {
+        final Counter counter = m_heap[index];
+        int i = index;
+        final int half = m_size >>> 1;
+        while (i < half) {
+            int child = 2 * i + 1;
+            if (child + 1 < m_size && m_heap[child + 1].m_count < m_heap[child].m_count) {
+                child++;
+            }
+            if (counter.m_count <= m_heap[child].m_count) {
+                break;
+            }
+            setAt(i, m_heap[child]);
+            i = child;
+        }
+        setAt(i, counter);
+    }
+
+    private void setAt(final int index, final Counter counter) {
+        m_heap[index] = counter;
+        counter.m_index = index;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    void forEach(final TermConsumer consumer, final ExecutionMonitor exec) throws CanceledExecutionException {
+        for (int i = 0; i < m_size; i++) {
+            final Counter counter = m_heap[i];
+            if (m_countDocumentFreqs) {
+                consumer.accept(counter.m_term,
+                    new FrequencyPair(m_totalNoOfRows, counter.m_otherCount, counter.m_count));
+            } else {
+                consumer.accept(counter.m_term,
+                    new FrequencyPair(m_totalNoOfRows, counter.m_count, counter.m_otherCount));
+            }
+            if ((i & 0xFFFF) == 0) {
+                exec.checkCanceled();
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() {
+        m_counters.clear();
+        Arrays.fill(m_heap, 0, m_size, null);
+        m_size = 0;
+    }
+
+    /** The counts of a monitored term and its position in the heap. */
+    private static final class Counter {
+
+        private String m_term;
+
+        private long m_count;
+
+        private long m_otherCount;
+
+        private int m_index;
+
+        private Counter(final String term, final long count, final long otherCount) {
+            m_term = term;
+            m_count = count;
+            m_otherCount = otherCount;
+        }
+    }
+}
@@ -0,0 +1,388 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.ext.textprocessing.nodes.transformation.uniquetermextractor;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.PriorityQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.knime.core.data.util.memory.MemoryAlert;
+import org.knime.core.data.util.memory.MemoryAlertListener;
+import org.knime.core.data.util.memory.MemoryAlertSystem;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.NodeLogger;
+import org.knime.core.util.FileUtil;
+
+/**
+ * Counts the exact term frequencies in a map, which is written to disk as a run sorted by term if it holds too many
+ * terms or if memory gets low. The runs and the remaining map are merged in the end, so the terms are passed to the
+ * consumer in lexicographical order.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class SpillingTermCounter extends TermCounter {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(SpillingTermCounter.class);
+
+    /** The maximum number of runs merged at once. */
+    private static final int MAX_MERGE_FAN_IN = 64;
+
+    private final long m_totalNoOfRows;
+
+    private final int m_maxTermsInMemory;
+
+    private Map<String, FrequencyPair> m_frequencyMap = new HashMap<>();
+
+    private final List<File> m_runs = new ArrayList<File>();
+
+    private File m_spillDir;
+
+    private final AtomicInteger m_memoryAlerts = new AtomicInteger();
+
+    private int m_handledMemoryAlerts = 0;
+
+    private final MemoryAlertListener m_memoryAlertListener = new MemoryAlertListener() {
+        @Override
+        protected boolean memoryAlert(final MemoryAlert alert) {
+            LOGGER.debug("Low memory encountered, spilling term frequencies to disk.");
+            m_memoryAlerts.incrementAndGet();
+            return false;
+        }
+    };
+
+    /**
+     * Creates a new counter.
+     *
+     * @param totalNoOfRows the total number of documents.
+     * @param maxTermsInMemory the maximum number of terms held in memory before they are spilled to disk.
+     */
+    SpillingTermCounter(final long totalNoOfRows, final int maxTermsInMemory) {
+        if (maxTermsInMemory <= 0) {
+            throw new IllegalArgumentException("Maximum number of terms in memory must be positive!");
+        }
+        m_totalNoOfRows = totalNoOfRows;
+        m_maxTermsInMemory = maxTermsInMemory;
+        MemoryAlertSystem.getInstance().addListener(m_memoryAlertListener);
+    }
+
+    /**
+     * @return the number of runs spilled to disk so far.
+     */
+    int getNumberOfRuns() {
+        return m_runs.size();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    void add(final Map<String, FrequencyPair> counts) throws IOException {
+        counts.forEach((k, v) -> m_frequencyMap.merge(k, v, FrequencyPair::sum));
+        final int memoryAlerts = m_memoryAlerts.get();
+        if (m_frequencyMap.size() >= m_maxTermsInMemory || memoryAlerts != m_handledMemoryAlerts) {
+            m_handledMemoryAlerts = memoryAlerts;
+            spill();
+        }
+    }
+
+    /**
+     * Writes the frequencies of the map as a sorted run to disk and clears the map.
+     */
+    private void spill() throws IOException {
+        if (m_frequencyMap.isEmpty()) {
+            return;
+        }
+        final File run = createRunFile();
+        LOGGER.debug("Spilling " + m_frequencyMap.size() + " terms to " + run.getName() + ".");
+        try (final RunWriter writer = new RunWriter(run)) {
+            final Iterator<Entry<String, FrequencyPair>> it = new MapCursor(m_frequencyMap).m_entries;
+            while (it.hasNext()) {
+                final Entry<String, FrequencyPair> e = it.next();
+                writer.write(e.getKey(), e.getValue().getTF(), e.getValue().getDF());
+            }
+        }
+        m_runs.add(run);
+        // a new map releases the table of the old one
+        m_frequencyMap = new HashMap<>();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    void forEach(final TermConsumer consumer, final ExecutionMonitor exec)
+        throws IOException, CanceledExecutionException {
+        final List<File> runs = new ArrayList<File>(m_runs);
+
+        // merge runs until all remaining runs and the map can be merged at once
+        while (runs.size() >= MAX_MERGE_FAN_IN) {
+            exec.checkCanceled();
+            final List<File> group = new ArrayList<File>(runs.subList(0, MAX_MERGE_FAN_IN));
+            runs.subList(0, MAX_MERGE_FAN_IN).clear();
+            final File merged = createRunFile();
+            final List<RunCursor> cursors = new ArrayList<RunCursor>();
+            try (final RunWriter writer = new RunWriter(merged)) {
+                for (final File run : group) {
+                    cursors.add(new FileCursor(run));
+                }
+                mergeCursors(cursors, writer::write, exec);
+            } finally {
+                closeAll(cursors);
+            }
+            for (final File run : group) {
+                if (!run.delete()) {
+                    LOGGER.debug("Term run " + run.getName() + " could not be deleted.");
+                }
+            }
+            runs.add(merged);
+        }
+
+        final List<RunCursor> cursors = new ArrayList<RunCursor>();
+        try {
+            cursors.add(new MapCursor(m_frequencyMap));
+            for (final File run : runs) {
+                cursors.add(new FileCursor(run));
+            }
+            mergeCursors(cursors,
+                (term, tf, df) -> consumer.accept(term, new FrequencyPair(m_totalNoOfRows, tf, df)), exec);
+        } finally {
+            closeAll(cursors);
+        }
+    }
+
+    private static void mergeCursors(final List<RunCursor> cursors, final EntryConsumer consumer,
+        final ExecutionMonitor exec) throws IOException, CanceledExecutionException {
+        final PriorityQueue<RunCursor> queue = new PriorityQueue<RunCursor>(Math.max(1, cursors.size()),
+            (c1, c2) -> c1.m_term.compareTo(c2.m_term));
+        for (final RunCursor cursor : cursors) {
+            if (cursor.next()) {
+                queue.add(cursor);
+            }
+        }
+
+        long count = 0;
+        while (!queue.isEmpty()) {
+            final RunCursor cursor = queue.poll();
+            final String term = cursor.m_term;
+            long tf = cursor.m_tf;
+            long df = cursor.m_df;
+            if (cursor.next()) {
+                queue.add(cursor);
+            }
+
+            // sum up the frequencies of the same term in other runs
+            while (!queue.isEmpty() && queue.peek().m_term.equals(term)) {
+                final RunCursor other = queue.poll();
+                tf += other.m_tf;
+                df += other.m_df;
+                if (other.next()) {
+                    queue.add(other);
+                }
+            }
+
+            consumer.accept(term, tf, df);
+            if ((++count & 0xFFFF) == 0) {
+                exec.checkCanceled();
+            }
+        }
+    }
+
+    private File createRunFile() throws IOException {
+        if (m_spillDir == null) {
+            m_spillDir = FileUtil.createTempDir("terms");
+        }
+        return File.createTempFile("run", ".bin", m_spillDir);
+    }
+
+    private static void closeAll(final List<RunCursor> cursors) {
+        for (final RunCursor cursor : cursors) {
+            try {
+                cursor.close();
+            } catch (IOException e) {
+                LOGGER.debug("Term run could not be closed: " + e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * Deletes all spilled runs and releases the map.
+     */
+    @Override
+    public void close() {
+        MemoryAlertSystem.getInstance().removeListener(m_memoryAlertListener);
+        m_runs.clear();
+        if (m_spillDir != null) {
+            FileUtil.deleteRecursively(m_spillDir);
+            m_spillDir = null;
+        }
+        m_frequencyMap = new HashMap<>();
+    }
+
+    @FunctionalInterface
+    private interface EntryConsumer {
+        void accept(String term, long tf, long df) throws IOException;
+    }
+
+    private static final class RunWriter implements Closeable {
+
+        private final DataOutputStream m_out;
+
+        RunWriter(final File file) throws IOException {
+            m_out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file), 1 << 16));
+        }
+
+        void write(final String term, final long tf, final long df) throws IOException {
+            // not writeUTF, which is limited to 64KB
+            final byte[] bytes = term.getBytes(StandardCharsets.UTF_8);
+            m_out.writeInt(bytes.length);
+            m_out.write(bytes);
+            m_out.writeLong(tf);
+            m_out.writeLong(df);
+        }
+
+        @Override
+        public void close() throws IOException {
+            m_out.close();
+        }
+    }
+
+    /**
+     * A cursor over the entries of a run, sorted by term.
+     */
+    private abstract static class RunCursor implements Closeable {
+
+        String m_term;
+
+        long m_tf;
+
+        long m_df;
+
+        /**
+         * Moves the cursor to the next entry.
+         *
+         * @return {@code true} if there is a next entry, {@code false} if the run is exhausted.
+         */
+        abstract boolean next() throws IOException;
+
+        @Override
+        public void close() throws IOException {
+            // nothing to close by default
+        }
+    }
+
+    private static final class MapCursor extends RunCursor {
+
+        private final Iterator<Entry<String, FrequencyPair>> m_entries;
+
+        MapCursor(final Map<String, FrequencyPair> map) {
+            final List<Entry<String, FrequencyPair>> entries = new ArrayList<>(map.entrySet());
+            entries.sort(Entry.comparingByKey());
+            m_entries = entries.iterator();
+        }
+
+        @Override
+        boolean next() {
+            if (!m_entries.hasNext()) {
+                return false;
+            }
+            final Entry<String, FrequencyPair> e = m_entries.next();
+            m_term = e.getKey();
+            m_tf = e.getValue().getTF();
+            m_df = e.getValue().getDF();
+            return true;
+        }
+    }
+
+    private static final class FileCursor extends RunCursor {
+
+        private final DataInputStream m_in;
+
+        FileCursor(final File file) throws IOException {
+            m_in = new DataInputStream(new BufferedInputStream(new FileInputStream(file), 1 << 16));
+        }
+
+        @Override
+        boolean next() throws IOException {
+            final int length;
+            try {
+                length = m_in.readInt();
+            } catch (EOFException e) {
+                return false;
+            }
+            final byte[] bytes = new byte[length];
+            m_in.readFully(bytes);
+            m_term = new String(bytes, StandardCharsets.UTF_8);
+            m_tf = m_in.readLong();
+            m_df = m_in.readLong();
+            return true;
+        }
+
+        @Override
+        public void close() throws IOException {
+            m_in.close();
+        }
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.ext.textprocessing.nodes.transformation.uniquetermextractor;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionMonitor;
+
+/**
+ * Counts the term and document frequencies of the terms of all documents. The frequencies of the single documents are
+ * added one after the other, the counter does not need to be thread safe.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+abstract class TermCounter implements Closeable {
+
+    /**
+     * The name of the counting mode keeping the exact frequencies of all terms in memory.
+     */
+    static final String IN_MEMORY = "In memory";
+
+    /**
+     * The name of the counting mode spilling the exact frequencies to disk if there are too many terms.
+     */
+    static final String SPILL_TO_DISK = "Spill to disk";
+
+    /**
+     * The name of the counting mode keeping approximate frequencies of the most frequent terms in fixed memory.
+     */
+    static final String APPROXIMATE = "Approximate";
+
+    /**
+     * Consumer of the counted terms and their frequencies.
+     */
+    @FunctionalInterface
+    interface TermConsumer {
+
+        /**
+         * @param term the term.
+         * @param freqPair the frequencies of the term.
+         */
+        void accept(String term, FrequencyPair freqPair);
+    }
+
+    /**
+     * Adds the term frequencies of a document.
+     *
+     * @param counts the terms of the document and their frequencies.
+     * @throws IOException if the frequencies cannot be spilled to disk.
+     */
+    abstract void add(Map<String, FrequencyPair> counts) throws IOException;
+
+    /**
+     * Passes each counted term with its frequencies to the given consumer.
+     *
+     * @param consumer the consumer of the terms.
+     * @param exec the execution monitor to check for cancellation.
+     * @throws IOException if spilled frequencies cannot be read.
+     * @throws CanceledExecutionException if the execution has been canceled.
+     */
+    abstract void forEach(TermConsumer consumer, ExecutionMonitor exec)
+        throws IOException, CanceledExecutionException;
+
+    /**
+     * Releases the counted terms.
+     */
+    @Override
+    public void close() {
+        // nothing to release by default
+    }
+
+    /**
+     * Creates a new counter for the given counting mode.
+     *
+     * @param countingMode the counting mode, one of {@link #IN_MEMORY}, {@link #SPILL_TO_DISK} and
+     *            {@link #APPROXIMATE}.
+     * @param totalNoOfRows the total number of documents.
+     * @param maxTermsInMemory the maximum number of terms kept in memory before they are spilled to disk.
+     * @param numberOfTerms the number of most frequent terms to keep for approximate counting.
+     * @param countDocumentFreqs {@code true} to rank the terms by document frequency for approximate counting,
+     *            {@code false} to rank them by term frequency.
+     * @param approximationError the maximum error of the approximate frequencies as fraction of the total frequency of
+     *            all terms.
+     * @return a new counter.
+     */
+    static TermCounter create(final String countingMode, final long totalNoOfRows, final int maxTermsInMemory,
+        final int numberOfTerms, final boolean countDocumentFreqs, final double approximationError) {
+        if (SPILL_TO_DISK.equals(countingMode)) {
+            return new SpillingTermCounter(totalNoOfRows, maxTermsInMemory);
+        } else if (APPROXIMATE.equals(countingMode)) {
+            return new SpaceSavingTermCounter(totalNoOfRows,
+                SpaceSavingTermCounter.getCapacity(numberOfTerms, approximationError), countDocumentFreqs);
+        }
+        return new InMemoryTermCounter();
+    }
+
+    /**
+     * Keeps the exact frequencies of all terms in a map.
+     */
+    private static final class InMemoryTermCounter extends TermCounter {
+
+        /**
+         * A map to keep track of all terms and their frequencies.
+         */
+        private final Map<String, FrequencyPair> m_frequencyMap = new HashMap<>();
+
+        @Override
+        void add(final Map<String, FrequencyPair> counts) {
+            counts.forEach((k, v) -> m_frequencyMap.merge(k, v, FrequencyPair::sum));
+        }
+
+        @Override
+        void forEach(final TermConsumer consumer, final ExecutionMonitor exec) throws CanceledExecutionException {
+            long count = 0;
+            for (final Entry<String, FrequencyPair> e : m_frequencyMap.entrySet()) {
+                consumer.accept(e.getKey(), e.getValue());
+                if ((++count & 0xFFFF) == 0) {
+                    exec.checkCanceled();
+                }
+            }
+        }
+
+        @Override
+        public void close() {
+            m_frequencyMap.clear();
+        }
+    }
+}
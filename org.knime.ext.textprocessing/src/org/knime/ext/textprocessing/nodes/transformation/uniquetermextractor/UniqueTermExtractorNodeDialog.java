@@ -65,6 +65,7 @@
 import org.knime.core.node.defaultnodesettings.DialogComponentColumnNameSelection;
 import org.knime.core.node.defaultnodesettings.DialogComponentNumber;
 import org.knime.core.node.defaultnodesettings.SettingsModelBoolean;
+import org.knime.core.node.defaultnodesettings.SettingsModelString;
 import org.knime.core.node.port.PortObjectSpec;
 import org.knime.ext.textprocessing.data.DocumentValue;
 
@@ -93,6 +94,15 @@ final class UniqueTermExtractorNodeDialog extends NodeDialogPane {
     /** Dialog indicating whether the node should append a unique indices column. */
     private final DialogComponentBoolean m_includeIdxColumnDialog;
 
+    /** Dialog storing the counting modes. */
+    private final DialogComponentButtonGroup m_countingModeDialog;
+
+    /** Dialog holding the maximum number of terms kept in memory. */
+    private final DialogComponentNumber m_maxTermsInMemoryDialog;
+
+    /** Dialog holding the maximum error of approximate frequencies. */
+    private final DialogComponentNumber m_approximationErrorDialog;
+
     /** Dialog holding the number of threads. */
     private final DialogComponentNumber m_noOfThreadsDialog;
 
@@ -152,13 +162,33 @@ final class UniqueTermExtractorNodeDialog extends NodeDialogPane {
         panel.add(m_includeFreqColumnsDialog.getComponentPanel(), gbc);
         ++gbc.gridy;
 
+        // counting mode
+        m_countingModeDialog = new DialogComponentButtonGroup(UniqueTermExtractorNodeModel.getCountingModeModel(),
+            false, "Counting", TermCounter.IN_MEMORY, TermCounter.SPILL_TO_DISK, TermCounter.APPROXIMATE);
+        m_countingModeDialog.setToolTipText("Keep the frequencies of all terms in memory, spill them to disk if "
+            + "there are too many terms or approximate the frequencies of the top k terms in fixed memory.");
+        m_countingModeDialog.getModel().addChangeListener(e -> updateModel());
+        panel.add(m_countingModeDialog.getComponentPanel(), gbc);
+        ++gbc.gridy;
+        m_maxTermsInMemoryDialog = new DialogComponentNumber(
+            UniqueTermExtractorNodeModel.getMaxTermsInMemoryModel(), "Maximum number of terms in memory", 100000, 10);
+        panel.add(m_maxTermsInMemoryDialog.getComponentPanel(), gbc);
+        ++gbc.gridy;
+        m_approximationErrorDialog = new DialogComponentNumber(
+            UniqueTermExtractorNodeModel.getApproximationErrorModel(), "Approximation error", 0.0001, 10);
+        m_approximationErrorDialog.setToolTipText(
+            "The maximum overestimation of a frequency as fraction of the total frequency of all terms.");
+        panel.add(m_approximationErrorDialog.getComponentPanel(), gbc);
+        ++gbc.gridy;
+
         // Number of threads component to select output columns
         m_noOfThreadsDialog = new DialogComponentNumber(UniqueTermExtractorNodeModel.getNumberOfThreadsModel(),
             "Number of threads", 1, 5);
         panel.add(m_noOfThreadsDialog.getComponentPanel(), gbc);
 
         m_diagComps = new DialogComponent[]{m_colNameSelectionDialog, m_enableFilteringDialog, m_topKTermsDialog,
-            m_filterByDialog, m_includeFreqColumnsDialog, m_includeIdxColumnDialog, m_noOfThreadsDialog};
+            m_filterByDialog, m_includeFreqColumnsDialog, m_includeIdxColumnDialog, m_countingModeDialog,
+            m_maxTermsInMemoryDialog, m_approximationErrorDialog, m_noOfThreadsDialog};
 
         addTab("Options", panel);
         updateModel();
@@ -166,13 +196,16 @@ final class UniqueTermExtractorNodeDialog extends NodeDialogPane {
 
     /**
      * Enables/disables the filtering model option in case that the value of the 'keep top k most frequent terms' option
-     * changes.
+     * changes. Enables/disables the counting options depending on the selected counting mode.
      */
     private void updateModel() {
         m_filterByDialog.getModel()
             .setEnabled(((SettingsModelBoolean)m_enableFilteringDialog.getModel()).getBooleanValue());
         m_topKTermsDialog.getModel()
             .setEnabled(((SettingsModelBoolean)m_enableFilteringDialog.getModel()).getBooleanValue());
+        final String countingMode = ((SettingsModelString)m_countingModeDialog.getModel()).getStringValue();
+        m_maxTermsInMemoryDialog.getModel().setEnabled(TermCounter.SPILL_TO_DISK.equals(countingMode));
+        m_approximationErrorDialog.getModel().setEnabled(TermCounter.APPROXIMATE.equals(countingMode));
     }
 
     /**
@@ -61,6 +61,7 @@
 import org.knime.core.node.NodeSettingsRO;
 import org.knime.core.node.NodeSettingsWO;
 import org.knime.core.node.defaultnodesettings.SettingsModelBoolean;
+import org.knime.core.node.defaultnodesettings.SettingsModelDoubleBounded;
 import org.knime.core.node.defaultnodesettings.SettingsModelIntegerBounded;
 import org.knime.core.node.defaultnodesettings.SettingsModelString;
 import org.knime.ext.textprocessing.data.DocumentValue;
@@ -109,6 +110,21 @@ final class UniqueTermExtractorNodeModel extends NodeModel {
      */
     private static final String CFG_KEY_ENABLE_FILTERING = "enable_filtering";
 
+    /**
+     * Configuration key for the counting mode.
+     */
+    private static final String CFG_KEY_COUNTING_MODE = "counting_mode";
+
+    /**
+     * Configuration key for the maximum number of terms kept in memory before they are spilled to disk.
+     */
+    private static final String CFG_KEY_MAX_TERMS_IN_MEMORY = "max_terms_in_memory";
+
+    /**
+     * Configuration key for the maximum error of approximate frequencies.
+     */
+    private static final String CFG_KEY_APPROXIMATION_ERROR = "approximation_error";
+
     /**
      * Default value for the top k most frequent terms.
      */
@@ -129,6 +145,21 @@ final class UniqueTermExtractorNodeModel extends NodeModel {
      */
     private static final boolean DEF_APPEND_FREQ_COLUMNS = false;
 
+    /**
+     * Default value for the counting mode, which is also used for node settings not containing a counting mode.
+     */
+    private static final String DEF_COUNTING_MODE = TermCounter.IN_MEMORY;
+
+    /**
+     * Default value for the maximum number of terms kept in memory before they are spilled to disk.
+     */
+    private static final int DEF_MAX_TERMS_IN_MEMORY = 1000000;
+
+    /**
+     * Default value for the maximum error of approximate frequencies.
+     */
+    private static final double DEF_APPROXIMATION_ERROR = 0.0001;
+
     /**
      * Creates and returns a {@link SettingsModelString} containing the name of the column with the documents to create
      * the set of terms from.
@@ -199,6 +230,36 @@ static final SettingsModelBoolean getAppendIdxColModel() {
         return new SettingsModelBoolean(CFG_KEY_APPEND_IDX_COL, DEF_APPEND_IDX_COLUMN);
     }
 
+    /**
+     * Creates and returns a {@link SettingsModelString} containing the counting mode.
+     *
+     * @return {@code SettingsModelString} containing the counting mode.
+     */
+    static final SettingsModelString getCountingModeModel() {
+        return new SettingsModelString(CFG_KEY_COUNTING_MODE, DEF_COUNTING_MODE);
+    }
+
+    /**
+     * Creates and returns a {@link SettingsModelIntegerBounded} containing the maximum number of terms kept in memory
+     * before they are spilled to disk.
+     *
+     * @return {@code SettingsModelIntegerBounded} containing the maximum number of terms kept in memory.
+     */
+    static final SettingsModelIntegerBounded getMaxTermsInMemoryModel() {
+        return new SettingsModelIntegerBounded(CFG_KEY_MAX_TERMS_IN_MEMORY, DEF_MAX_TERMS_IN_MEMORY, 1000,
+            Integer.MAX_VALUE);
+    }
+
+    /**
+     * Creates and returns a {@link SettingsModelDoubleBounded} containing the maximum error of approximate
+     * frequencies, as fraction of the total frequency of all terms.
+     *
+     * @return {@code SettingsModelDoubleBounded} containing the maximum error of approximate frequencies.
+     */
+    static final SettingsModelDoubleBounded getApproximationErrorModel() {
+        return new SettingsModelDoubleBounded(CFG_KEY_APPROXIMATION_ERROR, DEF_APPROXIMATION_ERROR, 0.0000001, 1);
+    }
+
     /**
      * The {@link SettingsModelString} containing the name of the document column.
      */
@@ -235,6 +296,21 @@ static final SettingsModelBoolean getAppendIdxColModel() {
      */
     private final SettingsModelBoolean m_appendIdxColModel = getAppendIdxColModel();
 
+    /**
+     * The {@link SettingsModelString} containing the counting mode.
+     */
+    private final SettingsModelString m_countingModeModel = getCountingModeModel();
+
+    /**
+     * The {@link SettingsModelIntegerBounded} containing the maximum number of terms kept in memory.
+     */
+    private final SettingsModelIntegerBounded m_maxTermsInMemoryModel = getMaxTermsInMemoryModel();
+
+    /**
+     * The {@link SettingsModelDoubleBounded} containing the maximum error of approximate frequencies.
+     */
+    private final SettingsModelDoubleBounded m_approximationErrorModel = getApproximationErrorModel();
+
     /**
      * Creates a new instance of {@code UniqueTermExtractorNodeModel}.
      */
@@ -248,6 +324,7 @@ protected UniqueTermExtractorNodeModel() {
     @Override
     protected DataTableSpec[] configure(final DataTableSpec[] inSpecs) throws InvalidSettingsException {
         checkDataTableSpec(inSpecs[0]);
+        checkCountingMode();
         return new DataTableSpec[]{MultiThreadTermExtractor
             .createDataTableSpec(m_appendFreqColsModel.getBooleanValue(), m_appendIdxColModel.getBooleanValue())};
     }
@@ -268,6 +345,25 @@ private void checkDataTableSpec(final DataTableSpec spec) throws InvalidSettings
             .ifPresent(msg -> setWarningMessage(msg));
     }
 
+    /**
+     * Checks if the approximate counting mode is used together with the top k terms option and a supported frequency.
+     *
+     * @throws InvalidSettingsException Throws an {@code InvalidSettingsException} if the top k terms cannot be
+     *             approximated.
+     */
+    private void checkCountingMode() throws InvalidSettingsException {
+        if (TermCounter.APPROXIMATE.equals(m_countingModeModel.getStringValue())) {
+            if (!m_enableFilteringModel.getBooleanValue()) {
+                throw new InvalidSettingsException(
+                    "Approximate counting requires the 'Most frequent terms (k)' option to be checked.");
+            }
+            if (MultiThreadTermExtractor.IDF.equals(m_filterByModel.getStringValue())) {
+                throw new InvalidSettingsException("Approximate counting requires filtering terms by "
+                    + MultiThreadTermExtractor.TF + " or " + MultiThreadTermExtractor.DF + ".");
+            }
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -278,30 +374,36 @@ protected BufferedDataTable[] execute(final BufferedDataTable[] inData, final Ex
         final BufferedDataTable dataTable = inData[0];
         final DataTableSpec inputSpec = dataTable.getDataTableSpec();
         checkDataTableSpec(inputSpec);
+        checkCountingMode();
         final int documentColIndex = inputSpec.findColumnIndex(m_docColModel.getStringValue());
         final long numberOfRows = dataTable.size();
 
         // Create extractor
         final int numberOfThreads = numberOfRows > m_numberOfThreadsModel.getIntValue()
             ? m_numberOfThreadsModel.getIntValue() : (int)numberOfRows;
-        final MultiThreadTermExtractor extractor =
-            new MultiThreadTermExtractor(documentColIndex, m_enableFilteringModel.getBooleanValue(),
-                m_topKTermsModel.getIntValue(), numberOfRows, m_filterByModel.getStringValue(),
-                m_appendIdxColModel.getBooleanValue(), m_appendFreqColsModel.getBooleanValue(), numberOfThreads, exec);
-
-        // Only run if table is not empty
-        if (numberOfRows > 0) {
-            extractor.run(dataTable);
-        }
-
-        // Set node messages if needed
-        exec.setMessage("Creating output table.");
-        if (extractor.getMissingRowCount() > 0) {
-            this.setWarningMessage("Skipped " + extractor.getMissingRowCount() + " of " + numberOfRows
-                + " documents due to missing values.");
+        try (final TermCounter termCounter = TermCounter.create(m_countingModeModel.getStringValue(), numberOfRows,
+            m_maxTermsInMemoryModel.getIntValue(), m_topKTermsModel.getIntValue(),
+            MultiThreadTermExtractor.DF.equals(m_filterByModel.getStringValue()),
+            m_approximationErrorModel.getDoubleValue())) {
+            final MultiThreadTermExtractor extractor = new MultiThreadTermExtractor(documentColIndex,
+                m_enableFilteringModel.getBooleanValue(), m_topKTermsModel.getIntValue(), numberOfRows,
+                m_filterByModel.getStringValue(), m_appendIdxColModel.getBooleanValue(),
+                m_appendFreqColsModel.getBooleanValue(), numberOfThreads, termCounter, exec);
+
+            // Only run if table is not empty
+            if (numberOfRows > 0) {
+                extractor.run(dataTable);
+            }
+
+            // Set node messages if needed
+            exec.setMessage("Creating output table.");
+            if (extractor.getMissingRowCount() > 0) {
+                this.setWarningMessage("Skipped " + extractor.getMissingRowCount() + " of " + numberOfRows
+                    + " documents due to missing values.");
+            }
+
+            return new BufferedDataTable[]{extractor.createDataTable()};
         }
-
-        return new BufferedDataTable[]{extractor.createDataTable()};
     }
 
     /**
@@ -335,6 +437,9 @@ protected void saveSettingsTo(final NodeSettingsWO settings) {
         m_appendFreqColsModel.saveSettingsTo(settings);
         m_appendIdxColModel.saveSettingsTo(settings);
         m_enableFilteringModel.saveSettingsTo(settings);
+        m_countingModeModel.saveSettingsTo(settings);
+        m_maxTermsInMemoryModel.saveSettingsTo(settings);
+        m_approximationErrorModel.saveSettingsTo(settings);
     }
 
     /**
@@ -349,6 +454,12 @@ protected void validateSettings(final NodeSettingsRO settings) throws InvalidSet
         m_appendFreqColsModel.validateSettings(settings);
         m_appendIdxColModel.validateSettings(settings);
         m_enableFilteringModel.validateSettings(settings);
+        // the counting options have been added later, node settings of older nodes don't contain them
+        if (settings.containsKey(CFG_KEY_COUNTING_MODE)) {
+            m_countingModeModel.validateSettings(settings);
+            m_maxTermsInMemoryModel.validateSettings(settings);
+            m_approximationErrorModel.validateSettings(settings);
+        }
     }
 
     /**
@@ -363,6 +474,15 @@ protected void loadValidatedSettingsFrom(final NodeSettingsRO settings) throws I
         m_appendFreqColsModel.loadSettingsFrom(settings);
         m_appendIdxColModel.loadSettingsFrom(settings);
         m_filterByModel.loadSettingsFrom(settings);
+        if (settings.containsKey(CFG_KEY_COUNTING_MODE)) {
+            m_countingModeModel.loadSettingsFrom(settings);
+            m_maxTermsInMemoryModel.loadSettingsFrom(settings);
+            m_approximationErrorModel.loadSettingsFrom(settings);
+        } else {
+            m_countingModeModel.setStringValue(DEF_COUNTING_MODE);
+            m_maxTermsInMemoryModel.setIntValue(DEF_MAX_TERMS_IN_MEMORY);
+            m_approximationErrorModel.setDoubleValue(DEF_APPROXIMATION_ERROR);
+        }
     }
 
     /**
@@ -69,6 +69,35 @@ public class StoragePreferenceInitializer extends AbstractPreferenceInitializer
      */
     public static final String PREF_FILESTORE_CHUNKSIZE = "knime.textprocessing.filestore.chunksize";
 
+    /**
+     * The default directory of the result cache, empty since the result cache is disabled by default.
+     *
+     * @since 5.12
+     */
+    public static final String DEFAULT_RESULT_CACHE_DIRECTORY = "";
+
+    /**
+     * Preference key for the directory in which preprocessing and tagger nodes cache their resulting documents.
+     *
+     * @since 5.12
+     */
+    public static final String PREF_RESULT_CACHE_DIRECTORY = "knime.textprocessing.resultcache.directory";
+
+    /**
+     * The default maximum size of the result cache in megabytes.
+     *
+     * @since 5.12
+     */
+    public static final int DEFAULT_RESULT_CACHE_MAX_SIZE = 2048;
+
+    /**
+     * Preference key for the maximum size of the result cache in megabytes. If the cached documents exceed this size,
+     * the least recently used documents are removed.
+     *
+     * @since 5.12
+     */
+    public static final String PREF_RESULT_CACHE_MAX_SIZE = "knime.textprocessing.resultcache.maxsize";
+
     /**
      * {@inheritDoc}
      */
@@ -80,6 +109,8 @@ public void initializeDefaultPreferences() {
 
             //set default values
             store.setDefault(PREF_FILESTORE_CHUNKSIZE, DEFAULT_FILESTORE_CHUNKSIZE);
+            store.setDefault(PREF_RESULT_CACHE_DIRECTORY, DEFAULT_RESULT_CACHE_DIRECTORY);
+            store.setDefault(PREF_RESULT_CACHE_MAX_SIZE, DEFAULT_RESULT_CACHE_MAX_SIZE);
         }
     }
 
@@ -101,4 +132,40 @@ public static final int fileStoreChunkSize() {
         }
         return pStore.getInt(PREF_FILESTORE_CHUNKSIZE);
     }
+
+    /**
+     * @return The directory in which preprocessing and tagger nodes cache their resulting documents, or an empty
+     *         string if the result cache is disabled.
+     * @since 5.12
+     */
+    public static final String resultCacheDirectory() {
+        var plugin = TextprocessingCorePlugin.getDefault();
+        if (plugin == null) {
+            return DEFAULT_RESULT_CACHE_DIRECTORY;
+        }
+        final IPreferenceStore pStore = plugin.getPreferenceStore();
+        if (!pStore.contains(PREF_RESULT_CACHE_DIRECTORY)) {
+            return DEFAULT_RESULT_CACHE_DIRECTORY;
+        }
+        return pStore.getString(PREF_RESULT_CACHE_DIRECTORY).trim();
+    }
+
+    /**
+     * @return The maximum size of the result cache in megabytes.
+     * @since 5.12
+     */
+    public static final int resultCacheMaxSize() {
+        var plugin = TextprocessingCorePlugin.getDefault();
+        if (plugin == null) {
+            return DEFAULT_RESULT_CACHE_MAX_SIZE;
+        }
+        final IPreferenceStore pStore = plugin.getPreferenceStore();
+        if (!pStore.contains(PREF_RESULT_CACHE_MAX_SIZE)) {
+            return DEFAULT_RESULT_CACHE_MAX_SIZE;
+        }
+        if (pStore.getInt(PREF_RESULT_CACHE_MAX_SIZE) <= 0) {
+            return 1;
+        }
+        return pStore.getInt(PREF_RESULT_CACHE_MAX_SIZE);
+    }
 }
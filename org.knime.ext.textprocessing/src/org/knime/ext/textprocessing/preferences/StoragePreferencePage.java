@@ -47,6 +47,7 @@
 
 package org.knime.ext.textprocessing.preferences;
 
+import org.eclipse.jface.preference.DirectoryFieldEditor;
 import org.eclipse.jface.preference.IntegerFieldEditor;
 import org.eclipse.jface.preference.PreferencePage;
 import org.eclipse.jface.util.IPropertyChangeListener;
@@ -79,6 +80,14 @@ public class StoragePreferencePage extends PreferencePage implements IWorkbenchP
 
     private Label m_lFileStoreSetings;
 
+    private Composite m_resultCacheComp;
+
+    private DirectoryFieldEditor m_resultCacheDirectory;
+
+    private Composite m_resultCacheMaxSizeComp;
+
+    private IntegerFieldEditor m_resultCacheMaxSize;
+
     private static final String DESC_FILESTORE_CHUNKSIZE =
         "The file store chunk size defines the number of documents to store "
       + "in a single\nfile store file. The larger the number, the less files "
@@ -86,6 +95,16 @@ public class StoragePreferencePage extends PreferencePage implements IWorkbenchP
       + "speed. For the smallest possible number 1, a file will be created\n"
       + "for each document, which slows down processing speed.";
 
+    private static final String DESC_RESULT_CACHE_DIRECTORY =
+        "If a result cache directory is specified, preprocessing and tagger nodes with a single input\n"
+      + "store their resulting documents in this directory and reuse them when they are executed again\n"
+      + "on documents with the same content and with the same settings. Only new or changed documents\n"
+      + "are processed then. Local files referenced by the node settings are checked for changes of\n"
+      + "their size and modification time. Changes of remote files, e.g. behind a URL, or of inputs\n"
+      + "read indirectly by the node are not detected. If the cached documents exceed the maximum\n"
+      + "cache size (in MB), the least recently used documents are removed after a node has been\n"
+      + "executed. Leave the directory empty to disable the cache.";
+
     /**
      * Constructor for class {@link StoragePreferencePage}. Creates a new preference page for cell storage settings.
      */
@@ -138,6 +157,34 @@ protected Control createContents(final Composite parent) {
         m_fileStoreChunkSize.setEnabled(true, m_chunkSizeComp);
         m_lFileStoreSetings.setEnabled(true);
 
+        // result cache settings
+        final Group resultCacheGrp = new Group(m_mainComposite, SWT.SHADOW_ETCHED_IN);
+        resultCacheGrp.setText("Result Cache Settings:");
+
+        m_resultCacheComp = new Composite(resultCacheGrp, SWT.LEFT);
+        m_resultCacheComp.setLayoutData(new GridData(GridData.FILL_HORIZONTAL));
+        m_resultCacheDirectory = new DirectoryFieldEditor(StoragePreferenceInitializer.PREF_RESULT_CACHE_DIRECTORY,
+            "Result cache directory", m_resultCacheComp);
+        m_resultCacheDirectory.setEmptyStringAllowed(true);
+        m_resultCacheDirectory.setPage(this);
+        m_resultCacheDirectory.setPreferenceStore(getPreferenceStore());
+        m_resultCacheDirectory.load();
+
+        m_resultCacheMaxSizeComp = new Composite(resultCacheGrp, SWT.LEFT);
+        m_resultCacheMaxSizeComp.setLayoutData(new GridData(GridData.FILL_HORIZONTAL));
+        m_resultCacheMaxSize = new IntegerFieldEditor(StoragePreferenceInitializer.PREF_RESULT_CACHE_MAX_SIZE,
+            "Maximum result cache size (MB)", m_resultCacheMaxSizeComp);
+        m_resultCacheMaxSize.setPage(this);
+        m_resultCacheMaxSize.setPreferenceStore(getPreferenceStore());
+        m_resultCacheMaxSize.load();
+        m_resultCacheMaxSize.setValidRange(1, Integer.MAX_VALUE);
+
+        final Label resultCacheLabel = new Label(resultCacheGrp, SWT.LEFT | SWT.WRAP);
+        resultCacheLabel.setText(DESC_RESULT_CACHE_DIRECTORY);
+
+        resultCacheGrp.setLayoutData(getGridData());
+        resultCacheGrp.setLayout(getLayout());
+
         return m_mainComposite;
     }
 
@@ -163,6 +210,8 @@ private static final Layout getLayout() {
     @Override
     protected void performDefaults() {
         m_fileStoreChunkSize.loadDefault();
+        m_resultCacheDirectory.loadDefault();
+        m_resultCacheMaxSize.loadDefault();
         super.performDefaults();
     }
 
@@ -172,6 +221,8 @@ protected void performDefaults() {
     @Override
     public boolean performOk() {
         m_fileStoreChunkSize.store();
+        m_resultCacheDirectory.store();
+        m_resultCacheMaxSize.store();
         return super.performOk();
     }
 
@@ -0,0 +1,366 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.ext.textprocessing.util;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.knime.core.node.NodeLogger;
+import org.knime.core.node.NodeModel;
+import org.knime.core.node.NodeSettings;
+import org.knime.core.node.NodeSettingsWO;
+import org.knime.core.node.config.base.AbstractConfigEntry;
+import org.knime.core.node.config.base.ConfigBase;
+import org.knime.core.node.config.base.ConfigEntries;
+import org.knime.core.util.FileUtil;
+import org.knime.ext.textprocessing.TextprocessingCorePlugin;
+import org.knime.ext.textprocessing.data.Document;
+import org.knime.ext.textprocessing.data.DocumentBuilder;
+import org.knime.ext.textprocessing.preferences.StoragePreferenceInitializer;
+import org.knime.ext.textprocessing.util.metrics.Metric;
+import org.knime.ext.textprocessing.util.metrics.TextprocessingMetrics;
+
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.common.io.Funnels;
+
+/**
+ * A persistent cache of the documents resulting from preprocessing or tagging, which lets nodes process only new or
+ * changed documents when they are executed again on a growing corpus. The results are stored in the directory
+ * specified in the storage preferences (see {@link StoragePreferenceInitializer#resultCacheDirectory()}) and are keyed
+ * by a hash of the content of the input document (without its UUID), the node and its settings, and the version of
+ * the textprocessing plugin.
+ * <p>
+ * The cache is only used by nodes with a single input port, since the results of nodes with further inputs, e.g. a
+ * dictionary table or a model, depend on data not covered by the key. Local files referenced by the node settings,
+ * e.g. a dictionary file, are covered by their path, size and modification time, so that results are not reused once
+ * a referenced file has changed. Remote files and inputs read indirectly by a node are not covered. If the cached
+ * documents exceed the maximum size specified in the storage preferences, the least recently used documents are
+ * removed by {@link #prune()}. Errors reading or writing the cache are logged and treated as cache misses.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 5.12
+ */
+public final class DocumentResultCache {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(DocumentResultCache.class);
+
+    private static final String FILE_SUFFIX = ".doc";
+
+    private final Path m_directory;
+
+    private final HashCode m_settingsHash;
+
+    private final long m_maxSize;
+
+    DocumentResultCache(final Path directory, final HashCode settingsHash, final long maxSize) {
+        m_directory = directory;
+        m_settingsHash = settingsHash;
+        m_maxSize = maxSize;
+    }
+
+    /**
+     * Creates the result cache of the given node model if the result cache is enabled in the preferences and the node
+     * has a single input port.
+     *
+     * @param model the node model processing the documents
+     * @param settingsSaver saves the current settings of the node model, usually {@code model::saveSettingsTo}
+     * @return the result cache of the node, or {@code null} if no result cache is used
+     */
+    public static DocumentResultCache create(final NodeModel model, final Consumer<NodeSettingsWO> settingsSaver) {
+        final String directory = StoragePreferenceInitializer.resultCacheDirectory();
+        if (directory.isEmpty() || model.getNrInPorts() != 1) {
+            return null;
+        }
+        final Path path;
+        try {
+            path = Paths.get(directory);
+            Files.createDirectories(path);
+        } catch (InvalidPathException | IOException e) {
+            LOGGER.warn("Result cache directory \"" + directory + "\" cannot be used, documents are not cached.", e);
+            return null;
+        }
+
+        final NodeSettings settings = new NodeSettings("resultCache");
+        settingsSaver.accept(settings);
+        try {
+            return new DocumentResultCache(path, hashSettings(model.getClass().getName(), settings),
+                StoragePreferenceInitializer.resultCacheMaxSize() * 1024L * 1024L);
+        } catch (IOException e) {
+            LOGGER.warn("Node settings cannot be hashed, documents are not cached.", e);
+            return null;
+        }
+    }
+
+    /**
+     * Hashes the node, its settings and the local files referenced by the settings.
+     *
+     * @param nodeModelClass the class name of the node model
+     * @param settings the settings of the node
+     * @return the hash of the node, its settings and the referenced files
+     * @throws IOException if the settings cannot be serialized
+     */
+    static HashCode hashSettings(final String nodeModelClass, final NodeSettings settings) throws IOException {
+        final ByteArrayOutputStream settingsXml = new ByteArrayOutputStream();
+        settings.saveToXML(settingsXml);
+        final Hasher hasher = Hashing.sha256().newHasher();
+        hasher.putString(nodeModelClass, StandardCharsets.UTF_8);
+        hasher.putString(getPluginVersion(), StandardCharsets.UTF_8);
+        hasher.putBytes(settingsXml.toByteArray());
+        putReferencedFiles(settings, hasher);
+        return hasher.hash();
+    }
+
+    /**
+     * Adds the size and modification time of each existing local file named by a string setting to the hasher. The
+     * path itself is already part of the settings. Strings that do not name a file are skipped.
+     */
+    private static void putReferencedFiles(final ConfigBase config, final Hasher hasher) {
+        for (final String key : config.keySet()) {
+            final AbstractConfigEntry entry = config.getEntry(key);
+            if (entry instanceof ConfigBase) {
+                putReferencedFiles((ConfigBase)entry, hasher);
+            } else if (entry != null && entry.getType() == ConfigEntries.xstring) {
+                final BasicFileAttributes attributes = getFileAttributes(config.getString(key, null));
+                if (attributes != null) {
+                    hasher.putString(key, StandardCharsets.UTF_8);
+                    hasher.putLong(attributes.size());
+                    hasher.putLong(attributes.lastModifiedTime().toMillis());
+                }
+            }
+        }
+    }
+
+    /**
+     * @return the attributes of the regular local file the given path or URL points to, or {@code null} if it does
+     *         not point to one
+     */
+    private static BasicFileAttributes getFileAttributes(final String location) {
+        if (location == null || location.isEmpty()) {
+            return null;
+        }
+        try {
+            final URL url = FileUtil.toURL(location);
+            final Path file = FileUtil.resolveToPath(url);
+            if (file == null || !Files.isRegularFile(file)) {
+                return null;
+            }
+            return Files.readAttributes(file, BasicFileAttributes.class);
+        } catch (InvalidPathException | IOException | URISyntaxException e) {
+            // not a path or URL of a local file
+            return null;
+        }
+    }
+
+    private static String getPluginVersion() {
+        final TextprocessingCorePlugin plugin = TextprocessingCorePlugin.getDefault();
+        return plugin == null ? "" : plugin.getBundle().getVersion().toString();
+    }
+
+    /**
+     * Creates the key of the result of the given input document. The key depends on the content of the document, but
+     * not on its UUID.
+     *
+     * @param input the input document
+     * @return the key of the result of the given document
+     * @throws IOException if the document cannot be serialized to compute the key
+     */
+    public HashCode createKey(final Document input) throws IOException {
+        final Hasher hasher = Hashing.sha256().newHasher();
+        hasher.putBytes(m_settingsHash.asBytes());
+        try (final DataOutputStream out = new DataOutputStream(Funnels.asOutputStream(hasher))) {
+            TermDocumentDeSerializationUtil.fastSerializeDocumentContent(input, out);
+        }
+        return hasher.hash();
+    }
+
+    /**
+     * Returns the cached result of the given key. The returned document gets a new UUID, as if it had been created
+     * freshly.
+     *
+     * @param key the key of the result, see {@link #createKey(Document)}
+     * @return the cached document, or {@code null} if no document is cached for the key
+     */
+    public Document get(final HashCode key) {
+        final Path file = getFile(key);
+        try (final DataInputStream in =
+            new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            final Document cached = TermDocumentDeSerializationUtil.fastDeserializeDocument(in);
+            if (cached != null) {
+                TextprocessingMetrics.increment(Metric.RESULT_CACHE_HITS);
+                touch(file);
+                return DocumentBuilder.createDocument(cached.getSections(), cached.getType(), cached.getAuthors(),
+                    cached.getSources(), cached.getCategories(), cached.getPubDate(), cached.getDocFile(),
+                    cached.getMetaInformation());
+            }
+        } catch (NoSuchFileException e) {
+            // not cached yet
+        } catch (IOException e) {
+            LOGGER.debug("Cached document " + file + " cannot be read.", e);
+        }
+        TextprocessingMetrics.increment(Metric.RESULT_CACHE_MISSES);
+        return null;
+    }
+
+    /**
+     * Stores the given result under the given key. The document is written to a temporary file first, which is then
+     * moved atomically, so that concurrent readers never see partially written documents.
+     *
+     * @param key the key of the result, see {@link #createKey(Document)}
+     * @param result the resulting document
+     */
+    public void put(final HashCode key, final Document result) {
+        final Path file = getFile(key);
+        Path tmpFile = null;
+        try {
+            Files.createDirectories(file.getParent());
+            tmpFile = Files.createTempFile(file.getParent(), key.toString(), ".tmp");
+            try (final DataOutputStream out =
+                new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmpFile)))) {
+                TermDocumentDeSerializationUtil.fastSerializeDocument(result, out);
+            }
+            Files.move(tmpFile, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            LOGGER.debug("Document " + file + " cannot be cached.", e);
+            if (tmpFile != null) {
+                try {
+                    Files.deleteIfExists(tmpFile);
+                } catch (IOException e2) {
+                    LOGGER.debug("Temporary file " + tmpFile + " cannot be deleted.", e2);
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes the least recently used documents if the cached documents exceed the maximum cache size. Documents
+     * removed concurrently by another node are skipped.
+     */
+    public void prune() {
+        final Map<Path, BasicFileAttributes> files = new HashMap<>();
+        try {
+            Files.walkFileTree(m_directory, new SimpleFileVisitor<Path>() {
+                @Override
+                public FileVisitResult visitFile(final Path file, final BasicFileAttributes attrs) {
+                    if (file.getFileName().toString().endsWith(FILE_SUFFIX)) {
+                        files.put(file, attrs);
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFileFailed(final Path file, final IOException exc) {
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch (IOException e) {
+            LOGGER.debug("Result cache directory " + m_directory + " cannot be listed.", e);
+            return;
+        }
+        long size = files.values().stream().mapToLong(BasicFileAttributes::size).sum();
+        if (size <= m_maxSize) {
+            return;
+        }
+        final List<Path> lru = new ArrayList<>(files.keySet());
+        lru.sort(Comparator.comparing(file -> files.get(file).lastModifiedTime()));
+        for (final Path file : lru) {
+            if (size <= m_maxSize) {
+                break;
+            }
+            try {
+                Files.deleteIfExists(file);
+                size -= files.get(file).size();
+            } catch (IOException e) {
+                LOGGER.debug("Cached document " + file + " cannot be deleted.", e);
+            }
+        }
+        LOGGER.debug("Pruned result cache to " + size + " bytes.");
+    }
+
+    /**
+     * Marks the given cached document as recently used.
+     */
+    private static void touch(final Path file) {
+        try {
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+        } catch (IOException e) {
+            LOGGER.debug("Cached document " + file + " cannot be marked as used.", e);
+        }
+    }
+
+    private Path getFile(final HashCode key) {
+        final String name = key.toString();
+        // distribute the files over subdirectories to keep directories small
+        return m_directory.resolve(name.substring(0, 2)).resolve(name + FILE_SUFFIX);
+    }
+}
@@ -57,6 +57,8 @@
 import org.knime.core.node.NodeLogger;
 import org.knime.core.util.LRUCache;
 import org.knime.ext.textprocessing.data.TextContainer;
+import org.knime.ext.textprocessing.util.metrics.Metric;
+import org.knime.ext.textprocessing.util.metrics.TextprocessingMetrics;
 
 /**
  * A lru data cell cache for text containers with fixed size.
@@ -117,9 +119,11 @@ public DataCell getInstance(final TextContainer tc) {
         SoftReference<DataCell> srCell = m_cache.get(tc);
         DataCell cell;
         if (srCell == null || srCell.get() == null) {
+            TextprocessingMetrics.increment(Metric.CELL_CACHE_MISSES);
             cell = m_dcFac.createDataCell(tc);
             m_cache.put(tc, new SoftReference<DataCell>(cell));
         } else {
+            TextprocessingMetrics.increment(Metric.CELL_CACHE_HITS);
             cell = srCell.get();
         }
         return cell;
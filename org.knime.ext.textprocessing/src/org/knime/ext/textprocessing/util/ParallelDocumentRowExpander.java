@@ -0,0 +1,236 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.ext.textprocessing.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.node.streamable.RowInput;
+import org.knime.core.node.streamable.RowOutput;
+import org.knime.core.util.ThreadPool;
+
+/**
+ * Expands each row of a document table into any number of output rows, e.g. one row per sentence or per term of the
+ * document. The input rows are expanded concurrently by the threads of the KNIME thread pool, the output rows are
+ * pushed in the order of the input rows and get consecutive row keys ("Row0", "Row1", ...). Thus the output is the
+ * same as if the rows were expanded one after the other, independent of the number of threads. Since the rows are
+ * read from a {@link RowInput} and pushed to a {@link RowOutput}, the expander can be used for the regular and the
+ * streaming execution of a node.
+ *
+ * <p>
+ * The rows are expanded in chunks. At most two chunks per thread are expanded or waiting to be pushed at a time, to
+ * bound the memory.
+ * </p>
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 5.12
+ */
+public final class ParallelDocumentRowExpander {
+
+    /** The default number of input rows expanded by a thread at once. */
+    public static final int DEF_CHUNK_SIZE = 20;
+
+    /**
+     * Expands a single input row into the cells of the output rows. It is called by multiple threads concurrently and
+     * therefore has to be thread safe.
+     */
+    @FunctionalInterface
+    public interface RowExpansion {
+
+        /**
+         * @param row the input row
+         * @return the cells of the output rows in the order they are added to the output, may be empty
+         * @throws Exception if the row cannot be expanded, the execution fails then
+         */
+        List<DataCell[]> expand(DataRow row) throws Exception;
+    }
+
+    private final int m_noOfThreads;
+
+    private final int m_chunkSize;
+
+    /**
+     * Creates an expander using as many threads as the KNIME thread pool provides.
+     */
+    public ParallelDocumentRowExpander() {
+        this(KNIMEConstants.GLOBAL_THREAD_POOL.getMaxThreads(), DEF_CHUNK_SIZE);
+    }
+
+    /**
+     * @param noOfThreads the number of threads used to expand the rows
+     * @param chunkSize the number of input rows expanded by a thread at once
+     */
+    public ParallelDocumentRowExpander(final int noOfThreads, final int chunkSize) {
+        if (noOfThreads < 1) {
+            throw new IllegalArgumentException("Number of threads must be positive");
+        }
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Chunk size must be positive");
+        }
+        m_noOfThreads = noOfThreads;
+        m_chunkSize = chunkSize;
+    }
+
+    /**
+     * Expands all rows of the given input and pushes the resulting rows to the given output. Neither the input nor the
+     * output is closed.
+     *
+     * @param input the input rows
+     * @param output the output to push the expanded rows to
+     * @param noOfRows the number of input rows used to report the progress, or a negative value if it is unknown, as
+     *            in streaming execution
+     * @param expansion the function expanding a single input row
+     * @param exec the {@link ExecutionMonitor} to provide progress and to check for cancellation
+     * @return the number of rows pushed to the output
+     * @throws Exception if the execution has been canceled or a row cannot be expanded
+     */
+    public long expand(final RowInput input, final RowOutput output, final long noOfRows,
+        final RowExpansion expansion, final ExecutionMonitor exec) throws Exception {
+        final ThreadPool pool = KNIMEConstants.GLOBAL_THREAD_POOL.createSubPool(m_noOfThreads);
+        // futures of the expanded chunks in input order, bounded to limit the memory of rows waiting to be pushed
+        final Deque<Future<Chunk>> pending = new ArrayDeque<Future<Chunk>>();
+        final Progress progress = new Progress(noOfRows);
+        try {
+            List<DataRow> rows = new ArrayList<DataRow>(m_chunkSize);
+            DataRow row;
+            while ((row = input.poll()) != null) {
+                exec.checkCanceled();
+                rows.add(row);
+                if (rows.size() >= m_chunkSize) {
+                    pending.add(pool.enqueue(expand(rows, expansion)));
+                    rows = new ArrayList<DataRow>(m_chunkSize);
+                    while (pending.size() > 2 * m_noOfThreads) {
+                        push(pending.poll(), output, progress, exec);
+                    }
+                }
+            }
+            if (!rows.isEmpty()) {
+                pending.add(pool.enqueue(expand(rows, expansion)));
+            }
+            while (!pending.isEmpty()) {
+                exec.checkCanceled();
+                push(pending.poll(), output, progress, exec);
+            }
+        } finally {
+            pending.forEach(f -> f.cancel(true));
+        }
+        return progress.m_noOfOutputRows;
+    }
+
+    private static Callable<Chunk> expand(final List<DataRow> rows, final RowExpansion expansion) {
+        return () -> {
+            final Chunk chunk = new Chunk(rows.size());
+            for (final DataRow row : rows) {
+                chunk.m_cells.addAll(expansion.expand(row));
+            }
+            return chunk;
+        };
+    }
+
+    private static void push(final Future<Chunk> future, final RowOutput output, final Progress progress,
+        final ExecutionMonitor exec) throws Exception {
+        final Chunk chunk;
+        try {
+            chunk = future.get();
+        } catch (ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof Exception) {
+                throw (Exception)cause;
+            }
+            throw e;
+        }
+        for (final DataCell[] cells : chunk.m_cells) {
+            output.push(new DefaultRow(RowKey.createRowKey(progress.m_noOfOutputRows++), cells));
+        }
+        progress.m_noOfInputRows += chunk.m_noOfInputRows;
+        if (progress.m_noOfRows > 0) {
+            exec.setProgress(progress.m_noOfInputRows / (double)progress.m_noOfRows,
+                "Processing document " + progress.m_noOfInputRows + " of " + progress.m_noOfRows);
+        } else {
+            exec.setMessage("Processing document " + progress.m_noOfInputRows);
+        }
+    }
+
+    /** The output rows of a chunk of input rows. */
+    private static final class Chunk {
+
+        private final int m_noOfInputRows;
+
+        private final List<DataCell[]> m_cells = new ArrayList<DataCell[]>();
+
+        private Chunk(final int noOfInputRows) {
+            m_noOfInputRows = noOfInputRows;
+        }
+    }
+
+    /** The number of processed input rows and pushed output rows. */
+    private static final class Progress {
+
+        private final long m_noOfRows;
+
+        private long m_noOfInputRows;
+
+        private long m_noOfOutputRows;
+
+        private Progress(final long noOfRows) {
+            m_noOfRows = noOfRows;
+        }
+    }
+}
@@ -63,9 +63,11 @@
 import java.lang.reflect.Field;
 import java.text.ParseException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 import org.eclipse.jface.preference.IPreferenceStore;
@@ -98,6 +100,8 @@
 import org.knime.ext.textprocessing.nodes.source.parser.DocumentParser;
 import org.knime.ext.textprocessing.nodes.source.parser.dml.DmlDocumentParser;
 import org.knime.ext.textprocessing.preferences.TextprocessingPreferenceInitializer;
+import org.knime.ext.textprocessing.util.metrics.Metric;
+import org.knime.ext.textprocessing.util.metrics.TextprocessingMetrics;
 
 /**
  *
@@ -445,7 +449,12 @@ public static DocumentCell deserializeDocumentCell(
         return new DocumentCell(TermDocumentDeSerializationUtil.deserializeDocument(bis));
     }
 
-    private static final short DOCUMENT_SERIALIZATION_VERSION = 2;
+    private static final short DOCUMENT_SERIALIZATION_VERSION = 3;
+
+    /**
+     * The first document serialization version that contains the tag summary of the document.
+     */
+    private static final short DOCUMENT_SERIALIZATION_VERSION_TAG_SUMMARY = 3;
 
     /**
      * Deserializes a document from given data input by deserializing all fields of the
@@ -459,8 +468,9 @@ public static DocumentCell deserializeDocumentCell(
      * @since 2.9
      */
     public static Document fastDeserializeDocument(final DataInput in) throws IOException {
+        final long start = TextprocessingMetrics.startTimer();
         try {
-            in.readShort();
+            final short version = in.readShort();
             final UUID uuid = UUID.fromString(in.readUTF());
             final int length = in.readInt();
             final String titleCache = in.readUTF();
@@ -468,6 +478,16 @@ public static Document fastDeserializeDocument(final DataInput in) throws IOExce
             final DocumentType type = DocumentType.stringToDocumentType(in.readUTF());
             final File file = new File(in.readUTF());
 
+            // tag summary
+            Set<Tag> tagSummary = null;
+            if (version >= DOCUMENT_SERIALIZATION_VERSION_TAG_SUMMARY) {
+                final int noTags = in.readInt();
+                tagSummary = new LinkedHashSet<Tag>(noTags);
+                for (int i = 0; i < noTags; i++) {
+                    tagSummary.add(TextInterner.createTag(in.readUTF(), in.readUTF()));
+                }
+            }
+
             // sections
             final int noSections = in.readInt();
             final List<Section> sections = new ArrayList<Section>(noSections);
@@ -543,7 +563,14 @@ public static Document fastDeserializeDocument(final DataInput in) throws IOExce
             field = doc.getClass().getDeclaredField("m_titleCache");
             field.setAccessible(true);
             field.set(doc, titleCache);
+            if (tagSummary != null) {
+                field = doc.getClass().getDeclaredField("m_tagSummary");
+                field.setAccessible(true);
+                field.set(doc, Collections.unmodifiableSet(tagSummary));
+            }
 
+            TextprocessingMetrics.stopTimer(Metric.DESERIALIZATION_TIME, start);
+            TextprocessingMetrics.increment(Metric.DOCUMENTS_DESERIALIZED);
             return doc;
         } catch (IOException e) {
             LOGGER.warn("Deserialization error: Document could not be deserialized!");
@@ -576,14 +603,43 @@ public static Document fastDeserializeDocument(final DataInput in) throws IOExce
      * @since 2.9
      */
     public static void fastSerializeDocument(final Document doc, final DataOutput out) throws IOException {
+        fastSerializeDocument(doc, out, true);
+    }
+
+    /**
+     * Serializes the content of the given document like
+     * {@link TermDocumentDeSerializationUtil#fastSerializeDocument(Document, DataOutput)}, but without its UUID. Two
+     * documents with the same content are serialized to the same bytes. The output cannot be deserialized, it is used
+     * to hash the content of documents.
+     *
+     * @param doc The document to serialize
+     * @param out The stream to serialize to.
+     * @throws IOException If document could not be written to stream.
+     */
+    static void fastSerializeDocumentContent(final Document doc, final DataOutput out) throws IOException {
+        fastSerializeDocument(doc, out, false);
+    }
+
+    private static void fastSerializeDocument(final Document doc, final DataOutput out, final boolean writeUuid)
+        throws IOException {
         try {
             out.writeShort(DOCUMENT_SERIALIZATION_VERSION);
-            out.writeUTF(doc.getUUID().toString());
+            if (writeUuid) {
+                out.writeUTF(doc.getUUID().toString());
+            }
             out.writeInt(doc.getLength());
             out.writeUTF(doc.getTitle());
             out.writeUTF(doc.getType().toString());
             out.writeUTF(doc.getDocFile().getAbsolutePath());
 
+            // tag summary
+            final Set<Tag> tagSummary = doc.getTagSummary();
+            out.writeInt(tagSummary.size());
+            for (Tag t : tagSummary) {
+                out.writeUTF(t.getTagValue());
+                out.writeUTF(t.getTagType());
+            }
+
             // sections
             out.writeInt(doc.getSections().size());
             for (Section s : doc.getSections()) {
@@ -714,16 +770,16 @@ public static Term fastDeserializeTerm(final DataInput in) throws IOException {
                 final int noWords = in.readInt();
                 words = new ArrayList<Word>(noWords);
                 for (int i = 0; i < noWords; i++) {
-                    words.add(new Word(in.readUTF(), in.readUTF()));
+                    words.add(TextInterner.createWord(in.readUTF(), in.readUTF()));
                 }
                 // read tags
                 final int noTags = in.readInt();
                 tags = new ArrayList<Tag>(noTags);
                 for (int i = 0; i < noTags; i++) {
-                    tags.add(new Tag(in.readUTF(), in.readUTF()));
+                    tags.add(TextInterner.createTag(in.readUTF(), in.readUTF()));
                 }
             } else {
-                final Word w = new Word(in.readUTF(), in.readUTF());
+                final Word w = TextInterner.createWord(in.readUTF(), in.readUTF());
                 words = new ArrayList<Word>(1);
                 words.add(w);
                 tags = new ArrayList<Tag>(0);
@@ -50,6 +50,7 @@
 import org.knime.core.node.NodeLogger;
 import org.knime.ext.textprocessing.data.filestore.DocumentBufferedFileStoreDataCellFactory;
 import org.knime.ext.textprocessing.data.filestore.DocumentFileStoreDataCellFactory;
+import org.knime.ext.textprocessing.data.filestore.TermDictionaryFileStoreDataCellFactory;
 import org.knime.ext.textprocessing.preferences.StoragePreferenceInitializer;
 
 /**
@@ -85,4 +86,14 @@ public static TextContainerDataCellFactory createDocumentCellFactory() {
     public static TextContainerDataCellFactory createTermCellFactory() {
         return new TermDataCell2Factory();
     }
+
+    /**
+     * @return The <code>TextContainerDataCellFactory</code> creating
+     * dictionary encoded term cells, which share one term dictionary per
+     * prepared factory.
+     * @since 5.12
+     */
+    public static TextContainerDataCellFactory createDictionaryEncodedTermCellFactory() {
+        return new TermDictionaryFileStoreDataCellFactory();
+    }
 }
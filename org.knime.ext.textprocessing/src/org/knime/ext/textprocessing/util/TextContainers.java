@@ -67,6 +67,10 @@ private TextContainers() { }
      * @return the concatenated text as string.
      */
     public static final String getText(final List<? extends TextContainer> textContainers) {
+        // avoid copying the text of single containers, e.g. of terms consisting of one word
+        if (textContainers.size() == 1) {
+            return textContainers.get(0).getText();
+        }
         StringBuilder sb = new StringBuilder();
         int i = 0;
         for (TextContainer tc : textContainers) {
@@ -0,0 +1,144 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.ext.textprocessing.util;
+
+import org.knime.ext.textprocessing.data.Tag;
+import org.knime.ext.textprocessing.data.Word;
+
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+
+/**
+ * Provides shared instances of strings and {@link Tag}s, which occur in many documents, e.g. whitespace suffixes,
+ * frequent words and part of speech tags. Used when documents are created or deserialized so that identical values
+ * are held only once in memory.
+ * <p>
+ * Strings and tags are interned weakly, i.e. they are held as long as they are referenced by any document. Both are
+ * immutable. {@link Word}s are not shared, since their whitespace suffix can be modified, but the strings they
+ * consist of are.
+ * <p>
+ * Interning can be switched off by setting the system property {@value #INTERNING_PROPERTY} to {@code false}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 5.12
+ */
+public final class TextInterner {
+
+    /**
+     * The name of the system property which switches interning off if set to {@code false}.
+     */
+    public static final String INTERNING_PROPERTY = "knime.textprocessing.interning";
+
+    private static volatile boolean enabled = !"false".equalsIgnoreCase(System.getProperty(INTERNING_PROPERTY));
+
+    private static final Interner<String> STRINGS = Interners.newWeakInterner();
+
+    private static final Interner<Tag> TAGS = Interners.newWeakInterner();
+
+    private TextInterner() {
+        // utility class
+    }
+
+    /**
+     * @return {@code true} if interning is enabled, otherwise {@code false}.
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Enables or disables interning, used to measure the memory of documents with and without interning.
+     *
+     * @param enable {@code true} to enable interning, {@code false} to disable it
+     */
+    static void setEnabled(final boolean enable) {
+        enabled = enable;
+    }
+
+    /**
+     * Returns the shared instance of the given string.
+     *
+     * @param str the string to intern, may be {@code null}
+     * @return the shared instance equal to the given string, or the string itself if interning is disabled or the
+     *         string is {@code null}
+     */
+    public static String intern(final String str) {
+        if (!enabled || str == null) {
+            return str;
+        }
+        return STRINGS.intern(str);
+    }
+
+    /**
+     * Returns a shared tag with the given value and type.
+     *
+     * @param tagValue the value of the tag
+     * @param tagType the type of the tag
+     * @return the shared tag with the given value and type
+     * @throws NullPointerException if tag value or type is {@code null}
+     */
+    public static Tag createTag(final String tagValue, final String tagType) {
+        if (!enabled) {
+            return new Tag(tagValue, tagType);
+        }
+        return TAGS.intern(new Tag(intern(tagValue), intern(tagType)));
+    }
+
+    /**
+     * Creates a new word consisting of the shared instances of the given word and whitespace suffix strings.
+     *
+     * @param word the word string
+     * @param whitespaceSuffix the whitespace suffix of the word
+     * @return a new word with the given word and whitespace suffix
+     * @throws IllegalArgumentException if the word or the whitespace suffix is {@code null}
+     */
+    public static Word createWord(final String word, final String whitespaceSuffix) {
+        return new Word(intern(word), intern(whitespaceSuffix));
+    }
+}
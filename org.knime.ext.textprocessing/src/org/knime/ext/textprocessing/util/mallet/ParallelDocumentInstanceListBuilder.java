@@ -0,0 +1,249 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.ext.textprocessing.util.mallet;
+
+import java.io.File;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.container.CloseableRowIterator;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.util.ThreadPool;
+import org.knime.ext.textprocessing.data.Document;
+import org.knime.ext.textprocessing.data.DocumentValue;
+import org.knime.ext.textprocessing.data.Sentence;
+import org.knime.ext.textprocessing.data.Term;
+
+import cc.mallet.types.Alphabet;
+import cc.mallet.types.FeatureSequence;
+import cc.mallet.types.Instance;
+import cc.mallet.types.InstanceList;
+
+/**
+ * Creates an {@link InstanceList} of term {@link FeatureSequence}s from the documents of a table in parallel. This is
+ * the parallel counterpart of piping a {@link DocumentInstanceIterator} through the
+ * {@link Document2FeatureSequencePipe}.
+ *
+ * <p>
+ * The documents are split into chunks. Each chunk is deserialized and converted to arrays of chunk local term ids by
+ * a worker thread, without touching the shared {@link Alphabet}. The chunks are then merged in table order, adding the
+ * chunk local terms to the alphabet in order of their first occurrence. Thus the alphabet and the feature sequences
+ * are the same as the ones created by the sequential pipe, independent of the number of threads.
+ * </p>
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 5.12
+ */
+public final class ParallelDocumentInstanceListBuilder {
+
+    /** The default number of documents per chunk. */
+    public static final int DEF_CHUNK_SIZE = 500;
+
+    private final int m_noOfThreads;
+
+    private final int m_chunkSize;
+
+    /**
+     * @param noOfThreads the number of threads used to convert the documents
+     */
+    public ParallelDocumentInstanceListBuilder(final int noOfThreads) {
+        this(noOfThreads, DEF_CHUNK_SIZE);
+    }
+
+    /**
+     * @param noOfThreads the number of threads used to convert the documents
+     * @param chunkSize the number of documents converted by a thread at once
+     */
+    public ParallelDocumentInstanceListBuilder(final int noOfThreads, final int chunkSize) {
+        if (noOfThreads < 1) {
+            throw new IllegalArgumentException("Number of threads must be positive");
+        }
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Chunk size must be positive");
+        }
+        m_noOfThreads = noOfThreads;
+        m_chunkSize = chunkSize;
+    }
+
+    /**
+     * Creates the instance list of the documents in the given column. Rows with missing documents are skipped.
+     *
+     * @param table the table containing the documents
+     * @param docColIdx the index of the document column
+     * @param exec the {@link ExecutionMonitor} to provide progress and to check for cancellation
+     * @return the instance list containing one {@link FeatureSequence} instance per document
+     * @throws CanceledExecutionException if the execution has been canceled
+     * @throws InterruptedException if the thread has been interrupted while waiting for the workers
+     * @throws ExecutionException if a worker failed
+     */
+    public InstanceList build(final BufferedDataTable table, final int docColIdx, final ExecutionMonitor exec)
+        throws CanceledExecutionException, InterruptedException, ExecutionException {
+        final ThreadPool pool = KNIMEConstants.GLOBAL_THREAD_POOL.createSubPool(m_noOfThreads);
+        final Alphabet alphabet = new Alphabet();
+        final InstanceList instances = new InstanceList(alphabet, null);
+        final long noOfRows = table.size();
+        // futures of the converted chunks in table order, bounded to limit the memory of unmerged chunks
+        final Deque<Future<Chunk>> pending = new ArrayDeque<Future<Chunk>>();
+        try (final CloseableRowIterator it = table.iterator()) {
+            long rowCounter = 0;
+            List<DataCell> cells = new ArrayList<DataCell>(m_chunkSize);
+            while (it.hasNext()) {
+                final DataRow row = it.next();
+                exec.checkCanceled();
+                exec.setProgress(++rowCounter / (double)noOfRows,
+                    "Reading row " + rowCounter + " of " + noOfRows);
+                final DataCell cell = row.getCell(docColIdx);
+                if (cell instanceof DocumentValue) {
+                    cells.add(cell);
+                }
+                if (cells.size() >= m_chunkSize) {
+                    pending.add(pool.enqueue(convert(cells)));
+                    cells = new ArrayList<DataCell>(m_chunkSize);
+                    while (pending.size() > 2 * m_noOfThreads) {
+                        merge(pending.poll(), alphabet, instances);
+                    }
+                }
+            }
+            if (!cells.isEmpty()) {
+                pending.add(pool.enqueue(convert(cells)));
+            }
+            while (!pending.isEmpty()) {
+                exec.checkCanceled();
+                merge(pending.poll(), alphabet, instances);
+            }
+        } finally {
+            pending.forEach(f -> f.cancel(true));
+        }
+        return instances;
+    }
+
+    private static Callable<Chunk> convert(final List<DataCell> cells) {
+        return () -> {
+            final Map<String, Integer> localIds = new HashMap<String, Integer>();
+            final Chunk chunk = new Chunk(cells.size());
+            for (int i = 0; i < cells.size(); i++) {
+                final Document doc = ((DocumentValue)cells.get(i)).getDocument();
+                int[] features = new int[Math.max(doc.getLength(), 16)];
+                int length = 0;
+                final Iterator<Sentence> sentences = doc.sentenceIterator();
+                while (sentences.hasNext()) {
+                    for (final Term term : sentences.next().getTerms()) {
+                        final String text = term.getText();
+                        Integer id = localIds.get(text);
+                        if (id == null) {
+                            id = chunk.m_words.size();
+                            localIds.put(text, id);
+                            chunk.m_words.add(text);
+                        }
+                        if (length == features.length) {
+                            features = Arrays.copyOf(features, 2 * length);
+                        }
+                        features[length++] = id;
+                    }
+                }
+                chunk.m_features[i] = Arrays.copyOf(features, length);
+                chunk.m_names[i] = doc.getTitle();
+                chunk.m_sources[i] = doc.getDocFile();
+            }
+            return chunk;
+        };
+    }
+
+    private static void merge(final Future<Chunk> future, final Alphabet alphabet, final InstanceList instances)
+        throws InterruptedException, ExecutionException {
+        final Chunk chunk = future.get();
+        final int[] globalIds = new int[chunk.m_words.size()];
+        for (int i = 0; i < globalIds.length; i++) {
+            globalIds[i] = alphabet.lookupIndex(chunk.m_words.get(i), true);
+        }
+        for (int d = 0; d < chunk.m_features.length; d++) {
+            final int[] features = chunk.m_features[d];
+            for (int i = 0; i < features.length; i++) {
+                features[i] = globalIds[features[i]];
+            }
+            instances.add(new Instance(new FeatureSequence(alphabet, features), null, chunk.m_names[d],
+                chunk.m_sources[d]));
+        }
+    }
+
+    /**
+     * The documents of a chunk converted to chunk local term ids.
+     */
+    private static final class Chunk {
+
+        /** The terms of the chunk in order of their first occurrence, indexed by their local id. */
+        private final List<String> m_words = new ArrayList<String>();
+
+        private final int[][] m_features;
+
+        private final String[] m_names;
+
+        private final File[] m_sources;
+
+        Chunk(final int noOfDocs) {
+            m_features = new int[noOfDocs][];
+            m_names = new String[noOfDocs];
+            m_sources = new File[noOfDocs];
+        }
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.ext.textprocessing.util.metrics;
+
+/**
+ * The runtime metrics recorded by {@link TextprocessingMetrics}. Metrics are either counters or accumulated times in
+ * nanoseconds. Times are summed up over all threads, i.e. they correspond to the CPU time spent rather than to the
+ * wall clock time.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 5.12
+ */
+public enum Metric {
+
+    /** Number of documents created by the document builder. */
+    DOCUMENTS_BUILT("documentsBuilt", "documents built"),
+
+    /** Number of tokens (words) created by the word tokenizers. */
+    TOKENS("tokens", "tokens"),
+
+    /** Time spent in sentence and word tokenizers. */
+    TOKENIZATION_TIME("tokenizationNanos", "tokenization time"),
+
+    /** Number of documents deserialized from their binary representation. */
+    DOCUMENTS_DESERIALIZED("documentsDeserialized", "documents deserialized"),
+
+    /** Time spent deserializing documents. */
+    DESERIALIZATION_TIME("deserializationNanos", "deserialization time"),
+
+    /** Number of bytes of serialized documents read from file stores. */
+    FILESTORE_BYTES_READ("fileStoreBytesRead", "file store bytes read"),
+
+    /** Number of bytes of serialized documents written to file stores. */
+    FILESTORE_BYTES_WRITTEN("fileStoreBytesWritten", "file store bytes written"),
+
+    /** Number of documents of file store cells found in the document cache. */
+    DOCUMENT_CACHE_HITS("documentCacheHits", "document cache hits"),
+
+    /** Number of documents of file store cells not found in the document cache. */
+    DOCUMENT_CACHE_MISSES("documentCacheMisses", "document cache misses"),
+
+    /** Number of cells found in a {@link org.knime.ext.textprocessing.util.LRUDataCellCache}. */
+    CELL_CACHE_HITS("cellCacheHits", "cell cache hits"),
+
+    /** Number of cells not found in a {@link org.knime.ext.textprocessing.util.LRUDataCellCache}. */
+    CELL_CACHE_MISSES("cellCacheMisses", "cell cache misses"),
+
+    /** Number of documents preprocessed. */
+    DOCUMENTS_PREPROCESSED("documentsPreprocessed", "documents preprocessed"),
+
+    /** Number of terms preprocessed. */
+    TERMS_PREPROCESSED("termsPreprocessed", "terms preprocessed"),
+
+    /** Time spent preprocessing documents. */
+    PREPROCESSING_TIME("preprocessingNanos", "preprocessing time"),
+
+    /** Number of documents tagged. */
+    DOCUMENTS_TAGGED("documentsTagged", "documents tagged"),
+
+    /** Time spent tagging documents. */
+    TAGGING_TIME("taggingNanos", "tagging time"),
+
+    /** Number of times a pooled tagger has been reused. */
+    TAGGER_POOL_HITS("taggerPoolHits", "tagger pool hits"),
+
+    /** Number of times a tagger had to be created for the pool. */
+    TAGGER_POOL_MISSES("taggerPoolMisses", "tagger pool misses"),
+
+    /** Number of resulting documents found in the {@link org.knime.ext.textprocessing.util.DocumentResultCache}. */
+    RESULT_CACHE_HITS("resultCacheHits", "result cache hits"),
+
+    /** Number of resulting documents not found in the {@link org.knime.ext.textprocessing.util.DocumentResultCache}. */
+    RESULT_CACHE_MISSES("resultCacheMisses", "result cache misses");
+
+    private final String m_key;
+
+    private final String m_description;
+
+    Metric(final String key, final String description) {
+        m_key = key;
+        m_description = description;
+    }
+
+    /**
+     * @return the key of the metric used in JSON reports
+     */
+    public String getKey() {
+        return m_key;
+    }
+
+    /**
+     * @return a short human readable description of the metric
+     */
+    public String getDescription() {
+        return m_description;
+    }
+
+    /**
+     * @return <code>true</code> if the metric is a time in nanoseconds, <code>false</code> if it is a counter
+     */
+    public boolean isTime() {
+        return m_key.endsWith("Nanos");
+    }
+}
@@ -0,0 +1,251 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.ext.textprocessing.util.metrics;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The thread safe metrics recorded for a single node, see {@link TextprocessingMetrics}. Besides the raw values, the
+ * summary and the JSON report contain throughputs and hit rates derived from them.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 5.12
+ */
+public final class NodeMetrics {
+
+    /* pairs of counter and time metrics from which throughputs are derived */
+    private static final Metric[][] THROUGHPUTS = {{Metric.TOKENS, Metric.TOKENIZATION_TIME},
+        {Metric.DOCUMENTS_DESERIALIZED, Metric.DESERIALIZATION_TIME},
+        {Metric.DOCUMENTS_PREPROCESSED, Metric.PREPROCESSING_TIME}, {Metric.DOCUMENTS_TAGGED, Metric.TAGGING_TIME}};
+
+    /* pairs of hit and miss metrics from which hit rates are derived */
+    private static final Metric[][] HIT_RATES = {{Metric.DOCUMENT_CACHE_HITS, Metric.DOCUMENT_CACHE_MISSES},
+        {Metric.CELL_CACHE_HITS, Metric.CELL_CACHE_MISSES}, {Metric.TAGGER_POOL_HITS, Metric.TAGGER_POOL_MISSES},
+        {Metric.RESULT_CACHE_HITS, Metric.RESULT_CACHE_MISSES}};
+
+    private final String m_nodeName;
+
+    private final LongAdder[] m_values;
+
+    /**
+     * Creates new empty metrics for the node with the given name.
+     *
+     * @param nodeName the name of the node, used in summaries and reports
+     */
+    NodeMetrics(final String nodeName) {
+        m_nodeName = nodeName;
+        m_values = new LongAdder[Metric.values().length];
+        for (int i = 0; i < m_values.length; i++) {
+            m_values[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Adds the given value to the given metric.
+     *
+     * @param metric the metric to add to
+     * @param value the value to add
+     */
+    void add(final Metric metric, final long value) {
+        m_values[metric.ordinal()].add(value);
+    }
+
+    /**
+     * @param metric the metric
+     * @return the current value of the given metric
+     */
+    public long get(final Metric metric) {
+        return m_values[metric.ordinal()].sum();
+    }
+
+    /**
+     * @return the name of the node the metrics belong to
+     */
+    public String getNodeName() {
+        return m_nodeName;
+    }
+
+    /**
+     * @return <code>true</code> if nothing has been recorded (since the last reset)
+     */
+    public boolean isEmpty() {
+        for (final LongAdder value : m_values) {
+            if (value.sum() != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Resets all metrics to zero.
+     */
+    public void reset() {
+        for (final LongAdder value : m_values) {
+            value.reset();
+        }
+    }
+
+    /**
+     * @param count the counter metric
+     * @param time the time metric
+     * @return the number of counted items per second of the given time, or -1 if no time has been recorded
+     */
+    private double getThroughput(final Metric count, final Metric time) {
+        final long nanos = get(time);
+        return nanos > 0 ? get(count) * 1e9 / nanos : -1;
+    }
+
+    /**
+     * @param hits the hit metric
+     * @param misses the miss metric
+     * @return the ratio of hits, or -1 if there were neither hits nor misses
+     */
+    private double getHitRate(final Metric hits, final Metric misses) {
+        final long total = get(hits) + get(misses);
+        return total > 0 ? get(hits) / (double)total : -1;
+    }
+
+    /**
+     * @return a human readable summary of all non zero metrics, including throughputs and hit rates
+     */
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("Textprocessing metrics of ").append(m_nodeName).append(':');
+        for (final Metric metric : Metric.values()) {
+            final long value = get(metric);
+            if (value != 0) {
+                sb.append("\n  ").append(metric.getDescription()).append(": ");
+                if (metric.isTime()) {
+                    sb.append(String.format(Locale.ROOT, "%.3f s", value / 1e9));
+                } else {
+                    sb.append(value);
+                }
+            }
+        }
+        for (final Metric[] pair : THROUGHPUTS) {
+            final double throughput = getThroughput(pair[0], pair[1]);
+            if (throughput >= 0) {
+                sb.append(String.format(Locale.ROOT, "\n  %s per second and thread: %.1f",
+                    pair[0].getDescription(), throughput));
+            }
+        }
+        for (final Metric[] pair : HIT_RATES) {
+            final double hitRate = getHitRate(pair[0], pair[1]);
+            if (hitRate >= 0) {
+                sb.append(String.format(Locale.ROOT, "\n  %s rate: %.1f%%", pair[0].getDescription(),
+                    hitRate * 100));
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Creates a single line JSON object containing the node name, all metrics and the derived throughputs (per
+     * second and thread) and hit rates (between 0 and 1). Throughputs and hit rates that cannot be computed are
+     * <code>null</code>.
+     *
+     * @return the metrics as JSON object
+     */
+    public String toJson() {
+        final StringBuilder sb = new StringBuilder("{\"node\":");
+        appendJsonString(sb, m_nodeName);
+        sb.append(",\"metrics\":{");
+        final Metric[] metrics = Metric.values();
+        for (int i = 0; i < metrics.length; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append('"').append(metrics[i].getKey()).append("\":").append(get(metrics[i]));
+        }
+        sb.append("},\"throughputs\":{");
+        for (int i = 0; i < THROUGHPUTS.length; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append('"').append(THROUGHPUTS[i][0].getKey()).append("PerSecond\":");
+            appendJsonNumber(sb, getThroughput(THROUGHPUTS[i][0], THROUGHPUTS[i][1]));
+        }
+        sb.append("},\"hitRates\":{");
+        for (int i = 0; i < HIT_RATES.length; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            // e.g. documentCacheHits -> documentCache
+            final String key = HIT_RATES[i][0].getKey();
+            sb.append('"').append(key, 0, key.length() - "Hits".length()).append("\":");
+            appendJsonNumber(sb, getHitRate(HIT_RATES[i][0], HIT_RATES[i][1]));
+        }
+        return sb.append("}}").toString();
+    }
+
+    private static void appendJsonNumber(final StringBuilder sb, final double value) {
+        if (value < 0) {
+            sb.append("null");
+        } else {
+            sb.append(String.format(Locale.ROOT, "%.4f", value));
+        }
+    }
+
+    private static void appendJsonString(final StringBuilder sb, final String value) {
+        sb.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                sb.append('\\').append(c);
+            } else if (c < 0x20) {
+                sb.append(String.format("\\u%04x", (int)c));
+            } else {
+                sb.append(c);
+            }
+        }
+        sb.append('"');
+    }
+}
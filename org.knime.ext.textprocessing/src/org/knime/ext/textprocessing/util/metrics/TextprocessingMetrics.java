@@ -0,0 +1,238 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.ext.textprocessing.util.metrics;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+import org.knime.core.node.NodeLogger;
+import org.knime.core.node.workflow.NodeContainer;
+import org.knime.core.node.workflow.NodeContext;
+import org.knime.core.node.workflow.NodeStateChangeListener;
+import org.knime.core.node.workflow.NodeStateEvent;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+
+/**
+ * Opt-in runtime metrics of the Textprocessing nodes, such as tokens per second, documents deserialized, file store
+ * bytes read or cache hit rates. The metrics are disabled by default and enabled by starting KNIME with the system
+ * property <code>-Dknime.textprocessing.metrics=true</code>. If disabled, all recording methods return immediately,
+ * so instrumented code does not need to check {@link #isEnabled()} itself, unless computing the recorded value is
+ * expensive.
+ *
+ * <p>
+ * Metrics are recorded per node, the node is determined by the {@link NodeContext} of the calling thread. Metrics
+ * recorded outside of a node context are collected but never reported. When a node for which metrics have been
+ * recorded finishes its execution, successfully or not, a summary is written to the KNIME log and, if the system
+ * property <code>knime.textprocessing.metrics.report</code> is set to a file path, the metrics are appended as a
+ * single line JSON object to that file. The nodes do not need to report their metrics themselves.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 5.12
+ */
+public final class TextprocessingMetrics {
+
+    /** The system property enabling the metrics. */
+    public static final String PROPERTY_ENABLED = "knime.textprocessing.metrics";
+
+    /** The system property specifying the file to append JSON reports to. */
+    public static final String PROPERTY_REPORT_FILE = "knime.textprocessing.metrics.report";
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(TextprocessingMetrics.class);
+
+    private static final boolean ENABLED = Boolean.getBoolean(PROPERTY_ENABLED);
+
+    private static final NodeMetrics UNATTRIBUTED_METRICS = new NodeMetrics("<no node>");
+
+    /* weak keys, so that metrics are released together with their node */
+    private static final LoadingCache<NodeContainer, NodeMetrics> NODE_METRICS =
+        CacheBuilder.newBuilder().weakKeys().build(new CacheLoader<NodeContainer, NodeMetrics>() {
+            @Override
+            public NodeMetrics load(final NodeContainer nc) {
+                final NodeMetrics metrics = new NodeMetrics(nc.getNameWithID());
+                // the listener is only referenced by the node, so it does not keep the node from being collected
+                nc.addNodeStateChangeListener(new ExecutionEndListener(nc, metrics));
+                return metrics;
+            }
+        });
+
+    private static final Object REPORT_LOCK = new Object();
+
+    private TextprocessingMetrics() {
+        // utility class
+    }
+
+    /**
+     * @return <code>true</code> if metrics are recorded, <code>false</code> otherwise
+     */
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Adds the given value to the given metric of the current node.
+     *
+     * @param metric the metric to add to
+     * @param value the value to add
+     */
+    public static void add(final Metric metric, final long value) {
+        if (ENABLED) {
+            getNodeMetrics().add(metric, value);
+        }
+    }
+
+    /**
+     * Increments the given metric of the current node by one.
+     *
+     * @param metric the metric to increment
+     */
+    public static void increment(final Metric metric) {
+        add(metric, 1);
+    }
+
+    /**
+     * Starts a timer to be stopped by {@link #stopTimer(Metric, long)}.
+     *
+     * @return the start time in nanoseconds, or 0 if metrics are disabled
+     */
+    public static long startTimer() {
+        return ENABLED ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Adds the time elapsed since the given start time to the given time metric of the current node.
+     *
+     * @param metric the time metric to add to
+     * @param startTime the start time as returned by {@link #startTimer()}
+     */
+    public static void stopTimer(final Metric metric, final long startTime) {
+        if (ENABLED) {
+            getNodeMetrics().add(metric, System.nanoTime() - startTime);
+        }
+    }
+
+    /**
+     * @return the metrics of the node executing in the calling thread, or metrics not attributed to any node if
+     *         there is no node context
+     */
+    public static NodeMetrics getNodeMetrics() {
+        final NodeContext context = NodeContext.getContext();
+        final NodeContainer nc = context != null ? context.getNodeContainer() : null;
+        if (nc == null) {
+            return UNATTRIBUTED_METRICS;
+        }
+        return NODE_METRICS.getUnchecked(nc);
+    }
+
+    /**
+     * Writes the summary of the metrics of the current node to the log, appends them to the JSON report file, if
+     * specified, and resets them. Does nothing if metrics are disabled or nothing has been recorded. The metrics are
+     * reported automatically at the end of the execution of the node, so this only needs to be called to report
+     * intermediate metrics.
+     */
+    public static void reportNodeMetrics() {
+        if (ENABLED) {
+            report(getNodeMetrics());
+        }
+    }
+
+    private static void report(final NodeMetrics metrics) {
+        if (metrics.isEmpty()) {
+            return;
+        }
+        LOGGER.info(metrics.toString());
+
+        final String reportFile = System.getProperty(PROPERTY_REPORT_FILE);
+        if (reportFile != null && !reportFile.isEmpty()) {
+            final byte[] line = (metrics.toJson() + System.lineSeparator()).getBytes(StandardCharsets.UTF_8);
+            synchronized (REPORT_LOCK) {
+                try {
+                    Files.write(Paths.get(reportFile), line, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+                } catch (final IOException e) {
+                    LOGGER.warn("Could not write Textprocessing metrics report to " + reportFile, e);
+                }
+            }
+        }
+        metrics.reset();
+    }
+
+    /**
+     * Reports the metrics of a node once its execution has ended, no matter if it succeeded, failed or was canceled.
+     */
+    private static final class ExecutionEndListener implements NodeStateChangeListener {
+
+        private final NodeContainer m_nc;
+
+        private final NodeMetrics m_metrics;
+
+        private boolean m_executing;
+
+        ExecutionEndListener(final NodeContainer nc, final NodeMetrics metrics) {
+            m_nc = nc;
+            m_metrics = metrics;
+            // metrics are recorded while the node executes, so the first state change usually ends the execution
+            m_executing = nc.getNodeContainerState().isExecutionInProgress();
+        }
+
+        @Override
+        public synchronized void stateChanged(final NodeStateEvent state) {
+            if (m_nc.getNodeContainerState().isExecutionInProgress()) {
+                m_executing = true;
+            } else if (m_executing) {
+                m_executing = false;
+                report(m_metrics);
+            }
+        }
+    }
+}